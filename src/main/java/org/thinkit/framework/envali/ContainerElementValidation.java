@@ -0,0 +1,816 @@
+/*
+ * Copyright 2020 Kato Shinya.
+ *
+ * Licensed under the Apache License, Version 2.0 (the "License"); you may not use this file except
+ * in compliance with the License. You may obtain a copy of the License at
+ *
+ *     http://www.apache.org/licenses/LICENSE-2.0
+ *
+ * Unless required by applicable law or agreed to in writing, software distributed under the License
+ * is distributed on an "AS IS" BASIS, WITHOUT WARRANTIES OR CONDITIONS OF ANY KIND, either express
+ * or implied. See the License for the specific language governing permissions and limitations under
+ * the License.
+ */
+
+package org.thinkit.framework.envali;
+
+import java.lang.annotation.Annotation;
+import java.lang.invoke.MethodType;
+import java.lang.reflect.AnnotatedArrayType;
+import java.lang.reflect.AnnotatedParameterizedType;
+import java.lang.reflect.AnnotatedType;
+import java.lang.reflect.Array;
+import java.lang.reflect.Field;
+import java.lang.reflect.InvocationTargetException;
+import java.lang.reflect.ParameterizedType;
+import java.lang.reflect.Type;
+import java.math.BigDecimal;
+import java.math.BigInteger;
+import java.util.ArrayList;
+import java.util.Collection;
+import java.util.EnumSet;
+import java.util.List;
+import java.util.Map;
+import java.util.Set;
+import java.util.function.Consumer;
+import java.util.function.Predicate;
+import java.util.function.ToIntFunction;
+import java.util.function.ToLongFunction;
+
+import org.thinkit.api.catalog.BiCatalog;
+import org.thinkit.common.base.precondition.Preconditions;
+import org.thinkit.common.base.precondition.exception.PreconditionFailedException;
+import org.thinkit.framework.envali.annotation.NestedEntity;
+import org.thinkit.framework.envali.annotation.ParameterMapping;
+import org.thinkit.framework.envali.annotation.RequireChecksum;
+import org.thinkit.framework.envali.annotation.RequireEndWith;
+import org.thinkit.framework.envali.annotation.RequireExistsIn;
+import org.thinkit.framework.envali.annotation.RequireMatch;
+import org.thinkit.framework.envali.annotation.RequireOneOf;
+import org.thinkit.framework.envali.annotation.RequireSize;
+import org.thinkit.framework.envali.annotation.RequireStartWith;
+import org.thinkit.framework.envali.catalog.ChecksumAlgorithm;
+import org.thinkit.framework.envali.catalog.EnvaliContentAttribute;
+import org.thinkit.framework.envali.catalog.ErrorType;
+import org.thinkit.framework.envali.catalog.ValidationPattern;
+import org.thinkit.framework.envali.entity.ValidatableEntity;
+import org.thinkit.framework.envali.exception.InvalidValueDetectedException;
+import org.thinkit.framework.envali.helper.EnvaliArrayHelper;
+import org.thinkit.framework.envali.helper.EnvaliChecksumHelper;
+import org.thinkit.framework.envali.helper.EnvaliContentHelper;
+import org.thinkit.framework.envali.helper.EnvaliDataset;
+import org.thinkit.framework.envali.helper.EnvaliDecimalRange;
+import org.thinkit.framework.envali.helper.EnvaliFieldHelper;
+import org.thinkit.framework.envali.helper.EnvaliRegexHelper;
+import org.thinkit.framework.envali.helper.EnvaliValueSet;
+import org.thinkit.framework.envali.result.BusinessError;
+import org.thinkit.framework.envali.source.ContentProfile;
+
+import lombok.EqualsAndHashCode;
+import lombok.Getter;
+import lombok.NonNull;
+import lombok.ToString;
+
+/**
+ * The object that represents the validation process of a constraint specified
+ * for the elements of a container field, such as
+ * {@code List<@RequireNonBlank String>} , the keys or values of
+ * {@code Map<@RequireMatch(expression = "[a-z]+") String, Integer>} and the
+ * components of {@code @RequireNonBlank String[]} .
+ * <p>
+ * The type of elements, the parameters of the constraint and the compiled
+ * regular expression are resolved once when the instance is created, and the
+ * elements are validated in a single loop. The {@code int} , {@code long} ,
+ * {@code float} and {@code double} arrays under the range constraints,
+ * {@link org.thinkit.framework.envali.annotation.RequirePositive} and
+ * {@link org.thinkit.framework.envali.annotation.RequireNegative} are checked
+ * as a whole without boxing the values. The {@code null} elements are only
+ * rejected by
+ * {@link org.thinkit.framework.envali.annotation.RequireNonNull} , and are
+ * skipped by the other constraints.
+ * <p>
+ * An annotation specified in front of the type of an array field applies to the
+ * field itself if the annotation supports arrays, such as
+ * {@link org.thinkit.framework.envali.annotation.RequireNonNull} ,
+ * {@link org.thinkit.framework.envali.annotation.RequireNonEmpty} ,
+ * {@link RequireSize} and
+ * {@link org.thinkit.framework.envali.annotation.RequireUnique} , and applies
+ * to the components of the array otherwise.
+ *
+ * @author Kato Shinya
+ * @since 1.0.5
+ */
+@ToString
+@EqualsAndHashCode
+final class ContainerElementValidation {
+
+    /**
+     * The exception thrown to stop the loop when an invalid element is detected
+     */
+    private static final InvalidValueDetectedException INVALID_VALUE = new InvalidValueDetectedException();
+
+    /**
+     * The validation patterns that apply to the array field itself
+     */
+    private static final Set<ValidationPattern> ARRAY_PATTERNS = EnumSet.of(ValidationPattern.REQUIRE_NON_NULL,
+            ValidationPattern.REQUIRE_NON_EMPTY, ValidationPattern.REQUIRE_SIZE, ValidationPattern.REQUIRE_UNIQUE);
+
+    /**
+     * The prefixes of the attributes of range annotations per type of elements
+     */
+    private static final Map<Class<?>, String> RANGE_ATTRIBUTE_PREFIXES = Map.of(Integer.class, "int", Long.class,
+            "long", Short.class, "short", Byte.class, "byte", Float.class, "float", Double.class, "double",
+            BigDecimal.class, "bigDecimal", BigInteger.class, "bigInteger");
+
+    /**
+     * The field helper of the container field
+     */
+    private EnvaliFieldHelper field;
+
+    /**
+     * The annotation specified for the elements
+     */
+    private Annotation annotation;
+
+    /**
+     * The elements of the container to be validated
+     */
+    private ContainerElement containerElement;
+
+    /**
+     * The requirement that each element must satisfy, which throws
+     * {@link #INVALID_VALUE} for an invalid element
+     */
+    @ToString.Exclude
+    @EqualsAndHashCode.Exclude
+    private Consumer<Object> requirement;
+
+    /**
+     * The requirement that the whole primitive array must satisfy, or
+     * {@code null} if the elements are validated one by one
+     */
+    @ToString.Exclude
+    @EqualsAndHashCode.Exclude
+    private Predicate<Object> arrayRequirement;
+
+    /**
+     * {@code true} if the {@code null} elements are validated, otherwise
+     * {@code false}
+     */
+    private boolean nullValidated;
+
+    /**
+     * The error type
+     */
+    private ErrorType errorType;
+
+    /**
+     * The message
+     */
+    private String message;
+
+    /**
+     * The bit mask of the validation groups to which the validation belongs, or
+     * {@code 0} if the validation belongs to no group
+     */
+    @Getter
+    private long groupMask;
+
+    /**
+     * The elements of a container that can be constrained.
+     */
+    private enum ContainerElement {
+
+        /**
+         * The components of an array
+         */
+        ARRAY_COMPONENT,
+
+        /**
+         * The elements of a collection
+         */
+        COLLECTION_ELEMENT,
+
+        /**
+         * The keys of a map
+         */
+        MAP_KEY,
+
+        /**
+         * The values of a map
+         */
+        MAP_VALUE;
+    }
+
+    /**
+     * Default constructor
+     */
+    private ContainerElementValidation() {
+    }
+
+    /**
+     * Returns the validations of the constraints specified for the elements of
+     * the field passed as an argument.
+     *
+     * @param entityClass    The entity class
+     * @param field          The field
+     * @param contentProfile The content profile, or {@code null} if the content
+     *                       mapped to the entity class is used
+     * @param groupMaskOf    The function that returns the bit mask of the
+     *                       validation groups specified in an annotation
+     * @return The validations of the constraints specified for the elements of the
+     *         field, or an empty list if no constraint is specified
+     *
+     * @exception NullPointerException          If {@code null} is passed as the
+     *                                          entity class, the field or the
+     *                                          function
+     * @exception UnsupportedOperationException If a constraint is specified for
+     *                                          the elements of unsupported data
+     *                                          type, otherwise if the field is not
+     *                                          an array, a collection or a map
+     */
+    public static List<ContainerElementValidation> of(@NonNull Class<? extends ValidatableEntity> entityClass,
+            @NonNull Field field, ContentProfile contentProfile, @NonNull ToLongFunction<Annotation> groupMaskOf) {
+
+        final List<ContainerElementValidation> validations = new ArrayList<>(0);
+        final AnnotatedType annotatedType = field.getAnnotatedType();
+
+        if (annotatedType instanceof AnnotatedArrayType annotatedArrayType) {
+            final AnnotatedType componentType = annotatedArrayType.getAnnotatedGenericComponentType();
+
+            for (Annotation annotation : componentType.getAnnotations()) {
+                if (isElementConstraint(field, annotation)) {
+                    validations.add(of(entityClass, field, annotation, ContainerElement.ARRAY_COMPONENT,
+                            componentType, contentProfile, groupMaskOf));
+                }
+            }
+        } else if (annotatedType instanceof AnnotatedParameterizedType annotatedParameterizedType) {
+            final AnnotatedType[] typeArguments = annotatedParameterizedType.getAnnotatedActualTypeArguments();
+            final boolean map = Map.class.isAssignableFrom(field.getType()) && typeArguments.length == 2;
+            final boolean collection = Collection.class.isAssignableFrom(field.getType())
+                    && typeArguments.length == 1;
+
+            for (int i = 0; i < typeArguments.length; i++) {
+                for (Annotation annotation : typeArguments[i].getAnnotations()) {
+                    if (getValidationPattern(annotation) == null) {
+                        continue;
+                    }
+
+                    if (!map && !collection) {
+                        throw new UnsupportedOperationException(String.format(
+                                "The element constraints support Array, List, Map, Set type, but was specified for the variable %s#%s of type %s.",
+                                entityClass.getName(), field.getName(), field.getType().getName()));
+                    }
+
+                    validations.add(of(entityClass, field, annotation,
+                            collection ? ContainerElement.COLLECTION_ELEMENT
+                                    : i == 0 ? ContainerElement.MAP_KEY : ContainerElement.MAP_VALUE,
+                            typeArguments[i], contentProfile, groupMaskOf));
+                }
+            }
+        }
+
+        return validations;
+    }
+
+    /**
+     * Tests if the annotation specified for the array field passed as an argument
+     * is a constraint for the components of the array rather than for the field
+     * itself.
+     *
+     * @param field      The field
+     * @param annotation The annotation specified for the field
+     * @return {@code true} if the annotation is a constraint for the components of
+     *         the array, otherwise {@code false}
+     *
+     * @exception NullPointerException If {@code null} is passed as an argument
+     */
+    public static boolean isElementConstraint(@NonNull Field field, @NonNull Annotation annotation) {
+
+        if (!(field.getAnnotatedType() instanceof AnnotatedArrayType annotatedArrayType)) {
+            return false;
+        }
+
+        final ValidationPattern validationPattern = getValidationPattern(annotation);
+
+        if (validationPattern == null || !annotation.equals(
+                annotatedArrayType.getAnnotatedGenericComponentType().getAnnotation(annotation.annotationType()))) {
+            return false;
+        }
+
+        return !(ARRAY_PATTERNS.contains(validationPattern)
+                && annotation.equals(field.getDeclaredAnnotation(annotation.annotationType())));
+    }
+
+    /**
+     * Validates the elements of the container field of the entity passed as an
+     * argument. The validation stops at the first invalid element.
+     *
+     * @param entity The entity to be validated
+     * @return The business error detected in the validate process
+     *
+     * @exception NullPointerException        If {@code null} is passed as an
+     *                                        argument
+     * @exception PreconditionFailedException If the error type is
+     *                                        {@link ErrorType#RUNTIME} and an
+     *                                        element does not satisfy the
+     *                                        constraint
+     */
+    public BusinessError validate(@NonNull ValidatableEntity entity) {
+
+        final Object container = this.field.get(entity);
+
+        if (container == null) {
+            return BusinessError.none();
+        }
+
+        try {
+            switch (this.containerElement) {
+                case ARRAY_COMPONENT -> {
+                    if (this.arrayRequirement != null) {
+                        if (!this.arrayRequirement.test(container)) {
+                            throw INVALID_VALUE;
+                        }
+                    } else if (container instanceof Object[] array) {
+                        for (Object element : array) {
+                            this.validate(element);
+                        }
+                    } else {
+                        final int length = Array.getLength(container);
+
+                        for (int i = 0; i < length; i++) {
+                            this.validate(Array.get(container, i));
+                        }
+                    }
+                }
+
+                case COLLECTION_ELEMENT -> {
+                    for (Object element : (Collection<?>) container) {
+                        this.validate(element);
+                    }
+                }
+
+                case MAP_KEY -> {
+                    for (Object key : ((Map<?, ?>) container).keySet()) {
+                        this.validate(key);
+                    }
+                }
+
+                case MAP_VALUE -> {
+                    for (Object value : ((Map<?, ?>) container).values()) {
+                        this.validate(value);
+                    }
+                }
+            }
+        } catch (InvalidValueDetectedException e) {
+            return switch (this.errorType) {
+                case RECOVERABLE -> BusinessError.recoverable(this.message);
+                case UNRECOVERABLE -> BusinessError.unrecoverable(this.message);
+                case RUNTIME -> throw new PreconditionFailedException();
+            };
+        }
+
+        return BusinessError.none();
+    }
+
+    /**
+     * Validates the element passed as an argument.
+     *
+     * @param element The element to be validated
+     *
+     * @exception InvalidValueDetectedException If the element does not satisfy the
+     *                                          constraint
+     */
+    private void validate(Object element) {
+        if (element != null || this.nullValidated) {
+            this.requirement.accept(element);
+        }
+    }
+
+    /**
+     * Returns the new instance of {@link ContainerElementValidation} associated
+     * with the annotation specified for the elements.
+     *
+     * @param entityClass      The entity class
+     * @param field            The container field
+     * @param annotation       The annotation specified for the elements
+     * @param containerElement The elements of the container to be validated
+     * @param elementType      The annotated type of the elements
+     * @param contentProfile   The content profile, or {@code null} if the
+     *                         content mapped to the entity class is used
+     * @param groupMaskOf      The function that returns the bit mask of the
+     *                         validation groups specified in an annotation
+     * @return The new instance of {@link ContainerElementValidation}
+     *
+     * @exception NullPointerException          If {@code null} is passed as an
+     *                                          argument other than the content
+     *                                          profile
+     * @exception UnsupportedOperationException If the annotation is specified for
+     *                                          the elements of unsupported data
+     *                                          type
+     */
+    private static ContainerElementValidation of(@NonNull Class<? extends ValidatableEntity> entityClass,
+            @NonNull Field field, @NonNull Annotation annotation, @NonNull ContainerElement containerElement,
+            @NonNull AnnotatedType elementType, ContentProfile contentProfile,
+            @NonNull ToLongFunction<Annotation> groupMaskOf) {
+
+        final ContainerElementValidation validation = new ContainerElementValidation();
+        validation.field = EnvaliFieldHelper.of(entityClass, field);
+        validation.annotation = annotation;
+        validation.containerElement = containerElement;
+        validation.groupMask = groupMaskOf.applyAsLong(annotation);
+        validation.errorType = (ErrorType) getAttribute(annotation, "errorType");
+        validation.message = (String) getAttribute(annotation, "message");
+
+        final ValidationPattern validationPattern = getValidationPattern(annotation);
+        final Class<?> type = getRawType(elementType.getType());
+        final EnvaliContentHelper contentHelper = validationPattern.usesContent()
+                && entityClass.getAnnotation(ParameterMapping.class) != null
+                        ? EnvaliContentHelper.of(entityClass, field, contentProfile)
+                        : null;
+
+        if (containerElement == ContainerElement.ARRAY_COMPONENT && type.isPrimitive()) {
+            validation.arrayRequirement = validation.getArrayRequirement(validationPattern, type, contentHelper);
+        }
+
+        if (validation.arrayRequirement == null) {
+            validation.nullValidated = validationPattern == ValidationPattern.REQUIRE_NON_NULL;
+            validation.requirement = validation.getRequirement(validationPattern,
+                    MethodType.methodType(type).wrap().returnType(), contentHelper);
+        }
+
+        return validation;
+    }
+
+    /**
+     * Returns the requirement that the whole primitive array must satisfy for the
+     * range constraints, {@link org.thinkit.framework.envali.annotation.RequirePositive}
+     * and {@link org.thinkit.framework.envali.annotation.RequireNegative} . The
+     * array is checked by {@link EnvaliArrayHelper} without boxing the values.
+     * As in the constraints on a number, zero is regarded as positive.
+     *
+     * @param validationPattern The validation pattern of the annotation
+     * @param componentType     The primitive component type of the array
+     * @param contentHelper     The content helper, or {@code null} if the
+     *                          parameters are specified in the annotation
+     * @return The requirement that the whole array must satisfy, or {@code null}
+     *         if the array is not supported by {@link EnvaliArrayHelper}
+     *
+     * @exception UnsupportedOperationException If the content could not be read
+     */
+    private Predicate<Object> getArrayRequirement(@NonNull ValidationPattern validationPattern,
+            @NonNull Class<?> componentType, EnvaliContentHelper contentHelper) {
+
+        if (componentType != int.class && componentType != long.class && componentType != float.class
+                && componentType != double.class) {
+            return null;
+        }
+
+        final Class<?> type = MethodType.methodType(componentType).wrap().returnType();
+        final boolean integral = componentType == int.class || componentType == long.class;
+        String from = null;
+        String to = null;
+
+        switch (validationPattern) {
+            case REQUIRE_RANGE_FROM -> from = this.getBound(contentHelper, EnvaliContentAttribute.RANGE_FROM, type,
+                    "From");
+            case REQUIRE_RANGE_TO -> to = this.getBound(contentHelper, EnvaliContentAttribute.RANGE_TO, type, "To");
+            case REQUIRE_RANGE_FROM_TO -> {
+                from = this.getBound(contentHelper, EnvaliContentAttribute.RANGE_FROM, type, "From");
+                to = this.getBound(contentHelper, EnvaliContentAttribute.RANGE_TO, type, "To");
+            }
+            case REQUIRE_POSITIVE -> from = "0";
+            case REQUIRE_NEGATIVE -> to = integral ? "-1"
+                    : componentType == float.class ? String.valueOf(-Float.MIN_VALUE)
+                            : String.valueOf(-Double.MIN_VALUE);
+            default -> {
+                return null;
+            }
+        }
+
+        if (componentType == int.class) {
+            final int intFrom = from != null ? Integer.parseInt(from) : Integer.MIN_VALUE;
+            final int intTo = to != null ? Integer.parseInt(to) : Integer.MAX_VALUE;
+            return array -> EnvaliArrayHelper.isInRange((int[]) array, intFrom, intTo);
+        } else if (componentType == long.class) {
+            final long longFrom = from != null ? Long.parseLong(from) : Long.MIN_VALUE;
+            final long longTo = to != null ? Long.parseLong(to) : Long.MAX_VALUE;
+            return array -> EnvaliArrayHelper.isInRange((long[]) array, longFrom, longTo);
+        } else if (componentType == float.class) {
+            final float floatFrom = from != null ? Float.parseFloat(from) : Float.NEGATIVE_INFINITY;
+            final float floatTo = to != null ? Float.parseFloat(to) : Float.POSITIVE_INFINITY;
+            return array -> EnvaliArrayHelper.isInRange((float[]) array, floatFrom, floatTo);
+        }
+
+        final double doubleFrom = from != null ? Double.parseDouble(from) : Double.NEGATIVE_INFINITY;
+        final double doubleTo = to != null ? Double.parseDouble(to) : Double.POSITIVE_INFINITY;
+        return array -> EnvaliArrayHelper.isInRange((double[]) array, doubleFrom, doubleTo);
+    }
+
+    /**
+     * Returns the requirement that each element must satisfy.
+     *
+     * @param validationPattern The validation pattern of the annotation
+     * @param type              The wrapped type of the elements
+     * @param contentHelper     The content helper, or {@code null} if the
+     *                          parameters are specified in the annotation
+     * @return The requirement that each element must satisfy
+     *
+     * @exception UnsupportedOperationException If the annotation is specified for
+     *                                          the elements of unsupported data
+     *                                          type
+     */
+    private Consumer<Object> getRequirement(@NonNull ValidationPattern validationPattern, @NonNull Class<?> type,
+            EnvaliContentHelper contentHelper) {
+
+        return switch (validationPattern) {
+            case REQUIRE_NON_NULL -> element -> Preconditions.requireNonNull(element, INVALID_VALUE);
+
+            case REQUIRE_NON_BLANK -> {
+                this.requireSupportedType(type == String.class, "String", type);
+                yield element -> Preconditions.requireNonBlank((String) element, INVALID_VALUE);
+            }
+
+            case REQUIRE_NON_EMPTY -> {
+                if (type == String.class) {
+                    yield element -> Preconditions.requireNonEmpty((String) element, INVALID_VALUE);
+                } else if (Collection.class.isAssignableFrom(type)) {
+                    yield element -> Preconditions.requireNonEmpty((Collection<?>) element, INVALID_VALUE);
+                } else if (Map.class.isAssignableFrom(type)) {
+                    yield element -> Preconditions.requireNonEmpty((Map<?, ?>) element, INVALID_VALUE);
+                } else if (Object[].class.isAssignableFrom(type)) {
+                    yield element -> Preconditions.requireNonEmpty((Object[]) element, INVALID_VALUE);
+                }
+
+                throw this.getUnsupportedTypeException("String, Array, List, Map, Set", type);
+            }
+
+            case REQUIRE_POSITIVE -> {
+                this.requireSupportedType(type == Integer.class, "Integer", type);
+                yield element -> Preconditions.requirePositive((Integer) element, INVALID_VALUE);
+            }
+
+            case REQUIRE_NEGATIVE -> {
+                this.requireSupportedType(type == Integer.class, "Integer", type);
+                yield element -> Preconditions.requireNegative((Integer) element, INVALID_VALUE);
+            }
+
+            case REQUIRE_RANGE_FROM -> getRangeRequirement(type,
+                    this.getBound(contentHelper, EnvaliContentAttribute.RANGE_FROM, type, "From"), null);
+
+            case REQUIRE_RANGE_TO -> getRangeRequirement(type, null,
+                    this.getBound(contentHelper, EnvaliContentAttribute.RANGE_TO, type, "To"));
+
+            case REQUIRE_RANGE_FROM_TO -> getRangeRequirement(type,
+                    this.getBound(contentHelper, EnvaliContentAttribute.RANGE_FROM, type, "From"),
+                    this.getBound(contentHelper, EnvaliContentAttribute.RANGE_TO, type, "To"));
+
+            case REQUIRE_START_WITH -> {
+                this.requireSupportedType(type == String.class, "String", type);
+                final String prefix = contentHelper != null ? contentHelper.get(EnvaliContentAttribute.START_WITH)
+                        : ((RequireStartWith) this.annotation).prefix();
+                yield element -> Preconditions.requireStartWith((String) element, prefix, INVALID_VALUE);
+            }
+
+            case REQUIRE_END_WITH -> {
+                this.requireSupportedType(type == String.class, "String", type);
+                final String suffix = contentHelper != null ? contentHelper.get(EnvaliContentAttribute.END_WITH)
+                        : ((RequireEndWith) this.annotation).suffix();
+                yield element -> Preconditions.requireEndWith((String) element, suffix, INVALID_VALUE);
+            }
+
+            case REQUIRE_MATCH -> {
+                this.requireSupportedType(type == String.class, "String", type);
+                yield getMatchRequirement((RequireMatch) this.annotation, contentHelper);
+            }
+
+            case REQUIRE_SIZE -> {
+                final ToIntFunction<Object> sizeFunction = EnvaliFieldHelper.getSizeFunction(type);
+                this.requireSupportedType(sizeFunction != null, "CharSequence, Array, Collection, Map", type);
+
+                final int min = ((RequireSize) this.annotation).min();
+                final int max = ((RequireSize) this.annotation).max();
+
+                yield element -> {
+                    final int size = sizeFunction.applyAsInt(element);
+
+                    if (size < min || max < size) {
+                        throw INVALID_VALUE;
+                    }
+                };
+            }
+
+            case REQUIRE_CHECKSUM -> {
+                this.requireSupportedType(CharSequence.class.isAssignableFrom(type), "CharSequence", type);
+                final ChecksumAlgorithm algorithm = ((RequireChecksum) this.annotation).algorithm();
+                yield element -> requireMatch(EnvaliChecksumHelper.isValid(algorithm, (CharSequence) element));
+            }
+
+            case REQUIRE_ONE_OF -> {
+                this.requireSupportedType(EnvaliValueSet.isSupportedType(type),
+                        "CharSequence, Enum, Integer, Long, Short, Byte", type);
+                final EnvaliValueSet valueSet = EnvaliValueSet.of((RequireOneOf) this.annotation, contentHelper, type);
+                yield element -> requireMatch(valueSet.contains(element));
+            }
+
+            case REQUIRE_EXISTS_IN -> {
+                this.requireSupportedType(CharSequence.class.isAssignableFrom(type), "CharSequence", type);
+                final String dataset = ((RequireExistsIn) this.annotation).dataset();
+                yield element -> requireMatch(EnvaliDataset.get(dataset).contains((CharSequence) element));
+            }
+
+            case NESTED_ENTITY, REQUIRE_UNIQUE -> throw new UnsupportedOperationException(String.format(
+                    "The %s annotation is not supported for the elements of the variable %s#%s.",
+                    this.annotation.annotationType().getName(), this.field.getEntityName(), this.field.getName()));
+        };
+    }
+
+    /**
+     * Returns the bound of the range annotation for the type of elements passed
+     * as an argument.
+     *
+     * @param contentHelper The content helper, or {@code null} if the parameters
+     *                      are specified in the annotation
+     * @param attribute     The content attribute of the bound
+     * @param type          The wrapped type of the elements
+     * @param suffix        The suffix of the attribute of the annotation, which
+     *                      is {@code "From"} or {@code "To"}
+     * @return The bound as a string
+     *
+     * @exception UnsupportedOperationException If the type of elements is not
+     *                                          supported by range annotations,
+     *                                          otherwise if the bound is not
+     *                                          defined in the content or is not a
+     *                                          valid number of the type
+     */
+    private String getBound(EnvaliContentHelper contentHelper, @NonNull EnvaliContentAttribute attribute,
+            @NonNull Class<?> type, @NonNull String suffix) {
+
+        final String prefix = RANGE_ATTRIBUTE_PREFIXES.get(type);
+        this.requireSupportedType(prefix != null, "Integer, Long, Short, Byte, Float, Double, BigDecimal, BigInteger",
+                type);
+
+        if (contentHelper != null) {
+            return contentHelper.getNumber(attribute, type).toString();
+        }
+
+        return String.valueOf(getAttribute(this.annotation, prefix + suffix));
+    }
+
+    /**
+     * Returns the requirement that each element is in the range passed as
+     * arguments.
+     *
+     * @param type The wrapped type of the elements
+     * @param from The lower bound, or {@code null} if there is no lower bound
+     * @param to   The upper bound, or {@code null} if there is no upper bound
+     * @return The requirement that each element is in the range
+     */
+    private static Consumer<Object> getRangeRequirement(@NonNull Class<?> type, String from, String to) {
+
+        if (type == Integer.class) {
+            final int intFrom = from != null ? Integer.parseInt(from) : Integer.MIN_VALUE;
+            final int intTo = to != null ? Integer.parseInt(to) : Integer.MAX_VALUE;
+            return element -> Preconditions.requireRange((Integer) element, intFrom, intTo, INVALID_VALUE);
+        } else if (type == Long.class) {
+            final long longFrom = from != null ? Long.parseLong(from) : Long.MIN_VALUE;
+            final long longTo = to != null ? Long.parseLong(to) : Long.MAX_VALUE;
+            return element -> Preconditions.requireRange((Long) element, longFrom, longTo, INVALID_VALUE);
+        } else if (type == Short.class) {
+            final short shortFrom = from != null ? Short.parseShort(from) : Short.MIN_VALUE;
+            final short shortTo = to != null ? Short.parseShort(to) : Short.MAX_VALUE;
+            return element -> Preconditions.requireRange((Short) element, shortFrom, shortTo, INVALID_VALUE);
+        } else if (type == Byte.class) {
+            final byte byteFrom = from != null ? Byte.parseByte(from) : Byte.MIN_VALUE;
+            final byte byteTo = to != null ? Byte.parseByte(to) : Byte.MAX_VALUE;
+            return element -> Preconditions.requireRange((Byte) element, byteFrom, byteTo, INVALID_VALUE);
+        } else if (type == Float.class) {
+            final float floatFrom = from != null ? Float.parseFloat(from) : Float.NEGATIVE_INFINITY;
+            final float floatTo = to != null ? Float.parseFloat(to) : Float.POSITIVE_INFINITY;
+            return element -> Preconditions.requireRange((Float) element, floatFrom, floatTo, INVALID_VALUE);
+        } else if (type == BigDecimal.class || type == BigInteger.class) {
+            final EnvaliDecimalRange decimalRange = EnvaliDecimalRange.of(from != null ? from : "",
+                    to != null ? to : "");
+            return element -> {
+                if (!decimalRange.contains((Number) element)) {
+                    throw INVALID_VALUE;
+                }
+            };
+        }
+
+        final double doubleFrom = from != null ? Double.parseDouble(from) : Double.NEGATIVE_INFINITY;
+        final double doubleTo = to != null ? Double.parseDouble(to) : Double.POSITIVE_INFINITY;
+        return element -> Preconditions.requireRange((Double) element, doubleFrom, doubleTo, INVALID_VALUE);
+    }
+
+    /**
+     * Returns the requirement that each element matches the regular expression
+     * specified in the {@link RequireMatch} annotation. The regular expression is
+     * compiled, or the parser of the preset is selected, only once.
+     *
+     * @param annotation    The {@link RequireMatch} annotation
+     * @param contentHelper The content helper, or {@code null} if the parameters
+     *                      are specified in the annotation
+     * @return The requirement that each element matches the regular expression
+     */
+    private static Consumer<Object> getMatchRequirement(@NonNull RequireMatch annotation,
+            EnvaliContentHelper contentHelper) {
+
+        final Predicate<CharSequence> matcher = EnvaliRegexHelper.compileMatcher(annotation, contentHelper);
+        return element -> requireMatch(matcher.test((String) element));
+    }
+
+    /**
+     * Requires that the element matched the regular expression.
+     *
+     * @param matched {@code true} if the element matched the regular expression,
+     *                otherwise {@code false}
+     *
+     * @exception InvalidValueDetectedException If the element did not match the
+     *                                          regular expression
+     */
+    private static void requireMatch(boolean matched) {
+        if (!matched) {
+            throw INVALID_VALUE;
+        }
+    }
+
+    /**
+     * Requires that the type of elements is supported by the annotation.
+     *
+     * @param supported      {@code true} if the type of elements is supported,
+     *                       otherwise {@code false}
+     * @param supportedTypes The names of the supported types
+     * @param type           The wrapped type of the elements
+     *
+     * @exception UnsupportedOperationException If the type of elements is not
+     *                                          supported
+     */
+    private void requireSupportedType(boolean supported, @NonNull String supportedTypes, @NonNull Class<?> type) {
+        if (!supported) {
+            throw this.getUnsupportedTypeException(supportedTypes, type);
+        }
+    }
+
+    /**
+     * Returns the exception indicating that the type of elements is not supported
+     * by the annotation.
+     *
+     * @param supportedTypes The names of the supported types
+     * @param type           The wrapped type of the elements
+     * @return The exception indicating that the type of elements is not supported
+     */
+    private UnsupportedOperationException getUnsupportedTypeException(@NonNull String supportedTypes,
+            @NonNull Class<?> type) {
+        return new UnsupportedOperationException(String.format(
+                "The %s annotation supports %s type, but was specified for the elements of the variable %s#%s of type %s.",
+                this.annotation.annotationType().getName(), supportedTypes, this.field.getEntityName(),
+                this.field.getName(), type.getName()));
+    }
+
+    /**
+     * Returns the validation pattern associated with the annotation passed as an
+     * argument.
+     *
+     * @param annotation The annotation
+     * @return The validation pattern, or {@code null} if the annotation is not an
+     *         Envali annotation
+     */
+    private static ValidationPattern getValidationPattern(@NonNull Annotation annotation) {
+        return BiCatalog.getEnumByTag(ValidationPattern.class, annotation.annotationType());
+    }
+
+    /**
+     * Returns the raw class of the type passed as an argument.
+     *
+     * @param type The type
+     * @return The raw class of the type, or {@link Object} if the type is a type
+     *         variable or a wildcard type
+     */
+    private static Class<?> getRawType(@NonNull Type type) {
+        if (type instanceof Class<?> rawType) {
+            return rawType;
+        } else if (type instanceof ParameterizedType parameterizedType) {
+            return (Class<?>) parameterizedType.getRawType();
+        }
+
+        return Object.class;
+    }
+
+    /**
+     * Returns the value of the attribute of the annotation passed as an argument.
+     *
+     * @param annotation The annotation
+     * @param name       The name of the attribute
+     * @return The value of the attribute
+     *
+     * @exception UnsupportedOperationException If the attribute could not be read
+     */
+    private static Object getAttribute(@NonNull Annotation annotation, @NonNull String name) {
+        try {
+            return annotation.annotationType().getMethod(name).invoke(annotation);
+        } catch (NoSuchMethodException | IllegalAccessException | InvocationTargetException e) {
+            throw new UnsupportedOperationException(e);
+        }
+    }
+}
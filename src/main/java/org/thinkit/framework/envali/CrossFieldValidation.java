@@ -0,0 +1,298 @@
+/*
+ * Copyright 2020 Kato Shinya.
+ *
+ * Licensed under the Apache License, Version 2.0 (the "License"); you may not use this file except
+ * in compliance with the License. You may obtain a copy of the License at
+ *
+ *     http://www.apache.org/licenses/LICENSE-2.0
+ *
+ * Unless required by applicable law or agreed to in writing, software distributed under the License
+ * is distributed on an "AS IS" BASIS, WITHOUT WARRANTIES OR CONDITIONS OF ANY KIND, either express
+ * or implied. See the License for the specific language governing permissions and limitations under
+ * the License.
+ */
+
+package org.thinkit.framework.envali;
+
+import java.lang.annotation.Annotation;
+import java.lang.invoke.MethodType;
+import java.lang.reflect.Field;
+import java.time.temporal.Temporal;
+import java.util.ArrayList;
+import java.util.Arrays;
+import java.util.Date;
+import java.util.List;
+import java.util.Objects;
+import java.util.function.BiPredicate;
+
+import org.thinkit.common.base.precondition.exception.PreconditionFailedException;
+import org.thinkit.framework.envali.annotation.RequireBeforeField;
+import org.thinkit.framework.envali.annotation.RequireFieldsEqual;
+import org.thinkit.framework.envali.annotation.RequireLessThanField;
+import org.thinkit.framework.envali.catalog.ErrorType;
+import org.thinkit.framework.envali.entity.ValidatableEntity;
+import org.thinkit.framework.envali.helper.EnvaliClassHelper;
+import org.thinkit.framework.envali.helper.EnvaliFieldHelper;
+import org.thinkit.framework.envali.result.BusinessError;
+
+import lombok.EqualsAndHashCode;
+import lombok.Getter;
+import lombok.NonNull;
+import lombok.ToString;
+
+/**
+ * The object that represents the validation process of a class-level
+ * constraint that compares two fields of the same entity, such as
+ * {@link RequireLessThanField} , {@link RequireFieldsEqual} and
+ * {@link RequireBeforeField} .
+ * <p>
+ * The fields and their accessors are resolved when the instance is created, so
+ * the same instance can be used to validate any number of entities of the same
+ * class.
+ *
+ * @author Kato Shinya
+ * @since 1.0.5
+ */
+@ToString
+@EqualsAndHashCode
+final class CrossFieldValidation {
+
+    /**
+     * The class-level annotation
+     */
+    private Annotation annotation;
+
+    /**
+     * The field helper of the field
+     */
+    private EnvaliFieldHelper field;
+
+    /**
+     * The field helper of the other field
+     */
+    private EnvaliFieldHelper otherField;
+
+    /**
+     * The condition that the values of the two fields must satisfy
+     */
+    @ToString.Exclude
+    @EqualsAndHashCode.Exclude
+    private BiPredicate<Object, Object> condition;
+
+    /**
+     * The error type
+     */
+    private ErrorType errorType;
+
+    /**
+     * The message
+     */
+    private String message;
+
+    /**
+     * The bit mask of the validation groups to which the validation belongs, or
+     * {@code 0} if the validation belongs to no group
+     */
+    @Getter
+    private long groupMask;
+
+    /**
+     * Default constructor
+     */
+    private CrossFieldValidation() {
+    }
+
+    /**
+     * Returns the new instance of {@link CrossFieldValidation} associated with the
+     * class-level annotation passed as an argument.
+     *
+     * @param entityClass The entity class
+     * @param annotation  The class-level annotation
+     * @param groupMask   The bit mask of the validation groups to which the
+     *                    validation belongs
+     * @return The new instance of {@link CrossFieldValidation}
+     *
+     * @exception NullPointerException          If {@code null} is passed as an
+     *                                          argument
+     * @exception UnsupportedOperationException If the annotation is not a
+     *                                          class-level constraint, otherwise
+     *                                          if the fields were not found or are
+     *                                          of unsupported data types
+     */
+    public static CrossFieldValidation of(@NonNull Class<? extends ValidatableEntity> entityClass,
+            @NonNull Annotation annotation, long groupMask) {
+
+        final CrossFieldValidation validation = new CrossFieldValidation();
+        validation.annotation = annotation;
+        validation.groupMask = groupMask;
+
+        if (annotation instanceof RequireLessThanField requireLessThanField) {
+            validation.resolveFields(entityClass, requireLessThanField.field(), requireLessThanField.otherField());
+            validation.requireSameType(Comparable.class.isAssignableFrom(validation.getWrappedType()));
+            validation.condition = getOrderCondition(requireLessThanField.allowEqual());
+            validation.errorType = requireLessThanField.errorType();
+            validation.message = requireLessThanField.message();
+        } else if (annotation instanceof RequireFieldsEqual requireFieldsEqual) {
+            validation.resolveFields(entityClass, requireFieldsEqual.field(), requireFieldsEqual.otherField());
+            validation.condition = (value, otherValue) -> Objects.deepEquals(value, otherValue);
+            validation.errorType = requireFieldsEqual.errorType();
+            validation.message = requireFieldsEqual.message();
+        } else if (annotation instanceof RequireBeforeField requireBeforeField) {
+            validation.resolveFields(entityClass, requireBeforeField.field(), requireBeforeField.otherField());
+            validation.requireSameType(Date.class.isAssignableFrom(validation.getWrappedType())
+                    || Temporal.class.isAssignableFrom(validation.getWrappedType())
+                            && Comparable.class.isAssignableFrom(validation.getWrappedType()));
+            validation.condition = getOrderCondition(requireBeforeField.allowEqual());
+            validation.errorType = requireBeforeField.errorType();
+            validation.message = requireBeforeField.message();
+        } else {
+            throw new UnsupportedOperationException(String.format("The %s annotation is not a class-level constraint.",
+                    annotation.annotationType().getName()));
+        }
+
+        return validation;
+    }
+
+    /**
+     * Returns the class-level constraints specified for the class passed as an
+     * argument.
+     *
+     * @param type The class
+     * @return The class-level constraints specified for the class
+     *
+     * @exception NullPointerException If {@code null} is passed as an argument
+     */
+    public static List<Annotation> getConstraints(@NonNull Class<?> type) {
+
+        final List<Annotation> constraints = new ArrayList<>(0);
+        constraints.addAll(Arrays.asList(type.getDeclaredAnnotationsByType(RequireLessThanField.class)));
+        constraints.addAll(Arrays.asList(type.getDeclaredAnnotationsByType(RequireFieldsEqual.class)));
+        constraints.addAll(Arrays.asList(type.getDeclaredAnnotationsByType(RequireBeforeField.class)));
+
+        return constraints;
+    }
+
+    /**
+     * Validates the values of the two fields of the entity passed as an argument.
+     *
+     * @param entity The entity to be validated
+     * @return The business error detected in the validate process
+     *
+     * @exception NullPointerException        If {@code null} is passed as an
+     *                                        argument
+     * @exception PreconditionFailedException If the error type is
+     *                                        {@link ErrorType#RUNTIME} and the
+     *                                        values do not satisfy the constraint
+     */
+    public BusinessError validate(@NonNull ValidatableEntity entity) {
+
+        if (this.condition.test(this.field.get(entity), this.otherField.get(entity))) {
+            return BusinessError.none();
+        }
+
+        return switch (this.errorType) {
+            case RECOVERABLE -> BusinessError.recoverable(this.message);
+            case UNRECOVERABLE -> BusinessError.unrecoverable(this.message);
+            case RUNTIME -> throw new PreconditionFailedException();
+        };
+    }
+
+    /**
+     * Resolves the field helpers of the two fields.
+     *
+     * @param entityClass    The entity class
+     * @param fieldName      The name of the field
+     * @param otherFieldName The name of the other field
+     *
+     * @exception UnsupportedOperationException If the fields were not found
+     */
+    private void resolveFields(@NonNull Class<? extends ValidatableEntity> entityClass, @NonNull String fieldName,
+            @NonNull String otherFieldName) {
+        this.field = EnvaliFieldHelper.of(entityClass, this.findField(entityClass, fieldName));
+        this.otherField = EnvaliFieldHelper.of(entityClass, this.findField(entityClass, otherFieldName));
+    }
+
+    /**
+     * Returns the field associated with the name in the class hierarchy of the
+     * entity class. The field declared by the subclass takes precedence.
+     *
+     * @param entityClass The entity class
+     * @param fieldName   The name of the field
+     * @return The field associated with the name
+     *
+     * @exception UnsupportedOperationException If the field was not found
+     */
+    private Field findField(@NonNull Class<? extends ValidatableEntity> entityClass, @NonNull String fieldName) {
+
+        Field foundField = null;
+
+        for (Field field : EnvaliClassHelper.getHierarchyFields(entityClass)) {
+            if (field.getName().equals(fieldName)) {
+                foundField = field;
+            }
+        }
+
+        if (foundField == null) {
+            throw new UnsupportedOperationException(
+                    String.format("The variable %s#%s specified in the %s annotation was not found.",
+                            entityClass.getName(), fieldName, this.annotation.annotationType().getName()));
+        }
+
+        if (EnvaliFieldHelper.requiresFieldAccess(entityClass, foundField)) {
+            foundField.setAccessible(true);
+        }
+
+        return foundField;
+    }
+
+    /**
+     * Requires that the two fields are of the same type and the type is
+     * supported.
+     *
+     * @param supported {@code true} if the type of the fields is supported by the
+     *                  annotation, otherwise {@code false}
+     *
+     * @exception UnsupportedOperationException If the two fields are of different
+     *                                          types, otherwise if the type is not
+     *                                          supported
+     */
+    private void requireSameType(boolean supported) {
+        if (!supported || this.field.getType() != this.otherField.getType()) {
+            throw new UnsupportedOperationException(String.format(
+                    "The %s annotation requires the fields of the same supported type, but was specified for the variables %s#%s of type %s and %s#%s of type %s.",
+                    this.annotation.annotationType().getName(), this.field.getEntityName(), this.field.getName(),
+                    this.field.getType().getName(), this.otherField.getEntityName(), this.otherField.getName(),
+                    this.otherField.getType().getName()));
+        }
+    }
+
+    /**
+     * Returns the type of the field, in which the primitive type is wrapped.
+     *
+     * @return The wrapped type of the field
+     */
+    private Class<?> getWrappedType() {
+        return MethodType.methodType(this.field.getType()).wrap().returnType();
+    }
+
+    /**
+     * Returns the condition that the value of the field precedes the value of the
+     * other field. The condition is satisfied if either value is {@code null} .
+     *
+     * @param allowEqual {@code true} if the two values are allowed to be equal,
+     *                   otherwise {@code false}
+     * @return The condition that the value of the field precedes the value of the
+     *         other field
+     */
+    @SuppressWarnings({ "unchecked", "rawtypes" })
+    private static BiPredicate<Object, Object> getOrderCondition(boolean allowEqual) {
+        return (value, otherValue) -> {
+            if (value == null || otherValue == null) {
+                return true;
+            }
+
+            final int comparison = ((Comparable) value).compareTo(otherValue);
+            return allowEqual ? comparison <= 0 : comparison < 0;
+        };
+    }
+}
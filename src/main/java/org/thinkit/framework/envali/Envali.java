@@ -14,24 +14,35 @@
 
 package org.thinkit.framework.envali;
 
-import java.lang.annotation.Annotation;
-import java.lang.reflect.Field;
-import java.util.ArrayList;
+import java.nio.file.Path;
 import java.util.Arrays;
+import java.util.Collection;
 import java.util.List;
 import java.util.Map;
+import java.util.Set;
+import java.util.concurrent.ConcurrentHashMap;
 
 import org.thinkit.common.base.precondition.Preconditions;
 import org.thinkit.framework.envali.annotation.ParameterMapping;
 import org.thinkit.framework.envali.annotation.RequireEndWith;
+import org.thinkit.framework.envali.annotation.RequireExistsIn;
 import org.thinkit.framework.envali.annotation.RequireNonEmpty;
 import org.thinkit.framework.envali.annotation.RequireNonNull;
 import org.thinkit.framework.envali.annotation.RequireRangeFromTo;
 import org.thinkit.framework.envali.annotation.RequireRangeTo;
 import org.thinkit.framework.envali.annotation.RequireStartWith;
 import org.thinkit.framework.envali.entity.ValidatableEntity;
+import org.thinkit.framework.envali.entity.ValidationGroup;
+import org.thinkit.framework.envali.exception.ContentNotFoundException;
+import org.thinkit.framework.envali.helper.EnvaliClassHelper;
+import org.thinkit.framework.envali.helper.EnvaliContentArchive;
+import org.thinkit.framework.envali.helper.EnvaliContentRegistry;
+import org.thinkit.framework.envali.helper.EnvaliContentWatcher;
+import org.thinkit.framework.envali.helper.EnvaliDataset;
 import org.thinkit.framework.envali.result.BusinessError;
 import org.thinkit.framework.envali.result.ValidationResult;
+import org.thinkit.framework.envali.source.ContentProfile;
+import org.thinkit.framework.envali.source.ContentSource;
 
 /**
  * {@link Envali} is a powerful validator that provides common and intuitive
@@ -123,6 +134,10 @@ public final class Envali {
     /**
      * Analyzes each annotation set to an entity object for validation and verifies
      * the validity of the field's value.
+     * <p>
+     * The annotations and content of each entity class are resolved on the first
+     * validation of the class and reused afterwards. Use {@link #preload(Class...)}
+     * or {@link #preloadPackage(String)} to resolve them in advance.
      *
      * @param entity The entity object to be validated that implements the
      *               {@link ValidatableEntity} interface
@@ -135,29 +150,460 @@ public final class Envali {
      *                                          process
      */
     public static ValidationResult validate(final ValidatableEntity entity) {
-        Preconditions.requireNonNull(entity);
+        return validate(entity, List.of());
+    }
 
-        final List<BusinessError> businessErrors = new ArrayList<>();
-        final Validation.Builder validationBuilder = Validation.builder().validatableEntity(entity);
+    /**
+     * Analyzes each annotation set to an entity object for validation and verifies
+     * the validity of the field's value for the validation groups passed as
+     * arguments.
+     * <p>
+     * The constraints without groups are always validated, and the constraints
+     * with groups are validated only if any of their groups, or any group that
+     * extends them, is passed. The groups are also applied to the nested entities.
+     * The constraints to be validated are selected once per combination of groups
+     * and entity class, and reused afterwards.
+     *
+     * @param entity The entity object to be validated that implements the
+     *               {@link ValidatableEntity} interface
+     * @param groups The validation groups to be validated, which are only read
+     *               through the list view of the array
+     * @return The validation result includes business errors
+     *
+     * @exception NullPointerException          If {@code null} is passed as an
+     *                                          argument
+     * @exception UnsupportedOperationException When an unexpected operation is
+     *                                          detected during the reflection
+     *                                          process
+     *
+     * @since 1.0.5
+     */
+    @SafeVarargs
+    @SuppressWarnings("varargs")
+    public static ValidationResult validate(final ValidatableEntity entity,
+            final Class<? extends ValidationGroup>... groups) {
+        Preconditions.requireNonNull(groups);
+        return validate(entity, Arrays.asList(groups));
+    }
 
-        for (Field field : Arrays.asList(entity.getClass().getDeclaredFields())) {
-            field.setAccessible(true);
-            validationBuilder.field(field);
+    /**
+     * Analyzes each annotation set to an entity object for validation and verifies
+     * the validity of the field's value for the validation groups passed as an
+     * argument, in the same way as
+     * {@link #validate(ValidatableEntity, Class...)} .
+     *
+     * @param entity The entity object to be validated that implements the
+     *               {@link ValidatableEntity} interface
+     * @param groups The validation groups to be validated, which are only read
+     *               through the list view of the array
+     * @return The validation result includes business errors
+     *
+     * @exception NullPointerException          If {@code null} is passed as an
+     *                                          argument
+     * @exception UnsupportedOperationException When an unexpected operation is
+     *                                          detected during the reflection
+     *                                          process
+     *
+     * @since 1.0.5
+     */
+    public static ValidationResult validate(final ValidatableEntity entity,
+            final Collection<Class<? extends ValidationGroup>> groups) {
+        Preconditions.requireNonNull(entity);
+        Preconditions.requireNonNull(groups);
 
-            for (Annotation annotation : Arrays.asList(field.getAnnotations())) {
-                final BusinessError businessError = validationBuilder.annotationType(annotation.annotationType())
-                        .build().validate();
+        final List<BusinessError> businessErrors = ValidationPlan.of(entity.getClass()).validate(entity, groups);
 
-                if (businessError != null && businessError.hasError()) {
-                    businessErrors.add(businessError);
-                }
-            }
+        if (businessErrors.isEmpty()) {
+            return ValidationResult.none();
         }
 
+        return ValidationResult.of(Map.of(entity.getClass(), businessErrors));
+    }
+
+    /**
+     * Analyzes each annotation set to an entity object for validation and verifies
+     * the validity of the field's value with the content of the profile passed as
+     * an argument.
+     * <p>
+     * The content of the profile is named by
+     * {@link ParameterMapping#profileContent()} , and the content mapped to the
+     * entity class is used instead if no source provides it. The profile is also
+     * applied to the nested entities. The content of each profile is resolved
+     * only once per entity class and reused afterwards.
+     *
+     * @param entity         The entity object to be validated that implements
+     *                       the {@link ValidatableEntity} interface
+     * @param contentProfile The content profile such as a tenant
+     * @return The validation result includes business errors
+     *
+     * @exception NullPointerException          If {@code null} is passed as an
+     *                                          argument
+     * @exception UnsupportedOperationException When an unexpected operation is
+     *                                          detected during the reflection
+     *                                          process
+     *
+     * @since 1.0.5
+     */
+    public static ValidationResult validate(final ValidatableEntity entity, final ContentProfile contentProfile) {
+        return validate(entity, contentProfile, List.of());
+    }
+
+    /**
+     * Analyzes each annotation set to an entity object for validation and verifies
+     * the validity of the field's value with the content of the profile for the
+     * validation groups passed as arguments, in the same way as
+     * {@link #validate(ValidatableEntity, ContentProfile)} and
+     * {@link #validate(ValidatableEntity, Class...)} .
+     *
+     * @param entity         The entity object to be validated that implements
+     *                       the {@link ValidatableEntity} interface
+     * @param contentProfile The content profile such as a tenant
+     * @param groups         The validation groups to be validated, which are only
+     *                       read through the list view of the array
+     * @return The validation result includes business errors
+     *
+     * @exception NullPointerException          If {@code null} is passed as an
+     *                                          argument
+     * @exception UnsupportedOperationException When an unexpected operation is
+     *                                          detected during the reflection
+     *                                          process
+     *
+     * @since 1.0.5
+     */
+    @SafeVarargs
+    @SuppressWarnings("varargs")
+    public static ValidationResult validate(final ValidatableEntity entity, final ContentProfile contentProfile,
+            final Class<? extends ValidationGroup>... groups) {
+        Preconditions.requireNonNull(groups);
+        return validate(entity, contentProfile, Arrays.asList(groups));
+    }
+
+    /**
+     * Analyzes each annotation set to an entity object for validation and verifies
+     * the validity of the field's value with the content of the profile for the
+     * validation groups passed as an argument, in the same way as
+     * {@link #validate(ValidatableEntity, ContentProfile, Class...)} .
+     *
+     * @param entity         The entity object to be validated that implements
+     *                       the {@link ValidatableEntity} interface
+     * @param contentProfile The content profile such as a tenant
+     * @param groups         The validation groups to be validated
+     * @return The validation result includes business errors
+     *
+     * @exception NullPointerException          If {@code null} is passed as an
+     *                                          argument
+     * @exception UnsupportedOperationException When an unexpected operation is
+     *                                          detected during the reflection
+     *                                          process
+     *
+     * @since 1.0.5
+     */
+    public static ValidationResult validate(final ValidatableEntity entity, final ContentProfile contentProfile,
+            final Collection<Class<? extends ValidationGroup>> groups) {
+        Preconditions.requireNonNull(entity);
+        Preconditions.requireNonNull(contentProfile);
+        Preconditions.requireNonNull(groups);
+
+        final List<BusinessError> businessErrors = ValidationPlan.of(entity.getClass(), contentProfile)
+                .validate(entity, groups);
+
         if (businessErrors.isEmpty()) {
             return ValidationResult.none();
         }
 
         return ValidationResult.of(Map.of(entity.getClass(), businessErrors));
     }
+
+    /**
+     * Resolves the annotations, data type requirements and content of the entity
+     * classes passed as arguments and of the entity classes nested in them, so that
+     * the first call to {@link #validate(ValidatableEntity)} does not pay for it.
+     * <p>
+     * The entity classes are resolved in parallel. Any configuration error such as
+     * an annotation specified for an unsupported data type or a missing content
+     * file is thrown from this method.
+     *
+     * @param entityClasses The entity classes to be preloaded, which are only
+     *                      read through the list view of the array
+     *
+     * @exception NullPointerException          If {@code null} is passed as an
+     *                                          argument
+     * @exception UnsupportedOperationException When specific Envali annotation is
+     *                                          specified for the field of
+     *                                          unsupported data type
+     * @exception ContentNotFoundException      If the content file defined in
+     *                                          {@link ParameterMapping} annotation
+     *                                          was not found
+     *
+     * @since 1.0.5
+     */
+    @SafeVarargs
+    @SuppressWarnings("varargs")
+    public static void preload(final Class<? extends ValidatableEntity>... entityClasses) {
+        Preconditions.requireNonNull(entityClasses);
+        preload(Arrays.asList(entityClasses));
+    }
+
+    /**
+     * Finds the concrete entity classes that implement {@link ValidatableEntity}
+     * in the package passed as an argument and its subpackages, and preloads them
+     * in the same way as {@link #preload(Class...)} .
+     *
+     * @param packageName The name of package to be scanned
+     *
+     * @exception NullPointerException          If {@code null} is passed as an
+     *                                          argument
+     * @exception IllegalStateException         If an I/O error occurs while
+     *                                          scanning the classpath
+     * @exception UnsupportedOperationException When specific Envali annotation is
+     *                                          specified for the field of
+     *                                          unsupported data type
+     * @exception ContentNotFoundException      If the content file defined in
+     *                                          {@link ParameterMapping} annotation
+     *                                          was not found
+     *
+     * @since 1.0.5
+     */
+    public static void preloadPackage(final String packageName) {
+        Preconditions.requireNonNull(packageName);
+        preload(EnvaliClassHelper.findValidatableEntities(packageName));
+    }
+
+    /**
+     * Writes the content mapped by {@link ParameterMapping} annotation of the
+     * entity classes passed as arguments to the archive file. The archive can be
+     * loaded by {@link #loadArchive(Path)} at startup to skip loading and parsing
+     * the content files.
+     *
+     * @param archivePath   The path to the archive file
+     * @param entityClasses The entity classes to be archived, which are only
+     *                      read through the list view of the array
+     *
+     * @exception NullPointerException     If {@code null} is passed as an argument
+     * @exception IllegalStateException    If an I/O error occurs while writing the
+     *                                     archive
+     * @exception ContentNotFoundException If the content file defined in
+     *                                     {@link ParameterMapping} annotation was
+     *                                     not found
+     *
+     * @since 1.0.5
+     */
+    @SafeVarargs
+    @SuppressWarnings("varargs")
+    public static void writeArchive(final Path archivePath, final Class<? extends ValidatableEntity>... entityClasses) {
+        Preconditions.requireNonNull(archivePath);
+        Preconditions.requireNonNull(entityClasses);
+        EnvaliContentArchive.write(archivePath, Arrays.asList(entityClasses));
+    }
+
+    /**
+     * Loads the archive file written by {@link #writeArchive(Path, Class...)} .
+     * <p>
+     * The archived content is used in preference to the content files. The
+     * archive must be loaded before the first validation or preload of the
+     * archived entity classes, because the content is resolved only once per
+     * entity class.
+     *
+     * @param archivePath The path to the archive file
+     *
+     * @exception NullPointerException  If {@code null} is passed as an argument
+     * @exception IllegalStateException If an I/O error occurs while reading the
+     *                                  archive, otherwise if the archive is
+     *                                  malformed
+     *
+     * @since 1.0.5
+     */
+    public static void loadArchive(final Path archivePath) {
+        Preconditions.requireNonNull(archivePath);
+        EnvaliContentArchive.load(archivePath);
+    }
+
+    /**
+     * Starts serving the content files mapped by {@link ParameterMapping}
+     * annotation from the directory passed as an argument, and watches the
+     * directory for changes.
+     * <p>
+     * A content file named after the content of {@link ParameterMapping}
+     * annotation, such as {@code EnvaliContent.json} , is used in preference to
+     * the archive and the classpath while the directory is watched. When a content
+     * file is changed, the validation plans of the entity classes mapped to it are
+     * created again on the watcher thread and swapped in atomically, so
+     * validations are never blocked and never see partially updated content. If
+     * the changed file cannot be parsed, the previous content stays in effect.
+     * Replacing the file by an atomic move is recommended. Only the files directly
+     * in the directory are watched.
+     *
+     * @param contentDirectory The directory containing the content files
+     *
+     * @exception NullPointerException  If {@code null} is passed as an argument
+     * @exception IllegalStateException If an I/O error occurs while registering
+     *                                  the directory, otherwise if the path is
+     *                                  not a directory
+     *
+     * @since 1.0.5
+     */
+    public static void watchContent(final Path contentDirectory) {
+        Preconditions.requireNonNull(contentDirectory);
+        EnvaliContentWatcher.start(contentDirectory, ValidationPlan::reload);
+    }
+
+    /**
+     * Stops watching the directory passed to {@link #watchContent(Path)} . The
+     * validation plans already created keep the content they were created with.
+     *
+     * @exception IllegalStateException If an I/O error occurs while closing the
+     *                                  watch service
+     *
+     * @since 1.0.5
+     */
+    public static void unwatchContent() {
+        EnvaliContentWatcher.stop();
+    }
+
+    /**
+     * Adds the content source passed as an argument, which provides the content
+     * mapped by {@link ParameterMapping} annotation in preference to the content
+     * files. The sources added later are consulted first.
+     * <p>
+     * The validation plans of the entity classes mapped to content are created
+     * again, so the content provided by the source takes effect immediately.
+     *
+     * @param contentSource The content source
+     *
+     * @exception NullPointerException If {@code null} is passed as an argument
+     *
+     * @since 1.0.5
+     */
+    public static void addContentSource(final ContentSource contentSource) {
+        Preconditions.requireNonNull(contentSource);
+        EnvaliContentRegistry.add(contentSource);
+        ValidationPlan.reloadAll();
+    }
+
+    /**
+     * Removes the content source added by
+     * {@link #addContentSource(ContentSource)} . The validation plans of the
+     * entity classes mapped to content are created again.
+     *
+     * @param contentSource The content source
+     * @return {@code true} if the source has been removed, otherwise
+     *         {@code false}
+     *
+     * @exception NullPointerException If {@code null} is passed as an argument
+     *
+     * @since 1.0.5
+     */
+    public static boolean removeContentSource(final ContentSource contentSource) {
+        Preconditions.requireNonNull(contentSource);
+
+        final boolean removed = EnvaliContentRegistry.remove(contentSource);
+        ValidationPlan.reloadAll();
+
+        return removed;
+    }
+
+    /**
+     * Writes the keys passed as an argument to the dataset file, which is
+     * registered by {@link #registerDataset(String, Path)} and referred to by
+     * {@link RequireExistsIn} annotation. The keys are sorted and the duplicate
+     * keys are written only once.
+     * <p>
+     * The dataset file is meant to be built locally, for example when the
+     * reference data is updated, and to be shared by all the processes on the
+     * host. The dataset file must be smaller than 2 GB.
+     *
+     * @param datasetPath The path to the dataset file
+     * @param keys        The keys
+     *
+     * @exception NullPointerException  If {@code null} is passed as an argument,
+     *                                  otherwise if a key is {@code null}
+     * @exception IllegalStateException If an I/O error occurs while writing the
+     *                                  dataset, otherwise if the dataset is 2 GB
+     *                                  or larger
+     *
+     * @since 1.0.5
+     */
+    public static void writeDataset(final Path datasetPath, final Collection<? extends CharSequence> keys) {
+        Preconditions.requireNonNull(datasetPath);
+        Preconditions.requireNonNull(keys);
+        EnvaliDataset.write(datasetPath, keys);
+    }
+
+    /**
+     * Maps the dataset file written by
+     * {@link #writeDataset(Path, Collection)} and registers it with the name
+     * passed as an argument, which is specified in {@link RequireExistsIn}
+     * annotation. The dataset already registered with the name is replaced, and
+     * the new dataset takes effect immediately.
+     * <p>
+     * The keys are read from the memory mapped file and are not loaded on the
+     * heap. Replace the file by an atomic move and register it again to update
+     * the dataset, because the mapped file must not be modified in place.
+     *
+     * @param dataset     The name of the dataset
+     * @param datasetPath The path to the dataset file
+     *
+     * @exception NullPointerException  If {@code null} is passed as an argument
+     * @exception IllegalStateException If an I/O error occurs while mapping the
+     *                                  dataset, otherwise if the dataset is
+     *                                  malformed
+     *
+     * @since 1.0.5
+     */
+    public static void registerDataset(final String dataset, final Path datasetPath) {
+        Preconditions.requireNonNull(dataset);
+        Preconditions.requireNonNull(datasetPath);
+        EnvaliDataset.register(dataset, datasetPath);
+    }
+
+    /**
+     * Unregisters the dataset registered by
+     * {@link #registerDataset(String, Path)} . The fields annotated with
+     * {@link RequireExistsIn} annotation that refer to the dataset cannot be
+     * validated until the dataset is registered again.
+     *
+     * @param dataset The name of the dataset
+     * @return {@code true} if the dataset has been unregistered, otherwise
+     *         {@code false}
+     *
+     * @exception NullPointerException If {@code null} is passed as an argument
+     *
+     * @since 1.0.5
+     */
+    public static boolean unregisterDataset(final String dataset) {
+        Preconditions.requireNonNull(dataset);
+        return EnvaliDataset.unregister(dataset);
+    }
+
+    /**
+     * Preloads the entity classes passed as an argument in parallel.
+     *
+     * @param entityClasses The entity classes to be preloaded, which are only
+     *                      read through the list view of the array
+     */
+    private static void preload(final Collection<Class<? extends ValidatableEntity>> entityClasses) {
+        final Set<Class<? extends ValidatableEntity>> preloadedClasses = ConcurrentHashMap.newKeySet();
+        entityClasses.parallelStream().forEach(entityClass -> preload(entityClass, preloadedClasses));
+    }
+
+    /**
+     * Preloads the entity class passed as an argument and the entity classes nested
+     * in it.
+     *
+     * @param entityClass      The entity class to be preloaded
+     * @param preloadedClasses The entity classes that have already been preloaded
+     */
+    private static void preload(final Class<? extends ValidatableEntity> entityClass,
+            final Set<Class<? extends ValidatableEntity>> preloadedClasses) {
+        Preconditions.requireNonNull(entityClass);
+
+        if (!preloadedClasses.add(entityClass)) {
+            return;
+        }
+
+        for (Class<? extends ValidatableEntity> nestedEntityClass : ValidationPlan.of(entityClass)
+                .getNestedEntityClasses()) {
+            preload(nestedEntityClass, preloadedClasses);
+        }
+    }
 }
@@ -0,0 +1,431 @@
+/*
+ * Copyright 2020 Kato Shinya.
+ *
+ * Licensed under the Apache License, Version 2.0 (the "License"); you may not use this file except
+ * in compliance with the License. You may obtain a copy of the License at
+ *
+ *     http://www.apache.org/licenses/LICENSE-2.0
+ *
+ * Unless required by applicable law or agreed to in writing, software distributed under the License
+ * is distributed on an "AS IS" BASIS, WITHOUT WARRANTIES OR CONDITIONS OF ANY KIND, either express
+ * or implied. See the License for the specific language governing permissions and limitations under
+ * the License.
+ */
+
+package org.thinkit.framework.envali;
+
+import java.lang.annotation.Annotation;
+import java.lang.reflect.Field;
+import java.util.ArrayList;
+import java.util.EnumSet;
+import java.util.LinkedHashMap;
+import java.util.List;
+import java.util.Map;
+import java.util.Set;
+import java.util.function.Predicate;
+import java.util.function.ToLongFunction;
+
+import org.thinkit.api.catalog.BiCatalog;
+import org.thinkit.common.base.precondition.Preconditions;
+import org.thinkit.common.base.precondition.exception.PreconditionFailedException;
+import org.thinkit.framework.envali.annotation.ParameterMapping;
+import org.thinkit.framework.envali.annotation.RequireChecksum;
+import org.thinkit.framework.envali.annotation.RequireEndWith;
+import org.thinkit.framework.envali.annotation.RequireExistsIn;
+import org.thinkit.framework.envali.annotation.RequireMatch;
+import org.thinkit.framework.envali.annotation.RequireNonBlank;
+import org.thinkit.framework.envali.annotation.RequireNonEmpty;
+import org.thinkit.framework.envali.annotation.RequireOneOf;
+import org.thinkit.framework.envali.annotation.RequireSize;
+import org.thinkit.framework.envali.annotation.RequireStartWith;
+import org.thinkit.framework.envali.catalog.ChecksumAlgorithm;
+import org.thinkit.framework.envali.catalog.EnvaliContentAttribute;
+import org.thinkit.framework.envali.catalog.ErrorType;
+import org.thinkit.framework.envali.catalog.ValidationPattern;
+import org.thinkit.framework.envali.entity.ValidatableEntity;
+import org.thinkit.framework.envali.helper.EnvaliChecksumHelper;
+import org.thinkit.framework.envali.helper.EnvaliContentHelper;
+import org.thinkit.framework.envali.helper.EnvaliDataset;
+import org.thinkit.framework.envali.helper.EnvaliFieldHelper;
+import org.thinkit.framework.envali.helper.EnvaliRegexHelper;
+import org.thinkit.framework.envali.helper.EnvaliValueSet;
+import org.thinkit.framework.envali.result.BusinessError;
+import org.thinkit.framework.envali.source.ContentProfile;
+
+import lombok.EqualsAndHashCode;
+import lombok.NonNull;
+import lombok.ToString;
+
+/**
+ * The object that represents the validation process of the constraints on the
+ * value of a {@link String} field, such as {@link RequireNonBlank} ,
+ * {@link RequireNonEmpty} , {@link RequireStartWith} , {@link RequireEndWith}
+ * , {@link RequireSize} , {@link RequireChecksum} , {@link RequireOneOf} ,
+ * {@link RequireExistsIn} and {@link RequireMatch} , that are specified for the
+ * same field and belong to the same validation groups.
+ * <p>
+ * The value of the field is read only once, and the length, prefix, suffix,
+ * check digit, membership and existence of the value are checked before any
+ * regular expression is evaluated. The prefix, suffix, allowed values and
+ * compiled regular expression are resolved once when the instance is created.
+ * The business errors are reported in the order in which the constraints are
+ * declared, in the same way as the constraints that are validated one by one.
+ *
+ * @author Kato Shinya
+ * @since 1.0.5
+ */
+@ToString
+@EqualsAndHashCode
+final class StringConstraintValidation {
+
+    /**
+     * The validation patterns that are evaluated together for a {@link String}
+     * field
+     */
+    private static final Set<ValidationPattern> STRING_PATTERNS = EnumSet.of(ValidationPattern.REQUIRE_NON_BLANK,
+            ValidationPattern.REQUIRE_NON_EMPTY, ValidationPattern.REQUIRE_START_WITH,
+            ValidationPattern.REQUIRE_END_WITH, ValidationPattern.REQUIRE_SIZE, ValidationPattern.REQUIRE_CHECKSUM,
+            ValidationPattern.REQUIRE_ONE_OF, ValidationPattern.REQUIRE_EXISTS_IN, ValidationPattern.REQUIRE_MATCH);
+
+    /**
+     * The field helper of the {@link String} field
+     */
+    private EnvaliFieldHelper field;
+
+    /**
+     * The constraints in declaration order
+     */
+    private StringConstraint[] constraints;
+
+    /**
+     * Default constructor
+     */
+    private StringConstraintValidation() {
+    }
+
+    /**
+     * Returns the constraints on the value of the field passed as an argument that
+     * are evaluated together, grouped by the bit mask of the validation groups to
+     * which they belong. Only the groups of two or more constraints are returned,
+     * because a single constraint gains nothing from being evaluated together.
+     *
+     * @param field       The field
+     * @param groupMaskOf The function that returns the bit mask of the validation
+     *                    groups specified in an annotation
+     * @return The constraints in declaration order per bit mask of the validation
+     *         groups, or an empty map if the field is not a {@link String} field
+     *
+     * @exception NullPointerException If {@code null} is passed as an argument
+     */
+    public static Map<Long, List<Annotation>> getConstraints(@NonNull Field field,
+            @NonNull ToLongFunction<Annotation> groupMaskOf) {
+
+        if (field.getType() != String.class) {
+            return Map.of();
+        }
+
+        final Map<Long, List<Annotation>> constraints = new LinkedHashMap<>(0);
+
+        for (Annotation annotation : field.getAnnotations()) {
+            if (STRING_PATTERNS.contains(getValidationPattern(annotation))) {
+                constraints.computeIfAbsent(groupMaskOf.applyAsLong(annotation), groupMask -> new ArrayList<>(2))
+                        .add(annotation);
+            }
+        }
+
+        constraints.values().removeIf(annotations -> annotations.size() < 2);
+        return constraints;
+    }
+
+    /**
+     * Returns the new instance of {@link StringConstraintValidation} that
+     * evaluates the constraints passed as an argument together.
+     *
+     * @param entityClass    The entity class
+     * @param field          The {@link String} field
+     * @param annotations    The constraints returned by
+     *                       {@link #getConstraints(Field, ToLongFunction)} for
+     *                       the same validation groups
+     * @param contentProfile The content profile, or {@code null} if the content
+     *                       mapped to the entity class is used
+     * @return The new instance of {@link StringConstraintValidation}
+     *
+     * @exception NullPointerException          If {@code null} is passed as an
+     *                                          argument other than the content
+     *                                          profile
+     * @exception UnsupportedOperationException If the content could not be read,
+     *                                          otherwise if the parameters of a
+     *                                          constraint are invalid
+     */
+    public static StringConstraintValidation of(@NonNull Class<? extends ValidatableEntity> entityClass,
+            @NonNull Field field, @NonNull List<Annotation> annotations, ContentProfile contentProfile) {
+
+        final StringConstraintValidation validation = new StringConstraintValidation();
+        validation.field = EnvaliFieldHelper.of(entityClass, field);
+        validation.constraints = new StringConstraint[annotations.size()];
+
+        final EnvaliContentHelper contentHelper = entityClass.getAnnotation(ParameterMapping.class) != null
+                && annotations.stream().anyMatch(annotation -> getValidationPattern(annotation).usesContent())
+                        ? EnvaliContentHelper.of(entityClass, field, contentProfile)
+                        : null;
+
+        for (int i = 0; i < annotations.size(); i++) {
+            validation.constraints[i] = validation.getConstraint(annotations.get(i), contentHelper);
+        }
+
+        return validation;
+    }
+
+    /**
+     * Validates the value of the field of the entity passed as an argument, and
+     * adds the business errors detected to the list passed as an argument in
+     * declaration order.
+     *
+     * @param entity         The entity to be validated
+     * @param businessErrors The list to which the business errors are added
+     *
+     * @exception NullPointerException        If {@code null} is passed as an
+     *                                        argument
+     * @exception PreconditionFailedException If the value does not satisfy a
+     *                                        constraint of which error type is
+     *                                        {@link ErrorType#RUNTIME}
+     */
+    public void validate(@NonNull ValidatableEntity entity, @NonNull List<BusinessError> businessErrors) {
+
+        final Object fieldValue = this.field.get(entity);
+        final String value = String.valueOf(fieldValue);
+        final int length = value.length();
+        long invalidMask = 0L;
+
+        for (int i = 0; i < this.constraints.length; i++) {
+            final StringConstraint constraint = this.constraints[i];
+
+            final boolean valid = switch (constraint.validationPattern) {
+                case REQUIRE_NON_BLANK, REQUIRE_NON_EMPTY -> length != 0;
+                case REQUIRE_START_WITH -> value.startsWith(constraint.affix);
+                case REQUIRE_END_WITH -> value.endsWith(constraint.affix);
+                case REQUIRE_SIZE -> fieldValue == null || (constraint.min <= length && length <= constraint.max);
+                case REQUIRE_CHECKSUM -> fieldValue == null
+                        || EnvaliChecksumHelper.isValid(constraint.algorithm, value);
+                case REQUIRE_ONE_OF -> fieldValue == null || constraint.valueSet.contains(value);
+                case REQUIRE_EXISTS_IN -> fieldValue == null || EnvaliDataset.get(constraint.dataset).contains(value);
+                default -> true;
+            };
+
+            if (!valid) {
+                invalidMask |= 1L << i;
+            }
+        }
+
+        for (int i = 0; i < this.constraints.length; i++) {
+            final StringConstraint constraint = this.constraints[i];
+            final boolean valid = constraint.matcher != null ? constraint.matcher.test(value)
+                    : (invalidMask & 1L << i) == 0L;
+
+            if (!valid) {
+                businessErrors.add(reject(constraint, value));
+            }
+        }
+    }
+
+    /**
+     * Returns the business error for the constraint that the value passed as an
+     * argument does not satisfy.
+     *
+     * @param constraint The constraint that is not satisfied
+     * @param value      The value of the field
+     * @return The business error for the constraint
+     *
+     * @exception PreconditionFailedException If the error type of the constraint
+     *                                        is {@link ErrorType#RUNTIME}
+     */
+    private static BusinessError reject(@NonNull StringConstraint constraint, @NonNull String value) {
+        return switch (constraint.errorType) {
+            case RECOVERABLE -> BusinessError.recoverable(constraint.message);
+            case UNRECOVERABLE -> BusinessError.unrecoverable(constraint.message);
+            case RUNTIME -> {
+                switch (constraint.validationPattern) {
+                    case REQUIRE_NON_BLANK -> Preconditions.requireNonBlank(value);
+                    case REQUIRE_NON_EMPTY -> Preconditions.requireNonEmpty(value);
+                    case REQUIRE_START_WITH -> Preconditions.requireStartWith(value, constraint.affix);
+                    case REQUIRE_END_WITH -> Preconditions.requireEndWith(value, constraint.affix);
+                    default -> {
+                    }
+                }
+
+                throw new PreconditionFailedException();
+            }
+        };
+    }
+
+    /**
+     * Returns the constraint associated with the annotation passed as an
+     * argument.
+     *
+     * @param annotation    The annotation specified for the field
+     * @param contentHelper The content helper, or {@code null} if the parameters
+     *                      are specified in the annotation
+     * @return The constraint associated with the annotation
+     *
+     * @exception UnsupportedOperationException If the content could not be read,
+     *                                          otherwise if the parameters of the
+     *                                          constraint are invalid
+     */
+    private StringConstraint getConstraint(@NonNull Annotation annotation, EnvaliContentHelper contentHelper) {
+
+        final StringConstraint constraint = new StringConstraint();
+        constraint.validationPattern = getValidationPattern(annotation);
+
+        switch (constraint.validationPattern) {
+            case REQUIRE_NON_BLANK -> {
+                constraint.errorType = ((RequireNonBlank) annotation).errorType();
+                constraint.message = ((RequireNonBlank) annotation).message();
+            }
+
+            case REQUIRE_NON_EMPTY -> {
+                constraint.errorType = ((RequireNonEmpty) annotation).errorType();
+                constraint.message = ((RequireNonEmpty) annotation).message();
+            }
+
+            case REQUIRE_START_WITH -> {
+                constraint.errorType = ((RequireStartWith) annotation).errorType();
+                constraint.message = ((RequireStartWith) annotation).message();
+                constraint.affix = contentHelper != null ? contentHelper.getString(EnvaliContentAttribute.START_WITH)
+                        : ((RequireStartWith) annotation).prefix();
+            }
+
+            case REQUIRE_END_WITH -> {
+                constraint.errorType = ((RequireEndWith) annotation).errorType();
+                constraint.message = ((RequireEndWith) annotation).message();
+                constraint.affix = contentHelper != null ? contentHelper.getString(EnvaliContentAttribute.END_WITH)
+                        : ((RequireEndWith) annotation).suffix();
+            }
+
+            case REQUIRE_SIZE -> {
+                final RequireSize requireSize = (RequireSize) annotation;
+
+                if (requireSize.min() < 0 || requireSize.max() < requireSize.min()) {
+                    throw new UnsupportedOperationException(String.format(
+                            "The org.thinkit.framework.envali.annotation.RequireSize annotation requires 0 <= min <= max, but was min = %d and max = %d for the variable %s#%s.",
+                            requireSize.min(), requireSize.max(), this.field.getEntityName(), this.field.getName()));
+                }
+
+                constraint.errorType = requireSize.errorType();
+                constraint.message = requireSize.message();
+                constraint.min = requireSize.min();
+                constraint.max = requireSize.max();
+            }
+
+            case REQUIRE_CHECKSUM -> {
+                constraint.errorType = ((RequireChecksum) annotation).errorType();
+                constraint.message = ((RequireChecksum) annotation).message();
+                constraint.algorithm = ((RequireChecksum) annotation).algorithm();
+            }
+
+            case REQUIRE_ONE_OF -> {
+                constraint.errorType = ((RequireOneOf) annotation).errorType();
+                constraint.message = ((RequireOneOf) annotation).message();
+                constraint.valueSet = EnvaliValueSet.of((RequireOneOf) annotation, contentHelper, String.class);
+            }
+
+            case REQUIRE_EXISTS_IN -> {
+                constraint.errorType = ((RequireExistsIn) annotation).errorType();
+                constraint.message = ((RequireExistsIn) annotation).message();
+                constraint.dataset = ((RequireExistsIn) annotation).dataset();
+            }
+
+            case REQUIRE_MATCH -> {
+                constraint.errorType = ((RequireMatch) annotation).errorType();
+                constraint.message = ((RequireMatch) annotation).message();
+                constraint.matcher = EnvaliRegexHelper.compileMatcher((RequireMatch) annotation, contentHelper);
+            }
+
+            default -> throw new UnsupportedOperationException(
+                    String.format("The %s annotation is not a constraint on a String value.",
+                            annotation.annotationType().getName()));
+        }
+
+        return constraint;
+    }
+
+    /**
+     * Returns the validation pattern associated with the annotation passed as an
+     * argument.
+     *
+     * @param annotation The annotation
+     * @return The validation pattern, or {@code null} if the annotation is not an
+     *         Envali annotation
+     */
+    private static ValidationPattern getValidationPattern(@NonNull Annotation annotation) {
+        return BiCatalog.getEnumByTag(ValidationPattern.class, annotation.annotationType());
+    }
+
+    /**
+     * The constraint on the value of a {@link String} field with its parameters
+     * resolved.
+     */
+    @ToString
+    @EqualsAndHashCode
+    private static final class StringConstraint {
+
+        /**
+         * The validation pattern
+         */
+        private ValidationPattern validationPattern;
+
+        /**
+         * The error type
+         */
+        private ErrorType errorType;
+
+        /**
+         * The message
+         */
+        private String message;
+
+        /**
+         * The prefix or suffix that the value must have, or {@code null} if the
+         * constraint is neither {@link RequireStartWith} nor
+         * {@link RequireEndWith}
+         */
+        private String affix;
+
+        /**
+         * The minimum length of the value
+         */
+        private int min;
+
+        /**
+         * The maximum length of the value
+         */
+        private int max;
+
+        /**
+         * The algorithm used to verify the check digit, or {@code null} if the
+         * constraint is not {@link RequireChecksum}
+         */
+        private ChecksumAlgorithm algorithm;
+
+        /**
+         * The set of the allowed values, or {@code null} if the constraint is not
+         * {@link RequireOneOf}
+         */
+        @ToString.Exclude
+        @EqualsAndHashCode.Exclude
+        private EnvaliValueSet valueSet;
+
+        /**
+         * The name of the dataset in which the value must exist, or {@code null}
+         * if the constraint is not {@link RequireExistsIn}
+         */
+        private String dataset;
+
+        /**
+         * The requirement that the value matches the regular expression, or
+         * {@code null} if the constraint is not {@link RequireMatch}
+         */
+        @ToString.Exclude
+        @EqualsAndHashCode.Exclude
+        private Predicate<CharSequence> matcher;
+    }
+}
@@ -16,21 +16,31 @@ package org.thinkit.framework.envali;
 
 import java.lang.annotation.Annotation;
 import java.lang.reflect.Field;
+import java.util.Collection;
+import java.util.List;
 
-import org.thinkit.api.catalog.BiCatalog;
 import org.thinkit.common.base.precondition.Preconditions;
 import org.thinkit.framework.envali.catalog.ValidationPattern;
 import org.thinkit.framework.envali.entity.ValidatableEntity;
+import org.thinkit.framework.envali.entity.ValidationGroup;
 import org.thinkit.framework.envali.result.BusinessError;
+import org.thinkit.framework.envali.source.ContentProfile;
 import org.thinkit.framework.envali.strategy.ValidationStrategyContext;
 import org.thinkit.framework.envali.strategy.ValidationStrategyFactory;
 
 import lombok.EqualsAndHashCode;
+import lombok.Getter;
 import lombok.NonNull;
 import lombok.ToString;
 
 /**
  * The object that represents the validation process.
+ * <p>
+ * The validation strategy is resolved when the instance is built, so the same
+ * instance can be used to validate any number of entities of the same class.
+ * The constraints on the value of a {@link String} field that are set by
+ * {@link Builder#stringConstraints(List)} are evaluated together by
+ * {@link StringConstraintValidation} instead of a validation strategy.
  *
  * @author Kato Shinya
  * @since 1.0.0
@@ -40,19 +50,35 @@ import lombok.ToString;
 final class Validation {
 
     /**
-     * The entity for validation
+     * The field for validation
      */
-    private ValidatableEntity validatableEntity;
+    @Getter
+    private Field field;
 
     /**
-     * The field for validation
+     * The validation pattern
      */
-    private Field field;
+    @Getter
+    private ValidationPattern validationPattern;
+
+    /**
+     * The bit mask of the validation groups to which the validation belongs, or
+     * {@code 0} if the validation belongs to no group
+     */
+    @Getter
+    private long groupMask;
 
     /**
-     * The annotation type for validation
+     * The context of validation strategy
      */
-    private Class<? extends Annotation> annotationType;
+    private ValidationStrategyContext validationStrategyContext;
+
+    /**
+     * The validation of the constraints on the value of a {@link String} field
+     * that are evaluated together, or {@code null} if a single constraint is
+     * validated by the validation strategy
+     */
+    private StringConstraintValidation stringConstraintValidation;
 
     /**
      * Default constructor
@@ -83,9 +109,9 @@ final class Validation {
         }
 
         /**
-         * The entity for validation
+         * The entity class for validation
          */
-        private ValidatableEntity validatableEntity;
+        private Class<? extends ValidatableEntity> entityClass;
 
         /**
          * The field for validation
@@ -93,20 +119,36 @@ final class Validation {
         private Field field;
 
         /**
-         * The annotation type for validation
+         * The validation pattern
+         */
+        private ValidationPattern validationPattern;
+
+        /**
+         * The bit mask of the validation groups
          */
-        private Class<? extends Annotation> annotationType;
+        private long groupMask;
 
         /**
-         * Sets the {@link ValidatableEntity} passed as an argument.
+         * The content profile
+         */
+        private ContentProfile contentProfile;
+
+        /**
+         * The constraints on the value of a {@link String} field that are
+         * evaluated together
+         */
+        private List<Annotation> stringConstraints = List.of();
+
+        /**
+         * Sets the entity class passed as an argument.
          *
-         * @param validatableEntity The validatable entity to be validated
+         * @param entityClass The entity class to be validated
          * @return This {@link Builder} instance
          *
          * @exception NullPointerException If {@code null} is passed as an argument
          */
-        public Builder validatableEntity(@NonNull ValidatableEntity validatableEntity) {
-            this.validatableEntity = validatableEntity;
+        public Builder entityClass(@NonNull Class<? extends ValidatableEntity> entityClass) {
+            this.entityClass = entityClass;
             return this;
         }
 
@@ -124,67 +166,140 @@ final class Validation {
         }
 
         /**
-         * Sets the annotation type passed as an argument.
+         * Sets the validation pattern passed as an argument.
          *
-         * @param annotationType The annotation type to be validated
+         * @param validationPattern The validation pattern based on
+         *                          {@link ValidationPattern}
          * @return This {@link Builder} instance
          *
          * @exception NullPointerException If {@code null} is passed as an argument
          */
-        public Builder annotationType(@NonNull Class<? extends Annotation> annotationType) {
-            this.annotationType = annotationType;
+        public Builder validationPattern(@NonNull ValidationPattern validationPattern) {
+            this.validationPattern = validationPattern;
+            return this;
+        }
+
+        /**
+         * Sets the bit mask of the validation groups passed as an argument. The
+         * validation belongs to no group if this method is not called.
+         *
+         * @param groupMask The bit mask of the validation groups to which the
+         *                  validation belongs
+         * @return This {@link Builder} instance
+         *
+         * @since 1.0.5
+         */
+        public Builder groupMask(long groupMask) {
+            this.groupMask = groupMask;
+            return this;
+        }
+
+        /**
+         * Sets the content profile passed as an argument. The content mapped to the
+         * entity class is used if this method is not called.
+         *
+         * @param contentProfile The content profile, or {@code null} if the content
+         *                       mapped to the entity class is used
+         * @return This {@link Builder} instance
+         *
+         * @since 1.0.5
+         */
+        public Builder contentProfile(ContentProfile contentProfile) {
+            this.contentProfile = contentProfile;
+            return this;
+        }
+
+        /**
+         * Sets the constraints on the value of a {@link String} field passed as an
+         * argument, which are evaluated together in a single validation. The
+         * validation pattern is validated by the validation strategy if this method
+         * is not called.
+         *
+         * @param stringConstraints The constraints on the field that belong to the
+         *                          same validation groups, which are returned by
+         *                          {@link StringConstraintValidation#getConstraints}
+         * @return This {@link Builder} instance
+         *
+         * @exception NullPointerException If {@code null} is passed as an argument
+         *
+         * @since 1.0.5
+         */
+        public Builder stringConstraints(@NonNull List<Annotation> stringConstraints) {
+            this.stringConstraints = stringConstraints;
             return this;
         }
 
         /**
          * Returns the new instance of {@link Validation} based on the object or value
-         * set by {@link #validatableEntity(ValidatableEntity)} , {@link #field(Field)}
-         * and {@link #annotationType(Class)} methods.
+         * set by {@link #entityClass(Class)} , {@link #field(Field)} and
+         * {@link #validationPattern(ValidationPattern)} methods.
          * <p>
-         * {@link #validatableEntity(ValidatableEntity)} , {@link #field(Field)} and
-         * {@link #annotationType(Class)} must be called and set to a valid non
-         * {@code null} value, otherwise {@link IllegalStateException} is thrown at
-         * runtime when {@link #build()} is called.
+         * {@link #entityClass(Class)} , {@link #field(Field)} and
+         * {@link #validationPattern(ValidationPattern)} must be called and set to a
+         * valid non {@code null} value, otherwise {@link IllegalStateException} is
+         * thrown at runtime when {@link #build()} is called.
          *
          * @return The new instance of {@link Validation} based on the object and value
-         *         set by {@link #validatableEntity(ValidatableEntity)} ,
-         *         {@link #field(Field)} and {@link #annotationType(Class)} methods
+         *         set by {@link #entityClass(Class)} , {@link #field(Field)} and
+         *         {@link #validationPattern(ValidationPattern)} methods
          *
-         * @exception IllegalStateException If no valid object or value is set by the
-         *                                  various setter methods when {@link #build()}
-         *                                  is called
+         * @exception IllegalStateException         If no valid object or value is set
+         *                                          by the various setter methods when
+         *                                          {@link #build()} is called
+         * @exception UnsupportedOperationException When specific Envali annotation is
+         *                                          specified for the field of
+         *                                          unsupported data type
          */
         public Validation build() {
-            Preconditions.requireNonNull(this.validatableEntity, new IllegalStateException());
+            Preconditions.requireNonNull(this.entityClass, new IllegalStateException());
             Preconditions.requireNonNull(this.field, new IllegalStateException());
-            Preconditions.requireNonNull(this.annotationType, new IllegalStateException());
+            Preconditions.requireNonNull(this.validationPattern, new IllegalStateException());
 
-            final Validation Validation = new Validation();
-            Validation.validatableEntity = this.validatableEntity;
-            Validation.field = this.field;
-            Validation.annotationType = this.annotationType;
+            final Validation validation = new Validation();
+            validation.field = this.field;
+            validation.validationPattern = this.validationPattern;
+            validation.groupMask = this.groupMask;
 
-            return Validation;
+            if (this.stringConstraints.isEmpty()) {
+                validation.validationStrategyContext = ValidationStrategyContext
+                        .of(ValidationStrategyFactory.of(this.entityClass, this.field, this.contentProfile)
+                                .createValidationStrategy(this.validationPattern));
+            } else {
+                validation.stringConstraintValidation = StringConstraintValidation.of(this.entityClass, this.field,
+                        this.stringConstraints, this.contentProfile);
+            }
+
+            return validation;
         }
     }
 
     /**
-     * Execute a validation strategy based on the data type of the annotation.
-     * <p>
-     * Returns {@code null} if annotation is not supported by Envali framework.
+     * Execute a validation strategy based on the data type of the annotation, and
+     * adds the business errors detected to the list passed as an argument. All
+     * business errors of the constraints evaluated together are added in
+     * declaration order.
+     *
+     * @param entity         The entity to be validated
+     * @param groups         The validation groups requested
+     * @param businessErrors The list to which the business errors are added
+     *
+     * @exception NullPointerException If {@code null} is passed as an argument
      *
-     * @return The business error detected in the validate process
+     * @since 1.0.5
      */
-    public BusinessError validate() {
+    public void validate(@NonNull ValidatableEntity entity,
+            @NonNull Collection<Class<? extends ValidationGroup>> groups,
+            @NonNull List<BusinessError> businessErrors) {
 
-        final ValidationPattern validationPattern = BiCatalog.getEnumByTag(ValidationPattern.class,
-                this.annotationType);
-
-        if (validationPattern == null) {
-            return null;
+        if (this.stringConstraintValidation != null) {
+            this.stringConstraintValidation.validate(entity, businessErrors);
+            return;
         }
 
-        return ValidationStrategyContext.of(ValidationStrategyFactory.of(this.validatableEntity, this.field)
-                .createValidationStrategy(validationPattern)).validate();
+        final BusinessError businessError = this.validationStrategyContext.validate(entity, groups);
+
+        if (businessError != null && businessError.hasError()) {
+            businessErrors.add(businessError);
+        }
     }
 }
@@ -0,0 +1,770 @@
+/*
+ * Copyright 2020 Kato Shinya.
+ *
+ * Licensed under the Apache License, Version 2.0 (the "License"); you may not use this file except
+ * in compliance with the License. You may obtain a copy of the License at
+ *
+ *     http://www.apache.org/licenses/LICENSE-2.0
+ *
+ * Unless required by applicable law or agreed to in writing, software distributed under the License
+ * is distributed on an "AS IS" BASIS, WITHOUT WARRANTIES OR CONDITIONS OF ANY KIND, either express
+ * or implied. See the License for the specific language governing permissions and limitations under
+ * the License.
+ */
+
+package org.thinkit.framework.envali;
+
+import java.lang.System.Logger;
+import java.lang.System.Logger.Level;
+import java.lang.annotation.Annotation;
+import java.lang.reflect.Field;
+import java.lang.reflect.InvocationTargetException;
+import java.lang.reflect.ParameterizedType;
+import java.lang.reflect.Type;
+import java.util.ArrayList;
+import java.util.Collection;
+import java.util.Collections;
+import java.util.HashMap;
+import java.util.LinkedHashMap;
+import java.util.LinkedHashSet;
+import java.util.List;
+import java.util.Map;
+import java.util.Map.Entry;
+import java.util.Set;
+import java.util.WeakHashMap;
+import java.util.concurrent.ConcurrentHashMap;
+import java.util.function.Predicate;
+import java.util.function.ToLongFunction;
+
+import org.thinkit.api.catalog.BiCatalog;
+import org.thinkit.framework.envali.annotation.NestedEntity;
+import org.thinkit.framework.envali.annotation.ParameterMapping;
+import org.thinkit.framework.envali.catalog.ValidationPattern;
+import org.thinkit.framework.envali.entity.ValidatableEntity;
+import org.thinkit.framework.envali.entity.ValidationGroup;
+import org.thinkit.framework.envali.helper.EnvaliClassHelper;
+import org.thinkit.framework.envali.helper.EnvaliFieldHelper;
+import org.thinkit.framework.envali.result.BusinessError;
+import org.thinkit.framework.envali.source.ContentProfile;
+
+import lombok.EqualsAndHashCode;
+import lombok.Getter;
+import lombok.NonNull;
+import lombok.ToString;
+
+/**
+ * The object that represents the compiled validation process of an entity
+ * class.
+ * <p>
+ * The fields, annotations, data type requirements and content of an entity
+ * class are resolved only once when the plan is created, and the plan is cached
+ * per entity class in a {@link ClassValue} so that it never keeps the class
+ * loader of the entity class from being unloaded. The fields declared by the
+ * superclasses of the entity class are flattened into the plan, so inherited
+ * constraints cost nothing extra at validation time. The constraints on the
+ * value of a {@link String} field that belong to the same validation groups are
+ * evaluated together in a single validation at the position of the first of
+ * them, so that the value is read only once. The constraints specified for the
+ * elements of container fields are evaluated after the field-level constraints,
+ * and the class-level constraints that compare fields are evaluated last. Use
+ * {@link #of(Class)} to get the plan associated with an entity class,
+ * {@link #of(Class, ContentProfile)} to get the plan that refers to the content
+ * of a profile, and {@link #reload(String)} to replace the plans when their
+ * content has changed.
+ *
+ * @author Kato Shinya
+ * @since 1.0.5
+ */
+@ToString
+@EqualsAndHashCode
+final class ValidationPlan {
+
+    /**
+     * The maximum number of plans cached per content profile for each entity
+     * class
+     */
+    static final int PROFILE_PLAN_CACHE_CAPACITY = 1024;
+
+    /**
+     * The logger that reports the plans that could not be created again on reload
+     */
+    private static final Logger LOGGER = System.getLogger(ValidationPlan.class.getName());
+
+    /**
+     * The cached plans of each entity class, which are held by the entity class
+     * itself so that the cache never prevents its class loader from being unloaded
+     */
+    private static final ClassValue<PlanHolder> PLAN_HOLDERS = new ClassValue<>() {
+
+        @Override
+        protected PlanHolder computeValue(Class<?> type) {
+            return new PlanHolder();
+        }
+    };
+
+    /**
+     * The weakly referenced entity classes whose plans are cached, which are
+     * needed to find the plans to be created again on reload
+     */
+    private static final Set<Class<? extends ValidatableEntity>> PLANNED_CLASSES = Collections
+            .synchronizedSet(Collections.newSetFromMap(new WeakHashMap<>()));
+
+    /**
+     * The entity class
+     */
+    @Getter
+    private Class<? extends ValidatableEntity> entityClass;
+
+    /**
+     * The content profile, or {@code null} if the content mapped to the entity
+     * class is used
+     */
+    @Getter
+    private ContentProfile contentProfile;
+
+    /**
+     * The validations in declaration order, from the topmost superclass down to
+     * the entity class
+     */
+    private List<Validation> validations;
+
+    /**
+     * The validations without groups, which are always validated
+     */
+    private List<Validation> defaultValidations;
+
+    /**
+     * The validations of constraints specified for the elements of container
+     * fields, in declaration order
+     */
+    private List<ContainerElementValidation> containerElementValidations;
+
+    /**
+     * The validations of constraints specified for the elements of container
+     * fields without groups, which are always validated
+     */
+    private List<ContainerElementValidation> defaultContainerElementValidations;
+
+    /**
+     * The validations of class-level constraints that compare fields, from the
+     * topmost superclass down to the entity class
+     */
+    private List<CrossFieldValidation> crossFieldValidations;
+
+    /**
+     * The validations of class-level constraints without groups, which are always
+     * validated
+     */
+    private List<CrossFieldValidation> defaultCrossFieldValidations;
+
+    /**
+     * The bit assigned to each validation group declared in the entity class
+     */
+    private Map<Class<? extends ValidationGroup>, Long> groupBits;
+
+    /**
+     * The cache of the bit mask per requested validation group
+     */
+    @ToString.Exclude
+    @EqualsAndHashCode.Exclude
+    private Map<Class<? extends ValidationGroup>, Long> requestedGroupMasks = new ConcurrentHashMap<>();
+
+    /**
+     * The cache of the validations selected per bit mask of requested validation
+     * groups
+     */
+    @ToString.Exclude
+    @EqualsAndHashCode.Exclude
+    private Map<Long, List<Validation>> groupValidations = new ConcurrentHashMap<>();
+
+    /**
+     * The cache of the validations of constraints specified for the elements of
+     * container fields selected per bit mask of requested validation groups
+     */
+    @ToString.Exclude
+    @EqualsAndHashCode.Exclude
+    private Map<Long, List<ContainerElementValidation>> groupContainerElementValidations = new ConcurrentHashMap<>();
+
+    /**
+     * The cache of the validations of class-level constraints selected per bit
+     * mask of requested validation groups
+     */
+    @ToString.Exclude
+    @EqualsAndHashCode.Exclude
+    private Map<Long, List<CrossFieldValidation>> groupCrossFieldValidations = new ConcurrentHashMap<>();
+
+    /**
+     * The entity classes nested by {@link NestedEntity}
+     */
+    @Getter
+    private Set<Class<? extends ValidatableEntity>> nestedEntityClasses;
+
+    /**
+     * Default constructor
+     */
+    private ValidationPlan() {
+    }
+
+    /**
+     * Constructor
+     *
+     * @param entityClass The entity class
+     *
+     * @exception NullPointerException          If {@code null} is passed as an
+     *                                          argument
+     * @exception UnsupportedOperationException When specific Envali annotation is
+     *                                          specified for the field or the
+     *                                          elements of unsupported data
+     *                                          type, otherwise
+     *                                          when a class-level constraint is
+     *                                          specified for missing fields or
+     *                                          fields of unsupported data type
+     */
+    private ValidationPlan(@NonNull Class<? extends ValidatableEntity> entityClass) {
+        this(entityClass, null);
+    }
+
+    /**
+     * Constructor
+     *
+     * @param entityClass    The entity class
+     * @param contentProfile The content profile, or {@code null} if the content
+     *                       mapped to the entity class is used
+     *
+     * @exception NullPointerException          If {@code null} is passed as the
+     *                                          entity class
+     * @exception UnsupportedOperationException When specific Envali annotation is
+     *                                          specified for the field or the
+     *                                          elements of unsupported data
+     *                                          type, otherwise
+     *                                          when a class-level constraint is
+     *                                          specified for missing fields or
+     *                                          fields of unsupported data type
+     */
+    private ValidationPlan(@NonNull Class<? extends ValidatableEntity> entityClass, ContentProfile contentProfile) {
+        this.entityClass = entityClass;
+        this.contentProfile = contentProfile;
+
+        final List<Validation> validations = new ArrayList<>();
+        final List<ContainerElementValidation> containerElementValidations = new ArrayList<>();
+        final Set<Class<? extends ValidatableEntity>> nestedEntityClasses = new LinkedHashSet<>();
+        final Map<Class<? extends ValidationGroup>, Long> groupBits = new HashMap<>();
+
+        for (Field field : EnvaliClassHelper.getHierarchyFields(entityClass)) {
+            final Map<Long, List<Annotation>> stringConstraints = StringConstraintValidation.getConstraints(field,
+                    annotation -> getGroupMask(groupBits, annotation));
+
+            for (Annotation annotation : field.getAnnotations()) {
+                final ValidationPattern validationPattern = BiCatalog.getEnumByTag(ValidationPattern.class,
+                        annotation.annotationType());
+
+                if (validationPattern == null || ContainerElementValidation.isElementConstraint(field, annotation)) {
+                    continue;
+                }
+
+                final long groupMask = getGroupMask(groupBits, annotation);
+                final List<Annotation> fusedConstraints = stringConstraints.getOrDefault(groupMask, List.of());
+
+                if (fusedConstraints.contains(annotation) && !annotation.equals(fusedConstraints.get(0))) {
+                    // Evaluated together with the first string constraint of the same groups
+                    continue;
+                }
+
+                if (EnvaliFieldHelper.requiresFieldAccess(entityClass, field)) {
+                    field.setAccessible(true);
+                }
+
+                validations.add(Validation.builder().entityClass(entityClass).field(field)
+                        .validationPattern(validationPattern).groupMask(groupMask).contentProfile(contentProfile)
+                        .stringConstraints(fusedConstraints.contains(annotation) ? fusedConstraints : List.of())
+                        .build());
+
+                if (validationPattern == ValidationPattern.NESTED_ENTITY) {
+                    nestedEntityClasses.addAll(getNestedEntityClasses(field));
+                }
+            }
+
+            final List<ContainerElementValidation> fieldContainerElementValidations = ContainerElementValidation
+                    .of(entityClass, field, contentProfile, annotation -> getGroupMask(groupBits, annotation));
+
+            if (!fieldContainerElementValidations.isEmpty()) {
+                if (EnvaliFieldHelper.requiresFieldAccess(entityClass, field)) {
+                    field.setAccessible(true);
+                }
+
+                containerElementValidations.addAll(fieldContainerElementValidations);
+            }
+        }
+
+        final List<CrossFieldValidation> crossFieldValidations = new ArrayList<>();
+
+        for (Class<?> type : EnvaliClassHelper.getHierarchy(entityClass)) {
+            for (Annotation annotation : CrossFieldValidation.getConstraints(type)) {
+                crossFieldValidations
+                        .add(CrossFieldValidation.of(entityClass, annotation, getGroupMask(groupBits, annotation)));
+            }
+        }
+
+        this.validations = List.copyOf(validations);
+        this.defaultValidations = select(this.validations, 0L, Validation::getGroupMask);
+        this.containerElementValidations = List.copyOf(containerElementValidations);
+        this.defaultContainerElementValidations = select(this.containerElementValidations, 0L,
+                ContainerElementValidation::getGroupMask);
+        this.crossFieldValidations = List.copyOf(crossFieldValidations);
+        this.defaultCrossFieldValidations = select(this.crossFieldValidations, 0L,
+                CrossFieldValidation::getGroupMask);
+        this.groupBits = Map.copyOf(groupBits);
+        this.nestedEntityClasses = Set.copyOf(nestedEntityClasses);
+    }
+
+    /**
+     * Returns the validation plan associated with the entity class passed as an
+     * argument. The plan is created on the first call for each entity class and
+     * cached for subsequent calls.
+     *
+     * @param entityClass The entity class
+     * @return The validation plan associated with the entity class
+     *
+     * @exception NullPointerException          If {@code null} is passed as an
+     *                                          argument
+     * @exception UnsupportedOperationException When specific Envali annotation is
+     *                                          specified for the field of
+     *                                          unsupported data type
+     */
+    public static ValidationPlan of(@NonNull Class<? extends ValidatableEntity> entityClass) {
+
+        final PlanHolder planHolder = PLAN_HOLDERS.get(entityClass);
+        final ValidationPlan validationPlan = planHolder.validationPlan;
+
+        if (validationPlan != null) {
+            return validationPlan;
+        }
+
+        final ValidationPlan newValidationPlan = new ValidationPlan(entityClass);
+
+        synchronized (planHolder) {
+            if (planHolder.validationPlan == null) {
+                planHolder.validationPlan = newValidationPlan;
+                PLANNED_CLASSES.add(entityClass);
+            }
+
+            return planHolder.validationPlan;
+        }
+    }
+
+    /**
+     * Returns the validation plan associated with the entity class and the content
+     * profile passed as arguments. The plan refers to the content of the profile,
+     * and the nested entities are validated with the same profile.
+     * <p>
+     * The plans are cached per profile for each entity class, and the least
+     * recently used plan of the entity class is discarded when the number of its
+     * cached plans exceeds {@link #PROFILE_PLAN_CACHE_CAPACITY} . An entity class that is not mapped to
+     * content and nests no entity shares the plan returned by {@link #of(Class)}
+     * for all profiles.
+     *
+     * @param entityClass    The entity class
+     * @param contentProfile The content profile
+     * @return The validation plan associated with the entity class and the
+     *         content profile
+     *
+     * @exception NullPointerException          If {@code null} is passed as an
+     *                                          argument
+     * @exception UnsupportedOperationException When specific Envali annotation is
+     *                                          specified for the field of
+     *                                          unsupported data type
+     */
+    public static ValidationPlan of(@NonNull Class<? extends ValidatableEntity> entityClass,
+            @NonNull ContentProfile contentProfile) {
+
+        if (entityClass.getAnnotation(ParameterMapping.class) == null) {
+            final ValidationPlan validationPlan = of(entityClass);
+
+            if (validationPlan.getNestedEntityClasses().isEmpty()) {
+                return validationPlan;
+            }
+        }
+
+        final Map<ContentProfile, ValidationPlan> profilePlans = PLAN_HOLDERS.get(entityClass).profilePlans;
+
+        synchronized (profilePlans) {
+            final ValidationPlan validationPlan = profilePlans.get(contentProfile);
+
+            if (validationPlan != null) {
+                return validationPlan;
+            }
+        }
+
+        final ValidationPlan newValidationPlan = new ValidationPlan(entityClass, contentProfile);
+
+        synchronized (profilePlans) {
+            final ValidationPlan existingValidationPlan = profilePlans.putIfAbsent(contentProfile, newValidationPlan);
+            PLANNED_CLASSES.add(entityClass);
+
+            return existingValidationPlan != null ? existingValidationPlan : newValidationPlan;
+        }
+    }
+
+    /**
+     * Creates the plans of the cached entity classes mapped to the content passed
+     * as an argument again, and replaces the cached plans with them.
+     * <p>
+     * Each plan is created completely before it replaces the cached plan, so a
+     * validation in progress keeps using the plan it started with and never sees
+     * partially updated content. If a plan cannot be created, for example because
+     * the content file is being written, the cached plan stays in effect and the
+     * failure is logged as a warning by {@link System.Logger} .
+     *
+     * @param contentName The content name defined in {@link ParameterMapping}
+     *                    annotation
+     *
+     * @exception NullPointerException If {@code null} is passed as an argument
+     */
+    public static void reload(@NonNull String contentName) {
+        reload(contentName::equals);
+    }
+
+    /**
+     * Creates the plans of all cached entity classes mapped to content again, and
+     * replaces the cached plans with them in the same way as
+     * {@link #reload(String)} .
+     */
+    public static void reloadAll() {
+        reload(contentName -> true);
+    }
+
+    /**
+     * Validates the entity passed as an argument according to the plan. Only the
+     * validations without groups are performed.
+     *
+     * @param entity The entity to be validated
+     * @return The list of business errors detected in the validation process
+     *
+     * @exception NullPointerException If {@code null} is passed as an argument
+     */
+    public List<BusinessError> validate(@NonNull ValidatableEntity entity) {
+        return this.validate(entity, List.of());
+    }
+
+    /**
+     * Validates the entity passed as an argument according to the plan for the
+     * validation groups passed as an argument. The validations without groups and
+     * the validations that belong to any of the requested groups, or to any group
+     * they extend, are performed.
+     * <p>
+     * The validations to be performed are selected once per combination of
+     * requested groups and cached, so no validation is filtered at each call.
+     *
+     * @param entity The entity to be validated
+     * @param groups The validation groups requested
+     * @return The list of business errors detected in the validation process
+     *
+     * @exception NullPointerException If {@code null} is passed as an argument
+     */
+    public List<BusinessError> validate(@NonNull ValidatableEntity entity,
+            @NonNull Collection<Class<? extends ValidationGroup>> groups) {
+
+        long groupMask = 0L;
+
+        if (!this.groupBits.isEmpty()) {
+            for (Class<? extends ValidationGroup> group : groups) {
+                groupMask |= this.getRequestedGroupMask(group);
+            }
+        }
+
+        final List<Validation> validations = groupMask == 0L ? this.defaultValidations
+                : this.groupValidations.computeIfAbsent(groupMask,
+                        mask -> select(this.validations, mask, Validation::getGroupMask));
+        final List<ContainerElementValidation> containerElementValidations = groupMask == 0L
+                ? this.defaultContainerElementValidations
+                : this.groupContainerElementValidations.computeIfAbsent(groupMask,
+                        mask -> select(this.containerElementValidations, mask,
+                                ContainerElementValidation::getGroupMask));
+        final List<CrossFieldValidation> crossFieldValidations = groupMask == 0L ? this.defaultCrossFieldValidations
+                : this.groupCrossFieldValidations.computeIfAbsent(groupMask,
+                        mask -> select(this.crossFieldValidations, mask, CrossFieldValidation::getGroupMask));
+        final List<BusinessError> businessErrors = new ArrayList<>(0);
+
+        for (Validation validation : validations) {
+            validation.validate(entity, groups, businessErrors);
+        }
+
+        for (ContainerElementValidation containerElementValidation : containerElementValidations) {
+            final BusinessError businessError = containerElementValidation.validate(entity);
+
+            if (businessError.hasError()) {
+                businessErrors.add(businessError);
+            }
+        }
+
+        for (CrossFieldValidation crossFieldValidation : crossFieldValidations) {
+            final BusinessError businessError = crossFieldValidation.validate(entity);
+
+            if (businessError.hasError()) {
+                businessErrors.add(businessError);
+            }
+        }
+
+        return businessErrors;
+    }
+
+    /**
+     * Creates the plans of the cached entity classes whose content name matches
+     * the predicate passed as an argument again, and replaces the cached plans
+     * with them. The plans of a profile are created again if either the content
+     * of the profile or the content mapped to the entity class matches.
+     *
+     * @param contentNameFilter The predicate of the content name
+     *
+     * @exception NullPointerException If {@code null} is passed as an argument
+     */
+    private static void reload(@NonNull Predicate<String> contentNameFilter) {
+
+        final List<Class<? extends ValidatableEntity>> plannedClasses;
+
+        synchronized (PLANNED_CLASSES) {
+            plannedClasses = new ArrayList<>(PLANNED_CLASSES);
+        }
+
+        for (Class<? extends ValidatableEntity> entityClass : plannedClasses) {
+            final ParameterMapping contentMapping = entityClass.getAnnotation(ParameterMapping.class);
+
+            if (contentMapping == null) {
+                continue;
+            }
+
+            final PlanHolder planHolder = PLAN_HOLDERS.get(entityClass);
+
+            if (planHolder.validationPlan != null && contentNameFilter.test(contentMapping.content())) {
+                try {
+                    final ValidationPlan validationPlan = new ValidationPlan(entityClass);
+
+                    synchronized (planHolder) {
+                        planHolder.validationPlan = validationPlan;
+                    }
+                } catch (RuntimeException e) {
+                    // The cached plan stays in effect until the content is fixed
+                    LOGGER.log(Level.WARNING, () -> String.format(
+                            "The validation plan of %s could not be created again, so the previous plan stays in effect.",
+                            entityClass.getName()), e);
+                }
+            }
+
+            final List<ContentProfile> contentProfiles;
+
+            synchronized (planHolder.profilePlans) {
+                contentProfiles = new ArrayList<>(planHolder.profilePlans.keySet());
+            }
+
+            for (ContentProfile contentProfile : contentProfiles) {
+                if (!contentNameFilter.test(contentMapping.content())
+                        && !contentNameFilter.test(contentProfile.getContentName(contentMapping))) {
+                    continue;
+                }
+
+                try {
+                    final ValidationPlan validationPlan = new ValidationPlan(entityClass, contentProfile);
+
+                    synchronized (planHolder.profilePlans) {
+                        planHolder.profilePlans.put(contentProfile, validationPlan);
+                    }
+                } catch (RuntimeException e) {
+                    // The cached plan stays in effect until the content is fixed
+                    LOGGER.log(Level.WARNING, () -> String.format(
+                            "The validation plan of %s for the content profile %s could not be created again, so the previous plan stays in effect.",
+                            entityClass.getName(), contentProfile.getName()), e);
+                }
+            }
+        }
+    }
+
+    /**
+     * Returns the concrete entity classes declared as the type of the field
+     * annotated with {@link NestedEntity} .
+     *
+     * @param field The field annotated with {@link NestedEntity}
+     * @return The entity classes declared as the type of the field
+     *
+     * @exception NullPointerException If {@code null} is passed as an argument
+     */
+    private static Set<Class<? extends ValidatableEntity>> getNestedEntityClasses(@NonNull Field field) {
+
+        final Set<Class<? extends ValidatableEntity>> nestedEntityClasses = new LinkedHashSet<>();
+        final Type genericType = field.getGenericType();
+
+        if (genericType instanceof ParameterizedType) {
+            for (Type actualTypeArgument : ((ParameterizedType) genericType).getActualTypeArguments()) {
+                if (actualTypeArgument instanceof Class) {
+                    addNestedEntityClass(nestedEntityClasses, (Class<?>) actualTypeArgument);
+                }
+            }
+        } else {
+            addNestedEntityClass(nestedEntityClasses, field.getType());
+        }
+
+        return nestedEntityClasses;
+    }
+
+    /**
+     * Adds the class passed as an argument to the set if it is a concrete
+     * implementation of {@link ValidatableEntity} .
+     *
+     * @param nestedEntityClasses The set of nested entity classes
+     * @param type                The class to be added
+     *
+     * @exception NullPointerException If {@code null} is passed as an argument
+     */
+    private static void addNestedEntityClass(@NonNull Set<Class<? extends ValidatableEntity>> nestedEntityClasses,
+            @NonNull Class<?> type) {
+        if (ValidatableEntity.class.isAssignableFrom(type) && !type.isInterface()) {
+            nestedEntityClasses.add(type.asSubclass(ValidatableEntity.class));
+        }
+    }
+
+    /**
+     * Returns the validations that are performed for the bit mask of requested
+     * validation groups passed as an argument.
+     *
+     * @param <T>         The type of validation
+     * @param validations The validations
+     * @param groupMask   The bit mask of requested validation groups
+     * @param groupMaskOf The function that returns the bit mask of the validation
+     *                    groups to which a validation belongs
+     * @return The validations without groups and the validations that belong to
+     *         any of the requested groups
+     */
+    private static <T> List<T> select(@NonNull List<T> validations, long groupMask,
+            @NonNull ToLongFunction<T> groupMaskOf) {
+
+        final List<T> selectedValidations = new ArrayList<>(validations.size());
+
+        for (T validation : validations) {
+            final long validationGroupMask = groupMaskOf.applyAsLong(validation);
+
+            if (validationGroupMask == 0L || (validationGroupMask & groupMask) != 0L) {
+                selectedValidations.add(validation);
+            }
+        }
+
+        return List.copyOf(selectedValidations);
+    }
+
+    /**
+     * Returns the bit mask of the validation groups declared in the entity class
+     * that are activated by the requested validation group passed as an argument.
+     * A requested group activates the declared groups that it is assignable to.
+     *
+     * @param group The requested validation group
+     * @return The bit mask of the activated validation groups
+     *
+     * @exception NullPointerException If {@code null} is passed as an argument
+     */
+    private long getRequestedGroupMask(@NonNull Class<? extends ValidationGroup> group) {
+
+        final Long requestedGroupMask = this.requestedGroupMasks.get(group);
+
+        if (requestedGroupMask != null) {
+            return requestedGroupMask;
+        }
+
+        long groupMask = 0L;
+
+        for (Entry<Class<? extends ValidationGroup>, Long> groupBit : this.groupBits.entrySet()) {
+            if (groupBit.getKey().isAssignableFrom(group)) {
+                groupMask |= groupBit.getValue();
+            }
+        }
+
+        this.requestedGroupMasks.putIfAbsent(group, groupMask);
+        return groupMask;
+    }
+
+    /**
+     * Returns the bit mask of the validation groups specified in the
+     * {@code groups} attribute of the annotation passed as an argument. A new bit
+     * is assigned to each validation group that appears for the first time.
+     *
+     * @param groupBits  The bit assigned to each validation group
+     * @param annotation The Envali annotation
+     * @return The bit mask of the validation groups, or {@code 0} if no group is
+     *         specified
+     *
+     * @exception NullPointerException          If {@code null} is passed as an
+     *                                          argument
+     * @exception UnsupportedOperationException If more than 64 validation groups
+     *                                          are declared in the entity class
+     */
+    private static long getGroupMask(@NonNull Map<Class<? extends ValidationGroup>, Long> groupBits,
+            @NonNull Annotation annotation) {
+
+        long groupMask = 0L;
+
+        for (Class<? extends ValidationGroup> group : getGroups(annotation)) {
+            Long groupBit = groupBits.get(group);
+
+            if (groupBit == null) {
+                if (groupBits.size() == Long.SIZE) {
+                    throw new UnsupportedOperationException(
+                            String.format("More than %d validation groups are not supported.", Long.SIZE));
+                }
+
+                groupBit = 1L << groupBits.size();
+                groupBits.put(group, groupBit);
+            }
+
+            groupMask |= groupBit;
+        }
+
+        return groupMask;
+    }
+
+    /**
+     * Returns the validation groups specified in the {@code groups} attribute of
+     * the annotation passed as an argument.
+     *
+     * @param annotation The Envali annotation
+     * @return The validation groups, or an empty array if the annotation has no
+     *         {@code groups} attribute
+     *
+     * @exception NullPointerException If {@code null} is passed as an argument
+     */
+    @SuppressWarnings("unchecked")
+    private static Class<? extends ValidationGroup>[] getGroups(@NonNull Annotation annotation) {
+        try {
+            return (Class<? extends ValidationGroup>[]) annotation.annotationType().getMethod("groups")
+                    .invoke(annotation);
+        } catch (NoSuchMethodException e) {
+            return (Class<? extends ValidationGroup>[]) new Class<?>[0];
+        } catch (IllegalAccessException | InvocationTargetException e) {
+            throw new UnsupportedOperationException(e);
+        }
+    }
+
+    /**
+     * The holder of the cached plans of an entity class.
+     */
+    private static final class PlanHolder {
+
+        /**
+         * The plan that refers to the content mapped to the entity class, or
+         * {@code null} if it has not been created yet
+         */
+        private volatile ValidationPlan validationPlan;
+
+        /**
+         * The plans per content profile in the order of access
+         */
+        private final Map<ContentProfile, ValidationPlan> profilePlans = new LinkedHashMap<>(16, 0.75f, true) {
+
+            /**
+             * serialVersionUID
+             */
+            private static final long serialVersionUID = 0L;
+
+            @Override
+            protected boolean removeEldestEntry(Entry<ContentProfile, ValidationPlan> eldest) {
+                return this.size() > PROFILE_PLAN_CACHE_CAPACITY;
+            }
+        };
+    }
+}
@@ -0,0 +1,60 @@
+/*
+ * Copyright 2020 Kato Shinya.
+ *
+ * Licensed under the Apache License, Version 2.0 (the "License"); you may not use this file except
+ * in compliance with the License. You may obtain a copy of the License at
+ *
+ *     http://www.apache.org/licenses/LICENSE-2.0
+ *
+ * Unless required by applicable law or agreed to in writing, software distributed under the License
+ * is distributed on an "AS IS" BASIS, WITHOUT WARRANTIES OR CONDITIONS OF ANY KIND, either express
+ * or implied. See the License for the specific language governing permissions and limitations under
+ * the License.
+ */
+
+package org.thinkit.framework.envali.annotation;
+
+import java.lang.annotation.Documented;
+import java.lang.annotation.ElementType;
+import java.lang.annotation.Inherited;
+import java.lang.annotation.Retention;
+import java.lang.annotation.RetentionPolicy;
+import java.lang.annotation.Target;
+
+import org.thinkit.framework.envali.catalog.AccessMode;
+
+/**
+ * An annotation that specifies how the values of validatable entity are read.
+ * <p>
+ * The values are read directly from the fields if this annotation is not
+ * specified. If {@link AccessMode#GETTER} is specified, the values are read
+ * through the getters of the annotated fields instead, which supports lazily
+ * computed properties and proxied entities whose fields are not initialized.
+ * The getter of a field {@code name} is {@code getName()} , or
+ * {@code isName()} for a field of type {@code boolean} .
+ *
+ * <pre>
+ * <code>
+ * &#64;EntityAccess(mode = AccessMode.GETTER)
+ * public class ConcreteEntity implements ValidatableEntity, Serializable {
+ *      * // define something
+ * }
+ * </code>
+ * </pre>
+ *
+ * @author Kato Shinya
+ * @since 1.0.5
+ */
+@Documented
+@Inherited
+@Target(ElementType.TYPE)
+@Retention(RetentionPolicy.RUNTIME)
+public @interface EntityAccess {
+
+    /**
+     * Returns the mode of access to the values of validatable entity.
+     *
+     * @return The mode of access to the values of validatable entity
+     */
+    public AccessMode mode();
+}
@@ -20,6 +20,8 @@ import java.lang.annotation.Retention;
 import java.lang.annotation.RetentionPolicy;
 import java.lang.annotation.Target;
 
+import org.thinkit.framework.envali.entity.ValidationGroup;
+
 /**
  * An annotation that indicates the field is the nested validatable entity.
  * <p>
@@ -67,4 +69,15 @@ import java.lang.annotation.Target;
 @Target(ElementType.FIELD)
 @Retention(RetentionPolicy.RUNTIME)
 public @interface NestedEntity {
+
+    /**
+     * Returns the validation groups to which the constraint belongs, and empty
+     * ({@code {}}) is set as the default. The constraint without groups is always
+     * validated.
+     *
+     * @return The validation groups
+     *
+     * @since 1.0.5
+     */
+    public Class<? extends ValidationGroup>[] groups() default {};
 }
@@ -16,6 +16,7 @@ package org.thinkit.framework.envali.annotation;
 
 import java.lang.annotation.Documented;
 import java.lang.annotation.ElementType;
+import java.lang.annotation.Inherited;
 import java.lang.annotation.Retention;
 import java.lang.annotation.RetentionPolicy;
 import java.lang.annotation.Target;
@@ -41,11 +42,15 @@ import java.lang.annotation.Target;
  * }
  * </code>
  * </pre>
+ * <p>
+ * The annotation is inherited by subclasses, so the content mapped to a base
+ * entity class also applies to the fields validated for its subclasses.
  *
  * @author Kato Shinya
  * @since 1.0.0
  */
 @Documented
+@Inherited
 @Target(ElementType.TYPE)
 @Retention(RetentionPolicy.RUNTIME)
 public @interface ParameterMapping {
@@ -58,4 +63,17 @@ public @interface ParameterMapping {
      *         performing the verification
      */
     public String content();
+
+    /**
+     * Returns the format of the name of the content selected by
+     * {@link org.thinkit.framework.envali.source.ContentProfile} . The content
+     * name is passed as the first argument and the profile name as the second
+     * argument, so the default format maps the profile {@code tenant} of the
+     * content {@code content} to the content {@code content_tenant} .
+     *
+     * @return The format of the name of the content selected by a profile
+     *
+     * @since 1.0.5
+     */
+    public String profileContent() default "%s_%s";
 }
@@ -0,0 +1,123 @@
+/*
+ * Copyright 2020 Kato Shinya.
+ *
+ * Licensed under the Apache License, Version 2.0 (the "License"); you may not use this file except
+ * in compliance with the License. You may obtain a copy of the License at
+ *
+ *     http://www.apache.org/licenses/LICENSE-2.0
+ *
+ * Unless required by applicable law or agreed to in writing, software distributed under the License
+ * is distributed on an "AS IS" BASIS, WITHOUT WARRANTIES OR CONDITIONS OF ANY KIND, either express
+ * or implied. See the License for the specific language governing permissions and limitations under
+ * the License.
+ */
+
+package org.thinkit.framework.envali.annotation;
+
+import java.lang.annotation.Documented;
+import java.lang.annotation.ElementType;
+import java.lang.annotation.Repeatable;
+import java.lang.annotation.Retention;
+import java.lang.annotation.RetentionPolicy;
+import java.lang.annotation.Target;
+
+import org.thinkit.framework.envali.catalog.ErrorType;
+import org.thinkit.framework.envali.entity.ValidationGroup;
+
+/**
+ * An annotation that indicates the date of a field must be before the date of
+ * another field of the same entity.
+ * <p>
+ * Specify this annotation for entity classes as follows. Both fields must be of
+ * the same type that is a comparable {@link java.time.temporal.Temporal} such
+ * as {@link java.time.LocalDate} , or {@link java.util.Date} , otherwise
+ * UnsupportedOperationException will be thrown at runtime. The validation is
+ * skipped if either value is {@code null} . This annotation can be specified
+ * more than once for the same class.
+ *
+ * <pre>
+ * <code>
+ * &#64;RequireBeforeField(field = "startDate", otherField = "endDate", allowEqual = true)
+ * public class ConcreteEntity implements ValidatableEntity, Serializable {
+ *
+ *      private LocalDate startDate;
+ *
+ *      private LocalDate endDate;
+ * }
+ * </code>
+ * </pre>
+ *
+ * @author Kato Shinya
+ * @since 1.0.5
+ */
+@Documented
+@Target(ElementType.TYPE)
+@Retention(RetentionPolicy.RUNTIME)
+@Repeatable(RequireBeforeField.List.class)
+public @interface RequireBeforeField {
+
+    /**
+     * Returns the name of the field that must be before the other field.
+     *
+     * @return The name of the field that must be before the other field
+     */
+    public String field();
+
+    /**
+     * Returns the name of the other field that must be after the field.
+     *
+     * @return The name of the other field that must be after the field
+     */
+    public String otherField();
+
+    /**
+     * Returns whether the two fields are allowed to be equal, and {@code false} is
+     * set as the default.
+     *
+     * @return {@code true} if the two fields are allowed to be equal, otherwise
+     *         {@code false}
+     */
+    public boolean allowEqual() default false;
+
+    /**
+     * Returns the error type based on {@link ErrorType} , and
+     * {@link ErrorType#RUNTIME} is set as the default.
+     *
+     * @return The error type based on the {@link ErrorType}
+     */
+    public ErrorType errorType() default ErrorType.RUNTIME;
+
+    /**
+     * Returns the error type based on {@link ErrorType} , and empty ({@code ""}) is
+     * set as the default.
+     *
+     * @return The message
+     */
+    public String message() default "";
+
+    /**
+     * Returns the validation groups to which the constraint belongs, and empty
+     * ({@code {}}) is set as the default. The constraint without groups is always
+     * validated.
+     *
+     * @return The validation groups
+     */
+    public Class<? extends ValidationGroup>[] groups() default {};
+
+    /**
+     * The container annotation that allows {@link RequireBeforeField} to be
+     * specified more than once for the same class.
+     */
+    @Documented
+    @Target(ElementType.TYPE)
+    @Retention(RetentionPolicy.RUNTIME)
+    public @interface List {
+
+        /**
+         * Returns the {@link RequireBeforeField} annotations.
+         *
+         * @return The {@link RequireBeforeField} annotations
+         */
+        public RequireBeforeField[] value();
+    }
+}
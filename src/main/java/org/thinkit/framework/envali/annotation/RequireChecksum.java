@@ -0,0 +1,94 @@
+/*
+ * Copyright 2020 Kato Shinya.
+ *
+ * Licensed under the Apache License, Version 2.0 (the "License"); you may not use this file except
+ * in compliance with the License. You may obtain a copy of the License at
+ *
+ *     http://www.apache.org/licenses/LICENSE-2.0
+ *
+ * Unless required by applicable law or agreed to in writing, software distributed under the License
+ * is distributed on an "AS IS" BASIS, WITHOUT WARRANTIES OR CONDITIONS OF ANY KIND, either express
+ * or implied. See the License for the specific language governing permissions and limitations under
+ * the License.
+ */
+
+package org.thinkit.framework.envali.annotation;
+
+import java.lang.annotation.Documented;
+import java.lang.annotation.ElementType;
+import java.lang.annotation.Retention;
+import java.lang.annotation.RetentionPolicy;
+import java.lang.annotation.Target;
+
+import org.thinkit.framework.envali.catalog.ChecksumAlgorithm;
+import org.thinkit.framework.envali.catalog.ErrorType;
+import org.thinkit.framework.envali.entity.ValidationGroup;
+
+/**
+ * An annotation that indicates the field must be a number whose check digit is
+ * valid for the algorithm specified in {@link #algorithm()} .
+ * <p>
+ * Specify this annotation {@link RequireChecksum} for fields that hold a card
+ * number, an individual number, a corporate number or a barcode as follows.
+ * This annotation can be specified for CharSequence such as String and
+ * StringBuilder, otherwise UnsupportedOperationException will be thrown at
+ * runtime. The value must consist only of ASCII digits, and the check digit is
+ * computed directly from the characters of the value without copying it.
+ * {@code null} is not validated.
+ *
+ * <pre>
+ * <code>
+ * public class ConcreteEntity implements ValidatableEntity, Serializable {
+ *
+ *      &#64;RequireChecksum( algorithm = ChecksumAlgorithm.LUHN )
+ *      private String cardNumber;
+ *
+ *      &#64;RequireChecksum( algorithm = ChecksumAlgorithm.MY_NUMBER, errorType = ErrorType.RECOVERABLE )
+ *      private String individualNumber;
+ *
+ *      &#64;RequireChecksum( algorithm = ChecksumAlgorithm.EAN, message = "failed!" )
+ *      private String barcode;
+ * }
+ * </code>
+ * </pre>
+ *
+ * @author Kato Shinya
+ * @since 1.0.5
+ */
+@Documented
+@Target({ ElementType.FIELD, ElementType.TYPE_USE })
+@Retention(RetentionPolicy.RUNTIME)
+public @interface RequireChecksum {
+
+    /**
+     * Returns the algorithm used to verify the check digit.
+     *
+     * @return The algorithm based on {@link ChecksumAlgorithm}
+     */
+    public ChecksumAlgorithm algorithm();
+
+    /**
+     * Returns the error type based on {@link ErrorType} , and
+     * {@link ErrorType#RUNTIME} is set as the default.
+     *
+     * @return The error type based on the {@link ErrorType}
+     */
+    public ErrorType errorType() default ErrorType.RUNTIME;
+
+    /**
+     * Returns the error type based on {@link ErrorType} , and empty ({@code ""}) is
+     * set as the default.
+     *
+     * @return The message
+     */
+    public String message() default "";
+
+    /**
+     * Returns the validation groups to which the constraint belongs, and empty
+     * ({@code {}}) is set as the default. The constraint without groups is always
+     * validated.
+     *
+     * @return The validation groups
+     */
+    public Class<? extends ValidationGroup>[] groups() default {};
+}
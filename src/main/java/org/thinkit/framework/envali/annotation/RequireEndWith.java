@@ -21,6 +21,7 @@ import java.lang.annotation.RetentionPolicy;
 import java.lang.annotation.Target;
 
 import org.thinkit.framework.envali.catalog.ErrorType;
+import org.thinkit.framework.envali.entity.ValidationGroup;
 
 /**
  * An annotation indicating that the string ends with a specific string.
@@ -64,7 +65,7 @@ import org.thinkit.framework.envali.catalog.ErrorType;
  * @since 1.0.0
  */
 @Documented
-@Target(ElementType.FIELD)
+@Target({ ElementType.FIELD, ElementType.TYPE_USE })
 @Retention(RetentionPolicy.RUNTIME)
 public @interface RequireEndWith {
 
@@ -96,4 +97,15 @@ public @interface RequireEndWith {
      * @since 1.0.2
      */
     public String suffix() default "";
+
+    /**
+     * Returns the validation groups to which the constraint belongs, and empty
+     * ({@code {}}) is set as the default. The constraint without groups is always
+     * validated.
+     *
+     * @return The validation groups
+     *
+     * @since 1.0.5
+     */
+    public Class<? extends ValidationGroup>[] groups() default {};
 }
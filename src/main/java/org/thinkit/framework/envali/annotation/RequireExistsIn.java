@@ -0,0 +1,98 @@
+/*
+ * Copyright 2020 Kato Shinya.
+ *
+ * Licensed under the Apache License, Version 2.0 (the "License"); you may not use this file except
+ * in compliance with the License. You may obtain a copy of the License at
+ *
+ *     http://www.apache.org/licenses/LICENSE-2.0
+ *
+ * Unless required by applicable law or agreed to in writing, software distributed under the License
+ * is distributed on an "AS IS" BASIS, WITHOUT WARRANTIES OR CONDITIONS OF ANY KIND, either express
+ * or implied. See the License for the specific language governing permissions and limitations under
+ * the License.
+ */
+
+package org.thinkit.framework.envali.annotation;
+
+import java.lang.annotation.Documented;
+import java.lang.annotation.ElementType;
+import java.lang.annotation.Retention;
+import java.lang.annotation.RetentionPolicy;
+import java.lang.annotation.Target;
+
+import org.thinkit.framework.envali.catalog.ErrorType;
+import org.thinkit.framework.envali.entity.ValidationGroup;
+
+/**
+ * An annotation that indicates the field must be a key that exists in the
+ * dataset specified in {@link #dataset()} .
+ * <p>
+ * Specify this annotation {@link RequireExistsIn} for fields that refer to
+ * reference data such as product codes as follows. This annotation can be
+ * specified for CharSequence such as String and StringBuilder, otherwise
+ * UnsupportedOperationException will be thrown at runtime. {@code null} is not
+ * validated.
+ * <p>
+ * The dataset is a sorted key file written by
+ * {@link org.thinkit.framework.envali.Envali#writeDataset} and registered by
+ * {@link org.thinkit.framework.envali.Envali#registerDataset} before the
+ * validation. The file is memory mapped, so the keys are not held on the heap
+ * even if the dataset holds millions of keys. UnsupportedOperationException is
+ * thrown at runtime if the dataset is not registered when the field is
+ * validated.
+ *
+ * <pre>
+ * <code>
+ * Envali.registerDataset("sku", Path.of("/var/lib/catalog/sku.envd"));
+ *
+ * public class ConcreteEntity implements ValidatableEntity, Serializable {
+ *
+ *      &#64;RequireExistsIn( dataset = "sku" )
+ *      private String productCode;
+ *
+ *      &#64;RequireExistsIn( dataset = "sku", errorType = ErrorType.RECOVERABLE, message = "failed!" )
+ *      private String replacementProductCode;
+ * }
+ * </code>
+ * </pre>
+ *
+ * @author Kato Shinya
+ * @since 1.0.5
+ */
+@Documented
+@Target({ ElementType.FIELD, ElementType.TYPE_USE })
+@Retention(RetentionPolicy.RUNTIME)
+public @interface RequireExistsIn {
+
+    /**
+     * Returns the name of the dataset in which the key must exist.
+     *
+     * @return The name of the dataset
+     */
+    public String dataset();
+
+    /**
+     * Returns the error type based on {@link ErrorType} , and
+     * {@link ErrorType#RUNTIME} is set as the default.
+     *
+     * @return The error type based on the {@link ErrorType}
+     */
+    public ErrorType errorType() default ErrorType.RUNTIME;
+
+    /**
+     * Returns the error type based on {@link ErrorType} , and empty ({@code ""}) is
+     * set as the default.
+     *
+     * @return The message
+     */
+    public String message() default "";
+
+    /**
+     * Returns the validation groups to which the constraint belongs, and empty
+     * ({@code {}}) is set as the default. The constraint without groups is always
+     * validated.
+     *
+     * @return The validation groups
+     */
+    public Class<? extends ValidationGroup>[] groups() default {};
+}
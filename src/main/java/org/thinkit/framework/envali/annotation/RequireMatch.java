@@ -21,9 +21,11 @@ import java.lang.annotation.RetentionPolicy;
 import java.lang.annotation.Target;
 
 import org.thinkit.framework.envali.catalog.ErrorType;
+import org.thinkit.framework.envali.catalog.RegexEngine;
 import org.thinkit.framework.envali.catalog.RegexMethod;
 import org.thinkit.framework.envali.catalog.RegexModifier;
 import org.thinkit.framework.envali.catalog.RegexPreset;
+import org.thinkit.framework.envali.entity.ValidationGroup;
 
 /**
  * An annotation that indicates the value of the field matches the regular
@@ -53,6 +55,12 @@ import org.thinkit.framework.envali.catalog.RegexPreset;
  * expression will be applied in the specified method during the validation
  * process.
  * <p>
+ * The presets of email addresses, URLs and IP addresses are validated by
+ * dedicated single-pass parsers instead of their regular expressions when they
+ * are applied by {@link RegexMethod#MATCHES} without modifiers. Specify
+ * {@link RegexEngine#REGEX} for {@link #engine()} to always use the regular
+ * expressions.
+ * <p>
  * You can specify any modifier flag by specifying {@link RegexModifier} to the
  * annotation like <code>&#64;RequireMatch(modifiers =
  * {RegexModifier.UNIX_LINES, RegexModifier.DOTALL})</code>.
@@ -99,7 +107,7 @@ import org.thinkit.framework.envali.catalog.RegexPreset;
  * @since 1.0.2
  */
 @Documented
-@Target(ElementType.FIELD)
+@Target({ ElementType.FIELD, ElementType.TYPE_USE })
 @Retention(RetentionPolicy.RUNTIME)
 public @interface RequireMatch {
 
@@ -151,4 +159,26 @@ public @interface RequireMatch {
      *         {@link RegexMethod}
      */
     public RegexMethod method() default RegexMethod.MATCHES;
+
+    /**
+     * Returns the engine used to validate the value against
+     * {@link #presetExpression()} based on {@link RegexEngine} , and
+     * {@link RegexEngine#PARSER} is set as the default.
+     *
+     * @return The engine based on {@link RegexEngine}
+     *
+     * @since 1.0.5
+     */
+    public RegexEngine engine() default RegexEngine.PARSER;
+
+    /**
+     * Returns the validation groups to which the constraint belongs, and empty
+     * ({@code {}}) is set as the default. The constraint without groups is always
+     * validated.
+     *
+     * @return The validation groups
+     *
+     * @since 1.0.5
+     */
+    public Class<? extends ValidationGroup>[] groups() default {};
 }
@@ -21,6 +21,7 @@ import java.lang.annotation.RetentionPolicy;
 import java.lang.annotation.Target;
 
 import org.thinkit.framework.envali.catalog.ErrorType;
+import org.thinkit.framework.envali.entity.ValidationGroup;
 
 /**
  * An annotation that indicates the field is not allowed to be set to {@code ""}
@@ -51,7 +52,7 @@ import org.thinkit.framework.envali.catalog.ErrorType;
  * @since 1.0.0
  */
 @Documented
-@Target(ElementType.FIELD)
+@Target({ ElementType.FIELD, ElementType.TYPE_USE })
 @Retention(RetentionPolicy.RUNTIME)
 public @interface RequireNonBlank {
 
@@ -70,4 +71,15 @@ public @interface RequireNonBlank {
      * @return The message
      */
     public String message() default "";
+
+    /**
+     * Returns the validation groups to which the constraint belongs, and empty
+     * ({@code {}}) is set as the default. The constraint without groups is always
+     * validated.
+     *
+     * @return The validation groups
+     *
+     * @since 1.0.5
+     */
+    public Class<? extends ValidationGroup>[] groups() default {};
 }
@@ -0,0 +1,115 @@
+/*
+ * Copyright 2020 Kato Shinya.
+ *
+ * Licensed under the Apache License, Version 2.0 (the "License"); you may not use this file except
+ * in compliance with the License. You may obtain a copy of the License at
+ *
+ *     http://www.apache.org/licenses/LICENSE-2.0
+ *
+ * Unless required by applicable law or agreed to in writing, software distributed under the License
+ * is distributed on an "AS IS" BASIS, WITHOUT WARRANTIES OR CONDITIONS OF ANY KIND, either express
+ * or implied. See the License for the specific language governing permissions and limitations under
+ * the License.
+ */
+
+package org.thinkit.framework.envali.annotation;
+
+import java.lang.annotation.Documented;
+import java.lang.annotation.ElementType;
+import java.lang.annotation.Retention;
+import java.lang.annotation.RetentionPolicy;
+import java.lang.annotation.Target;
+
+import org.thinkit.framework.envali.catalog.ErrorType;
+import org.thinkit.framework.envali.entity.ValidationGroup;
+
+/**
+ * An annotation that indicates the field must be one of the values specified in
+ * {@link #values()} .
+ * <p>
+ * Specify this annotation {@link RequireOneOf} for fields that hold a code of a
+ * fixed list as follows. This annotation can be specified for CharSequence such
+ * as String and StringBuilder, enum, int, long, short, byte and their wrapper
+ * types, otherwise UnsupportedOperationException will be thrown at runtime. The
+ * value of an enum field is compared by the name of the constant. {@code null}
+ * is not validated.
+ * <p>
+ * The values are compiled into a hash table only once when the entity class is
+ * validated for the first time, so the membership of a value is tested in
+ * constant time without allocating any object even if there are thousands of
+ * values.
+ *
+ * <pre>
+ * <code>
+ * public class ConcreteEntity implements ValidatableEntity, Serializable {
+ *
+ *      &#64;RequireOneOf( values = { "JPY", "USD", "EUR" } )
+ *      private String currencyCode;
+ *
+ *      &#64;RequireOneOf( values = { "1", "2", "3" }, errorType = ErrorType.RECOVERABLE )
+ *      private int grade;
+ *
+ *      &#64;RequireOneOf( values = { "ACTIVE", "SUSPENDED" }, message = "failed!" )
+ *      private Status status;
+ * }
+ * </code>
+ * </pre>
+ * <p>
+ * If the {@link ParameterMapping} annotation is specified for the entity class,
+ * the values are read from the {@code "oneOf"} attribute of the content as a
+ * comma-separated list, and {@link #values()} is ignored.
+ *
+ * <pre>
+ * <code>
+ * &#64;ParameterMapping( content = "ConcreteEntityParameter" )
+ * public class ConcreteEntity implements ValidatableEntity, Serializable {
+ *
+ *      &#64;RequireOneOf
+ *      private String currencyCode;
+ * }
+ * </code>
+ * </pre>
+ *
+ * @author Kato Shinya
+ * @since 1.0.5
+ */
+@Documented
+@Target({ ElementType.FIELD, ElementType.TYPE_USE })
+@Retention(RetentionPolicy.RUNTIME)
+public @interface RequireOneOf {
+
+    /**
+     * Returns the values that the field is allowed to have, and empty
+     * ({@code {}}) is set as the default. The values of an integer field must be
+     * decimal integers, and the values of an enum field must be the names of the
+     * constants.
+     *
+     * @return The values that the field is allowed to have
+     */
+    public String[] values() default {};
+
+    /**
+     * Returns the error type based on {@link ErrorType} , and
+     * {@link ErrorType#RUNTIME} is set as the default.
+     *
+     * @return The error type based on the {@link ErrorType}
+     */
+    public ErrorType errorType() default ErrorType.RUNTIME;
+
+    /**
+     * Returns the error type based on {@link ErrorType} , and empty ({@code ""}) is
+     * set as the default.
+     *
+     * @return The message
+     */
+    public String message() default "";
+
+    /**
+     * Returns the validation groups to which the constraint belongs, and empty
+     * ({@code {}}) is set as the default. The constraint without groups is always
+     * validated.
+     *
+     * @return The validation groups
+     */
+    public Class<? extends ValidationGroup>[] groups() default {};
+}
@@ -21,6 +21,7 @@ import java.lang.annotation.RetentionPolicy;
 import java.lang.annotation.Target;
 
 import org.thinkit.framework.envali.catalog.ErrorType;
+import org.thinkit.framework.envali.entity.ValidationGroup;
 
 /**
  * An annotation that indicate that the numbers are within the lower and upper
@@ -29,8 +30,8 @@ import org.thinkit.framework.envali.catalog.ErrorType;
  * Specify this annotation for fields that do not allow exceed the lower and
  * upper limits,as follows. If this annotation is specified for an object of
  * type other than int, long, short, byte, float, double, Integer, Long, Short,
- * Byte, Float or Double, UnsupportedOperationException will always be thrown at
- * runtime.
+ * Byte, Float, Double, BigDecimal or BigInteger, UnsupportedOperationException
+ * will always be thrown at runtime.
  *
  * <pre>
  * Specify the expected value for Content Framework:
@@ -71,7 +72,7 @@ import org.thinkit.framework.envali.catalog.ErrorType;
  * @since 1.0.0
  */
 @Documented
-@Target(ElementType.FIELD)
+@Target({ ElementType.FIELD, ElementType.TYPE_USE })
 @Retention(RetentionPolicy.RUNTIME)
 public @interface RequireRangeFromTo {
 
@@ -210,4 +211,55 @@ public @interface RequireRangeFromTo {
      * @since 1.0.2
      */
     public byte byteTo() default Byte.MAX_VALUE;
+
+    /**
+     * Returns the lower limit of BigDecimal type as a string, and empty ({@code ""}) is
+     * set as the default, which means no lower limit.
+     *
+     * @return The lower limit of BigDecimal type
+     *
+     * @since 1.0.5
+     */
+    public String bigDecimalFrom() default "";
+
+    /**
+     * Returns the lower limit of BigInteger type as a string, and empty ({@code ""}) is
+     * set as the default, which means no lower limit.
+     *
+     * @return The lower limit of BigInteger type
+     *
+     * @since 1.0.5
+     */
+    public String bigIntegerFrom() default "";
+
+    /**
+     * Returns the upper limit of BigDecimal type as a string, and empty ({@code ""}) is
+     * set as the default, which means no upper limit.
+     *
+     * @return The upper limit of BigDecimal type
+     *
+     * @since 1.0.5
+     */
+    public String bigDecimalTo() default "";
+
+    /**
+     * Returns the upper limit of BigInteger type as a string, and empty ({@code ""}) is
+     * set as the default, which means no upper limit.
+     *
+     * @return The upper limit of BigInteger type
+     *
+     * @since 1.0.5
+     */
+    public String bigIntegerTo() default "";
+
+    /**
+     * Returns the validation groups to which the constraint belongs, and empty
+     * ({@code {}}) is set as the default. The constraint without groups is always
+     * validated.
+     *
+     * @return The validation groups
+     *
+     * @since 1.0.5
+     */
+    public Class<? extends ValidationGroup>[] groups() default {};
 }
@@ -0,0 +1,100 @@
+/*
+ * Copyright 2020 Kato Shinya.
+ *
+ * Licensed under the Apache License, Version 2.0 (the "License"); you may not use this file except
+ * in compliance with the License. You may obtain a copy of the License at
+ *
+ *     http://www.apache.org/licenses/LICENSE-2.0
+ *
+ * Unless required by applicable law or agreed to in writing, software distributed under the License
+ * is distributed on an "AS IS" BASIS, WITHOUT WARRANTIES OR CONDITIONS OF ANY KIND, either express
+ * or implied. See the License for the specific language governing permissions and limitations under
+ * the License.
+ */
+
+package org.thinkit.framework.envali.annotation;
+
+import java.lang.annotation.Documented;
+import java.lang.annotation.ElementType;
+import java.lang.annotation.Retention;
+import java.lang.annotation.RetentionPolicy;
+import java.lang.annotation.Target;
+
+import org.thinkit.framework.envali.catalog.ErrorType;
+import org.thinkit.framework.envali.entity.ValidationGroup;
+
+/**
+ * An annotation that indicates the length or size of the field must be within
+ * the range from {@link #min()} to {@link #max()} inclusive.
+ * <p>
+ * Specify this annotation {@link RequireSize} for fields whose length or size is
+ * limited as follows. This annotation can be specified for CharSequence such as
+ * String and StringBuilder, Array, Collection and Map, otherwise
+ * UnsupportedOperationException will be thrown at runtime. The length or size
+ * is checked in constant time without copying the value, and {@code null} is
+ * not validated.
+ *
+ * <pre>
+ * <code>
+ * public class ConcreteEntity implements ValidatableEntity, Serializable {
+ *
+ *      &#64;RequireSize( max = 255 )
+ *      private String literal;
+ *
+ *      &#64;RequireSize( min = 1, max = 10, errorType = ErrorType.RECOVERABLE, message = "failed!" )
+ *      private List&lt;String&gt; literalList;
+ *
+ *      &#64;RequireSize( max = 100, errorType = ErrorType.UNRECOVERABLE, message = "failed!" )
+ *      private byte[] bytes;
+ * }
+ * </code>
+ * </pre>
+ *
+ * @author Kato Shinya
+ * @since 1.0.5
+ */
+@Documented
+@Target({ ElementType.FIELD, ElementType.TYPE_USE })
+@Retention(RetentionPolicy.RUNTIME)
+public @interface RequireSize {
+
+    /**
+     * Returns the error type based on {@link ErrorType} , and
+     * {@link ErrorType#RUNTIME} is set as the default.
+     *
+     * @return The error type based on the {@link ErrorType}
+     */
+    public ErrorType errorType() default ErrorType.RUNTIME;
+
+    /**
+     * Returns the error type based on {@link ErrorType} , and empty ({@code ""}) is
+     * set as the default.
+     *
+     * @return The message
+     */
+    public String message() default "";
+
+    /**
+     * Returns the minimum length or size, and {@code 0} is set as the default.
+     *
+     * @return The minimum length or size
+     */
+    public int min() default 0;
+
+    /**
+     * Returns the maximum length or size, and {@link Integer#MAX_VALUE} is set as
+     * the default.
+     *
+     * @return The maximum length or size
+     */
+    public int max() default Integer.MAX_VALUE;
+
+    /**
+     * Returns the validation groups to which the constraint belongs, and empty
+     * ({@code {}}) is set as the default. The constraint without groups is always
+     * validated.
+     *
+     * @return The validation groups
+     */
+    public Class<? extends ValidationGroup>[] groups() default {};
+}
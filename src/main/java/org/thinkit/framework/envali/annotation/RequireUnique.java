@@ -0,0 +1,96 @@
+/*
+ * Copyright 2020 Kato Shinya.
+ *
+ * Licensed under the Apache License, Version 2.0 (the "License"); you may not use this file except
+ * in compliance with the License. You may obtain a copy of the License at
+ *
+ *     http://www.apache.org/licenses/LICENSE-2.0
+ *
+ * Unless required by applicable law or agreed to in writing, software distributed under the License
+ * is distributed on an "AS IS" BASIS, WITHOUT WARRANTIES OR CONDITIONS OF ANY KIND, either express
+ * or implied. See the License for the specific language governing permissions and limitations under
+ * the License.
+ */
+
+package org.thinkit.framework.envali.annotation;
+
+import java.lang.annotation.Documented;
+import java.lang.annotation.ElementType;
+import java.lang.annotation.Retention;
+import java.lang.annotation.RetentionPolicy;
+import java.lang.annotation.Target;
+
+import org.thinkit.framework.envali.catalog.ErrorType;
+import org.thinkit.framework.envali.entity.ValidationGroup;
+
+/**
+ * An annotation that indicates the elements of the field must be unique.
+ * <p>
+ * Specify this annotation {@link RequireUnique} for List and array fields as
+ * follows. The elements are compared by {@link Object#equals(Object)} , or by
+ * the value of the field specified in {@link #key()} if the elements are
+ * {@link org.thinkit.framework.envali.entity.ValidatableEntity} . This
+ * annotation can be specified for List and array, otherwise
+ * UnsupportedOperationException will be thrown at runtime. {@code null} and the
+ * {@code null} elements and keys are not validated.
+ * <p>
+ * The business error of this annotation has the indices of the elements whose
+ * keys are equal to the key of a preceding element, which are returned by
+ * {@link org.thinkit.framework.envali.result.BusinessError#getIndices()} . The
+ * numeric keys are compared without boxing them.
+ *
+ * <pre>
+ * <code>
+ * public class ConcreteEntity implements ValidatableEntity, Serializable {
+ *
+ *      &#64;RequireUnique
+ *      private int[] lineNumbers;
+ *
+ *      &#64;RequireUnique( key = "lineNumber", errorType = ErrorType.RECOVERABLE, message = "failed!" )
+ *      private List&lt;OrderLine&gt; orderLines;
+ * }
+ * </code>
+ * </pre>
+ *
+ * @author Kato Shinya
+ * @since 1.0.5
+ */
+@Documented
+@Target({ ElementType.FIELD, ElementType.TYPE_USE })
+@Retention(RetentionPolicy.RUNTIME)
+public @interface RequireUnique {
+
+    /**
+     * Returns the name of the field of the elements that is used as the key, and
+     * empty ({@code ""}) is set as the default. The element itself is used as the
+     * key if the name is empty.
+     *
+     * @return The name of the field of the elements that is used as the key
+     */
+    public String key() default "";
+
+    /**
+     * Returns the error type based on {@link ErrorType} , and
+     * {@link ErrorType#RUNTIME} is set as the default.
+     *
+     * @return The error type based on the {@link ErrorType}
+     */
+    public ErrorType errorType() default ErrorType.RUNTIME;
+
+    /**
+     * Returns the error type based on {@link ErrorType} , and empty ({@code ""}) is
+     * set as the default.
+     *
+     * @return The message
+     */
+    public String message() default "";
+
+    /**
+     * Returns the validation groups to which the constraint belongs, and empty
+     * ({@code {}}) is set as the default. The constraint without groups is always
+     * validated.
+     *
+     * @return The validation groups
+     */
+    public Class<? extends ValidationGroup>[] groups() default {};
+}
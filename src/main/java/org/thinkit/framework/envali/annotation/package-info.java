@@ -1,4 +1,9 @@
 /**
  * The package manages the annotations supported by Envali framework.
+ * <p>
+ * The field-level annotations except {@code NestedEntity} can also be specified
+ * for the type arguments of {@code List} , {@code Set} and {@code Map} fields
+ * and for the component type of array fields, such as
+ * {@code List<@RequireNonBlank String>} , to validate each element.
  */
 package org.thinkit.framework.envali.annotation;
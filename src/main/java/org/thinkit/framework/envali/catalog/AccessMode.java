@@ -0,0 +1,47 @@
+/*
+ * Copyright 2020 Kato Shinya.
+ *
+ * Licensed under the Apache License, Version 2.0 (the "License"); you may not use this file except
+ * in compliance with the License. You may obtain a copy of the License at
+ *
+ *     http://www.apache.org/licenses/LICENSE-2.0
+ *
+ * Unless required by applicable law or agreed to in writing, software distributed under the License
+ * is distributed on an "AS IS" BASIS, WITHOUT WARRANTIES OR CONDITIONS OF ANY KIND, either express
+ * or implied. See the License for the specific language governing permissions and limitations under
+ * the License.
+ */
+
+package org.thinkit.framework.envali.catalog;
+
+import org.thinkit.api.catalog.Catalog;
+
+import lombok.Getter;
+import lombok.RequiredArgsConstructor;
+
+/**
+ * The catalog that manages the mode of access to the values of validatable
+ * entity.
+ *
+ * @author Kato Shinya
+ * @since 1.0.5
+ */
+@RequiredArgsConstructor
+public enum AccessMode implements Catalog<AccessMode> {
+
+    /**
+     * The field
+     */
+    FIELD(0),
+
+    /**
+     * The getter
+     */
+    GETTER(1);
+
+    /**
+     * The code
+     */
+    @Getter
+    private final int code;
+}
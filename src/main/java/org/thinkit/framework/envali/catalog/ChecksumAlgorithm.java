@@ -0,0 +1,64 @@
+/*
+ * Copyright 2020 Kato Shinya.
+ *
+ * Licensed under the Apache License, Version 2.0 (the "License"); you may not use this file except
+ * in compliance with the License. You may obtain a copy of the License at
+ *
+ *     http://www.apache.org/licenses/LICENSE-2.0
+ *
+ * Unless required by applicable law or agreed to in writing, software distributed under the License
+ * is distributed on an "AS IS" BASIS, WITHOUT WARRANTIES OR CONDITIONS OF ANY KIND, either express
+ * or implied. See the License for the specific language governing permissions and limitations under
+ * the License.
+ */
+
+package org.thinkit.framework.envali.catalog;
+
+import org.thinkit.api.catalog.Catalog;
+
+import lombok.Getter;
+import lombok.RequiredArgsConstructor;
+
+/**
+ * The catalog that manages the algorithm used to verify the check digit of a
+ * number.
+ *
+ * @author Kato Shinya
+ * @since 1.0.5
+ */
+@RequiredArgsConstructor
+public enum ChecksumAlgorithm implements Catalog<ChecksumAlgorithm> {
+
+    /**
+     * The Luhn algorithm (modulus 10) used for credit card numbers. The number
+     * consists of two or more digits, and the last digit is the check digit.
+     */
+    LUHN(0),
+
+    /**
+     * The algorithm used for the Japanese individual number (My Number). The
+     * number consists of 12 digits, and the last digit is the check digit
+     * calculated with modulus 11.
+     */
+    MY_NUMBER(1),
+
+    /**
+     * The algorithm used for the Japanese corporate number. The number consists
+     * of 13 digits, and the first digit is the check digit calculated with
+     * modulus 9.
+     */
+    CORPORATE_NUMBER(2),
+
+    /**
+     * The algorithm used for the JAN and EAN barcodes. The number consists of 8
+     * digits for EAN-8 or 13 digits for EAN-13, and the last digit is the check
+     * digit calculated with the weights 3 and 1 and modulus 10.
+     */
+    EAN(3);
+
+    /**
+     * The code
+     */
+    @Getter
+    private final int code;
+}
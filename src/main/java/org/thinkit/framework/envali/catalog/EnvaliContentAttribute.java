@@ -51,7 +51,14 @@ public enum EnvaliContentAttribute implements BiCatalog<EnvaliContentAttribute,
     /**
      * Envali's content attributes: {@code "regexExpression"}
      */
-    REGEX_EXPRESSION(4, "regexExpression");
+    REGEX_EXPRESSION(4, "regexExpression"),
+
+    /**
+     * Envali's content attributes: {@code "oneOf"}
+     *
+     * @since 1.0.5
+     */
+    ONE_OF(5, "oneOf");
 
     /**
      * Code value
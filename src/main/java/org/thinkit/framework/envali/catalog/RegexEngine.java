@@ -0,0 +1,50 @@
+/*
+ * Copyright 2020 Kato Shinya.
+ *
+ * Licensed under the Apache License, Version 2.0 (the "License"); you may not use this file except
+ * in compliance with the License. You may obtain a copy of the License at
+ *
+ *     http://www.apache.org/licenses/LICENSE-2.0
+ *
+ * Unless required by applicable law or agreed to in writing, software distributed under the License
+ * is distributed on an "AS IS" BASIS, WITHOUT WARRANTIES OR CONDITIONS OF ANY KIND, either express
+ * or implied. See the License for the specific language governing permissions and limitations under
+ * the License.
+ */
+
+package org.thinkit.framework.envali.catalog;
+
+import org.thinkit.api.catalog.Catalog;
+
+import lombok.Getter;
+import lombok.RequiredArgsConstructor;
+
+/**
+ * The catalog that manages the engine used to validate a value against a
+ * {@link RegexPreset} .
+ *
+ * @author Kato Shinya
+ * @since 1.0.5
+ */
+@RequiredArgsConstructor
+public enum RegexEngine implements Catalog<RegexEngine> {
+
+    /**
+     * Validates the value with the dedicated single-pass parser of the preset if
+     * the preset has one, and the value is matched as a whole by
+     * {@link RegexMethod#MATCHES} without modifiers. Otherwise the regular
+     * expression of the preset is used.
+     */
+    PARSER(0),
+
+    /**
+     * Always validates the value with the regular expression of the preset.
+     */
+    REGEX(1);
+
+    /**
+     * The code
+     */
+    @Getter
+    private final int code;
+}
@@ -35,7 +35,8 @@ public enum RegexPreset implements BiCatalog<RegexPreset, RegexPattern> {
     NONE(0, null),
 
     /**
-     * Email address
+     * Email address, which is validated by the dedicated parser when
+     * {@link RegexEngine#PARSER} is selected
      */
     EMAIL_ADDRESS(1, RegexPattern.EMAIL_ADDRESS),
 
@@ -45,7 +46,8 @@ public enum RegexPreset implements BiCatalog<RegexPreset, RegexPattern> {
     DOMAIN_NAME(2, RegexPattern.DOMAIN_NAME),
 
     /**
-     * Web URL (HTTP / HTTPS)
+     * Web URL (HTTP / HTTPS), which is validated by the dedicated parser when
+     * {@link RegexEngine#PARSER} is selected
      */
     WEB_URL(3, RegexPattern.WEB_URL),
 
@@ -108,12 +110,14 @@ public enum RegexPreset implements BiCatalog<RegexPreset, RegexPattern> {
     XML_FILE(14, RegexPattern.XML_FILE),
 
     /**
-     * IP address (IPv4)
+     * IP address (IPv4), which is validated by the dedicated parser when
+     * {@link RegexEngine#PARSER} is selected
      */
     IP_ADDRESS(15, RegexPattern.IP_ADDRESS),
 
     /**
-     * IP address with port (IPv4)
+     * IP address with port (IPv4), which is validated by the dedicated parser
+     * when {@link RegexEngine#PARSER} is selected
      */
     IP_ADDRESS_WITH_PORT(16, RegexPattern.IP_ADDRESS_WITH_PORT),
 
@@ -143,7 +147,8 @@ public enum RegexPreset implements BiCatalog<RegexPreset, RegexPattern> {
     ALPHABET_LOWER_CASE(21, RegexPattern.ALPHABET_LOWER_CASE),
 
     /**
-     * FTP URL
+     * FTP URL, which is validated by the dedicated parser when
+     * {@link RegexEngine#PARSER} is selected
      */
     FTP_URL(22, RegexPattern.FTP_URL),
 
@@ -205,7 +210,15 @@ public enum RegexPreset implements BiCatalog<RegexPreset, RegexPattern> {
     /**
      * Japanese alphanumeric
      */
-    JAPANESE_ALPHANUMERIC(34, RegexPattern.JAPANESE_ALPHANUMERIC);
+    JAPANESE_ALPHANUMERIC(34, RegexPattern.JAPANESE_ALPHANUMERIC),
+
+    /**
+     * IP address (IPv6), which has no regular expression and is always validated
+     * by the dedicated parser with {@link RegexMethod#MATCHES}
+     *
+     * @since 1.0.5
+     */
+    IPV6_ADDRESS(35, null);
 
     /**
      * The code
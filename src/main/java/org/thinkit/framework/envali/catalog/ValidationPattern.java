@@ -18,17 +18,22 @@ import java.lang.annotation.Annotation;
 
 import org.thinkit.api.catalog.BiCatalog;
 import org.thinkit.framework.envali.annotation.NestedEntity;
+import org.thinkit.framework.envali.annotation.RequireChecksum;
 import org.thinkit.framework.envali.annotation.RequireEndWith;
+import org.thinkit.framework.envali.annotation.RequireExistsIn;
 import org.thinkit.framework.envali.annotation.RequireMatch;
 import org.thinkit.framework.envali.annotation.RequireNegative;
 import org.thinkit.framework.envali.annotation.RequireNonBlank;
 import org.thinkit.framework.envali.annotation.RequireNonEmpty;
 import org.thinkit.framework.envali.annotation.RequireNonNull;
+import org.thinkit.framework.envali.annotation.RequireOneOf;
 import org.thinkit.framework.envali.annotation.RequirePositive;
 import org.thinkit.framework.envali.annotation.RequireRangeFrom;
 import org.thinkit.framework.envali.annotation.RequireRangeFromTo;
 import org.thinkit.framework.envali.annotation.RequireRangeTo;
+import org.thinkit.framework.envali.annotation.RequireSize;
 import org.thinkit.framework.envali.annotation.RequireStartWith;
+import org.thinkit.framework.envali.annotation.RequireUnique;
 
 import lombok.Getter;
 import lombok.RequiredArgsConstructor;
@@ -100,7 +105,42 @@ public enum ValidationPattern implements BiCatalog<ValidationPattern, Class<? ex
     /**
      * The pattern of {@link RequireMatch}
      */
-    REQUIRE_MATCH(11, RequireMatch.class);
+    REQUIRE_MATCH(11, RequireMatch.class),
+
+    /**
+     * The pattern of {@link RequireSize}
+     *
+     * @since 1.0.5
+     */
+    REQUIRE_SIZE(12, RequireSize.class),
+
+    /**
+     * The pattern of {@link RequireChecksum}
+     *
+     * @since 1.0.5
+     */
+    REQUIRE_CHECKSUM(13, RequireChecksum.class),
+
+    /**
+     * The pattern of {@link RequireOneOf}
+     *
+     * @since 1.0.5
+     */
+    REQUIRE_ONE_OF(14, RequireOneOf.class),
+
+    /**
+     * The pattern of {@link RequireExistsIn}
+     *
+     * @since 1.0.5
+     */
+    REQUIRE_EXISTS_IN(15, RequireExistsIn.class),
+
+    /**
+     * The pattern of {@link RequireUnique}
+     *
+     * @since 1.0.5
+     */
+    REQUIRE_UNIQUE(16, RequireUnique.class);
 
     /**
      * The code
@@ -113,4 +153,23 @@ public enum ValidationPattern implements BiCatalog<ValidationPattern, Class<? ex
      */
     @Getter
     private final Class<? extends Annotation> tag;
+
+    /**
+     * Tests if the parameters of the pattern are read from the content when
+     * {@link org.thinkit.framework.envali.annotation.ParameterMapping} is
+     * specified for the entity class, that is, if the pattern is validated with
+     * {@link ParameterConfig#CONTENT} .
+     *
+     * @return {@code true} if the parameters of the pattern are read from the
+     *         content, otherwise {@code false}
+     *
+     * @since 1.0.5
+     */
+    public boolean usesContent() {
+        return switch (this) {
+            case REQUIRE_RANGE_FROM, REQUIRE_RANGE_TO, REQUIRE_RANGE_FROM_TO, REQUIRE_START_WITH, REQUIRE_END_WITH,
+                    REQUIRE_MATCH, REQUIRE_ONE_OF -> true;
+            default -> false;
+        };
+    }
 }
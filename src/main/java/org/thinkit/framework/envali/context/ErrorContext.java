@@ -20,6 +20,7 @@ import java.lang.annotation.Annotation;
 import org.thinkit.framework.envali.catalog.ErrorType;
 import org.thinkit.framework.envali.catalog.ParameterConfig;
 import org.thinkit.framework.envali.catalog.ValidationPattern;
+import org.thinkit.framework.envali.source.ContentProfile;
 
 import lombok.EqualsAndHashCode;
 import lombok.Getter;
@@ -60,6 +61,15 @@ public final class ErrorContext<T extends Annotation> implements Serializable {
     @Getter
     private ValidationPattern validationPattern;
 
+    /**
+     * The content profile, or {@code null} if the content mapped to the entity
+     * class is used
+     *
+     * @since 1.0.5
+     */
+    @Getter
+    private ContentProfile contentProfile;
+
     /**
      * Default constructor
      */
@@ -110,6 +120,43 @@ public final class ErrorContext<T extends Annotation> implements Serializable {
         this.validationPattern = validationPattern;
     }
 
+    /**
+     * Constructor
+     *
+     * @param parameterConfig   The parameter configuration based on
+     *                          {@link ParameterConfig}
+     * @param contentProfile    The content profile, or {@code null} if the
+     *                          content mapped to the entity class is used
+     * @param annotation        The envali annotation
+     * @param validationPattern The validation pattern based on
+     *                          {@link ValidationPattern}
+     *
+     * @exception NullPointerException If {@code null} is passed as the parameter
+     *                                 configuration, the annotation or the
+     *                                 validation pattern
+     */
+    private ErrorContext(@NonNull ParameterConfig parameterConfig, ContentProfile contentProfile,
+            @NonNull T annotation, @NonNull ValidationPattern validationPattern) {
+        this(parameterConfig, annotation, validationPattern);
+        this.contentProfile = contentProfile;
+    }
+
+    /**
+     * Constructor
+     *
+     * @param contentProfile    The content profile, or {@code null} if the
+     *                          content mapped to the entity class is used
+     * @param validationPattern The validation pattern based on
+     *                          {@link ValidationPattern}
+     *
+     * @exception NullPointerException If {@code null} is passed as the validation
+     *                                 pattern
+     */
+    private ErrorContext(ContentProfile contentProfile, @NonNull ValidationPattern validationPattern) {
+        this(validationPattern);
+        this.contentProfile = contentProfile;
+    }
+
     /**
      * Returns the new instance of {@link ErrorContext} based on the data passed as
      * argument.
@@ -132,6 +179,34 @@ public final class ErrorContext<T extends Annotation> implements Serializable {
         return new ErrorContext<>(parameterConfig, annotation, validationPattern);
     }
 
+    /**
+     * Returns the new instance of {@link ErrorContext} based on the data passed as
+     * argument.
+     *
+     * @param <T>               The annotation type with
+     *                          {@link java.lang.annotation.Annotation} class as a
+     *                          parent
+     * @param parameterConfig   The parameter configuration based on
+     *                          {@link ParameterConfig}
+     * @param contentProfile    The content profile, or {@code null} if the
+     *                          content mapped to the entity class is used
+     * @param annotation        The Envali supported annotation
+     * @param validationPattern The validation pattern based on
+     *                          {@link ValidationPattern}
+     * @return The new instance of {@link ErrorContext} based on the data passed as
+     *         argument
+     *
+     * @exception NullPointerException If {@code null} is passed as the parameter
+     *                                 configuration, the annotation or the
+     *                                 validation pattern
+     *
+     * @since 1.0.5
+     */
+    public static <T extends Annotation> ErrorContext<T> of(@NonNull ParameterConfig parameterConfig,
+            ContentProfile contentProfile, @NonNull T annotation, @NonNull ValidationPattern validationPattern) {
+        return new ErrorContext<>(parameterConfig, contentProfile, annotation, validationPattern);
+    }
+
     /**
      * Returns the new instance of {@link ErrorContext} based on the data passed as
      * argument.
@@ -169,4 +244,28 @@ public final class ErrorContext<T extends Annotation> implements Serializable {
     public static <T extends Annotation> ErrorContext<T> of(@NonNull ValidationPattern validationPattern) {
         return new ErrorContext<>(validationPattern);
     }
+
+    /**
+     * Returns the new instance of {@link ErrorContext} based on the data passed as
+     * argument.
+     *
+     * @param <T>               The annotation type with
+     *                          {@link java.lang.annotation.Annotation} class as a
+     *                          parent
+     * @param contentProfile    The content profile, or {@code null} if the
+     *                          content mapped to the entity class is used
+     * @param validationPattern The validation pattern based on
+     *                          {@link ValidationPattern}
+     * @return The new instance of {@link ErrorContext} based on the data passed as
+     *         argument
+     *
+     * @exception NullPointerException If {@code null} is passed as the validation
+     *                                 pattern
+     *
+     * @since 1.0.5
+     */
+    public static <T extends Annotation> ErrorContext<T> of(ContentProfile contentProfile,
+            @NonNull ValidationPattern validationPattern) {
+        return new ErrorContext<>(contentProfile, validationPattern);
+    }
 }
@@ -22,6 +22,10 @@ import org.thinkit.framework.envali.catalog.ParameterConfig;
  * <p>
  * There are no specific operations defined for this marker interface, only that
  * the class that implements it is a verifiable entity.
+ * <p>
+ * A record can also implement this interface. The Envali annotations specified
+ * for its components are propagated to the component fields, and the values
+ * are read through the canonical accessors of the record.
  *
  * @author Kato Shinya
  * @since 1.0.0
@@ -0,0 +1,48 @@
+/*
+ * Copyright 2020 Kato Shinya.
+ *
+ * Licensed under the Apache License, Version 2.0 (the "License"); you may not use this file except
+ * in compliance with the License. You may obtain a copy of the License at
+ *
+ *     http://www.apache.org/licenses/LICENSE-2.0
+ *
+ * Unless required by applicable law or agreed to in writing, software distributed under the License
+ * is distributed on an "AS IS" BASIS, WITHOUT WARRANTIES OR CONDITIONS OF ANY KIND, either express
+ * or implied. See the License for the specific language governing permissions and limitations under
+ * the License.
+ */
+
+package org.thinkit.framework.envali.entity;
+
+import org.thinkit.framework.envali.Envali;
+
+/**
+ * A marker interface that indicates that it is a validation group.
+ * <p>
+ * Define an interface that extends this interface for each group of
+ * constraints, and specify it in the {@code groups} attribute of Envali
+ * annotations. The constraints with groups are validated only when one of their
+ * groups is passed to {@link Envali#validate(ValidatableEntity, Class...)} ,
+ * while the constraints without groups are always validated. A group also
+ * activates the constraints of the groups it extends.
+ *
+ * <pre>
+ * <code>
+ * public interface Create extends ValidationGroup {
+ * }
+ *
+ * public class ConcreteEntity implements ValidatableEntity, Serializable {
+ *
+ *      &#64;RequireNonNull( groups = Create.class )
+ *      private String literal;
+ * }
+ *
+ * Envali.validate(concreteEntity, Create.class);
+ * </code>
+ * </pre>
+ *
+ * @author Kato Shinya
+ * @since 1.0.5
+ */
+public interface ValidationGroup {
+}
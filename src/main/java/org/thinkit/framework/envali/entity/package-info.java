@@ -1,7 +1,9 @@
 /**
  * The package that manages the marker interface {@link ValidatableEntity} to be
- * specified as targets for validation in the Envali framework.
+ * specified as targets for validation in the Envali framework, and the marker
+ * interface {@link ValidationGroup} to group the constraints.
  *
  * @see ValidatableEntity
+ * @see ValidationGroup
  */
 package org.thinkit.framework.envali.entity;
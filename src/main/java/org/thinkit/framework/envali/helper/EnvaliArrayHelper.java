@@ -0,0 +1,202 @@
+/*
+ * Copyright 2020 Kato Shinya.
+ *
+ * Licensed under the Apache License, Version 2.0 (the "License"); you may not use this file except
+ * in compliance with the License. You may obtain a copy of the License at
+ *
+ *     http://www.apache.org/licenses/LICENSE-2.0
+ *
+ * Unless required by applicable law or agreed to in writing, software distributed under the License
+ * is distributed on an "AS IS" BASIS, WITHOUT WARRANTIES OR CONDITIONS OF ANY KIND, either express
+ * or implied. See the License for the specific language governing permissions and limitations under
+ * the License.
+ */
+
+package org.thinkit.framework.envali.helper;
+
+import lombok.NonNull;
+
+/**
+ * A helper class that checks the values of primitive arrays against a range
+ * without boxing the values.
+ * <p>
+ * The arrays are reduced in blocks of {@value #BLOCK_SIZE} values, and the
+ * scan stops after the first block that contains an out-of-range value. The
+ * {@code int} and {@code long} arrays are reduced to the minimum and maximum of
+ * each block by {@code Math.min} and {@code Math.max} without branching, which
+ * the JIT compiler can compile into vector reductions on the platforms that
+ * support them. The {@code float} and {@code double} arrays are reduced by
+ * OR-combining the results of the comparisons instead, because the minimum and
+ * maximum would be {@code NaN} if a block contains {@code NaN}, which is
+ * regarded as in range as in the scalar comparisons.
+ *
+ * @author Kato Shinya
+ * @since 1.0.5
+ */
+public final class EnvaliArrayHelper {
+
+    /**
+     * The number of values reduced before the scan tests if they are in range
+     */
+    private static final int BLOCK_SIZE = 1024;
+
+    /**
+     * Default constructor
+     */
+    private EnvaliArrayHelper() {
+    }
+
+    /**
+     * Tests if all the values of the array passed as an argument are in the
+     * range from {@code from} to {@code to} inclusive.
+     *
+     * @param array The array
+     * @param from  The lower bound
+     * @param to    The upper bound
+     * @return {@code true} if all the values are in the range, otherwise
+     *         {@code false}
+     *
+     * @exception NullPointerException If {@code null} is passed as an argument
+     */
+    public static boolean isInRange(@NonNull int[] array, int from, int to) {
+
+        for (int start = 0; start < array.length; start += BLOCK_SIZE) {
+            final int end = start + Math.min(BLOCK_SIZE, array.length - start);
+            int min = Integer.MAX_VALUE;
+            int max = Integer.MIN_VALUE;
+
+            for (int i = start; i < end; i++) {
+                min = Math.min(min, array[i]);
+                max = Math.max(max, array[i]);
+            }
+
+            if (min < from || to < max) {
+                return false;
+            }
+        }
+
+        return true;
+    }
+
+    /**
+     * Tests if all the values of the array passed as an argument are in the
+     * range from {@code from} to {@code to} inclusive.
+     *
+     * @param array The array
+     * @param from  The lower bound
+     * @param to    The upper bound
+     * @return {@code true} if all the values are in the range, otherwise
+     *         {@code false}
+     *
+     * @exception NullPointerException If {@code null} is passed as an argument
+     */
+    public static boolean isInRange(@NonNull long[] array, long from, long to) {
+
+        for (int start = 0; start < array.length; start += BLOCK_SIZE) {
+            final int end = start + Math.min(BLOCK_SIZE, array.length - start);
+            long min = Long.MAX_VALUE;
+            long max = Long.MIN_VALUE;
+
+            for (int i = start; i < end; i++) {
+                min = Math.min(min, array[i]);
+                max = Math.max(max, array[i]);
+            }
+
+            if (min < from || to < max) {
+                return false;
+            }
+        }
+
+        return true;
+    }
+
+    /**
+     * Tests if all the values of the array passed as an argument are in the
+     * range from {@code from} to {@code to} inclusive.
+     *
+     * @param array The array
+     * @param from  The lower bound
+     * @param to    The upper bound
+     * @return {@code true} if all the values are in the range, otherwise
+     *         {@code false}
+     *
+     * @exception NullPointerException If {@code null} is passed as an argument
+     */
+    public static boolean isInRange(@NonNull float[] array, float from, float to) {
+
+        for (int start = 0; start < array.length; start += BLOCK_SIZE) {
+            final int end = start + Math.min(BLOCK_SIZE, array.length - start);
+            boolean outOfRange = false;
+
+            for (int i = start; i < end; i++) {
+                outOfRange |= isOutOfRange(array[i], from, to);
+            }
+
+            if (outOfRange) {
+                return false;
+            }
+        }
+
+        return true;
+    }
+
+    /**
+     * Tests if all the values of the array passed as an argument are in the
+     * range from {@code from} to {@code to} inclusive.
+     *
+     * @param array The array
+     * @param from  The lower bound
+     * @param to    The upper bound
+     * @return {@code true} if all the values are in the range, otherwise
+     *         {@code false}
+     *
+     * @exception NullPointerException If {@code null} is passed as an argument
+     */
+    public static boolean isInRange(@NonNull double[] array, double from, double to) {
+
+        for (int start = 0; start < array.length; start += BLOCK_SIZE) {
+            final int end = start + Math.min(BLOCK_SIZE, array.length - start);
+            boolean outOfRange = false;
+
+            for (int i = start; i < end; i++) {
+                outOfRange |= isOutOfRange(array[i], from, to);
+            }
+
+            if (outOfRange) {
+                return false;
+            }
+        }
+
+        return true;
+    }
+
+    /**
+     * Tests if the value passed as an argument is out of the range from
+     * {@code from} to {@code to} inclusive. {@code NaN} is not out of any
+     * range because all the comparisons with it are {@code false} .
+     *
+     * @param value The value
+     * @param from  The lower bound
+     * @param to    The upper bound
+     * @return {@code true} if the value is out of the range, otherwise
+     *         {@code false}
+     */
+    private static boolean isOutOfRange(float value, float from, float to) {
+        return value < from | to < value;
+    }
+
+    /**
+     * Tests if the value passed as an argument is out of the range from
+     * {@code from} to {@code to} inclusive. {@code NaN} is not out of any
+     * range because all the comparisons with it are {@code false} .
+     *
+     * @param value The value
+     * @param from  The lower bound
+     * @param to    The upper bound
+     * @return {@code true} if the value is out of the range, otherwise
+     *         {@code false}
+     */
+    private static boolean isOutOfRange(double value, double from, double to) {
+        return value < from | to < value;
+    }
+}
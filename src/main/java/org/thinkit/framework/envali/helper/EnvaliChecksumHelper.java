@@ -0,0 +1,214 @@
+/*
+ * Copyright 2020 Kato Shinya.
+ *
+ * Licensed under the Apache License, Version 2.0 (the "License"); you may not use this file except
+ * in compliance with the License. You may obtain a copy of the License at
+ *
+ *     http://www.apache.org/licenses/LICENSE-2.0
+ *
+ * Unless required by applicable law or agreed to in writing, software distributed under the License
+ * is distributed on an "AS IS" BASIS, WITHOUT WARRANTIES OR CONDITIONS OF ANY KIND, either express
+ * or implied. See the License for the specific language governing permissions and limitations under
+ * the License.
+ */
+
+package org.thinkit.framework.envali.helper;
+
+import org.thinkit.framework.envali.catalog.ChecksumAlgorithm;
+
+import lombok.NonNull;
+
+/**
+ * A helper class that verifies the check digit of a number represented as a
+ * {@link CharSequence} .
+ * <p>
+ * The check digit is computed directly from the characters of the value in a
+ * single pass, so the value is neither copied, split into substrings nor
+ * converted to numbers. A value that contains any character other than the
+ * ASCII digits, or whose length is not supported by the algorithm, is regarded
+ * as invalid.
+ *
+ * @author Kato Shinya
+ * @since 1.0.5
+ */
+public final class EnvaliChecksumHelper {
+
+    /**
+     * The number of digits of the individual number
+     */
+    private static final int MY_NUMBER_LENGTH = 12;
+
+    /**
+     * The number of digits of the corporate number
+     */
+    private static final int CORPORATE_NUMBER_LENGTH = 13;
+
+    /**
+     * Default constructor
+     */
+    private EnvaliChecksumHelper() {
+    }
+
+    /**
+     * Tests if the check digit of the value passed as an argument is valid for
+     * the algorithm passed as an argument.
+     *
+     * @param algorithm The algorithm used to verify the check digit
+     * @param value     The value
+     * @return {@code true} if the check digit is valid, otherwise {@code false}
+     *
+     * @exception NullPointerException If {@code null} is passed as an argument
+     */
+    public static boolean isValid(@NonNull ChecksumAlgorithm algorithm, @NonNull CharSequence value) {
+        return switch (algorithm) {
+            case LUHN -> isValidLuhn(value);
+            case MY_NUMBER -> isValidMyNumber(value);
+            case CORPORATE_NUMBER -> isValidCorporateNumber(value);
+            case EAN -> isValidEan(value);
+        };
+    }
+
+    /**
+     * Tests if the check digit of the value passed as an argument is valid for
+     * the Luhn algorithm. The value must consist of two or more digits.
+     *
+     * @param value The value
+     * @return {@code true} if the check digit is valid, otherwise {@code false}
+     *
+     * @exception NullPointerException If {@code null} is passed as an argument
+     */
+    public static boolean isValidLuhn(@NonNull CharSequence value) {
+
+        final int length = value.length();
+
+        if (length < 2) {
+            return false;
+        }
+
+        int sum = 0;
+        boolean doubled = false;
+
+        for (int i = length - 1; i >= 0; i--) {
+            final int digit = digitAt(value, i);
+
+            if (digit < 0) {
+                return false;
+            }
+
+            sum += doubled ? (digit < 5 ? digit * 2 : digit * 2 - 9) : digit;
+            doubled = !doubled;
+        }
+
+        return sum % 10 == 0;
+    }
+
+    /**
+     * Tests if the check digit of the value passed as an argument is valid for
+     * the Japanese individual number. The value must consist of 12 digits, and
+     * the last digit is the check digit.
+     *
+     * @param value The value
+     * @return {@code true} if the check digit is valid, otherwise {@code false}
+     *
+     * @exception NullPointerException If {@code null} is passed as an argument
+     */
+    public static boolean isValidMyNumber(@NonNull CharSequence value) {
+
+        if (value.length() != MY_NUMBER_LENGTH) {
+            return false;
+        }
+
+        int sum = 0;
+
+        for (int n = 1; n < MY_NUMBER_LENGTH; n++) {
+            final int digit = digitAt(value, MY_NUMBER_LENGTH - 1 - n);
+
+            if (digit < 0) {
+                return false;
+            }
+
+            sum += digit * (n <= 6 ? n + 1 : n - 5);
+        }
+
+        final int remainder = sum % 11;
+        return digitAt(value, MY_NUMBER_LENGTH - 1) == (remainder <= 1 ? 0 : 11 - remainder);
+    }
+
+    /**
+     * Tests if the check digit of the value passed as an argument is valid for
+     * the Japanese corporate number. The value must consist of 13 digits, and
+     * the first digit is the check digit.
+     *
+     * @param value The value
+     * @return {@code true} if the check digit is valid, otherwise {@code false}
+     *
+     * @exception NullPointerException If {@code null} is passed as an argument
+     */
+    public static boolean isValidCorporateNumber(@NonNull CharSequence value) {
+
+        if (value.length() != CORPORATE_NUMBER_LENGTH) {
+            return false;
+        }
+
+        int sum = 0;
+
+        for (int n = 1; n < CORPORATE_NUMBER_LENGTH; n++) {
+            final int digit = digitAt(value, CORPORATE_NUMBER_LENGTH - n);
+
+            if (digit < 0) {
+                return false;
+            }
+
+            sum += n % 2 == 1 ? digit : digit * 2;
+        }
+
+        return digitAt(value, 0) == 9 - sum % 9;
+    }
+
+    /**
+     * Tests if the check digit of the value passed as an argument is valid for
+     * the JAN and EAN barcodes. The value must consist of 8 digits for EAN-8 or
+     * 13 digits for EAN-13, and the last digit is the check digit.
+     *
+     * @param value The value
+     * @return {@code true} if the check digit is valid, otherwise {@code false}
+     *
+     * @exception NullPointerException If {@code null} is passed as an argument
+     */
+    public static boolean isValidEan(@NonNull CharSequence value) {
+
+        final int length = value.length();
+
+        if (length != 8 && length != 13) {
+            return false;
+        }
+
+        int sum = 0;
+
+        for (int i = length - 2, weight = 3; i >= 0; i--, weight = 4 - weight) {
+            final int digit = digitAt(value, i);
+
+            if (digit < 0) {
+                return false;
+            }
+
+            sum += digit * weight;
+        }
+
+        return digitAt(value, length - 1) == (10 - sum % 10) % 10;
+    }
+
+    /**
+     * Returns the value of the ASCII digit at the index of the value passed as an
+     * argument.
+     *
+     * @param value The value
+     * @param index The index
+     * @return The value of the digit, or {@code -1} if the character is not an
+     *         ASCII digit
+     */
+    private static int digitAt(CharSequence value, int index) {
+        final char character = value.charAt(index);
+        return character >= '0' && character <= '9' ? character - '0' : -1;
+    }
+}
@@ -0,0 +1,235 @@
+/*
+ * Copyright 2020 Kato Shinya.
+ *
+ * Licensed under the Apache License, Version 2.0 (the "License"); you may not use this file except
+ * in compliance with the License. You may obtain a copy of the License at
+ *
+ *     http://www.apache.org/licenses/LICENSE-2.0
+ *
+ * Unless required by applicable law or agreed to in writing, software distributed under the License
+ * is distributed on an "AS IS" BASIS, WITHOUT WARRANTIES OR CONDITIONS OF ANY KIND, either express
+ * or implied. See the License for the specific language governing permissions and limitations under
+ * the License.
+ */
+
+package org.thinkit.framework.envali.helper;
+
+import java.io.File;
+import java.io.IOException;
+import java.lang.reflect.Field;
+import java.lang.reflect.Modifier;
+import java.net.JarURLConnection;
+import java.net.URISyntaxException;
+import java.net.URL;
+import java.util.ArrayDeque;
+import java.util.ArrayList;
+import java.util.Collections;
+import java.util.Deque;
+import java.util.Enumeration;
+import java.util.List;
+import java.util.jar.JarEntry;
+import java.util.jar.JarFile;
+
+import org.thinkit.framework.envali.entity.ValidatableEntity;
+
+import lombok.NonNull;
+
+/**
+ * A helper class that discovers the implementations of
+ * {@link ValidatableEntity} on the classpath and inspects their class
+ * hierarchy.
+ *
+ * @author Kato Shinya
+ * @since 1.0.5
+ */
+public final class EnvaliClassHelper {
+
+    /**
+     * The extension of class file
+     */
+    private static final String CLASS_EXTENSION = ".class";
+
+    /**
+     * Default constructor
+     */
+    private EnvaliClassHelper() {
+    }
+
+    /**
+     * Returns the entity class passed as an argument and all of its superclasses
+     * except {@link Object} , from the topmost superclass down to the entity
+     * class.
+     *
+     * @param entityClass The entity class
+     * @return The class hierarchy of the entity class
+     *
+     * @exception NullPointerException If {@code null} is passed as an argument
+     */
+    public static List<Class<?>> getHierarchy(@NonNull Class<? extends ValidatableEntity> entityClass) {
+
+        final Deque<Class<?>> hierarchy = new ArrayDeque<>();
+
+        for (Class<?> type = entityClass; type != null && type != Object.class; type = type.getSuperclass()) {
+            hierarchy.push(type);
+        }
+
+        return List.copyOf(hierarchy);
+    }
+
+    /**
+     * Returns the fields declared by the entity class passed as an argument and by
+     * all of its superclasses. The fields of the topmost superclass come first,
+     * and the fields of each class are in declaration order.
+     *
+     * @param entityClass The entity class
+     * @return The fields declared in the class hierarchy of the entity class
+     *
+     * @exception NullPointerException If {@code null} is passed as an argument
+     */
+    public static List<Field> getHierarchyFields(@NonNull Class<? extends ValidatableEntity> entityClass) {
+
+        final List<Field> fields = new ArrayList<>();
+
+        for (Class<?> type : getHierarchy(entityClass)) {
+            for (Field field : type.getDeclaredFields()) {
+                if (!field.isSynthetic()) {
+                    fields.add(field);
+                }
+            }
+        }
+
+        return fields;
+    }
+
+    /**
+     * Returns the concrete classes that implement {@link ValidatableEntity} in the
+     * package passed as an argument and its subpackages.
+     * <p>
+     * Both directories and JAR files on the classpath are scanned. Classes that
+     * cannot be linked are skipped.
+     *
+     * @param packageName The name of package to be scanned
+     * @return The concrete classes that implement {@link ValidatableEntity}
+     *
+     * @exception NullPointerException  If {@code null} is passed as an argument
+     * @exception IllegalStateException If an I/O error occurs while scanning the
+     *                                  classpath
+     */
+    public static List<Class<? extends ValidatableEntity>> findValidatableEntities(@NonNull String packageName) {
+
+        final ClassLoader classLoader = getClassLoader();
+        final String packagePath = packageName.replace('.', '/');
+        final List<String> classNames = new ArrayList<>();
+
+        try {
+            final Enumeration<URL> resources = classLoader.getResources(packagePath);
+
+            for (URL resource : Collections.list(resources)) {
+                switch (resource.getProtocol()) {
+                    case "file" -> findClassNames(new File(resource.toURI()), packageName, classNames);
+                    case "jar" -> findClassNames(((JarURLConnection) resource.openConnection()).getJarFile(),
+                            packagePath, classNames);
+                    default -> {
+                        // !Unsupported protocol is ignored
+                    }
+                }
+            }
+        } catch (IOException | URISyntaxException e) {
+            throw new IllegalStateException(e);
+        }
+
+        final List<Class<? extends ValidatableEntity>> validatableEntities = new ArrayList<>();
+
+        for (String className : classNames) {
+            try {
+                final Class<?> clazz = Class.forName(className, false, classLoader);
+
+                if (ValidatableEntity.class.isAssignableFrom(clazz) && !clazz.isInterface()
+                        && !Modifier.isAbstract(clazz.getModifiers())) {
+                    validatableEntities.add(clazz.asSubclass(ValidatableEntity.class));
+                }
+            } catch (ClassNotFoundException | LinkageError e) {
+                // !The class that cannot be linked is not a target of validation
+            }
+        }
+
+        return validatableEntities;
+    }
+
+    /**
+     * Adds the names of classes in the directory passed as an argument to the list
+     * recursively.
+     *
+     * @param directory   The directory to be scanned
+     * @param packageName The name of package associated with the directory
+     * @param classNames  The list of class names
+     *
+     * @exception NullPointerException If {@code null} is passed as an argument
+     */
+    private static void findClassNames(@NonNull File directory, @NonNull String packageName,
+            @NonNull List<String> classNames) {
+
+        final File[] files = directory.listFiles();
+
+        if (files == null) {
+            return;
+        }
+
+        for (File file : files) {
+            final String fileName = file.getName();
+
+            if (file.isDirectory()) {
+                findClassNames(file, packageName + "." + fileName, classNames);
+            } else if (isClassFile(fileName)) {
+                classNames.add(packageName + "." + fileName.substring(0, fileName.length() - CLASS_EXTENSION.length()));
+            }
+        }
+    }
+
+    /**
+     * Adds the names of classes in the package of the JAR file passed as an
+     * argument to the list.
+     *
+     * @param jarFile     The JAR file to be scanned
+     * @param packagePath The path of package
+     * @param classNames  The list of class names
+     *
+     * @exception NullPointerException If {@code null} is passed as an argument
+     */
+    private static void findClassNames(@NonNull JarFile jarFile, @NonNull String packagePath,
+            @NonNull List<String> classNames) {
+        for (JarEntry jarEntry : Collections.list(jarFile.entries())) {
+            final String entryName = jarEntry.getName();
+
+            if (entryName.startsWith(packagePath + "/") && isClassFile(entryName)) {
+                classNames.add(entryName.substring(0, entryName.length() - CLASS_EXTENSION.length()).replace('/', '.'));
+            }
+        }
+    }
+
+    /**
+     * Tests if the file name passed as an argument is the name of class file that
+     * can be a validatable entity.
+     *
+     * @param fileName The file name
+     * @return {@code true} if the file name is the name of class file, otherwise
+     *         {@code false}
+     *
+     * @exception NullPointerException If {@code null} is passed as an argument
+     */
+    private static boolean isClassFile(@NonNull String fileName) {
+        return fileName.endsWith(CLASS_EXTENSION) && !fileName.endsWith("module-info" + CLASS_EXTENSION)
+                && !fileName.endsWith("package-info" + CLASS_EXTENSION);
+    }
+
+    /**
+     * Returns the class loader used to scan the classpath.
+     *
+     * @return The context class loader of the current thread if any, otherwise the
+     *         class loader of this class
+     */
+    private static ClassLoader getClassLoader() {
+        final ClassLoader classLoader = Thread.currentThread().getContextClassLoader();
+        return classLoader != null ? classLoader : EnvaliClassHelper.class.getClassLoader();
+    }
+}
@@ -0,0 +1,498 @@
+/*
+ * Copyright 2020 Kato Shinya.
+ *
+ * Licensed under the Apache License, Version 2.0 (the "License"); you may not use this file except
+ * in compliance with the License. You may obtain a copy of the License at
+ *
+ *     http://www.apache.org/licenses/LICENSE-2.0
+ *
+ * Unless required by applicable law or agreed to in writing, software distributed under the License
+ * is distributed on an "AS IS" BASIS, WITHOUT WARRANTIES OR CONDITIONS OF ANY KIND, either express
+ * or implied. See the License for the specific language governing permissions and limitations under
+ * the License.
+ */
+
+package org.thinkit.framework.envali.helper;
+
+import java.io.BufferedOutputStream;
+import java.io.DataOutputStream;
+import java.io.IOException;
+import java.io.OutputStream;
+import java.lang.annotation.Annotation;
+import java.lang.reflect.AnnotatedArrayType;
+import java.lang.reflect.AnnotatedParameterizedType;
+import java.lang.reflect.AnnotatedType;
+import java.lang.reflect.Field;
+import java.nio.BufferUnderflowException;
+import java.nio.ByteBuffer;
+import java.nio.MappedByteBuffer;
+import java.nio.channels.FileChannel;
+import java.nio.charset.StandardCharsets;
+import java.nio.file.Files;
+import java.nio.file.Path;
+import java.nio.file.StandardOpenOption;
+import java.util.Collection;
+import java.util.HashMap;
+import java.util.LinkedHashMap;
+import java.util.Map;
+import java.util.Map.Entry;
+
+import org.thinkit.api.catalog.BiCatalog;
+import org.thinkit.framework.envali.annotation.ParameterMapping;
+import org.thinkit.framework.envali.catalog.EnvaliContentAttribute;
+import org.thinkit.framework.envali.catalog.ValidationPattern;
+import org.thinkit.framework.envali.entity.ValidatableEntity;
+import org.thinkit.framework.envali.exception.ContentNotFoundException;
+import org.thinkit.framework.envali.source.ContentSource;
+
+import lombok.NonNull;
+
+/**
+ * A helper class that persists the parsed content of entity classes into a
+ * compact binary archive and restores it at startup.
+ * <p>
+ * Writing the archive at build time or on the first run allows later runs to
+ * skip loading and parsing the content files mapped by {@link ParameterMapping}
+ * annotation. The archive is read through a memory mapped buffer and the
+ * restored content is used in preference to the content files by
+ * {@link EnvaliContentRegistry} .
+ * <p>
+ * The archive has the following layout, where {@code varint} is an unsigned
+ * LEB128 integer and {@code string} is a {@code varint} byte length followed by
+ * UTF-8 bytes:
+ *
+ * <pre>
+ * int     magic number ("ENVA")
+ * byte    format version
+ * varint  number of entity classes
+ *   string  entity class name
+ *   string  content name
+ *   varint  number of fields
+ *     string  field name
+ *     varint  number of attributes
+ *       byte    code of {@link EnvaliContentAttribute}
+ *       string  attribute value
+ * </pre>
+ *
+ * @author Kato Shinya
+ * @since 1.0.5
+ */
+public final class EnvaliContentArchive {
+
+    /**
+     * The magic number of archive
+     */
+    private static final int MAGIC_NUMBER = 0x454E5641;
+
+    /**
+     * The format version of archive
+     */
+    private static final byte FORMAT_VERSION = 1;
+
+    /**
+     * The restored content per entity class name
+     */
+    private static volatile Map<String, ArchivedEntity> archivedEntities = Map.of();
+
+    /**
+     * Default constructor
+     */
+    private EnvaliContentArchive() {
+    }
+
+    /**
+     * Writes the content of the entity classes passed as an argument to the
+     * archive file. Entity classes without {@link ParameterMapping} annotation are
+     * skipped.
+     *
+     * @param archivePath   The path to the archive file
+     * @param entityClasses The entity classes to be archived
+     *
+     * @exception NullPointerException     If {@code null} is passed as an argument
+     * @exception IllegalStateException    If an I/O error occurs while writing the
+     *                                     archive
+     * @exception ContentNotFoundException If the content file defined in
+     *                                     {@link ParameterMapping} annotation was
+     *                                     not found
+     */
+    public static void write(@NonNull Path archivePath,
+            @NonNull Collection<Class<? extends ValidatableEntity>> entityClasses) {
+
+        final Map<Class<? extends ValidatableEntity>, Map<String, Map<String, String>>> contents = new LinkedHashMap<>(
+                entityClasses.size());
+
+        for (Class<? extends ValidatableEntity> entityClass : entityClasses) {
+            final ParameterMapping contentMapping = entityClass.getAnnotation(ParameterMapping.class);
+
+            if (contentMapping != null) {
+                contents.put(entityClass, collectContent(entityClass, contentMapping));
+            }
+        }
+
+        try (DataOutputStream output = new DataOutputStream(
+                new BufferedOutputStream(Files.newOutputStream(archivePath)))) {
+            output.writeInt(MAGIC_NUMBER);
+            output.writeByte(FORMAT_VERSION);
+            writeVarint(output, contents.size());
+
+            for (Entry<Class<? extends ValidatableEntity>, Map<String, Map<String, String>>> content : contents
+                    .entrySet()) {
+                writeString(output, content.getKey().getName());
+                writeString(output, content.getKey().getAnnotation(ParameterMapping.class).content());
+                writeVarint(output, content.getValue().size());
+
+                for (Entry<String, Map<String, String>> fieldContent : content.getValue().entrySet()) {
+                    writeString(output, fieldContent.getKey());
+                    writeFieldContent(output, fieldContent.getValue());
+                }
+            }
+        } catch (IOException e) {
+            throw new IllegalStateException(e);
+        }
+    }
+
+    /**
+     * Reads the archive file passed as an argument through a memory mapped buffer
+     * and registers the restored content. The content of entity classes already
+     * registered is replaced.
+     * <p>
+     * The archive must be loaded before the first validation of the archived
+     * entity classes, because the content is resolved only once per entity class.
+     *
+     * @param archivePath The path to the archive file
+     *
+     * @exception NullPointerException  If {@code null} is passed as an argument
+     * @exception IllegalStateException If an I/O error occurs while reading the
+     *                                  archive, otherwise if the archive is
+     *                                  malformed
+     */
+    public static synchronized void load(@NonNull Path archivePath) {
+
+        final Map<String, ArchivedEntity> restoredEntities = new HashMap<>(archivedEntities);
+
+        try (FileChannel channel = FileChannel.open(archivePath, StandardOpenOption.READ)) {
+            final MappedByteBuffer buffer = channel.map(FileChannel.MapMode.READ_ONLY, 0, channel.size());
+
+            if (buffer.getInt() != MAGIC_NUMBER || buffer.get() != FORMAT_VERSION) {
+                throw new IllegalStateException(String.format("The file %s is not an Envali content archive.",
+                        archivePath));
+            }
+
+            for (int i = 0, entityCount = readLength(buffer); i < entityCount; i++) {
+                final String entityName = readString(buffer);
+                final String contentName = readString(buffer);
+                final Map<String, Map<String, String>> fieldContents = new HashMap<>();
+
+                for (int j = 0, fieldCount = readLength(buffer); j < fieldCount; j++) {
+                    fieldContents.put(readString(buffer), readFieldContent(buffer));
+                }
+
+                restoredEntities.put(entityName, new ArchivedEntity(contentName, fieldContents));
+            }
+        } catch (IOException | BufferUnderflowException e) {
+            throw new IllegalStateException(e);
+        }
+
+        archivedEntities = Map.copyOf(restoredEntities);
+        EnvaliContentRegistry.invalidateAll();
+    }
+
+    /**
+     * Returns the archived content associated with the entity class passed as an
+     * argument. The method has the signature of {@link ContentSource} , so that
+     * the archive is consulted as one of the content sources.
+     *
+     * @param entityClass The validatable entity class
+     * @param contentName The content name defined in {@link ParameterMapping}
+     *                    annotation
+     * @return The archived content per field name if the content has been
+     *         archived for the same content name, otherwise {@code null}
+     *
+     * @exception NullPointerException If {@code null} is passed as an argument
+     */
+    static Map<String, Map<String, String>> find(@NonNull Class<? extends ValidatableEntity> entityClass,
+            @NonNull String contentName) {
+
+        final ArchivedEntity archivedEntity = archivedEntities.get(entityClass.getName());
+
+        if (archivedEntity == null || !archivedEntity.contentName.equals(contentName)) {
+            return null;
+        }
+
+        return archivedEntity.fieldContents;
+    }
+
+    /**
+     * Collects the content of the fields annotated with Envali annotations.
+     *
+     * @param entityClass    The validatable entity class
+     * @param contentMapping The {@link ParameterMapping} annotation of the entity
+     *                       class
+     * @return The content per field name
+     *
+     * @exception NullPointerException If {@code null} is passed as an argument
+     */
+    private static Map<String, Map<String, String>> collectContent(
+            @NonNull Class<? extends ValidatableEntity> entityClass, @NonNull ParameterMapping contentMapping) {
+
+        final Map<String, Map<String, String>> loadedContents = EnvaliContentRegistry.load(entityClass,
+                contentMapping.content());
+        final Map<String, Map<String, String>> fieldContents = new LinkedHashMap<>();
+
+        for (Field field : EnvaliClassHelper.getHierarchyFields(entityClass)) {
+            final Map<String, String> fieldContent = loadedContents.get(field.getName());
+
+            if (fieldContent != null && hasEnvaliAnnotation(field)) {
+                fieldContents.put(field.getName(), fieldContent);
+            }
+        }
+
+        return fieldContents;
+    }
+
+    /**
+     * Tests if any Envali annotation is specified for the field, the components
+     * of the array field or the type arguments of the field, in the same way as
+     * the element constraints are discovered when the field is validated.
+     *
+     * @param field The field
+     * @return {@code true} if any Envali annotation is specified for the field or
+     *         its elements, otherwise {@code false}
+     *
+     * @exception NullPointerException If {@code null} is passed as an argument
+     */
+    private static boolean hasEnvaliAnnotation(@NonNull Field field) {
+
+        if (hasEnvaliAnnotation(field.getAnnotations())) {
+            return true;
+        }
+
+        final AnnotatedType annotatedType = field.getAnnotatedType();
+
+        if (annotatedType instanceof AnnotatedArrayType annotatedArrayType) {
+            return hasEnvaliAnnotation(annotatedArrayType.getAnnotatedGenericComponentType().getAnnotations());
+        } else if (annotatedType instanceof AnnotatedParameterizedType annotatedParameterizedType) {
+            for (AnnotatedType typeArgument : annotatedParameterizedType.getAnnotatedActualTypeArguments()) {
+                if (hasEnvaliAnnotation(typeArgument.getAnnotations())) {
+                    return true;
+                }
+            }
+        }
+
+        return false;
+    }
+
+    /**
+     * Tests if any of the annotations passed as an argument is an Envali
+     * annotation.
+     *
+     * @param annotations The annotations
+     * @return {@code true} if any of the annotations is an Envali annotation,
+     *         otherwise {@code false}
+     *
+     * @exception NullPointerException If {@code null} is passed as an argument
+     */
+    private static boolean hasEnvaliAnnotation(@NonNull Annotation[] annotations) {
+
+        for (Annotation annotation : annotations) {
+            if (BiCatalog.getEnumByTag(ValidationPattern.class, annotation.annotationType()) != null) {
+                return true;
+            }
+        }
+
+        return false;
+    }
+
+    /**
+     * Writes the content of a field.
+     *
+     * @param output       The output stream
+     * @param fieldContent The content of a field
+     *
+     * @exception IOException If an I/O error occurs
+     */
+    private static void writeFieldContent(@NonNull DataOutputStream output, @NonNull Map<String, String> fieldContent)
+            throws IOException {
+
+        final Map<EnvaliContentAttribute, String> attributes = new LinkedHashMap<>();
+
+        for (EnvaliContentAttribute attribute : EnvaliContentAttribute.values()) {
+            final String value = fieldContent.get(attribute.getTag());
+
+            if (value != null) {
+                attributes.put(attribute, value);
+            }
+        }
+
+        writeVarint(output, attributes.size());
+
+        for (Entry<EnvaliContentAttribute, String> attribute : attributes.entrySet()) {
+            output.writeByte(attribute.getKey().getCode());
+            writeString(output, attribute.getValue());
+        }
+    }
+
+    /**
+     * Reads the content of a field.
+     *
+     * @param buffer The buffer
+     * @return The content of a field
+     *
+     * @exception IllegalStateException If an unknown attribute code is detected
+     */
+    private static Map<String, String> readFieldContent(@NonNull ByteBuffer buffer) {
+
+        final Map<String, String> fieldContent = new HashMap<>();
+
+        for (int i = 0, attributeCount = readLength(buffer); i < attributeCount; i++) {
+            final int code = buffer.get();
+            final String value = readString(buffer);
+
+            fieldContent.put(getAttribute(code).getTag(), value);
+        }
+
+        return Map.copyOf(fieldContent);
+    }
+
+    /**
+     * Returns the {@link EnvaliContentAttribute} associated with the code.
+     *
+     * @param code The code of {@link EnvaliContentAttribute}
+     * @return The {@link EnvaliContentAttribute} associated with the code
+     *
+     * @exception IllegalStateException If an unknown attribute code is detected
+     */
+    private static EnvaliContentAttribute getAttribute(int code) {
+
+        for (EnvaliContentAttribute attribute : EnvaliContentAttribute.values()) {
+            if (attribute.getCode() == code) {
+                return attribute;
+            }
+        }
+
+        throw new IllegalStateException(String.format("Unknown content attribute code %d was detected.", code));
+    }
+
+    /**
+     * Writes an unsigned LEB128 integer.
+     *
+     * @param output The output stream
+     * @param value  The value to be written
+     *
+     * @exception IOException If an I/O error occurs
+     */
+    private static void writeVarint(@NonNull OutputStream output, int value) throws IOException {
+
+        while ((value & ~0x7F) != 0) {
+            output.write((value & 0x7F) | 0x80);
+            value >>>= 7;
+        }
+
+        output.write(value);
+    }
+
+    /**
+     * Reads an unsigned LEB128 integer.
+     *
+     * @param buffer The buffer
+     * @return The value
+     *
+     * @exception IllegalStateException If the integer is longer than 5 bytes
+     */
+    private static int readVarint(@NonNull ByteBuffer buffer) {
+
+        int value = 0;
+        int shift = 0;
+        byte b;
+
+        do {
+            if (shift > 28) {
+                throw new IllegalStateException("The variable length integer is longer than 5 bytes.");
+            }
+
+            b = buffer.get();
+            value |= (b & 0x7F) << shift;
+            shift += 7;
+        } while ((b & 0x80) != 0);
+
+        return value;
+    }
+
+    /**
+     * Reads a length or a count as an unsigned LEB128 integer. Each byte or entry
+     * occupies at least one byte of the archive, so the value must not exceed the
+     * remaining bytes of the buffer.
+     *
+     * @param buffer The buffer
+     * @return The length or the count
+     *
+     * @exception IllegalStateException If the value is negative or exceeds the
+     *                                  remaining bytes of the buffer
+     */
+    private static int readLength(@NonNull ByteBuffer buffer) {
+
+        final int length = readVarint(buffer);
+
+        if (length < 0 || length > buffer.remaining()) {
+            throw new IllegalStateException(String.format(
+                    "The length %d is out of the range of the remaining %d bytes.", length, buffer.remaining()));
+        }
+
+        return length;
+    }
+
+    /**
+     * Writes a length prefixed UTF-8 string.
+     *
+     * @param output The output stream
+     * @param value  The value to be written
+     *
+     * @exception IOException If an I/O error occurs
+     */
+    private static void writeString(@NonNull OutputStream output, @NonNull String value) throws IOException {
+        final byte[] bytes = value.getBytes(StandardCharsets.UTF_8);
+        writeVarint(output, bytes.length);
+        output.write(bytes);
+    }
+
+    /**
+     * Reads a length prefixed UTF-8 string.
+     *
+     * @param buffer The buffer
+     * @return The value
+     *
+     * @exception IllegalStateException If the length is malformed
+     */
+    private static String readString(@NonNull ByteBuffer buffer) {
+        final byte[] bytes = new byte[readLength(buffer)];
+        buffer.get(bytes);
+        return new String(bytes, StandardCharsets.UTF_8);
+    }
+
+    /**
+     * The archived content of an entity class.
+     */
+    private static final class ArchivedEntity {
+
+        /**
+         * The content name defined in {@link ParameterMapping} annotation
+         */
+        private final String contentName;
+
+        /**
+         * The content per field name
+         */
+        private final Map<String, Map<String, String>> fieldContents;
+
+        /**
+         * Constructor
+         *
+         * @param contentName   The content name
+         * @param fieldContents The content per field name
+         */
+        private ArchivedEntity(@NonNull String contentName, @NonNull Map<String, Map<String, String>> fieldContents) {
+            this.contentName = contentName;
+            this.fieldContents = Map.copyOf(fieldContents);
+        }
+    }
+}
@@ -14,23 +14,19 @@
 
 package org.thinkit.framework.envali.helper;
 
-import java.io.InputStream;
 import java.lang.reflect.Field;
-import java.util.Arrays;
-import java.util.List;
+import java.math.BigDecimal;
+import java.math.BigInteger;
 import java.util.Map;
-import java.util.Set;
-import java.util.stream.Collectors;
+import java.util.regex.Pattern;
+import java.util.regex.PatternSyntaxException;
 
 import org.thinkit.common.base.precondition.Preconditions;
-import org.thinkit.common.catalog.Extension;
-import org.thinkit.framework.content.ContentLoader;
 import org.thinkit.framework.envali.annotation.ParameterMapping;
 import org.thinkit.framework.envali.catalog.EnvaliContentAttribute;
-import org.thinkit.framework.envali.catalog.EnvaliContentCondition;
-import org.thinkit.framework.envali.catalog.EnvaliContentRoot;
 import org.thinkit.framework.envali.entity.ValidatableEntity;
 import org.thinkit.framework.envali.exception.ContentNotFoundException;
+import org.thinkit.framework.envali.source.ContentProfile;
 
 import lombok.EqualsAndHashCode;
 import lombok.NonNull;
@@ -61,6 +57,12 @@ public final class EnvaliContentHelper {
      */
     private ParameterMapping contentMapping;
 
+    /**
+     * The content profile, or {@code null} if the content mapped to the entity
+     * class is used
+     */
+    private ContentProfile contentProfile;
+
     /**
      * Envali's content
      */
@@ -74,106 +76,257 @@ public final class EnvaliContentHelper {
 
     /**
      * Constructor
+     * <p>
+     * The content mapped by {@link ParameterMapping} annotation, or the content
+     * of the profile if any, is loaded when the instance is created.
      *
-     * @param entity The validatable entity
-     * @param field  The field
+     * @param entityClass    The validatable entity class
+     * @param field          The field
+     * @param contentProfile The content profile, or {@code null} if the content
+     *                       mapped to the entity class is used
      *
-     * @exception NullPointerException If {@code null} is passed as an argument
+     * @exception NullPointerException          If {@code null} is passed as the
+     *                                          entity class or the field,
+     *                                          otherwise if no
+     *                                          {@link ParameterMapping} annotation
+     *                                          is attached to the entity class
+     * @exception ContentNotFoundException      If the content file defined in
+     *                                          {@link ParameterMapping} annotation
+     *                                          was not found
+     * @exception UnsupportedOperationException If couldn't get Envali's content
      */
-    private EnvaliContentHelper(@NonNull ValidatableEntity entity, @NonNull Field field) {
-        this.entityClass = entity.getClass();
-        this.contentMapping = this.entityClass.getAnnotation(ParameterMapping.class);
+    private EnvaliContentHelper(@NonNull Class<? extends ValidatableEntity> entityClass, @NonNull Field field,
+            ContentProfile contentProfile) {
+        this.entityClass = entityClass;
+        this.contentMapping = entityClass.getAnnotation(ParameterMapping.class);
+        this.contentProfile = contentProfile;
         this.fieldName = field.getName();
+
+        Preconditions.requireNonNull(this.contentMapping);
+        this.cacheContent();
     }
 
     /**
      * Returns the new instance of {@link EnvaliContentHelper} object.
      *
-     * @param entity The validatable entity
-     * @param field  The field
+     * @param entityClass The validatable entity class
+     * @param field       The field
      * @return The new instance of {@link EnvaliContentHelper} object
      *
-     * @exception NullPointerException If {@code null} is passed as an argument
+     * @exception NullPointerException          If {@code null} is passed as an
+     *                                          argument, otherwise if no
+     *                                          {@link ParameterMapping} annotation
+     *                                          is attached to the entity class
+     * @exception ContentNotFoundException      If the content file defined in
+     *                                          {@link ParameterMapping} annotation
+     *                                          was not found
+     * @exception UnsupportedOperationException If couldn't get Envali's content
      */
-    public static EnvaliContentHelper of(@NonNull ValidatableEntity entity, @NonNull Field field) {
-        return new EnvaliContentHelper(entity, field);
+    public static EnvaliContentHelper of(@NonNull Class<? extends ValidatableEntity> entityClass,
+            @NonNull Field field) {
+        return new EnvaliContentHelper(entityClass, field, null);
+    }
+
+    /**
+     * Returns the new instance of {@link EnvaliContentHelper} object that refers
+     * to the content of the profile passed as an argument. If no source provides
+     * the content of the profile, the content mapped to the entity class is
+     * referred to instead.
+     *
+     * @param entityClass    The validatable entity class
+     * @param field          The field
+     * @param contentProfile The content profile, or {@code null} if the content
+     *                       mapped to the entity class is used
+     * @return The new instance of {@link EnvaliContentHelper} object
+     *
+     * @exception NullPointerException          If {@code null} is passed as the
+     *                                          entity class or the field,
+     *                                          otherwise if no
+     *                                          {@link ParameterMapping} annotation
+     *                                          is attached to the entity class
+     * @exception ContentNotFoundException      If the content file defined in
+     *                                          {@link ParameterMapping} annotation
+     *                                          was not found
+     * @exception UnsupportedOperationException If couldn't get Envali's content
+     *
+     * @since 1.0.5
+     */
+    public static EnvaliContentHelper of(@NonNull Class<? extends ValidatableEntity> entityClass,
+            @NonNull Field field, ContentProfile contentProfile) {
+        return new EnvaliContentHelper(entityClass, field, contentProfile);
     }
 
     /**
      * Refer to the content file mapped to the entity object to be validated and get
-     * each expected value in {@link Map} format to be used at validation.
+     * each expected value to be used at validation.
      * <p>
-     * Because the content is cached on the first call to
-     * {@link #get(EnvaliContentAttribute)} method, there is no performance
-     * degradation due to consecutive calls to
-     * {@link #get(EnvaliContentAttribute)}ethod.
+     * Because the content is cached when the instance is created, there is no
+     * performance degradation due to consecutive calls to
+     * {@link #get(EnvaliContentAttribute)} method.
      *
      * @param attribute The {@link EnvaliContentAttribute} element to be retrieved
      *                  from the content
      * @return Envali's validation content
      *
-     * @exception NullPointerException          If no {@link ParameterMapping}
-     *                                          annotation is attached to the entity
-     *                                          to be validated
-     * @exception ContentNotFoundException      If the content file defined in
-     *                                          {@link ParameterMapping} annotation
-     *                                          was not found
-     * @exception UnsupportedOperationException If couldn't get Envali's content
+     * @exception NullPointerException If {@code null} is passed as an argument
      */
     public String get(EnvaliContentAttribute attribute) {
         Preconditions.requireNonNull(attribute);
-        Preconditions.requireNonNull(this.contentMapping);
-
-        if (this.envaliContent == null) {
-            this.cacheContent();
-        }
-
         return this.envaliContent.get(attribute.getTag());
     }
 
     /**
-     * Caches the content mapped by {@link ParameterMapping} annotation.
+     * Returns the value of the content attribute passed as an argument, which must
+     * be defined in the content.
+     * <p>
+     * The typed accessors of this class are intended to be called once when a
+     * strategy is created, so that a missing or malformed value fails when the
+     * content is loaded rather than at each validation.
+     *
+     * @param attribute The {@link EnvaliContentAttribute} element to be retrieved
+     *                  from the content
+     * @return The value of the content attribute
+     *
+     * @exception NullPointerException          If {@code null} is passed as an
+     *                                          argument
+     * @exception UnsupportedOperationException If the attribute is not defined in
+     *                                          the content
+     *
+     * @since 1.0.5
      */
-    private void cacheContent() {
+    public String getString(@NonNull EnvaliContentAttribute attribute) {
 
-        final String contentResourcePath = new StringBuilder().append(EnvaliContentRoot.ROOT.getTag())
-                .append(this.contentMapping.content()).append(Extension.json()).toString();
-        final InputStream contentStream = this.entityClass.getClassLoader().getResourceAsStream(contentResourcePath);
+        final String value = this.envaliContent.get(attribute.getTag());
 
-        if (contentStream == null) {
-            throw new ContentNotFoundException(String.format(
-                    "The content file defined in ParameterMapping annotation was not found. Please check the path to the resource. Resource path to the defined content: %s",
-                    contentResourcePath));
+        if (value == null) {
+            throw new UnsupportedOperationException(
+                    String.format("The content attribute %s is not defined for the variable %s#%s.",
+                            attribute.getTag(), this.entityClass.getName(), this.fieldName));
         }
 
-        final List<Map<String, String>> envaliContent = ContentLoader.load(contentStream, this.getContentAttributes(),
-                this.getContentConditions());
+        return value;
+    }
 
-        if (envaliContent.isEmpty()) {
-            throw new UnsupportedOperationException();
+    /**
+     * Returns the value of the content attribute passed as an argument converted to
+     * the number of the type passed as an argument. The primitive types and their
+     * wrapper types, {@link BigDecimal} and {@link BigInteger} are supported.
+     *
+     * @param attribute The {@link EnvaliContentAttribute} element to be retrieved
+     *                  from the content
+     * @param type      The type of number
+     * @return The value of the content attribute as the number of the type
+     *
+     * @exception NullPointerException          If {@code null} is passed as an
+     *                                          argument
+     * @exception UnsupportedOperationException If the attribute is not defined in
+     *                                          the content, otherwise if the value
+     *                                          is not a valid number of the type
+     *
+     * @since 1.0.5
+     */
+    public Number getNumber(@NonNull EnvaliContentAttribute attribute, @NonNull Class<?> type) {
+
+        final String value = this.getString(attribute);
+
+        try {
+            if (type == int.class || type == Integer.class) {
+                return Integer.valueOf(value);
+            } else if (type == long.class || type == Long.class) {
+                return Long.valueOf(value);
+            } else if (type == short.class || type == Short.class) {
+                return Short.valueOf(value);
+            } else if (type == byte.class || type == Byte.class) {
+                return Byte.valueOf(value);
+            } else if (type == float.class || type == Float.class) {
+                return Float.valueOf(value);
+            } else if (type == double.class || type == Double.class) {
+                return Double.valueOf(value);
+            } else if (type == BigDecimal.class) {
+                return new BigDecimal(value);
+            } else if (type == BigInteger.class) {
+                return new BigInteger(value);
+            }
+        } catch (NumberFormatException e) {
+            throw new UnsupportedOperationException(
+                    String.format("The value %s of the content attribute %s is not a valid %s for the variable %s#%s.",
+                            value, attribute.getTag(), type.getSimpleName(), this.entityClass.getName(),
+                            this.fieldName),
+                    e);
         }
 
-        this.envaliContent = envaliContent.get(0);
+        throw new UnsupportedOperationException(String.format("The type %s is not a number type.", type.getName()));
     }
 
     /**
-     * Returns a set containing Envali's content attributes based on the definition
-     * information for {@link EnvaliContentAttribute} .
+     * Returns the value of the content attribute passed as an argument compiled to
+     * the regular expression with the flags passed as an argument.
+     *
+     * @param attribute The {@link EnvaliContentAttribute} element to be retrieved
+     *                  from the content
+     * @param flags     The flags of {@link Pattern}
+     * @return The compiled regular expression
      *
-     * @return A set containing Envali's content attributes
+     * @exception NullPointerException          If {@code null} is passed as an
+     *                                          argument
+     * @exception UnsupportedOperationException If the attribute is not defined in
+     *                                          the content, otherwise if the value
+     *                                          is not a valid regular expression
+     *
+     * @since 1.0.5
+     */
+    public Pattern getPattern(@NonNull EnvaliContentAttribute attribute, int flags) {
+
+        final String value = this.getString(attribute);
+
+        try {
+            return Pattern.compile(value, flags);
+        } catch (PatternSyntaxException e) {
+            throw new UnsupportedOperationException(String.format(
+                    "The value %s of the content attribute %s is not a valid regular expression for the variable %s#%s.",
+                    value, attribute.getTag(), this.entityClass.getName(), this.fieldName), e);
+        }
+    }
+
+    /**
+     * Caches the content mapped by {@link ParameterMapping} annotation.
+     * <p>
+     * The content is loaded by {@link EnvaliContentRegistry} , which parses the
+     * content only once for all fields of the entity class.
      */
-    private Set<String> getContentAttributes() {
-        return Arrays.asList(EnvaliContentAttribute.values()).stream().map(EnvaliContentAttribute::getTag)
-                .collect(Collectors.toSet());
+    private void cacheContent() {
+
+        final Map<String, String> envaliContent = this.loadContent().get(this.fieldName);
+
+        if (envaliContent == null) {
+            throw new UnsupportedOperationException();
+        }
+
+        this.envaliContent = envaliContent;
     }
 
     /**
-     * Returns a list containing Envali's content conditions based on the definition
-     * information for {@link EnvaliContentCondition} .
+     * Loads the content of the profile, or the content mapped by
+     * {@link ParameterMapping} annotation if there is no profile or no source
+     * provides the content of the profile.
+     *
+     * @return The content per field name
      *
-     * @return A list containing Envali's content conditions
+     * @exception ContentNotFoundException If the content mapped by
+     *                                     {@link ParameterMapping} annotation was
+     *                                     not found
      */
-    private List<Map<String, String>> getContentConditions() {
-        return List.of(Map.of(EnvaliContentCondition.VARIABLE_NAME.getTag(), this.fieldName));
+    private Map<String, Map<String, String>> loadContent() {
+
+        if (this.contentProfile != null) {
+            try {
+                return EnvaliContentRegistry.load(this.entityClass,
+                        this.contentProfile.getContentName(this.contentMapping));
+            } catch (ContentNotFoundException e) {
+                // The profile shares the content mapped to the entity class
+            }
+        }
+
+        return EnvaliContentRegistry.load(this.entityClass, this.contentMapping.content());
     }
 }
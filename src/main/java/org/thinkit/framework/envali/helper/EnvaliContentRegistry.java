@@ -0,0 +1,303 @@
+/*
+ * Copyright 2020 Kato Shinya.
+ *
+ * Licensed under the Apache License, Version 2.0 (the "License"); you may not use this file except
+ * in compliance with the License. You may obtain a copy of the License at
+ *
+ *     http://www.apache.org/licenses/LICENSE-2.0
+ *
+ * Unless required by applicable law or agreed to in writing, software distributed under the License
+ * is distributed on an "AS IS" BASIS, WITHOUT WARRANTIES OR CONDITIONS OF ANY KIND, either express
+ * or implied. See the License for the specific language governing permissions and limitations under
+ * the License.
+ */
+
+package org.thinkit.framework.envali.helper;
+
+import java.util.ArrayList;
+import java.util.Collections;
+import java.util.LinkedHashMap;
+import java.util.LinkedHashSet;
+import java.util.List;
+import java.util.Map;
+import java.util.Map.Entry;
+import java.util.ServiceLoader;
+import java.util.Set;
+import java.util.WeakHashMap;
+import java.util.concurrent.CopyOnWriteArrayList;
+
+import org.thinkit.framework.envali.annotation.ParameterMapping;
+import org.thinkit.framework.envali.entity.ValidatableEntity;
+import org.thinkit.framework.envali.exception.ContentNotFoundException;
+import org.thinkit.framework.envali.source.ClasspathContentSource;
+import org.thinkit.framework.envali.source.ContentSource;
+import org.thinkit.framework.envali.source.PropertiesContentSource;
+
+import lombok.NonNull;
+
+/**
+ * A helper class that loads the content mapped by {@link ParameterMapping}
+ * annotation from the {@link ContentSource} objects and caches the parsed
+ * content.
+ * <p>
+ * The sources are consulted in the following order, and the content of the
+ * first source that provides it is used.
+ *
+ * <ol>
+ * <li>The sources added by {@link #add(ContentSource)} , the most recently
+ * added first</li>
+ * <li>The directory watched by {@link EnvaliContentWatcher}</li>
+ * <li>The sources discovered by {@link ServiceLoader}</li>
+ * <li>The content archive loaded by {@link EnvaliContentArchive}</li>
+ * <li>The JSON files on the classpath</li>
+ * <li>The properties files on the classpath</li>
+ * </ol>
+ * <p>
+ * The parsed content is cached per entity class and content name, so the
+ * content is parsed once for all fields of an entity class. The cache of each
+ * entity class is held by the entity class itself, so it never keeps the class
+ * loader of the entity class from being unloaded. The cache of an entity class
+ * holds at most {@link #CACHE_CAPACITY} entries and evicts the least recently
+ * used entry beyond it. Content loaded while the cache is invalidated is not cached, so a
+ * stale content never outlives an invalidation.
+ *
+ * @author Kato Shinya
+ * @since 1.0.5
+ */
+public final class EnvaliContentRegistry {
+
+    /**
+     * The maximum number of entries in the cache of parsed content per entity
+     * class
+     */
+    public static final int CACHE_CAPACITY = 256;
+
+    /**
+     * The sources added programmatically, the most recently added first
+     */
+    private static final List<ContentSource> ADDED_SOURCES = new CopyOnWriteArrayList<>();
+
+    /**
+     * The sources discovered by {@link ServiceLoader}
+     */
+    private static final List<ContentSource> DISCOVERED_SOURCES = discover();
+
+    /**
+     * The sources consulted after the other sources
+     */
+    private static final List<ContentSource> BUILTIN_SOURCES = List.of(EnvaliContentArchive::find,
+            ClasspathContentSource.of(), PropertiesContentSource.of());
+
+    /**
+     * The cache of parsed content per content name in the order of access for
+     * each entity class
+     */
+    private static final ClassValue<Map<String, Map<String, Map<String, String>>>> CONTENT_CACHES = new ClassValue<>() {
+
+        @Override
+        protected Map<String, Map<String, Map<String, String>>> computeValue(Class<?> type) {
+            return new LinkedHashMap<>(16, 0.75f, true) {
+
+                /**
+                 * serialVersionUID
+                 */
+                private static final long serialVersionUID = 0L;
+
+                @Override
+                protected boolean removeEldestEntry(Entry<String, Map<String, Map<String, String>>> eldest) {
+                    return this.size() > CACHE_CAPACITY;
+                }
+            };
+        }
+    };
+
+    /**
+     * The weakly referenced entity classes whose content is cached, which also
+     * guards the caches
+     */
+    private static final Set<Class<? extends ValidatableEntity>> CACHED_CLASSES = Collections
+            .newSetFromMap(new WeakHashMap<>());
+
+    /**
+     * The generation of the cache, which is incremented whenever the cache is
+     * invalidated
+     */
+    private static long cacheGeneration;
+
+    /**
+     * Default constructor
+     */
+    private EnvaliContentRegistry() {
+    }
+
+    /**
+     * Adds the content source passed as an argument. The source is consulted
+     * before the sources added before it and the other sources. The cache of
+     * parsed content is cleared.
+     *
+     * @param contentSource The content source
+     *
+     * @exception NullPointerException If {@code null} is passed as an argument
+     */
+    public static void add(@NonNull ContentSource contentSource) {
+        ADDED_SOURCES.add(0, contentSource);
+        invalidateAll();
+    }
+
+    /**
+     * Removes the content source passed as an argument if it has been added. The
+     * cache of parsed content is cleared.
+     *
+     * @param contentSource The content source
+     * @return {@code true} if the source has been removed, otherwise
+     *         {@code false}
+     *
+     * @exception NullPointerException If {@code null} is passed as an argument
+     */
+    public static boolean remove(@NonNull ContentSource contentSource) {
+
+        final boolean removed = ADDED_SOURCES.remove(contentSource);
+        invalidateAll();
+
+        return removed;
+    }
+
+    /**
+     * Returns the content of the content name passed as an argument from the cache
+     * or the first source that provides it.
+     *
+     * @param entityClass The validatable entity class
+     * @param contentName The content name defined in {@link ParameterMapping}
+     *                    annotation
+     * @return The content per field name
+     *
+     * @exception NullPointerException     If {@code null} is passed as an argument
+     * @exception ContentNotFoundException If no source provides the content
+     * @exception IllegalStateException    If the content cannot be read, otherwise
+     *                                     if the content is malformed
+     */
+    public static Map<String, Map<String, String>> load(@NonNull Class<? extends ValidatableEntity> entityClass,
+            @NonNull String contentName) {
+
+        final Map<String, Map<String, Map<String, String>>> contentCache = CONTENT_CACHES.get(entityClass);
+        final long generation;
+
+        synchronized (CACHED_CLASSES) {
+            final Map<String, Map<String, String>> cachedContents = contentCache.get(contentName);
+
+            if (cachedContents != null) {
+                return cachedContents;
+            }
+
+            generation = cacheGeneration;
+        }
+
+        final Map<String, Map<String, String>> contents = loadFromSources(entityClass, contentName);
+
+        synchronized (CACHED_CLASSES) {
+            if (generation == cacheGeneration) {
+                contentCache.put(contentName, contents);
+                CACHED_CLASSES.add(entityClass);
+            }
+        }
+
+        return contents;
+    }
+
+    /**
+     * Removes the parsed content of the content name passed as an argument from
+     * the cache.
+     *
+     * @param contentName The content name defined in {@link ParameterMapping}
+     *                    annotation
+     *
+     * @exception NullPointerException If {@code null} is passed as an argument
+     */
+    public static void invalidate(@NonNull String contentName) {
+        synchronized (CACHED_CLASSES) {
+            for (Class<? extends ValidatableEntity> entityClass : CACHED_CLASSES) {
+                CONTENT_CACHES.get(entityClass).remove(contentName);
+            }
+
+            cacheGeneration++;
+        }
+    }
+
+    /**
+     * Removes all parsed content from the cache.
+     *
+     * @return The content names whose parsed content has been removed
+     */
+    public static Set<String> invalidateAll() {
+
+        final Set<String> contentNames = new LinkedHashSet<>();
+
+        synchronized (CACHED_CLASSES) {
+            for (Class<? extends ValidatableEntity> entityClass : CACHED_CLASSES) {
+                final Map<String, Map<String, Map<String, String>>> contentCache = CONTENT_CACHES.get(entityClass);
+                contentNames.addAll(contentCache.keySet());
+                contentCache.clear();
+            }
+
+            CACHED_CLASSES.clear();
+            cacheGeneration++;
+        }
+
+        return contentNames;
+    }
+
+    /**
+     * Loads the content of the content name passed as an argument from the first
+     * source that provides it.
+     *
+     * @param entityClass The validatable entity class
+     * @param contentName The content name defined in {@link ParameterMapping}
+     *                    annotation
+     * @return The content per field name
+     *
+     * @exception NullPointerException     If {@code null} is passed as an argument
+     * @exception ContentNotFoundException If no source provides the content
+     */
+    private static Map<String, Map<String, String>> loadFromSources(
+            @NonNull Class<? extends ValidatableEntity> entityClass, @NonNull String contentName) {
+
+        final List<ContentSource> contentSources = new ArrayList<>(ADDED_SOURCES);
+        final ContentSource watchedSource = EnvaliContentWatcher.getContentSource();
+
+        if (watchedSource != null) {
+            contentSources.add(watchedSource);
+        }
+
+        contentSources.addAll(DISCOVERED_SOURCES);
+        contentSources.addAll(BUILTIN_SOURCES);
+
+        for (ContentSource contentSource : contentSources) {
+            final Map<String, Map<String, String>> contents = contentSource.load(entityClass, contentName);
+
+            if (contents != null) {
+                return contents;
+            }
+        }
+
+        throw new ContentNotFoundException(String.format(
+                "The content file defined in ParameterMapping annotation was not found. Please check the path to the resource. Resource path to the defined content: %s",
+                ClasspathContentSource.getResourcePath(contentName)));
+    }
+
+    /**
+     * Returns the content sources discovered by {@link ServiceLoader} .
+     *
+     * @return The content sources discovered by {@link ServiceLoader}
+     */
+    private static List<ContentSource> discover() {
+
+        final List<ContentSource> contentSources = new ArrayList<>();
+
+        for (ContentSource contentSource : ServiceLoader.load(ContentSource.class,
+                EnvaliContentRegistry.class.getClassLoader())) {
+            contentSources.add(contentSource);
+        }
+
+        return List.copyOf(contentSources);
+    }
+}
@@ -0,0 +1,229 @@
+/*
+ * Copyright 2020 Kato Shinya.
+ *
+ * Licensed under the Apache License, Version 2.0 (the "License"); you may not use this file except
+ * in compliance with the License. You may obtain a copy of the License at
+ *
+ *     http://www.apache.org/licenses/LICENSE-2.0
+ *
+ * Unless required by applicable law or agreed to in writing, software distributed under the License
+ * is distributed on an "AS IS" BASIS, WITHOUT WARRANTIES OR CONDITIONS OF ANY KIND, either express
+ * or implied. See the License for the specific language governing permissions and limitations under
+ * the License.
+ */
+
+package org.thinkit.framework.envali.helper;
+
+import java.io.IOException;
+import java.nio.file.ClosedWatchServiceException;
+import java.nio.file.Files;
+import java.nio.file.Path;
+import java.nio.file.StandardWatchEventKinds;
+import java.nio.file.WatchEvent;
+import java.nio.file.WatchKey;
+import java.nio.file.WatchService;
+import java.util.LinkedHashSet;
+import java.util.Set;
+import java.util.concurrent.TimeUnit;
+import java.util.function.Consumer;
+
+import org.thinkit.common.catalog.Extension;
+import org.thinkit.framework.envali.annotation.ParameterMapping;
+import org.thinkit.framework.envali.source.ContentSource;
+import org.thinkit.framework.envali.source.FileSystemContentSource;
+
+import lombok.NonNull;
+
+/**
+ * A helper class that serves the content files mapped by
+ * {@link ParameterMapping} annotation from a directory on the filesystem and
+ * watches the directory for changes.
+ * <p>
+ * While a directory is watched, the content file named after the content of
+ * {@link ParameterMapping} annotation is read from the directory in preference
+ * to the content archive and the classpath. When content files are created,
+ * modified or deleted, the parsed content cached by
+ * {@link EnvaliContentRegistry} is invalidated and the names of the changed
+ * content are passed to the listener on the watcher thread, so the content can
+ * be parsed again off the validation path. The events that arrive in quick
+ * succession are coalesced, so a file written in several steps is reported
+ * once. If events are lost because too many arrive at once, all parsed content
+ * is invalidated and the names of all content that was cached are reported.
+ *
+ * @author Kato Shinya
+ * @since 1.0.5
+ */
+public final class EnvaliContentWatcher {
+
+    /**
+     * The time in milliseconds to wait for further events before the changed
+     * content is reported
+     */
+    private static final long COALESCE_MILLIS = 100L;
+
+    /**
+     * The content source of the directory being watched, or {@code null} if no
+     * directory is watched
+     */
+    private static volatile ContentSource contentSource;
+
+    /**
+     * The watch service of the directory being watched
+     */
+    private static WatchService watchService;
+
+    /**
+     * Default constructor
+     */
+    private EnvaliContentWatcher() {
+    }
+
+    /**
+     * Starts watching the directory passed as an argument. The directory watched
+     * before is no longer watched.
+     *
+     * @param directory The directory containing the content files
+     * @param listener  The listener that receives the name of changed content
+     *
+     * @exception NullPointerException  If {@code null} is passed as an argument
+     * @exception IllegalStateException If an I/O error occurs while registering
+     *                                  the directory, otherwise if the path is
+     *                                  not a directory
+     */
+    public static synchronized void start(@NonNull Path directory, @NonNull Consumer<String> listener) {
+
+        if (!Files.isDirectory(directory)) {
+            throw new IllegalStateException(String.format("The path %s is not a directory.", directory));
+        }
+
+        stop();
+
+        try {
+            final WatchService newWatchService = directory.getFileSystem().newWatchService();
+            directory.register(newWatchService, StandardWatchEventKinds.ENTRY_CREATE,
+                    StandardWatchEventKinds.ENTRY_MODIFY, StandardWatchEventKinds.ENTRY_DELETE);
+
+            final Thread watcherThread = new Thread(() -> watch(newWatchService, listener), "envali-content-watcher");
+            watcherThread.setDaemon(true);
+
+            watchService = newWatchService;
+            contentSource = FileSystemContentSource.of(directory);
+            EnvaliContentRegistry.invalidateAll();
+            watcherThread.start();
+        } catch (IOException e) {
+            throw new IllegalStateException(e);
+        }
+    }
+
+    /**
+     * Stops watching the directory. The content files are read from the content
+     * archive and the classpath again. Nothing happens if no directory is watched.
+     *
+     * @exception IllegalStateException If an I/O error occurs while closing the
+     *                                  watch service
+     */
+    public static synchronized void stop() {
+
+        if (watchService == null) {
+            return;
+        }
+
+        contentSource = null;
+        EnvaliContentRegistry.invalidateAll();
+
+        try {
+            watchService.close();
+        } catch (IOException e) {
+            throw new IllegalStateException(e);
+        } finally {
+            watchService = null;
+        }
+    }
+
+    /**
+     * Returns the content source that loads the content files from the directory
+     * being watched.
+     *
+     * @return The content source of the directory being watched, or {@code null}
+     *         if no directory is watched
+     */
+    static ContentSource getContentSource() {
+        return contentSource;
+    }
+
+    /**
+     * Waits for the events of the watch service passed as an argument and reports
+     * the names of changed content to the listener until the watch service is
+     * closed. An exception thrown by the listener does not stop watching.
+     *
+     * @param watchService The watch service
+     * @param listener     The listener that receives the name of changed content
+     */
+    private static void watch(@NonNull WatchService watchService, @NonNull Consumer<String> listener) {
+        try {
+            while (true) {
+                final Set<String> contentNames = new LinkedHashSet<>();
+                boolean overflowed = false;
+                WatchKey watchKey = watchService.take();
+
+                while (watchKey != null) {
+                    overflowed |= collectContentNames(watchKey, contentNames);
+                    watchKey.reset();
+                    watchKey = watchService.poll(COALESCE_MILLIS, TimeUnit.MILLISECONDS);
+                }
+
+                if (overflowed) {
+                    // The changed files are unknown, so all cached content is read again
+                    contentNames.addAll(EnvaliContentRegistry.invalidateAll());
+                }
+
+                for (String contentName : contentNames) {
+                    EnvaliContentRegistry.invalidate(contentName);
+
+                    try {
+                        listener.accept(contentName);
+                    } catch (RuntimeException e) {
+                        // The previous content stays in effect until the file is fixed
+                    }
+                }
+            }
+        } catch (ClosedWatchServiceException e) {
+            // The directory is no longer watched
+        } catch (InterruptedException e) {
+            Thread.currentThread().interrupt();
+        }
+    }
+
+    /**
+     * Adds the names of content files changed in the events of the watch key
+     * passed as an argument to the set.
+     *
+     * @param watchKey     The watch key
+     * @param contentNames The set of changed content names
+     * @return {@code true} if events have been lost or discarded, otherwise
+     *         {@code false}
+     */
+    private static boolean collectContentNames(@NonNull WatchKey watchKey, @NonNull Set<String> contentNames) {
+
+        boolean overflowed = false;
+
+        for (WatchEvent<?> event : watchKey.pollEvents()) {
+            if (event.kind() == StandardWatchEventKinds.OVERFLOW) {
+                overflowed = true;
+                continue;
+            }
+
+            if (!(event.context() instanceof Path)) {
+                continue;
+            }
+
+            final String fileName = ((Path) event.context()).getFileName().toString();
+
+            if (fileName.endsWith(Extension.json())) {
+                contentNames.add(fileName.substring(0, fileName.length() - Extension.json().length()));
+            }
+        }
+
+        return overflowed;
+    }
+}
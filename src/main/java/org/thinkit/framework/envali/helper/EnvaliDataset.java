@@ -0,0 +1,374 @@
+/*
+ * Copyright 2020 Kato Shinya.
+ *
+ * Licensed under the Apache License, Version 2.0 (the "License"); you may not use this file except
+ * in compliance with the License. You may obtain a copy of the License at
+ *
+ *     http://www.apache.org/licenses/LICENSE-2.0
+ *
+ * Unless required by applicable law or agreed to in writing, software distributed under the License
+ * is distributed on an "AS IS" BASIS, WITHOUT WARRANTIES OR CONDITIONS OF ANY KIND, either express
+ * or implied. See the License for the specific language governing permissions and limitations under
+ * the License.
+ */
+
+package org.thinkit.framework.envali.helper;
+
+import java.io.BufferedOutputStream;
+import java.io.DataOutputStream;
+import java.io.IOException;
+import java.nio.MappedByteBuffer;
+import java.nio.channels.FileChannel;
+import java.nio.charset.StandardCharsets;
+import java.nio.file.Files;
+import java.nio.file.Path;
+import java.nio.file.StandardOpenOption;
+import java.util.Arrays;
+import java.util.Collection;
+import java.util.Map;
+import java.util.concurrent.ConcurrentHashMap;
+
+import org.thinkit.framework.envali.annotation.RequireExistsIn;
+
+import lombok.EqualsAndHashCode;
+import lombok.Getter;
+import lombok.NonNull;
+import lombok.ToString;
+
+/**
+ * The object that represents a dataset of keys referred to by the
+ * {@link RequireExistsIn} annotation, which is read through a memory mapped
+ * buffer.
+ * <p>
+ * The dataset file is built locally by {@link #write(Path, Collection)} , and
+ * holds the keys sorted in the order of their UTF-8 bytes. The keys are not
+ * loaded on the heap: they are read from the mapped file, which is shared
+ * through the page cache by all the processes on the host that map the same
+ * file. A key is looked up by a binary search that compares the characters of
+ * the value with the bytes of the file directly, so the lookup allocates no
+ * object. A dataset file must be smaller than 2 GB.
+ * <p>
+ * The dataset file has the following layout, where the offsets are relative to
+ * the start of the keys:
+ *
+ * <pre>
+ * int     magic number ("ENVD")
+ * byte    format version
+ * int     number of keys
+ * int[]   offsets of the keys, followed by the end offset of the last key
+ * byte[]  UTF-8 bytes of the keys in ascending order
+ * </pre>
+ *
+ * @author Kato Shinya
+ * @since 1.0.5
+ */
+@ToString
+@EqualsAndHashCode
+public final class EnvaliDataset {
+
+    /**
+     * The magic number of dataset
+     */
+    private static final int MAGIC_NUMBER = 0x454E5644;
+
+    /**
+     * The format version of dataset
+     */
+    private static final byte FORMAT_VERSION = 1;
+
+    /**
+     * The size of the header that precedes the offsets
+     */
+    private static final int HEADER_SIZE = 9;
+
+    /**
+     * The registered datasets per name
+     */
+    private static final Map<String, EnvaliDataset> REGISTERED_DATASETS = new ConcurrentHashMap<>();
+
+    /**
+     * The path to the dataset file
+     */
+    @Getter
+    private Path datasetPath;
+
+    /**
+     * The number of keys
+     */
+    @Getter
+    private int size;
+
+    /**
+     * The position of the first key in the buffer
+     */
+    private int keyPosition;
+
+    /**
+     * The buffer mapped to the dataset file
+     */
+    @ToString.Exclude
+    @EqualsAndHashCode.Exclude
+    private MappedByteBuffer buffer;
+
+    /**
+     * Default constructor
+     */
+    private EnvaliDataset() {
+    }
+
+    /**
+     * Writes the keys passed as an argument to the dataset file. The keys are
+     * sorted and the duplicate keys are written only once.
+     *
+     * @param datasetPath The path to the dataset file
+     * @param keys        The keys
+     *
+     * @exception NullPointerException  If {@code null} is passed as an argument,
+     *                                  otherwise if a key is {@code null}
+     * @exception IllegalStateException If an I/O error occurs while writing the
+     *                                  dataset, otherwise if the dataset is 2 GB
+     *                                  or larger
+     */
+    public static void write(@NonNull Path datasetPath, @NonNull Collection<? extends CharSequence> keys) {
+
+        final byte[][] encodedKeys = new byte[keys.size()][];
+        int count = 0;
+
+        for (CharSequence key : keys) {
+            encodedKeys[count++] = key.toString().getBytes(StandardCharsets.UTF_8);
+        }
+
+        Arrays.sort(encodedKeys, Arrays::compareUnsigned);
+
+        int size = 0;
+        long length = 0L;
+
+        for (int i = 0; i < count; i++) {
+            if (size == 0 || !Arrays.equals(encodedKeys[size - 1], encodedKeys[i])) {
+                encodedKeys[size++] = encodedKeys[i];
+                length += encodedKeys[i].length;
+            }
+        }
+
+        if (HEADER_SIZE + 4L * (size + 1) + length > Integer.MAX_VALUE) {
+            throw new IllegalStateException(
+                    String.format("The dataset %s must be smaller than 2 GB.", datasetPath));
+        }
+
+        try (DataOutputStream output = new DataOutputStream(
+                new BufferedOutputStream(Files.newOutputStream(datasetPath)))) {
+            output.writeInt(MAGIC_NUMBER);
+            output.writeByte(FORMAT_VERSION);
+            output.writeInt(size);
+
+            int offset = 0;
+
+            for (int i = 0; i < size; i++) {
+                output.writeInt(offset);
+                offset += encodedKeys[i].length;
+            }
+
+            output.writeInt(offset);
+
+            for (int i = 0; i < size; i++) {
+                output.write(encodedKeys[i]);
+            }
+        } catch (IOException e) {
+            throw new IllegalStateException(e);
+        }
+    }
+
+    /**
+     * Returns the new instance of {@link EnvaliDataset} mapped to the dataset file
+     * passed as an argument.
+     *
+     * @param datasetPath The path to the dataset file
+     * @return The new instance of {@link EnvaliDataset}
+     *
+     * @exception NullPointerException  If {@code null} is passed as an argument
+     * @exception IllegalStateException If an I/O error occurs while mapping the
+     *                                  dataset, otherwise if the dataset is
+     *                                  malformed
+     */
+    public static EnvaliDataset of(@NonNull Path datasetPath) {
+
+        try (FileChannel channel = FileChannel.open(datasetPath, StandardOpenOption.READ)) {
+            final long fileSize = channel.size();
+
+            if (fileSize < HEADER_SIZE + 4 || Integer.MAX_VALUE < fileSize) {
+                throw getMalformedException(datasetPath);
+            }
+
+            final EnvaliDataset dataset = new EnvaliDataset();
+            dataset.datasetPath = datasetPath;
+            dataset.buffer = channel.map(FileChannel.MapMode.READ_ONLY, 0, fileSize);
+
+            if (dataset.buffer.getInt(0) != MAGIC_NUMBER || dataset.buffer.get(4) != FORMAT_VERSION) {
+                throw getMalformedException(datasetPath);
+            }
+
+            dataset.size = dataset.buffer.getInt(5);
+            final long keyPosition = HEADER_SIZE + 4L * (dataset.size + 1L);
+
+            if (dataset.size < 0 || fileSize < keyPosition) {
+                throw getMalformedException(datasetPath);
+            }
+
+            dataset.keyPosition = (int) keyPosition;
+
+            if (keyPosition + dataset.getOffset(dataset.size) != fileSize) {
+                throw getMalformedException(datasetPath);
+            }
+
+            return dataset;
+        } catch (IOException e) {
+            throw new IllegalStateException(e);
+        }
+    }
+
+    /**
+     * Maps the dataset file passed as an argument and registers it with the name
+     * passed as an argument. The dataset already registered with the name is
+     * replaced.
+     *
+     * @param name        The name of the dataset
+     * @param datasetPath The path to the dataset file
+     *
+     * @exception NullPointerException  If {@code null} is passed as an argument
+     * @exception IllegalStateException If an I/O error occurs while mapping the
+     *                                  dataset, otherwise if the dataset is
+     *                                  malformed
+     */
+    public static void register(@NonNull String name, @NonNull Path datasetPath) {
+        REGISTERED_DATASETS.put(name, of(datasetPath));
+    }
+
+    /**
+     * Unregisters the dataset registered with the name passed as an argument. The
+     * file is unmapped when the dataset is no longer referenced.
+     *
+     * @param name The name of the dataset
+     * @return {@code true} if the dataset has been unregistered, otherwise
+     *         {@code false}
+     *
+     * @exception NullPointerException If {@code null} is passed as an argument
+     */
+    public static boolean unregister(@NonNull String name) {
+        return REGISTERED_DATASETS.remove(name) != null;
+    }
+
+    /**
+     * Returns the dataset registered with the name passed as an argument.
+     *
+     * @param name The name of the dataset
+     * @return The dataset registered with the name
+     *
+     * @exception NullPointerException          If {@code null} is passed as an
+     *                                          argument
+     * @exception UnsupportedOperationException If no dataset is registered with
+     *                                          the name
+     */
+    public static EnvaliDataset get(@NonNull String name) {
+
+        final EnvaliDataset dataset = REGISTERED_DATASETS.get(name);
+
+        if (dataset == null) {
+            throw new UnsupportedOperationException(String.format("The dataset %s is not registered.", name));
+        }
+
+        return dataset;
+    }
+
+    /**
+     * Tests if the key passed as an argument exists in the dataset.
+     *
+     * @param key The key
+     * @return {@code true} if the key exists in the dataset, otherwise
+     *         {@code false}
+     *
+     * @exception NullPointerException If {@code null} is passed as an argument
+     */
+    public boolean contains(@NonNull CharSequence key) {
+
+        int low = 0;
+        int high = this.size - 1;
+
+        while (low <= high) {
+            final int middle = (low + high) >>> 1;
+            final int comparison = this.compare(key, middle);
+
+            if (comparison < 0) {
+                high = middle - 1;
+            } else if (comparison > 0) {
+                low = middle + 1;
+            } else {
+                return true;
+            }
+        }
+
+        return false;
+    }
+
+    /**
+     * Compares the key passed as an argument with the key at the index passed as
+     * an argument in the order of their UTF-8 bytes. The characters of the key
+     * are encoded one by one while comparing, so no object is allocated.
+     *
+     * @param key   The key
+     * @param index The index of the key in the dataset
+     * @return A negative integer, zero, or a positive integer as the key is less
+     *         than, equal to, or greater than the key in the dataset
+     */
+    private int compare(@NonNull CharSequence key, int index) {
+
+        int position = this.keyPosition + this.getOffset(index);
+        final int end = this.keyPosition + this.getOffset(index + 1);
+
+        for (int i = 0, length = key.length(); i < length; i++) {
+            final int codePoint = Character.codePointAt(key, i);
+            final int byteCount = codePoint < 0x80 ? 1 : codePoint < 0x800 ? 2 : codePoint < 0x10000 ? 3 : 4;
+
+            if (byteCount == 4) {
+                i++;
+            }
+
+            for (int shift = 6 * (byteCount - 1); shift >= 0; shift -= 6) {
+                if (position == end) {
+                    return 1;
+                }
+
+                final int encoded = byteCount == 1 ? codePoint
+                        : shift == 6 * (byteCount - 1) ? (0xFF00 >> byteCount & 0xFF) | codePoint >> shift
+                                : 0x80 | (codePoint >> shift & 0x3F);
+                final int stored = this.buffer.get(position++) & 0xFF;
+
+                if (encoded != stored) {
+                    return encoded - stored;
+                }
+            }
+        }
+
+        return position == end ? 0 : -1;
+    }
+
+    /**
+     * Returns the offset of the key at the index passed as an argument.
+     *
+     * @param index The index of the key, or the number of keys for the end offset
+     *              of the last key
+     * @return The offset of the key relative to the start of the keys
+     */
+    private int getOffset(int index) {
+        return this.buffer.getInt(HEADER_SIZE + 4 * index);
+    }
+
+    /**
+     * Returns the exception indicating that the dataset file is malformed.
+     *
+     * @param datasetPath The path to the dataset file
+     * @return The exception indicating that the dataset file is malformed
+     */
+    private static IllegalStateException getMalformedException(@NonNull Path datasetPath) {
+        return new IllegalStateException(String.format("The file %s is not an Envali dataset.", datasetPath));
+    }
+}
@@ -0,0 +1,193 @@
+/*
+ * Copyright 2020 Kato Shinya.
+ *
+ * Licensed under the Apache License, Version 2.0 (the "License"); you may not use this file except
+ * in compliance with the License. You may obtain a copy of the License at
+ *
+ *     http://www.apache.org/licenses/LICENSE-2.0
+ *
+ * Unless required by applicable law or agreed to in writing, software distributed under the License
+ * is distributed on an "AS IS" BASIS, WITHOUT WARRANTIES OR CONDITIONS OF ANY KIND, either express
+ * or implied. See the License for the specific language governing permissions and limitations under
+ * the License.
+ */
+
+package org.thinkit.framework.envali.helper;
+
+import java.math.BigDecimal;
+import java.math.BigInteger;
+import java.math.RoundingMode;
+
+import lombok.EqualsAndHashCode;
+import lombok.NonNull;
+import lombok.ToString;
+
+/**
+ * The object that represents an inclusive range of {@link BigDecimal} and
+ * {@link BigInteger} values whose bounds are declared as strings.
+ * <p>
+ * The bounds are parsed only once when the range is created. The values that
+ * are representable as {@code long} , which are most of the values in
+ * practice, are compared against the bounds rounded to {@code long} without
+ * allocating any object, and the other values are compared by
+ * {@link BigDecimal#compareTo(BigDecimal)} .
+ *
+ * @author Kato Shinya
+ * @since 1.0.5
+ */
+@ToString
+@EqualsAndHashCode
+public final class EnvaliDecimalRange {
+
+    /**
+     * The lower bound, or {@code null} if there is no lower bound
+     */
+    private BigDecimal from;
+
+    /**
+     * The upper bound, or {@code null} if there is no upper bound
+     */
+    private BigDecimal to;
+
+    /**
+     * The smallest integer in the range that is representable as {@code long}
+     */
+    private long longFrom;
+
+    /**
+     * The largest integer in the range that is representable as {@code long}
+     */
+    private long longTo;
+
+    /**
+     * {@code true} if the integers in the range representable as {@code long} are
+     * exactly from {@link #longFrom} to {@link #longTo} , otherwise {@code false}
+     */
+    private boolean longComparable;
+
+    /**
+     * Default constructor
+     */
+    private EnvaliDecimalRange() {
+    }
+
+    /**
+     * Returns the new instance of {@link EnvaliDecimalRange} with the bounds
+     * passed as arguments. An empty bound means that the range has no bound on
+     * that side.
+     *
+     * @param from The lower bound, or an empty string
+     * @param to   The upper bound, or an empty string
+     * @return The new instance of {@link EnvaliDecimalRange}
+     *
+     * @exception NullPointerException          If {@code null} is passed as an
+     *                                          argument
+     * @exception UnsupportedOperationException If the bound is not a number
+     */
+    public static EnvaliDecimalRange of(@NonNull String from, @NonNull String to) {
+
+        final EnvaliDecimalRange range = new EnvaliDecimalRange();
+        range.from = parse(from);
+        range.to = parse(to);
+
+        final BigInteger integerFrom = range.from != null ? range.from.setScale(0, RoundingMode.CEILING).toBigInteger()
+                : BigInteger.valueOf(Long.MIN_VALUE);
+        final BigInteger integerTo = range.to != null ? range.to.setScale(0, RoundingMode.FLOOR).toBigInteger()
+                : BigInteger.valueOf(Long.MAX_VALUE);
+
+        range.longComparable = integerFrom.bitLength() < Long.SIZE && integerTo.bitLength() < Long.SIZE;
+
+        if (range.longComparable) {
+            range.longFrom = integerFrom.longValue();
+            range.longTo = integerTo.longValue();
+        }
+
+        return range;
+    }
+
+    /**
+     * Tests if the value passed as an argument is in the range.
+     *
+     * @param value The value
+     * @return {@code true} if the value is in the range, otherwise {@code false}
+     *
+     * @exception NullPointerException If {@code null} is passed as an argument
+     */
+    public boolean contains(@NonNull BigDecimal value) {
+
+        if (this.longComparable && value.scale() == 0 && value.precision() < 19) {
+            return this.contains(value.longValue());
+        }
+
+        return (this.from == null || this.from.compareTo(value) <= 0)
+                && (this.to == null || value.compareTo(this.to) <= 0);
+    }
+
+    /**
+     * Tests if the value passed as an argument is in the range.
+     *
+     * @param value The value
+     * @return {@code true} if the value is in the range, otherwise {@code false}
+     *
+     * @exception NullPointerException If {@code null} is passed as an argument
+     */
+    public boolean contains(@NonNull BigInteger value) {
+
+        if (this.longComparable && value.bitLength() < Long.SIZE) {
+            return this.contains(value.longValue());
+        }
+
+        return this.contains(new BigDecimal(value));
+    }
+
+    /**
+     * Tests if the {@link BigDecimal} or {@link BigInteger} value passed as an
+     * argument is in the range.
+     *
+     * @param value The value
+     * @return {@code true} if the value is in the range, otherwise {@code false}
+     *
+     * @exception NullPointerException If {@code null} is passed as an argument
+     */
+    public boolean contains(@NonNull Number value) {
+
+        if (value instanceof BigDecimal decimal) {
+            return this.contains(decimal);
+        } else if (value instanceof BigInteger integer) {
+            return this.contains(integer);
+        }
+
+        return this.contains(new BigDecimal(value.toString()));
+    }
+
+    /**
+     * Tests if the value passed as an argument is in the range.
+     *
+     * @param value The value
+     * @return {@code true} if the value is in the range, otherwise {@code false}
+     */
+    private boolean contains(long value) {
+        return this.longFrom <= value && value <= this.longTo;
+    }
+
+    /**
+     * Parses the bound passed as an argument.
+     *
+     * @param bound The bound
+     * @return The parsed bound, or {@code null} if the bound is empty
+     *
+     * @exception UnsupportedOperationException If the bound is not a number
+     */
+    private static BigDecimal parse(@NonNull String bound) {
+
+        if (bound.isEmpty()) {
+            return null;
+        }
+
+        try {
+            return new BigDecimal(bound);
+        } catch (NumberFormatException e) {
+            throw new UnsupportedOperationException(String.format("The bound %s is not a number.", bound), e);
+        }
+    }
+}
@@ -0,0 +1,368 @@
+/*
+ * Copyright 2020 Kato Shinya.
+ *
+ * Licensed under the Apache License, Version 2.0 (the "License"); you may not use this file except
+ * in compliance with the License. You may obtain a copy of the License at
+ *
+ *     http://www.apache.org/licenses/LICENSE-2.0
+ *
+ * Unless required by applicable law or agreed to in writing, software distributed under the License
+ * is distributed on an "AS IS" BASIS, WITHOUT WARRANTIES OR CONDITIONS OF ANY KIND, either express
+ * or implied. See the License for the specific language governing permissions and limitations under
+ * the License.
+ */
+
+package org.thinkit.framework.envali.helper;
+
+import java.lang.invoke.MethodType;
+import java.lang.reflect.Array;
+import java.util.ArrayList;
+import java.util.List;
+import java.util.Set;
+
+import org.thinkit.framework.envali.annotation.RequireUnique;
+import org.thinkit.framework.envali.entity.ValidatableEntity;
+
+import lombok.EqualsAndHashCode;
+import lombok.NonNull;
+import lombok.ToString;
+
+/**
+ * The object that finds the elements of a list or an array whose keys are
+ * duplicate, which is used by the {@link RequireUnique} annotation.
+ * <p>
+ * The key of an element is the element itself, or the value of a field of the
+ * element if the elements are {@link ValidatableEntity} . The numeric and
+ * character keys, including the components of primitive arrays, are collected
+ * into an open-addressing hash table of {@code long} , so the keys are never
+ * boxed. The other keys are collected into an open-addressing hash table of
+ * objects compared by {@link Object#equals(Object)} . The {@code null}
+ * elements and keys are skipped.
+ *
+ * @author Kato Shinya
+ * @since 1.0.5
+ */
+@ToString
+@EqualsAndHashCode
+public final class EnvaliDuplicateFinder {
+
+    /**
+     * The wrapper types of the keys that are collected as {@code long}
+     */
+    private static final Set<Class<?>> PRIMITIVE_KEY_TYPES = Set.of(Integer.class, Long.class, Short.class,
+            Byte.class, Character.class, Boolean.class, Float.class, Double.class);
+
+    /**
+     * The field helper of the key of the elements, or {@code null} if the key is
+     * the element itself
+     */
+    private EnvaliFieldHelper keyField;
+
+    /**
+     * The type of the key
+     */
+    private Class<?> keyType;
+
+    /**
+     * {@code true} if the keys are collected as {@code long} , otherwise
+     * {@code false}
+     */
+    private boolean primitiveKey;
+
+    /**
+     * Default constructor
+     */
+    private EnvaliDuplicateFinder() {
+    }
+
+    /**
+     * Returns the new instance of {@link EnvaliDuplicateFinder} whose key is the
+     * element itself.
+     *
+     * @param elementType The declared type of the elements
+     * @return The new instance of {@link EnvaliDuplicateFinder}
+     *
+     * @exception NullPointerException If {@code null} is passed as an argument
+     */
+    public static EnvaliDuplicateFinder of(@NonNull Class<?> elementType) {
+
+        final EnvaliDuplicateFinder duplicateFinder = new EnvaliDuplicateFinder();
+        duplicateFinder.keyType = elementType;
+        duplicateFinder.primitiveKey = PRIMITIVE_KEY_TYPES
+                .contains(MethodType.methodType(elementType).wrap().returnType());
+
+        return duplicateFinder;
+    }
+
+    /**
+     * Returns the new instance of {@link EnvaliDuplicateFinder} whose key is the
+     * value of the field of the elements passed as an argument.
+     *
+     * @param keyField The field helper of the key of the elements
+     * @return The new instance of {@link EnvaliDuplicateFinder}
+     *
+     * @exception NullPointerException If {@code null} is passed as an argument
+     */
+    public static EnvaliDuplicateFinder of(@NonNull EnvaliFieldHelper keyField) {
+
+        final EnvaliDuplicateFinder duplicateFinder = of(keyField.getType());
+        duplicateFinder.keyField = keyField;
+
+        return duplicateFinder;
+    }
+
+    /**
+     * Returns the indices of the elements whose keys are equal to the key of a
+     * preceding element. The first occurrence of a key is not reported.
+     *
+     * @param container The list or the array
+     * @return The indices of the duplicate elements in ascending order, or an
+     *         empty list if there is no duplicate element
+     *
+     * @exception NullPointerException If {@code null} is passed as an argument
+     */
+    public List<Integer> findDuplicates(@NonNull Object container) {
+
+        final boolean primitiveArray = container.getClass().isArray()
+                && container.getClass().getComponentType().isPrimitive();
+        final int size = container instanceof List<?> ? ((List<?>) container).size() : Array.getLength(container);
+        final KeyTable keyTable = new KeyTable(size, this.primitiveKey || primitiveArray);
+        List<Integer> duplicates = List.of();
+
+        if (container instanceof List<?>) {
+            int index = 0;
+
+            for (Object element : (List<?>) container) {
+                if (!this.addElement(keyTable, element)) {
+                    duplicates = addIndex(duplicates, index);
+                }
+
+                index++;
+            }
+        } else {
+            for (int i = 0; i < size; i++) {
+                if (primitiveArray ? !keyTable.add(getComponentKey(container, i))
+                        : !this.addElement(keyTable, ((Object[]) container)[i])) {
+                    duplicates = addIndex(duplicates, i);
+                }
+            }
+        }
+
+        return duplicates;
+    }
+
+    /**
+     * Adds the index passed as an argument to the indices of the duplicate
+     * elements. The list is created when the first duplicate element is found.
+     *
+     * @param duplicates The indices of the duplicate elements
+     * @param index      The index of the duplicate element
+     * @return The indices of the duplicate elements
+     */
+    private static List<Integer> addIndex(@NonNull List<Integer> duplicates, int index) {
+
+        final List<Integer> indices = duplicates.isEmpty() ? new ArrayList<>() : duplicates;
+        indices.add(index);
+
+        return indices;
+    }
+
+    /**
+     * Adds the key of the element passed as an argument to the hash table.
+     *
+     * @param keyTable The hash table
+     * @param element  The element, or {@code null}
+     * @return {@code false} if the key already exists, otherwise {@code true}
+     *         including the case where the element or the key is {@code null}
+     */
+    private boolean addElement(@NonNull KeyTable keyTable, Object element) {
+
+        if (element == null) {
+            return true;
+        }
+
+        if (this.keyField != null && this.keyType.isPrimitive()) {
+            return keyTable.add(this.getPrimitiveFieldKey((ValidatableEntity) element));
+        }
+
+        final Object key = this.keyField != null ? this.keyField.get((ValidatableEntity) element) : element;
+
+        if (key == null) {
+            return true;
+        }
+
+        return this.primitiveKey ? keyTable.add(toLong(key)) : keyTable.add(key);
+    }
+
+    /**
+     * Returns the key of the primitive field of the element passed as an argument
+     * as {@code long} .
+     *
+     * @param element The element
+     * @return The key as {@code long}
+     */
+    private long getPrimitiveFieldKey(@NonNull ValidatableEntity element) {
+
+        if (this.keyType == int.class) {
+            return this.keyField.getInt(element);
+        } else if (this.keyType == long.class) {
+            return this.keyField.getLong(element);
+        }
+
+        return toLong(this.keyField.get(element));
+    }
+
+    /**
+     * Returns the boxed primitive key passed as an argument as {@code long} . The
+     * floating point keys are converted to their bits, so that the keys are equal
+     * if and only if they are equal by {@link Object#equals(Object)} . The
+     * boolean keys are converted to {@code 1} or {@code 0} .
+     *
+     * @param key The boxed primitive key
+     * @return The key as {@code long}
+     */
+    private static long toLong(@NonNull Object key) {
+
+        if (key instanceof Double) {
+            return Double.doubleToLongBits((Double) key);
+        } else if (key instanceof Float) {
+            return Float.floatToIntBits((Float) key);
+        } else if (key instanceof Character) {
+            return (Character) key;
+        } else if (key instanceof Boolean) {
+            return (Boolean) key ? 1L : 0L;
+        }
+
+        return ((Number) key).longValue();
+    }
+
+    /**
+     * Returns the component of the primitive array passed as an argument as
+     * {@code long} without boxing it.
+     *
+     * @param array The primitive array
+     * @param index The index of the component
+     * @return The component as {@code long}
+     */
+    private static long getComponentKey(@NonNull Object array, int index) {
+
+        if (array instanceof int[]) {
+            return ((int[]) array)[index];
+        } else if (array instanceof long[]) {
+            return ((long[]) array)[index];
+        } else if (array instanceof short[]) {
+            return ((short[]) array)[index];
+        } else if (array instanceof byte[]) {
+            return ((byte[]) array)[index];
+        } else if (array instanceof char[]) {
+            return ((char[]) array)[index];
+        } else if (array instanceof float[]) {
+            return Float.floatToIntBits(((float[]) array)[index]);
+        } else if (array instanceof double[]) {
+            return Double.doubleToLongBits(((double[]) array)[index]);
+        }
+
+        return ((boolean[]) array)[index] ? 1L : 0L;
+    }
+
+    /**
+     * The open-addressing hash table of the keys, which is created for each
+     * validation and holds either {@code long} keys or object keys.
+     */
+    private static final class KeyTable {
+
+        /**
+         * The table of {@code long} keys other than {@code 0} , where {@code 0}
+         * represents an empty slot, or {@code null} if the table holds objects
+         */
+        private final long[] longKeys;
+
+        /**
+         * The table of object keys, where {@code null} represents an empty slot,
+         * or {@code null} if the table holds {@code long} keys
+         */
+        private final Object[] objectKeys;
+
+        /**
+         * The hash codes of the object keys
+         */
+        private final int[] hashes;
+
+        /**
+         * The bit mask of the index of the table
+         */
+        private final int mask;
+
+        /**
+         * {@code true} if the {@code long} key {@code 0} has been added, otherwise
+         * {@code false}
+         */
+        private boolean zero;
+
+        /**
+         * Constructor
+         *
+         * @param size    The maximum number of keys
+         * @param longKey {@code true} if the table holds {@code long} keys,
+         *                otherwise {@code false}
+         */
+        private KeyTable(int size, boolean longKey) {
+
+            final int capacity = Math.max(2, Integer.highestOneBit(Math.max(1, size) * 2 - 1) << 1);
+
+            this.mask = capacity - 1;
+            this.longKeys = longKey ? new long[capacity] : null;
+            this.objectKeys = longKey ? null : new Object[capacity];
+            this.hashes = longKey ? null : new int[capacity];
+        }
+
+        /**
+         * Adds the {@code long} key passed as an argument.
+         *
+         * @param key The key
+         * @return {@code true} if the key has been added, otherwise {@code false}
+         *         if the key already exists
+         */
+        private boolean add(long key) {
+
+            if (key == 0L) {
+                final boolean added = !this.zero;
+                this.zero = true;
+                return added;
+            }
+
+            final int hash = Long.hashCode(key);
+
+            for (int i = (hash ^ (hash >>> 16)) & this.mask;; i = (i + 1) & this.mask) {
+                if (this.longKeys[i] == 0L) {
+                    this.longKeys[i] = key;
+                    return true;
+                } else if (this.longKeys[i] == key) {
+                    return false;
+                }
+            }
+        }
+
+        /**
+         * Adds the object key passed as an argument.
+         *
+         * @param key The key
+         * @return {@code true} if the key has been added, otherwise {@code false}
+         *         if the key already exists
+         */
+        private boolean add(@NonNull Object key) {
+
+            final int hash = key.hashCode();
+
+            for (int i = (hash ^ (hash >>> 16)) & this.mask;; i = (i + 1) & this.mask) {
+                if (this.objectKeys[i] == null) {
+                    this.objectKeys[i] = key;
+                    this.hashes[i] = hash;
+                    return true;
+                } else if (this.hashes[i] == hash && this.objectKeys[i].equals(key)) {
+                    return false;
+                }
+            }
+        }
+    }
+}
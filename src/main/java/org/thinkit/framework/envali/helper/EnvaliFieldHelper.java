@@ -14,15 +14,35 @@
 
 package org.thinkit.framework.envali.helper;
 
+import java.lang.invoke.CallSite;
+import java.lang.invoke.LambdaConversionException;
+import java.lang.invoke.LambdaMetafactory;
+import java.lang.invoke.MethodHandle;
+import java.lang.invoke.MethodHandles;
+import java.lang.invoke.MethodType;
+import java.lang.reflect.Array;
 import java.lang.reflect.Field;
+import java.lang.reflect.Method;
+import java.lang.reflect.Modifier;
 import java.lang.reflect.ParameterizedType;
+import java.lang.reflect.RecordComponent;
 import java.lang.reflect.Type;
+import java.math.BigDecimal;
+import java.math.BigInteger;
 import java.util.ArrayList;
 import java.util.Arrays;
+import java.util.Collection;
+import java.util.HashMap;
 import java.util.List;
 import java.util.Map;
 import java.util.Set;
+import java.util.function.Function;
+import java.util.function.ToDoubleFunction;
+import java.util.function.ToIntFunction;
+import java.util.function.ToLongFunction;
 
+import org.thinkit.framework.envali.annotation.EntityAccess;
+import org.thinkit.framework.envali.catalog.AccessMode;
 import org.thinkit.framework.envali.entity.ValidatableEntity;
 
 import lombok.EqualsAndHashCode;
@@ -33,6 +53,12 @@ import lombok.ToString;
 /**
  * The helper class that provides access to the field values defined in
  * {@link ValidatableEntity} .
+ * <p>
+ * The components of a record that implements {@link ValidatableEntity} are
+ * read through their canonical accessors instead of reflective field access.
+ * The fields of an entity annotated with {@link EntityAccess} in
+ * {@link AccessMode#GETTER} mode are read through their getters, which are
+ * bound to functional interfaces by {@link LambdaMetafactory} once per field.
  *
  * @author Kato Shinya
  * @since 1.0.0
@@ -42,15 +68,90 @@ import lombok.ToString;
 public final class EnvaliFieldHelper {
 
     /**
-     * The validatable entity
+     * The handles of the canonical accessors resolved once per record class and
+     * keyed by the name of record component
      */
-    private ValidatableEntity validatableEntity;
+    private static final ClassValue<Map<String, MethodHandle>> RECORD_ACCESSORS = new ClassValue<>() {
+
+        @Override
+        protected Map<String, MethodHandle> computeValue(Class<?> recordClass) {
+
+            final RecordComponent[] recordComponents = recordClass.getRecordComponents();
+            final Map<String, MethodHandle> recordAccessors = new HashMap<>(recordComponents.length * 2);
+
+            try {
+                final MethodHandles.Lookup lookup = MethodHandles.privateLookupIn(recordClass, MethodHandles.lookup());
+
+                for (RecordComponent recordComponent : recordComponents) {
+                    recordAccessors.put(recordComponent.getName(), lookup.unreflect(recordComponent.getAccessor()));
+                }
+            } catch (IllegalAccessException e) {
+                throw new UnsupportedOperationException(e);
+            }
+
+            return Map.copyOf(recordAccessors);
+        }
+    };
+
+    /**
+     * The validatable entity class
+     */
+    private Class<? extends ValidatableEntity> entityClass;
 
     /**
      * The field
      */
     private Field field;
 
+    /**
+     * The handle of the canonical accessor if the field is a record component, or
+     * the handle of the getter if the getter cannot be bound to functional
+     * interfaces, otherwise {@code null}
+     */
+    private MethodHandle accessor;
+
+    /**
+     * The handle adapted to the type {@code (Object)int} if the field of type
+     * {@code int} is read through {@link #accessor}, otherwise {@code null}
+     */
+    private MethodHandle intAccessor;
+
+    /**
+     * The handle adapted to the type {@code (Object)long} if the field of type
+     * {@code long} is read through {@link #accessor}, otherwise {@code null}
+     */
+    private MethodHandle longAccessor;
+
+    /**
+     * The handle adapted to the type {@code (Object)double} if the field of type
+     * {@code double} is read through {@link #accessor}, otherwise {@code null}
+     */
+    private MethodHandle doubleAccessor;
+
+    /**
+     * The getter function if the field is read through its getter, otherwise
+     * {@code null}
+     */
+    private Function<Object, Object> getter;
+
+    /**
+     * The getter function if the field of type {@code int} is read through its
+     * getter, otherwise {@code null}
+     */
+    private ToIntFunction<Object> intGetter;
+
+    /**
+     * The getter function if the field of type {@code long} is read through its
+     * getter, otherwise {@code null}
+     */
+    private ToLongFunction<Object> longGetter;
+
+    /**
+     * The getter function if the field of type {@code double} is read through its
+     * getter, otherwise {@code null}
+     */
+    private ToDoubleFunction<Object> doubleGetter;
+
     /**
      * The field data type
      */
@@ -78,47 +179,62 @@ public final class EnvaliFieldHelper {
     /**
      * Constructor
      *
-     * @param validatableEntity The validatable entity
-     * @param field             The field
+     * @param entityClass The validatable entity class
+     * @param field       The field
      *
      * @exception NullPointerException If {@code null} is passed as an argument
      */
-    private EnvaliFieldHelper(@NonNull ValidatableEntity validatableEntity, @NonNull Field field) {
-        this.validatableEntity = validatableEntity;
+    private EnvaliFieldHelper(@NonNull Class<? extends ValidatableEntity> entityClass, @NonNull Field field) {
+        this.entityClass = entityClass;
         this.field = field;
         this.type = field.getType();
 
+        final MethodHandle recordAccessor = getRecordAccessor(field);
+
+        if (recordAccessor != null) {
+            this.bindAccessor(recordAccessor);
+        } else if (getAccessMode(entityClass) == AccessMode.GETTER) {
+            this.bindGetter(entityClass, field);
+        }
+
         final Type genericType = field.getGenericType();
 
         if (genericType instanceof ParameterizedType) {
             this.parameterizedType = (ParameterizedType) genericType;
 
             Arrays.asList(this.parameterizedType.getActualTypeArguments()).forEach(actualTypeArgument -> {
-                try {
-                    this.parameterizedValidatableEntities.add(Class.forName(actualTypeArgument.getTypeName()));
-                } catch (ClassNotFoundException e) {
-                    throw new IllegalStateException(e);
+                if (actualTypeArgument instanceof Class) {
+                    this.parameterizedValidatableEntities.add((Class<?>) actualTypeArgument);
+                } else if (actualTypeArgument instanceof ParameterizedType) {
+                    this.parameterizedValidatableEntities
+                            .add((Class<?>) ((ParameterizedType) actualTypeArgument).getRawType());
+                } else {
+                    this.parameterizedValidatableEntities.add(Object.class);
                 }
             });
         }
     }
 
     /**
-     * Returns the new instance of {@link EnvaliFieldHelper} object;
+     * Returns the new instance of {@link EnvaliFieldHelper} object.
+     * <p>
+     * The instance does not hold any entity object, so it can be created once per
+     * field and shared by all subsequent validations of the entity class.
      *
-     * @param validatableEntity The validatable entity
-     * @param field             The field
+     * @param entityClass The validatable entity class
+     * @param field       The field
      * @return The new instance of {@link EnvaliFieldHelper} object
      *
      * @exception NullPointerException If {@code null} is passed as an argument
      */
-    public static EnvaliFieldHelper of(@NonNull ValidatableEntity validatableEntity, @NonNull Field field) {
-        return new EnvaliFieldHelper(validatableEntity, field);
+    public static EnvaliFieldHelper of(@NonNull Class<? extends ValidatableEntity> entityClass, @NonNull Field field) {
+        return new EnvaliFieldHelper(entityClass, field);
     }
 
     /**
      * Returns an object value from a field object.
      *
+     * @param entity The validatable entity that holds the field
      * @return An object field value
      *
      * @exception UnsupportedOperationException If a different object is passed
@@ -128,21 +244,96 @@ public final class EnvaliFieldHelper {
      *                                          the permissions during the
      *                                          reflection process
      */
-    public Object get() {
+    public Object get(@NonNull ValidatableEntity entity) {
+
+        if (this.getter != null) {
+            return this.getter.apply(entity);
+        }
+
+        if (this.accessor != null) {
+            try {
+                return (Object) this.accessor.invokeExact((Object) entity);
+            } catch (RuntimeException | Error e) {
+                throw e;
+            } catch (Throwable e) {
+                throw new UnsupportedOperationException(e);
+            }
+        }
+
         try {
-            return this.field.get(this.validatableEntity);
+            return this.field.get(entity);
         } catch (IllegalArgumentException | IllegalAccessException e) {
             throw new UnsupportedOperationException(e);
         }
     }
 
+    /**
+     * Tests if the field is a component of record.
+     * <p>
+     * The value of record component is read through the cached handle of its
+     * canonical accessor, so the field does not need to be made accessible.
+     *
+     * @return {@code true} if the field is a component of record, otherwise
+     *         {@code false}
+     */
+    public boolean isRecordComponent() {
+        return this.accessor != null && this.field.getDeclaringClass().isRecord();
+    }
+
+    /**
+     * Tests if the field needs to be made accessible to be read, that is, if it is
+     * neither a component of record nor read through its getter.
+     *
+     * @param entityClass The validatable entity class
+     * @param field       The field
+     * @return {@code true} if the field is read by reflective field access,
+     *         otherwise {@code false}
+     *
+     * @exception NullPointerException If {@code null} is passed as an argument
+     */
+    public static boolean requiresFieldAccess(@NonNull Class<? extends ValidatableEntity> entityClass,
+            @NonNull Field field) {
+        return !field.getDeclaringClass().isRecord() && getAccessMode(entityClass) == AccessMode.FIELD;
+    }
+
+    /**
+     * Returns the function that returns the length or size of a value of the type
+     * passed as an argument. The function returns the length of
+     * {@link CharSequence} and array and the size of {@link Collection} and
+     * {@link Map} in constant time without copying the value.
+     *
+     * @param type The type of the value
+     * @return The function that returns the length or size, or {@code null} if
+     *         the type has neither length nor size
+     *
+     * @exception NullPointerException If {@code null} is passed as an argument
+     *
+     * @since 1.0.5
+     */
+    public static ToIntFunction<Object> getSizeFunction(@NonNull Class<?> type) {
+
+        if (CharSequence.class.isAssignableFrom(type)) {
+            return value -> ((CharSequence) value).length();
+        } else if (Collection.class.isAssignableFrom(type)) {
+            return value -> ((Collection<?>) value).size();
+        } else if (Map.class.isAssignableFrom(type)) {
+            return value -> ((Map<?, ?>) value).size();
+        } else if (Object[].class.isAssignableFrom(type)) {
+            return value -> ((Object[]) value).length;
+        } else if (type.isArray()) {
+            return Array::getLength;
+        }
+
+        return null;
+    }
+
     /**
      * Returns the name of validatable entity.
      *
      * @return The field type
      */
     public String getEntityName() {
-        return this.validatableEntity.getClass().getName();
+        return this.entityClass.getName();
     }
 
     /**
@@ -151,7 +342,7 @@ public final class EnvaliFieldHelper {
      * @return The field type
      */
     public String getEntitySimpleName() {
-        return this.validatableEntity.getClass().getSimpleName();
+        return this.entityClass.getSimpleName();
     }
 
     /**
@@ -175,100 +366,156 @@ public final class EnvaliFieldHelper {
     /**
      * Returns a string value from a field object.
      *
+     * @param entity The validatable entity that holds the field
      * @return A string field value
      */
-    public String getString() {
-        return String.valueOf(this.get());
+    public String getString(@NonNull ValidatableEntity entity) {
+        return String.valueOf(this.get(entity));
     }
 
     /**
      * Returns an int value from a field object.
      *
+     * @param entity The validatable entity that holds the field
      * @return An int field value
      */
-    public int getInt() {
-        return Integer.parseInt(this.getString());
+    public int getInt(@NonNull ValidatableEntity entity) {
+
+        if (this.intGetter != null) {
+            return this.intGetter.applyAsInt(entity);
+        }
+
+        if (this.intAccessor != null) {
+            try {
+                return (int) this.intAccessor.invokeExact((Object) entity);
+            } catch (RuntimeException | Error e) {
+                throw e;
+            } catch (Throwable e) {
+                throw new UnsupportedOperationException(e);
+            }
+        }
+
+        return Integer.parseInt(this.getString(entity));
     }
 
     /**
      * Returns a long value from a field object.
      *
+     * @param entity The validatable entity that holds the field
      * @return A long field value
      */
-    public long getLong() {
-        return Long.parseLong(this.getString());
+    public long getLong(@NonNull ValidatableEntity entity) {
+
+        if (this.longGetter != null) {
+            return this.longGetter.applyAsLong(entity);
+        }
+
+        if (this.longAccessor != null) {
+            try {
+                return (long) this.longAccessor.invokeExact((Object) entity);
+            } catch (RuntimeException | Error e) {
+                throw e;
+            } catch (Throwable e) {
+                throw new UnsupportedOperationException(e);
+            }
+        }
+
+        return Long.parseLong(this.getString(entity));
     }
 
     /**
      * Returns a short value from a field object.
      *
+     * @param entity The validatable entity that holds the field
      * @return A short field value
      */
-    public short getShort() {
-        return Short.parseShort(this.getString());
+    public short getShort(@NonNull ValidatableEntity entity) {
+        return Short.parseShort(this.getString(entity));
     }
 
     /**
      * Returns a byte value from a field object.
      *
+     * @param entity The validatable entity that holds the field
      * @return A byte field value
      */
-    public byte getByte() {
-        return Byte.parseByte(this.getString());
+    public byte getByte(@NonNull ValidatableEntity entity) {
+        return Byte.parseByte(this.getString(entity));
     }
 
     /**
      * Returns a float value from a field object.
      *
+     * @param entity The validatable entity that holds the field
      * @return A float field value
      */
-    public float getFloat() {
-        return Float.parseFloat(this.getString());
+    public float getFloat(@NonNull ValidatableEntity entity) {
+        return Float.parseFloat(this.getString(entity));
     }
 
     /**
      * Returns a double value from a field object.
      *
+     * @param entity The validatable entity that holds the field
      * @return A double field value
      */
-    public double getDouble() {
-        return Double.parseDouble(this.getString());
+    public double getDouble(@NonNull ValidatableEntity entity) {
+
+        if (this.doubleGetter != null) {
+            return this.doubleGetter.applyAsDouble(entity);
+        }
+
+        if (this.doubleAccessor != null) {
+            try {
+                return (double) this.doubleAccessor.invokeExact((Object) entity);
+            } catch (RuntimeException | Error e) {
+                throw e;
+            } catch (Throwable e) {
+                throw new UnsupportedOperationException(e);
+            }
+        }
+
+        return Double.parseDouble(this.getString(entity));
     }
 
     /**
      * Returns an array from a field object.
      *
+     * @param entity The validatable entity that holds the field
      * @return A field object of array
      */
-    public Object[] getArray() {
-        return (Object[]) this.get();
+    public Object[] getArray(@NonNull ValidatableEntity entity) {
+        return (Object[]) this.get(entity);
     }
 
     /**
      * Returns a list from a field object.
      *
+     * @param entity The validatable entity that holds the field
      * @return A field object of list
      */
-    public List<?> getList() {
-        return (List<?>) this.get();
+    public List<?> getList(@NonNull ValidatableEntity entity) {
+        return (List<?>) this.get(entity);
     }
 
     /**
      * Returns a map from a field object.
      *
+     * @param entity The validatable entity that holds the field
      * @return A field object of map
      */
-    public Map<?, ?> getMap() {
-        return (Map<?, ?>) this.get();
+    public Map<?, ?> getMap(@NonNull ValidatableEntity entity) {
+        return (Map<?, ?>) this.get(entity);
     }
 
     /**
      * Returns a set from a field object.
      *
+     * @param entity The validatable entity that holds the field
      * @return A field object of set
      */
-    public Set<?> getSet() {
-        return (Set<?>) this.get();
+    public Set<?> getSet(@NonNull ValidatableEntity entity) {
+        return (Set<?>) this.get(entity);
     }
 
     /**
@@ -280,11 +527,12 @@ public final class EnvaliFieldHelper {
      * guaranteed that the field object is a ValidatableEntity, so there is no need
      * to check when casting.
      *
+     * @param entity The validatable entity that holds the field
      * @return A field object of validatable entity list
      */
     @SuppressWarnings("unchecked")
-    public List<ValidatableEntity> getValidatableEntityList() {
-        return (List<ValidatableEntity>) this.get();
+    public List<ValidatableEntity> getValidatableEntityList(@NonNull ValidatableEntity entity) {
+        return (List<ValidatableEntity>) this.get(entity);
     }
 
     /**
@@ -296,11 +544,12 @@ public final class EnvaliFieldHelper {
      * guaranteed that the field object is a ValidatableEntity, so there is no need
      * to check when casting.
      *
+     * @param entity The validatable entity that holds the field
      * @return A field object of validatable entity map
      */
     @SuppressWarnings("unchecked")
-    public Map<?, ValidatableEntity> getValidatableEntityMap() {
-        return (Map<?, ValidatableEntity>) this.get();
+    public Map<?, ValidatableEntity> getValidatableEntityMap(@NonNull ValidatableEntity entity) {
+        return (Map<?, ValidatableEntity>) this.get(entity);
     }
 
     /**
@@ -312,20 +561,22 @@ public final class EnvaliFieldHelper {
      * guaranteed that the field object is a ValidatableEntity, so there is no need
      * to check when casting.
      *
+     * @param entity The validatable entity that holds the field
      * @return A field object of validatable entity set
      */
     @SuppressWarnings("unchecked")
-    public Set<ValidatableEntity> getValidatableEntitySet() {
-        return (Set<ValidatableEntity>) this.get();
+    public Set<ValidatableEntity> getValidatableEntitySet(@NonNull ValidatableEntity entity) {
+        return (Set<ValidatableEntity>) this.get(entity);
     }
 
     /**
      * Returns a validatable entity from a field object.
      *
+     * @param entity The validatable entity that holds the field
      * @return A field object of validatable entity
      */
-    public ValidatableEntity getValidatableEntity() {
-        return (ValidatableEntity) this.get();
+    public ValidatableEntity getValidatableEntity(@NonNull ValidatableEntity entity) {
+        return (ValidatableEntity) this.get(entity);
     }
 
     /**
@@ -448,6 +699,30 @@ public final class EnvaliFieldHelper {
         return this.type.equals(Double.class) || this.type.equals(double.class);
     }
 
+    /**
+     * Tests if the data type of the field is {@link BigDecimal} .
+     *
+     * @return {@code true} if the data type of field is {@link BigDecimal} ,
+     *         otherwise {@code false}
+     *
+     * @since 1.0.5
+     */
+    public boolean isBigDecimal() {
+        return this.type.equals(BigDecimal.class);
+    }
+
+    /**
+     * Tests if the data type of the field is {@link BigInteger} .
+     *
+     * @return {@code true} if the data type of field is {@link BigInteger} ,
+     *         otherwise {@code false}
+     *
+     * @since 1.0.5
+     */
+    public boolean isBigInteger() {
+        return this.type.equals(BigInteger.class);
+    }
+
     /**
      * Tests if the data type of the field is {@link ValidatableEntity} .
      *
@@ -455,7 +730,7 @@ public final class EnvaliFieldHelper {
      *         otherwise {@code false}
      */
     public boolean isValidatableEntity() {
-        return this.isValidatableEntity(this.get().getClass().getInterfaces());
+        return ValidatableEntity.class.isAssignableFrom(this.type);
     }
 
     /**
@@ -471,32 +746,210 @@ public final class EnvaliFieldHelper {
         }
 
         if (this.isList() || this.isSet()) {
-            return this.isValidatableEntity(this.parameterizedValidatableEntities.get(0).getInterfaces());
+            return ValidatableEntity.class.isAssignableFrom(this.parameterizedValidatableEntities.get(0));
         } else if (this.isMap()) {
-            return this.isValidatableEntity(this.parameterizedValidatableEntities.get(1).getInterfaces());
+            return ValidatableEntity.class.isAssignableFrom(this.parameterizedValidatableEntities.get(1));
         }
 
         return false;
     }
 
     /**
-     * Tests if a field object annotated with NestedEntity implements the
-     * {@link ValidatableEntity} interface.
+     * Returns the handle of the canonical accessor associated with the field if
+     * the field is a component of record. The handles of the canonical accessors
+     * are resolved once per record class and shared by all fields of the record.
      *
-     * @param interfaces The array of interfaces to be validated
-     * @return {@code true} if a field object implemets the the ValidatableEntity} ,
-     *         or {@code false}
+     * @param field The field
+     * @return The handle of the canonical accessor if the field is a component of
+     *         record, otherwise {@code null}
+     *
+     * @exception NullPointerException          If {@code null} is passed as an
+     *                                          argument
+     * @exception UnsupportedOperationException If the canonical accessor cannot
+     *                                          be accessed
+     */
+    private static MethodHandle getRecordAccessor(@NonNull Field field) {
+
+        final Class<?> declaringClass = field.getDeclaringClass();
+
+        if (!declaringClass.isRecord() || Modifier.isStatic(field.getModifiers())) {
+            return null;
+        }
+
+        return RECORD_ACCESSORS.get(declaringClass).get(field.getName());
+    }
+
+    /**
+     * Binds the handle that reads the field, which is either the canonical
+     * accessor of record component or the getter. The handle is adapted to the
+     * type {@code (Object)Object} so that it can be invoked exactly, and the
+     * handle that returns {@code int}, {@code long} or {@code double} is also
+     * adapted to its primitive type so that the value is read without boxing.
+     *
+     * @param handle The handle that reads the field
      *
      * @exception NullPointerException If {@code null} is passed as an argument
      */
-    private boolean isValidatableEntity(@NonNull Class<?>[] interfaces) {
+    private void bindAccessor(@NonNull MethodHandle handle) {
+
+        this.accessor = handle.asType(MethodType.methodType(Object.class, Object.class));
 
-        for (Class<?> _interface : interfaces) {
-            if (_interface.equals(ValidatableEntity.class)) {
-                return true;
+        final Class<?> returnType = handle.type().returnType();
+
+        if (returnType == int.class) {
+            this.intAccessor = handle.asType(MethodType.methodType(int.class, Object.class));
+        } else if (returnType == long.class) {
+            this.longAccessor = handle.asType(MethodType.methodType(long.class, Object.class));
+        } else if (returnType == double.class) {
+            this.doubleAccessor = handle.asType(MethodType.methodType(double.class, Object.class));
+        }
+    }
+
+    /**
+     * Returns the access mode specified for the entity class.
+     *
+     * @param entityClass The validatable entity class
+     * @return The access mode specified by {@link EntityAccess} annotation if any,
+     *         otherwise {@link AccessMode#FIELD}
+     *
+     * @exception NullPointerException If {@code null} is passed as an argument
+     */
+    private static AccessMode getAccessMode(@NonNull Class<? extends ValidatableEntity> entityClass) {
+        final EntityAccess entityAccess = entityClass.getAnnotation(EntityAccess.class);
+        return entityAccess != null ? entityAccess.mode() : AccessMode.FIELD;
+    }
+
+    /**
+     * Binds the getter of the field to functional interfaces.
+     * <p>
+     * {@link LambdaMetafactory} requires the lookup with full privilege access,
+     * which {@link MethodHandles#privateLookupIn(Class, MethodHandles.Lookup)}
+     * does not provide when the entity class is loaded by a class loader other
+     * than that of Envali. In that case the handle of the getter is bound as it
+     * is and invoked exactly instead.
+     *
+     * @param entityClass The validatable entity class
+     * @param field       The field
+     *
+     * @exception NullPointerException          If {@code null} is passed as an
+     *                                          argument
+     * @exception UnsupportedOperationException If the getter was not found,
+     *                                          otherwise if the getter cannot be
+     *                                          accessed
+     */
+    @SuppressWarnings("unchecked")
+    private void bindGetter(@NonNull Class<? extends ValidatableEntity> entityClass, @NonNull Field field) {
+
+        final Method getterMethod = findGetter(entityClass, field);
+        final MethodHandles.Lookup lookup;
+        final MethodHandle getterHandle;
+
+        try {
+            lookup = MethodHandles.privateLookupIn(getterMethod.getDeclaringClass(), MethodHandles.lookup());
+            getterHandle = lookup.unreflect(getterMethod);
+        } catch (IllegalAccessException e) {
+            throw new UnsupportedOperationException(e);
+        }
+
+        if (!lookup.hasFullPrivilegeAccess()) {
+            this.bindAccessor(getterHandle);
+            return;
+        }
+
+        try {
+            final Class<?> returnType = getterMethod.getReturnType();
+
+            this.getter = createGetter(lookup, getterHandle, Function.class, "apply", Object.class,
+                    getterHandle.type().wrap());
+
+            if (returnType == int.class) {
+                this.intGetter = createGetter(lookup, getterHandle, ToIntFunction.class, "applyAsInt", int.class,
+                        getterHandle.type());
+            } else if (returnType == long.class) {
+                this.longGetter = createGetter(lookup, getterHandle, ToLongFunction.class, "applyAsLong", long.class,
+                        getterHandle.type());
+            } else if (returnType == double.class) {
+                this.doubleGetter = createGetter(lookup, getterHandle, ToDoubleFunction.class, "applyAsDouble",
+                        double.class, getterHandle.type());
             }
+        } catch (LambdaConversionException e) {
+            this.getter = null;
+            this.intGetter = null;
+            this.longGetter = null;
+            this.doubleGetter = null;
+            this.bindAccessor(getterHandle);
         }
+    }
 
-        return false;
+    /**
+     * Returns the getter of the field. The getter is searched from the entity
+     * class up to its topmost superclass.
+     *
+     * @param entityClass The validatable entity class
+     * @param field       The field
+     * @return The getter of the field
+     *
+     * @exception NullPointerException          If {@code null} is passed as an
+     *                                          argument
+     * @exception UnsupportedOperationException If the getter was not found
+     */
+    private static Method findGetter(@NonNull Class<? extends ValidatableEntity> entityClass, @NonNull Field field) {
+
+        final String fieldName = field.getName();
+        final String capitalizedName = Character.toUpperCase(fieldName.charAt(0)) + fieldName.substring(1);
+        final List<String> getterNames = field.getType() == boolean.class
+                ? List.of("is" + capitalizedName, "get" + capitalizedName)
+                : List.of("get" + capitalizedName);
+
+        for (String getterName : getterNames) {
+            for (Class<?> type = entityClass; type != null && type != Object.class; type = type.getSuperclass()) {
+                try {
+                    final Method getterMethod = type.getDeclaredMethod(getterName);
+
+                    if (!Modifier.isStatic(getterMethod.getModifiers()) && getterMethod.getReturnType() != void.class) {
+                        return getterMethod;
+                    }
+                } catch (NoSuchMethodException e) {
+                    // Searches the superclass
+                }
+            }
+        }
+
+        throw new UnsupportedOperationException(
+                String.format("The getter %s() for the variable %s#%s was not found.", getterNames.get(0),
+                        entityClass.getName(), fieldName));
+    }
+
+    /**
+     * Creates the instance of functional interface that invokes the getter.
+     *
+     * @param <T>                    The type of functional interface
+     * @param lookup                 The lookup that has private access to the
+     *                               class declaring the getter
+     * @param getterHandle           The handle of the getter
+     * @param interfaceType          The functional interface
+     * @param methodName             The name of the method of functional interface
+     * @param returnType             The erased return type of the method of
+     *                               functional interface
+     * @param instantiatedMethodType The method type to be enforced at invocation
+     * @return The instance of functional interface that invokes the getter
+     *
+     * @exception LambdaConversionException If the getter cannot be bound
+     */
+    private static <T> T createGetter(@NonNull MethodHandles.Lookup lookup, @NonNull MethodHandle getterHandle,
+            @NonNull Class<T> interfaceType, @NonNull String methodName, @NonNull Class<?> returnType,
+            @NonNull MethodType instantiatedMethodType) throws LambdaConversionException {
+
+        final CallSite callSite = LambdaMetafactory.metafactory(lookup, methodName,
+                MethodType.methodType(interfaceType), MethodType.methodType(returnType, Object.class), getterHandle,
+                instantiatedMethodType);
+
+        try {
+            return interfaceType.cast(callSite.getTarget().invoke());
+        } catch (RuntimeException | Error e) {
+            throw e;
+        } catch (Throwable e) {
+            throw new UnsupportedOperationException(e);
+        }
     }
 }
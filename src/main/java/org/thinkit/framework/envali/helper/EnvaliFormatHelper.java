@@ -0,0 +1,616 @@
+/*
+ * Copyright 2020 Kato Shinya.
+ *
+ * Licensed under the Apache License, Version 2.0 (the "License"); you may not use this file except
+ * in compliance with the License. You may obtain a copy of the License at
+ *
+ *     http://www.apache.org/licenses/LICENSE-2.0
+ *
+ * Unless required by applicable law or agreed to in writing, software distributed under the License
+ * is distributed on an "AS IS" BASIS, WITHOUT WARRANTIES OR CONDITIONS OF ANY KIND, either express
+ * or implied. See the License for the specific language governing permissions and limitations under
+ * the License.
+ */
+
+package org.thinkit.framework.envali.helper;
+
+import lombok.NonNull;
+
+/**
+ * A helper class that parses email addresses, URLs and IP addresses
+ * represented as a {@link CharSequence} in a single pass.
+ * <p>
+ * The parsers never backtrack and never copy the value, so a value is checked
+ * in time proportional to its length. They are used in place of the regular
+ * expressions of the presets that have a dedicated parser when
+ * {@link org.thinkit.framework.envali.catalog.RegexEngine#PARSER} is selected.
+ * The grammars are as follows.
+ * <ul>
+ * <li>An email address is a local part of dot-separated atoms of up to 64
+ * characters, {@code @} and a domain name of two or more labels.</li>
+ * <li>A domain name consists of labels of up to 63 ASCII letters, digits and
+ * hyphens that neither start nor end with a hyphen, and is up to 253
+ * characters. The last label must not consist only of digits.</li>
+ * <li>An IPv4 address consists of four decimal octets from {@code 0} to
+ * {@code 255} without leading zeros, and a port is a decimal number from
+ * {@code 0} to {@code 65535} .</li>
+ * <li>An IPv6 address is written in the text form of RFC 4291, with at most
+ * one {@code ::} and an optional IPv4 address in the last 32 bits. Zone
+ * identifiers are not supported.</li>
+ * <li>A URL consists of the scheme in any case, {@code ://} , optional user
+ * information, a host that is a domain name, an IPv4 address or an IPv6
+ * address in brackets, an optional port, and an optional path, query and
+ * fragment made of the characters allowed by RFC 3986 and percent-encoded
+ * octets.</li>
+ * </ul>
+ *
+ * @author Kato Shinya
+ * @since 1.0.5
+ */
+public final class EnvaliFormatHelper {
+
+    /**
+     * The characters other than ASCII letters and digits allowed in the atoms of
+     * the local part of an email address
+     */
+    private static final String ATOM_SYMBOLS = "!#$%&'*+-/=?^_`{|}~";
+
+    /**
+     * The characters other than ASCII letters and digits allowed in the path,
+     * query and fragment of a URL
+     */
+    private static final String URL_SYMBOLS = "-._~!$&'()*+,;=:@/?";
+
+    /**
+     * The characters other than ASCII letters and digits allowed in the user
+     * information of a URL
+     */
+    private static final String USER_INFO_SYMBOLS = "-._~!$&'()*+,;=:";
+
+    /**
+     * The maximum length of the local part of an email address
+     */
+    private static final int MAX_LOCAL_PART_LENGTH = 64;
+
+    /**
+     * The maximum length of a domain name
+     */
+    private static final int MAX_DOMAIN_NAME_LENGTH = 253;
+
+    /**
+     * The maximum length of a label of a domain name
+     */
+    private static final int MAX_LABEL_LENGTH = 63;
+
+    /**
+     * The maximum number of the 16-bit groups of an IPv6 address
+     */
+    private static final int IPV6_GROUPS = 8;
+
+    /**
+     * The maximum port number
+     */
+    private static final int MAX_PORT = 65535;
+
+    /**
+     * Default constructor
+     */
+    private EnvaliFormatHelper() {
+    }
+
+    /**
+     * Tests if the value passed as an argument is an email address.
+     *
+     * @param value The value
+     * @return {@code true} if the value is an email address, otherwise
+     *         {@code false}
+     *
+     * @exception NullPointerException If {@code null} is passed as an argument
+     */
+    public static boolean isEmailAddress(@NonNull CharSequence value) {
+
+        final int length = value.length();
+        int atomLength = 0;
+        int i = 0;
+
+        for (; i < length; i++) {
+            final char character = value.charAt(i);
+
+            if (character == '@') {
+                break;
+            } else if (character == '.') {
+                if (atomLength == 0) {
+                    return false;
+                }
+
+                atomLength = 0;
+            } else if (isAlphanumeric(character) || ATOM_SYMBOLS.indexOf(character) >= 0) {
+                atomLength++;
+            } else {
+                return false;
+            }
+        }
+
+        if (i == length || atomLength == 0 || i > MAX_LOCAL_PART_LENGTH) {
+            return false;
+        }
+
+        return getDomainLabels(value, i + 1, length) >= 2;
+    }
+
+    /**
+     * Tests if the value passed as an argument is a web URL whose scheme is
+     * {@code http} or {@code https} .
+     *
+     * @param value The value
+     * @return {@code true} if the value is a web URL, otherwise {@code false}
+     *
+     * @exception NullPointerException If {@code null} is passed as an argument
+     */
+    public static boolean isWebUrl(@NonNull CharSequence value) {
+        return isUrl(value, "http") || isUrl(value, "https");
+    }
+
+    /**
+     * Tests if the value passed as an argument is an FTP URL whose scheme is
+     * {@code ftp} .
+     *
+     * @param value The value
+     * @return {@code true} if the value is an FTP URL, otherwise {@code false}
+     *
+     * @exception NullPointerException If {@code null} is passed as an argument
+     */
+    public static boolean isFtpUrl(@NonNull CharSequence value) {
+        return isUrl(value, "ftp");
+    }
+
+    /**
+     * Tests if the value passed as an argument is an IPv4 address.
+     *
+     * @param value The value
+     * @return {@code true} if the value is an IPv4 address, otherwise
+     *         {@code false}
+     *
+     * @exception NullPointerException If {@code null} is passed as an argument
+     */
+    public static boolean isIpv4Address(@NonNull CharSequence value) {
+        return isIpv4Address(value, 0, value.length());
+    }
+
+    /**
+     * Tests if the value passed as an argument is an IPv4 address followed by a
+     * colon and a port.
+     *
+     * @param value The value
+     * @return {@code true} if the value is an IPv4 address with a port, otherwise
+     *         {@code false}
+     *
+     * @exception NullPointerException If {@code null} is passed as an argument
+     */
+    public static boolean isIpv4AddressWithPort(@NonNull CharSequence value) {
+
+        final int length = value.length();
+        final int colon = lastIndexOf(value, ':', 0, length);
+
+        return colon >= 0 && isIpv4Address(value, 0, colon) && isPort(value, colon + 1, length);
+    }
+
+    /**
+     * Tests if the value passed as an argument is an IPv6 address.
+     *
+     * @param value The value
+     * @return {@code true} if the value is an IPv6 address, otherwise
+     *         {@code false}
+     *
+     * @exception NullPointerException If {@code null} is passed as an argument
+     */
+    public static boolean isIpv6Address(@NonNull CharSequence value) {
+        return isIpv6Address(value, 0, value.length());
+    }
+
+    /**
+     * Tests if the value passed as an argument is a URL of the scheme passed as
+     * an argument. The scheme of the value is compared ignoring ASCII case as
+     * specified in RFC 3986.
+     *
+     * @param value  The value
+     * @param scheme The scheme in lower case
+     * @return {@code true} if the value is a URL of the scheme, otherwise
+     *         {@code false}
+     */
+    private static boolean isUrl(CharSequence value, String scheme) {
+
+        final int length = value.length();
+        final int authorityStart = scheme.length() + 3;
+
+        if (length <= authorityStart || value.charAt(authorityStart - 3) != ':'
+                || value.charAt(authorityStart - 2) != '/' || value.charAt(authorityStart - 1) != '/') {
+            return false;
+        }
+
+        for (int i = 0; i < scheme.length(); i++) {
+            // The scheme is case-insensitive, and setting the 0x20 bit lowers only ASCII letters to the scheme
+            if ((value.charAt(i) | 0x20) != scheme.charAt(i)) {
+                return false;
+            }
+        }
+
+        int authorityEnd = authorityStart;
+
+        while (authorityEnd < length && "/?#".indexOf(value.charAt(authorityEnd)) < 0) {
+            authorityEnd++;
+        }
+
+        final int at = lastIndexOf(value, '@', authorityStart, authorityEnd);
+        final int hostStart = at + 1;
+
+        if (at >= 0 && !isUserInfo(value, authorityStart, at)) {
+            return false;
+        }
+
+        return isHostAndPort(value, at >= 0 ? hostStart : authorityStart, authorityEnd)
+                && isPathQueryFragment(value, authorityEnd, length);
+    }
+
+    /**
+     * Tests if the range of the value passed as arguments is the user
+     * information of a URL.
+     *
+     * @param value The value
+     * @param start The start index, inclusive
+     * @param end   The end index, exclusive
+     * @return {@code true} if the range is the user information, otherwise
+     *         {@code false}
+     */
+    private static boolean isUserInfo(CharSequence value, int start, int end) {
+
+        for (int i = start; i < end; i++) {
+            final char character = value.charAt(i);
+
+            if (character == '%') {
+                if (!isPercentEncoded(value, i, end)) {
+                    return false;
+                }
+
+                i += 2;
+            } else if (!isAlphanumeric(character) && USER_INFO_SYMBOLS.indexOf(character) < 0) {
+                return false;
+            }
+        }
+
+        return true;
+    }
+
+    /**
+     * Tests if the range of the value passed as arguments is the host of a URL
+     * optionally followed by a colon and a port.
+     *
+     * @param value The value
+     * @param start The start index, inclusive
+     * @param end   The end index, exclusive
+     * @return {@code true} if the range is a host with an optional port,
+     *         otherwise {@code false}
+     */
+    private static boolean isHostAndPort(CharSequence value, int start, int end) {
+
+        if (start >= end) {
+            return false;
+        }
+
+        if (value.charAt(start) == '[') {
+            final int bracket = lastIndexOf(value, ']', start, end);
+
+            if (bracket < 0 || !isIpv6Address(value, start + 1, bracket)) {
+                return false;
+            }
+
+            return bracket + 1 == end || (value.charAt(bracket + 1) == ':' && isPort(value, bracket + 2, end));
+        }
+
+        final int colon = lastIndexOf(value, ':', start, end);
+        final int hostEnd = colon >= 0 ? colon : end;
+
+        if (colon >= 0 && !isPort(value, colon + 1, end)) {
+            return false;
+        }
+
+        return isIpv4Address(value, start, hostEnd) || getDomainLabels(value, start, hostEnd) > 0;
+    }
+
+    /**
+     * Tests if the range of the value passed as arguments is the path, query
+     * and fragment of a URL, each of which may be omitted.
+     *
+     * @param value The value
+     * @param start The start index, inclusive
+     * @param end   The end index, exclusive
+     * @return {@code true} if the range is the path, query and fragment,
+     *         otherwise {@code false}
+     */
+    private static boolean isPathQueryFragment(CharSequence value, int start, int end) {
+
+        boolean fragment = false;
+
+        for (int i = start; i < end; i++) {
+            final char character = value.charAt(i);
+
+            if (character == '#') {
+                if (fragment) {
+                    return false;
+                }
+
+                fragment = true;
+            } else if (character == '%') {
+                if (!isPercentEncoded(value, i, end)) {
+                    return false;
+                }
+
+                i += 2;
+            } else if (!isAlphanumeric(character) && URL_SYMBOLS.indexOf(character) < 0) {
+                return false;
+            }
+        }
+
+        return true;
+    }
+
+    /**
+     * Returns the number of labels of the domain name in the range of the value
+     * passed as arguments.
+     *
+     * @param value The value
+     * @param start The start index, inclusive
+     * @param end   The end index, exclusive
+     * @return The number of labels, or {@code -1} if the range is not a domain
+     *         name
+     */
+    private static int getDomainLabels(CharSequence value, int start, int end) {
+
+        if (start >= end || end - start > MAX_DOMAIN_NAME_LENGTH) {
+            return -1;
+        }
+
+        int labels = 0;
+        int labelLength = 0;
+        boolean numeric = true;
+
+        for (int i = start; i <= end; i++) {
+            final char character = i < end ? value.charAt(i) : '.';
+
+            if (character == '.') {
+                if (labelLength == 0 || value.charAt(i - 1) == '-') {
+                    return -1;
+                }
+
+                labels++;
+                labelLength = 0;
+
+                if (i < end) {
+                    numeric = true;
+                }
+            } else if (isAlphanumeric(character) || (character == '-' && labelLength > 0)) {
+                if (++labelLength > MAX_LABEL_LENGTH) {
+                    return -1;
+                }
+
+                numeric &= isDigit(character);
+            } else {
+                return -1;
+            }
+        }
+
+        return numeric ? -1 : labels;
+    }
+
+    /**
+     * Tests if the range of the value passed as arguments is an IPv4 address.
+     *
+     * @param value The value
+     * @param start The start index, inclusive
+     * @param end   The end index, exclusive
+     * @return {@code true} if the range is an IPv4 address, otherwise
+     *         {@code false}
+     */
+    private static boolean isIpv4Address(CharSequence value, int start, int end) {
+
+        int octets = 0;
+        int i = start;
+
+        while (true) {
+            int octet = 0;
+            int digits = 0;
+
+            while (i < end && isDigit(value.charAt(i))) {
+                if ((digits == 1 && octet == 0) || digits == 3) {
+                    return false;
+                }
+
+                octet = octet * 10 + value.charAt(i++) - '0';
+                digits++;
+            }
+
+            if (digits == 0 || octet > 255) {
+                return false;
+            } else if (++octets == 4) {
+                return i == end;
+            } else if (i == end || value.charAt(i) != '.') {
+                return false;
+            }
+
+            i++;
+        }
+    }
+
+    /**
+     * Tests if the range of the value passed as arguments is an IPv6 address.
+     *
+     * @param value The value
+     * @param start The start index, inclusive
+     * @param end   The end index, exclusive
+     * @return {@code true} if the range is an IPv6 address, otherwise
+     *         {@code false}
+     */
+    private static boolean isIpv6Address(CharSequence value, int start, int end) {
+
+        if (end - start < 2) {
+            return false;
+        }
+
+        int groups = 0;
+        boolean compressed = false;
+        int i = start;
+
+        if (value.charAt(i) == ':') {
+            if (value.charAt(i + 1) != ':') {
+                return false;
+            }
+
+            compressed = true;
+            i += 2;
+
+            if (i == end) {
+                return true;
+            }
+        }
+
+        while (true) {
+            final int groupStart = i;
+
+            while (i < end && isHexDigit(value.charAt(i))) {
+                i++;
+            }
+
+            if (i < end && value.charAt(i) == '.') {
+                return (compressed ? groups + 2 < IPV6_GROUPS : groups + 2 == IPV6_GROUPS)
+                        && isIpv4Address(value, groupStart, end);
+            }
+
+            if (i == groupStart || i - groupStart > 4) {
+                return false;
+            }
+
+            groups++;
+
+            if (i == end) {
+                return compressed ? groups < IPV6_GROUPS : groups == IPV6_GROUPS;
+            } else if (value.charAt(i) != ':' || groups == IPV6_GROUPS) {
+                return false;
+            }
+
+            i++;
+
+            if (i < end && value.charAt(i) == ':') {
+                if (compressed) {
+                    return false;
+                }
+
+                compressed = true;
+                i++;
+
+                if (i == end) {
+                    return groups < IPV6_GROUPS;
+                }
+            } else if (i == end) {
+                return false;
+            }
+        }
+    }
+
+    /**
+     * Tests if the range of the value passed as arguments is a port.
+     *
+     * @param value The value
+     * @param start The start index, inclusive
+     * @param end   The end index, exclusive
+     * @return {@code true} if the range is a port, otherwise {@code false}
+     */
+    private static boolean isPort(CharSequence value, int start, int end) {
+
+        if (start >= end || end - start > 5) {
+            return false;
+        }
+
+        int port = 0;
+
+        for (int i = start; i < end; i++) {
+            final char character = value.charAt(i);
+
+            if (!isDigit(character)) {
+                return false;
+            }
+
+            port = port * 10 + character - '0';
+        }
+
+        return port <= MAX_PORT;
+    }
+
+    /**
+     * Tests if the percent sign at the index of the value passed as an argument
+     * is followed by two hexadecimal digits.
+     *
+     * @param value The value
+     * @param index The index of the percent sign
+     * @param end   The end index, exclusive
+     * @return {@code true} if the percent sign starts a percent-encoded octet,
+     *         otherwise {@code false}
+     */
+    private static boolean isPercentEncoded(CharSequence value, int index, int end) {
+        return index + 2 < end && isHexDigit(value.charAt(index + 1)) && isHexDigit(value.charAt(index + 2));
+    }
+
+    /**
+     * Returns the last index of the character in the range of the value passed
+     * as arguments.
+     *
+     * @param value     The value
+     * @param character The character to be searched
+     * @param start     The start index, inclusive
+     * @param end       The end index, exclusive
+     * @return The last index of the character, or {@code -1} if the character is
+     *         not found
+     */
+    private static int lastIndexOf(CharSequence value, char character, int start, int end) {
+
+        for (int i = end - 1; i >= start; i--) {
+            if (value.charAt(i) == character) {
+                return i;
+            }
+        }
+
+        return -1;
+    }
+
+    /**
+     * Tests if the character passed as an argument is an ASCII letter or digit.
+     *
+     * @param character The character
+     * @return {@code true} if the character is an ASCII letter or digit,
+     *         otherwise {@code false}
+     */
+    private static boolean isAlphanumeric(char character) {
+        return isDigit(character) || (character >= 'a' && character <= 'z') || (character >= 'A' && character <= 'Z');
+    }
+
+    /**
+     * Tests if the character passed as an argument is an ASCII digit.
+     *
+     * @param character The character
+     * @return {@code true} if the character is an ASCII digit, otherwise
+     *         {@code false}
+     */
+    private static boolean isDigit(char character) {
+        return character >= '0' && character <= '9';
+    }
+
+    /**
+     * Tests if the character passed as an argument is an ASCII hexadecimal digit.
+     *
+     * @param character The character
+     * @return {@code true} if the character is an ASCII hexadecimal digit,
+     *         otherwise {@code false}
+     */
+    private static boolean isHexDigit(char character) {
+        return isDigit(character) || (character >= 'a' && character <= 'f') || (character >= 'A' && character <= 'F');
+    }
+}
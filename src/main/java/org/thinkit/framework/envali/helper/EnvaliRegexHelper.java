@@ -0,0 +1,196 @@
+/*
+ * Copyright 2020 Kato Shinya.
+ *
+ * Licensed under the Apache License, Version 2.0 (the "License"); you may not use this file except
+ * in compliance with the License. You may obtain a copy of the License at
+ *
+ *     http://www.apache.org/licenses/LICENSE-2.0
+ *
+ * Unless required by applicable law or agreed to in writing, software distributed under the License
+ * is distributed on an "AS IS" BASIS, WITHOUT WARRANTIES OR CONDITIONS OF ANY KIND, either express
+ * or implied. See the License for the specific language governing permissions and limitations under
+ * the License.
+ */
+
+package org.thinkit.framework.envali.helper;
+
+import java.util.function.Predicate;
+import java.util.regex.Pattern;
+
+import org.thinkit.framework.envali.annotation.RequireMatch;
+import org.thinkit.framework.envali.catalog.EnvaliContentAttribute;
+import org.thinkit.framework.envali.catalog.RegexEngine;
+import org.thinkit.framework.envali.catalog.RegexMethod;
+import org.thinkit.framework.envali.catalog.RegexModifier;
+import org.thinkit.framework.envali.catalog.RegexPreset;
+
+import lombok.NonNull;
+
+/**
+ * A helper class that compiles the regular expressions of {@link RequireMatch}
+ * annotation and matches values against them.
+ * <p>
+ * The regular expression is compiled only once when a validation is created,
+ * and only a matcher is created at each validation. The presets that have a
+ * dedicated parser in {@link EnvaliFormatHelper} are validated by the parser
+ * without any regular expression when {@link RegexEngine#PARSER} is selected.
+ *
+ * @author Kato Shinya
+ * @since 1.0.5
+ */
+public final class EnvaliRegexHelper {
+
+    /**
+     * Default constructor
+     */
+    private EnvaliRegexHelper() {
+    }
+
+    /**
+     * Returns the requirement that a value matches the regular expression
+     * specified in the {@link RequireMatch} annotation passed as an argument by
+     * its method. The value is validated by the dedicated parser of the preset if
+     * {@link RegexEngine#PARSER} is selected, the method is
+     * {@link RegexMethod#MATCHES} and no modifier is specified, otherwise the
+     * regular expression is compiled only once and matched at each call.
+     *
+     * @param annotation    The {@link RequireMatch} annotation
+     * @param contentHelper The content helper, or {@code null} if the parameters
+     *                      are specified in the annotation
+     * @return The requirement that a value matches the regular expression
+     *
+     * @exception NullPointerException          If {@code null} is passed as the
+     *                                          annotation
+     * @exception UnsupportedOperationException If the expression in the content
+     *                                          is missing or malformed, otherwise
+     *                                          if a preset without regular
+     *                                          expression is applied by other
+     *                                          than {@link RegexMethod#MATCHES}
+     * @exception IllegalArgumentException      If the expression in the
+     *                                          annotation is malformed
+     */
+    public static Predicate<CharSequence> compileMatcher(@NonNull RequireMatch annotation,
+            EnvaliContentHelper contentHelper) {
+
+        final RegexMethod regexMethod = annotation.method();
+
+        if (annotation.engine() == RegexEngine.PARSER && regexMethod == RegexMethod.MATCHES
+                && annotation.modifiers().length == 0) {
+            final Predicate<CharSequence> parser = getParser(annotation.presetExpression());
+
+            if (parser != null) {
+                return parser;
+            }
+        }
+
+        if (annotation.presetExpression() == RegexPreset.IPV6_ADDRESS && regexMethod == RegexMethod.MATCHES) {
+            return EnvaliFormatHelper::isIpv6Address;
+        }
+
+        final Pattern pattern = compile(annotation, contentHelper);
+        return input -> matches(pattern, regexMethod, input);
+    }
+
+    /**
+     * Compiles the regular expression specified in the {@link RequireMatch}
+     * annotation passed as an argument. The preset expression is used if any,
+     * otherwise the expression in the content or the annotation is used.
+     *
+     * @param annotation    The {@link RequireMatch} annotation
+     * @param contentHelper The content helper, or {@code null} if the parameters
+     *                      are specified in the annotation
+     * @return The compiled regular expression
+     *
+     * @exception NullPointerException          If {@code null} is passed as the
+     *                                          annotation
+     * @exception UnsupportedOperationException If the expression in the content
+     *                                          is missing or malformed, otherwise
+     *                                          if the preset has no regular
+     *                                          expression
+     * @exception IllegalArgumentException      If the expression in the
+     *                                          annotation is malformed
+     */
+    public static Pattern compile(@NonNull RequireMatch annotation, EnvaliContentHelper contentHelper) {
+
+        int flags = 0;
+
+        for (RegexModifier regexModifier : annotation.modifiers()) {
+            flags |= toPatternFlag(regexModifier);
+        }
+
+        final RegexPreset presetExpression = annotation.presetExpression();
+
+        if (presetExpression != RegexPreset.NONE) {
+            if (presetExpression.getTag() == null) {
+                throw new UnsupportedOperationException(String.format(
+                        "The preset %s has no regular expression and supports only the MATCHES method.",
+                        presetExpression.name()));
+            }
+
+            return Pattern.compile(presetExpression.getTag().getTag(), flags);
+        }
+
+        return contentHelper != null ? contentHelper.getPattern(EnvaliContentAttribute.REGEX_EXPRESSION, flags)
+                : Pattern.compile(annotation.expression(), flags);
+    }
+
+    /**
+     * Tests if the input passed as an argument matches the regular expression by
+     * the method passed as an argument.
+     *
+     * @param pattern     The compiled regular expression
+     * @param regexMethod The regex method based on {@link RegexMethod}
+     * @param input       The input
+     * @return {@code true} if the input matches the regular expression, otherwise
+     *         {@code false}
+     *
+     * @exception NullPointerException If {@code null} is passed as an argument
+     */
+    public static boolean matches(@NonNull Pattern pattern, @NonNull RegexMethod regexMethod,
+            @NonNull CharSequence input) {
+        return switch (regexMethod) {
+            case FIND -> pattern.matcher(input).find();
+            case LOOKING_AT -> pattern.matcher(input).lookingAt();
+            case MATCHES -> pattern.matcher(input).matches();
+        };
+    }
+
+    /**
+     * Returns the dedicated parser of the preset passed as an argument.
+     *
+     * @param regexPreset The preset
+     * @return The dedicated parser, or {@code null} if the preset has no parser
+     */
+    private static Predicate<CharSequence> getParser(@NonNull RegexPreset regexPreset) {
+        return switch (regexPreset) {
+            case EMAIL_ADDRESS -> EnvaliFormatHelper::isEmailAddress;
+            case WEB_URL -> EnvaliFormatHelper::isWebUrl;
+            case FTP_URL -> EnvaliFormatHelper::isFtpUrl;
+            case IP_ADDRESS -> EnvaliFormatHelper::isIpv4Address;
+            case IP_ADDRESS_WITH_PORT -> EnvaliFormatHelper::isIpv4AddressWithPort;
+            case IPV6_ADDRESS -> EnvaliFormatHelper::isIpv6Address;
+            default -> null;
+        };
+    }
+
+    /**
+     * Returns the flag of {@link Pattern} associated with the regex modifier
+     * passed as an argument.
+     *
+     * @param regexModifier The regex modifier
+     * @return The flag of {@link Pattern}
+     */
+    private static int toPatternFlag(@NonNull RegexModifier regexModifier) {
+        return switch (regexModifier) {
+            case UNIX_LINES -> Pattern.UNIX_LINES;
+            case CASE_INSENSITIVE -> Pattern.CASE_INSENSITIVE;
+            case COMMENTS -> Pattern.COMMENTS;
+            case MULTILINE -> Pattern.MULTILINE;
+            case LITERAL -> Pattern.LITERAL;
+            case DOTALL -> Pattern.DOTALL;
+            case UNICODE_CASE -> Pattern.UNICODE_CASE;
+            case CANON_EQ -> Pattern.CANON_EQ;
+            case UNICODE_CHARACTER_CLASS -> Pattern.UNICODE_CHARACTER_CLASS;
+        };
+    }
+}
@@ -0,0 +1,410 @@
+/*
+ * Copyright 2020 Kato Shinya.
+ *
+ * Licensed under the Apache License, Version 2.0 (the "License"); you may not use this file except
+ * in compliance with the License. You may obtain a copy of the License at
+ *
+ *     http://www.apache.org/licenses/LICENSE-2.0
+ *
+ * Unless required by applicable law or agreed to in writing, software distributed under the License
+ * is distributed on an "AS IS" BASIS, WITHOUT WARRANTIES OR CONDITIONS OF ANY KIND, either express
+ * or implied. See the License for the specific language governing permissions and limitations under
+ * the License.
+ */
+
+package org.thinkit.framework.envali.helper;
+
+import java.lang.invoke.MethodType;
+import java.util.Set;
+
+import org.thinkit.framework.envali.annotation.RequireOneOf;
+import org.thinkit.framework.envali.catalog.EnvaliContentAttribute;
+
+import lombok.EqualsAndHashCode;
+import lombok.NonNull;
+import lombok.ToString;
+
+/**
+ * The object that represents the set of values allowed by the
+ * {@link RequireOneOf} annotation, compiled for the type of the field.
+ * <p>
+ * The values are compiled only once when the set is created. The names of the
+ * constants of an enum are compiled into a table indexed by the ordinal, which
+ * is a minimal perfect hash of the constants. The strings and the integers are
+ * compiled into open-addressing hash tables whose load factor is at most 0.5,
+ * so the membership of a value is tested in constant time without allocating
+ * any object. The hash code of a string is the same as
+ * {@link String#hashCode()} , which is cached by the string itself.
+ *
+ * @author Kato Shinya
+ * @since 1.0.5
+ */
+@ToString
+@EqualsAndHashCode
+public final class EnvaliValueSet {
+
+    /**
+     * The wrapper types of the integers supported by the set
+     */
+    private static final Set<Class<?>> INTEGER_TYPES = Set.of(Integer.class, Long.class, Short.class, Byte.class);
+
+    /**
+     * The table of the allowed constants indexed by the ordinal, or {@code null}
+     * if the set is not compiled for an enum
+     */
+    private boolean[] ordinals;
+
+    /**
+     * The open-addressing table of the allowed strings, or {@code null} if the set
+     * is not compiled for CharSequence
+     */
+    private String[] strings;
+
+    /**
+     * The hash codes of the strings in {@link #strings}
+     */
+    private int[] hashes;
+
+    /**
+     * The open-addressing table of the allowed integers other than {@code 0} ,
+     * where {@code 0} represents an empty slot, or {@code null} if the set is not
+     * compiled for integers
+     */
+    private long[] numbers;
+
+    /**
+     * {@code true} if {@code 0} is an allowed integer, otherwise {@code false}
+     */
+    private boolean zero;
+
+    /**
+     * The bit mask of the index of the hash tables
+     */
+    private int mask;
+
+    /**
+     * Default constructor
+     */
+    private EnvaliValueSet() {
+    }
+
+    /**
+     * Returns the new instance of {@link EnvaliValueSet} compiled from the values
+     * specified in the {@link RequireOneOf} annotation passed as an argument. The
+     * values in the {@code "oneOf"} attribute of the content are used if the
+     * content helper is passed.
+     *
+     * @param annotation    The {@link RequireOneOf} annotation
+     * @param contentHelper The content helper, or {@code null} if the parameters
+     *                      are specified in the annotation
+     * @param type          The type of the values to be tested
+     * @return The new instance of {@link EnvaliValueSet}
+     *
+     * @exception NullPointerException          If {@code null} is passed as the
+     *                                          annotation or the type
+     * @exception UnsupportedOperationException If the values in the content are
+     *                                          missing, otherwise if the type is
+     *                                          not supported or a value is not
+     *                                          valid for the type
+     */
+    public static EnvaliValueSet of(@NonNull RequireOneOf annotation, EnvaliContentHelper contentHelper,
+            @NonNull Class<?> type) {
+
+        if (contentHelper == null) {
+            return of(type, annotation.values());
+        }
+
+        final String[] values = contentHelper.getString(EnvaliContentAttribute.ONE_OF).split(",", -1);
+
+        for (int i = 0; i < values.length; i++) {
+            values[i] = values[i].strip();
+        }
+
+        return of(type, values);
+    }
+
+    /**
+     * Returns the new instance of {@link EnvaliValueSet} compiled from the values
+     * passed as an argument for the type passed as an argument.
+     *
+     * @param type   The type of the values to be tested
+     * @param values The allowed values, which must be decimal integers for the
+     *               integer types and the names of the constants for the enum
+     * @return The new instance of {@link EnvaliValueSet}
+     *
+     * @exception NullPointerException          If {@code null} is passed as an
+     *                                          argument
+     * @exception UnsupportedOperationException If the type is not supported,
+     *                                          otherwise if a value is not valid
+     *                                          for the type
+     */
+    public static EnvaliValueSet of(@NonNull Class<?> type, @NonNull String... values) {
+
+        final Class<?> wrappedType = MethodType.methodType(type).wrap().returnType();
+        final EnvaliValueSet valueSet = new EnvaliValueSet();
+
+        if (type.isEnum()) {
+            valueSet.compileEnum(type, values);
+        } else if (CharSequence.class.isAssignableFrom(type)) {
+            valueSet.compileStrings(values);
+        } else if (INTEGER_TYPES.contains(wrappedType)) {
+            valueSet.compileNumbers(wrappedType, values);
+        } else {
+            throw new UnsupportedOperationException(
+                    String.format("The type %s is not supported by the value set.", type.getName()));
+        }
+
+        return valueSet;
+    }
+
+    /**
+     * Tests if the type passed as an argument is supported by the value set.
+     *
+     * @param type The type
+     * @return {@code true} if the type is CharSequence, an enum or an integer type
+     *         other than {@code char} , otherwise {@code false}
+     *
+     * @exception NullPointerException If {@code null} is passed as an argument
+     */
+    public static boolean isSupportedType(@NonNull Class<?> type) {
+        return type.isEnum() || CharSequence.class.isAssignableFrom(type)
+                || INTEGER_TYPES.contains(MethodType.methodType(type).wrap().returnType());
+    }
+
+    /**
+     * Tests if the value passed as an argument is one of the allowed values. The
+     * value must be of the type for which the set is compiled.
+     *
+     * @param value The value
+     * @return {@code true} if the value is one of the allowed values, otherwise
+     *         {@code false}
+     *
+     * @exception NullPointerException If {@code null} is passed as an argument
+     */
+    public boolean contains(@NonNull Object value) {
+
+        if (this.ordinals != null) {
+            return this.ordinals[((Enum<?>) value).ordinal()];
+        } else if (this.numbers != null) {
+            return this.contains(((Number) value).longValue());
+        }
+
+        return this.contains((CharSequence) value);
+    }
+
+    /**
+     * Tests if the character sequence passed as an argument is one of the allowed
+     * strings.
+     *
+     * @param value The character sequence
+     * @return {@code true} if the character sequence is one of the allowed
+     *         strings, otherwise {@code false}
+     *
+     * @exception NullPointerException If {@code null} is passed as an argument
+     */
+    public boolean contains(@NonNull CharSequence value) {
+
+        if (this.strings == null) {
+            return false;
+        }
+
+        final int hash = value instanceof String ? value.hashCode() : hash(value);
+
+        for (int i = spread(hash) & this.mask;; i = (i + 1) & this.mask) {
+            final String string = this.strings[i];
+
+            if (string == null) {
+                return false;
+            } else if (this.hashes[i] == hash && string.contentEquals(value)) {
+                return true;
+            }
+        }
+    }
+
+    /**
+     * Tests if the integer passed as an argument is one of the allowed integers.
+     *
+     * @param value The integer
+     * @return {@code true} if the integer is one of the allowed integers,
+     *         otherwise {@code false}
+     */
+    public boolean contains(long value) {
+
+        if (this.numbers == null) {
+            return false;
+        } else if (value == 0L) {
+            return this.zero;
+        }
+
+        for (int i = spread(Long.hashCode(value)) & this.mask;; i = (i + 1) & this.mask) {
+            final long number = this.numbers[i];
+
+            if (number == 0L) {
+                return false;
+            } else if (number == value) {
+                return true;
+            }
+        }
+    }
+
+    /**
+     * Compiles the names of the constants of the enum passed as an argument into
+     * the table indexed by the ordinal.
+     *
+     * @param type   The enum type
+     * @param values The names of the allowed constants
+     *
+     * @exception UnsupportedOperationException If a value is not the name of a
+     *                                          constant of the enum
+     */
+    private void compileEnum(@NonNull Class<?> type, @NonNull String[] values) {
+
+        final Object[] constants = type.getEnumConstants();
+        this.ordinals = new boolean[constants.length];
+
+        for (String value : values) {
+            boolean found = false;
+
+            for (Object constant : constants) {
+                if (((Enum<?>) constant).name().equals(value)) {
+                    this.ordinals[((Enum<?>) constant).ordinal()] = true;
+                    found = true;
+                }
+            }
+
+            if (!found) {
+                throw new UnsupportedOperationException(
+                        String.format("The value %s is not a constant of the enum %s.", value, type.getName()));
+            }
+        }
+    }
+
+    /**
+     * Compiles the strings passed as an argument into the open-addressing hash
+     * table.
+     *
+     * @param values The allowed strings
+     */
+    private void compileStrings(@NonNull String[] values) {
+
+        final int capacity = getCapacity(values.length);
+        this.strings = new String[capacity];
+        this.hashes = new int[capacity];
+        this.mask = capacity - 1;
+
+        for (String value : values) {
+            final int hash = value.hashCode();
+            int i = spread(hash) & this.mask;
+
+            while (this.strings[i] != null && !this.strings[i].equals(value)) {
+                i = (i + 1) & this.mask;
+            }
+
+            this.strings[i] = value;
+            this.hashes[i] = hash;
+        }
+    }
+
+    /**
+     * Compiles the integers passed as an argument into the open-addressing hash
+     * table.
+     *
+     * @param type   The wrapper type of the integers
+     * @param values The allowed integers as decimal strings
+     *
+     * @exception UnsupportedOperationException If a value is not a valid integer
+     *                                          of the type
+     */
+    private void compileNumbers(@NonNull Class<?> type, @NonNull String[] values) {
+
+        final int capacity = getCapacity(values.length);
+        this.numbers = new long[capacity];
+        this.mask = capacity - 1;
+
+        for (String value : values) {
+            final long number = parse(type, value);
+
+            if (number == 0L) {
+                this.zero = true;
+                continue;
+            }
+
+            int i = spread(Long.hashCode(number)) & this.mask;
+
+            while (this.numbers[i] != 0L && this.numbers[i] != number) {
+                i = (i + 1) & this.mask;
+            }
+
+            this.numbers[i] = number;
+        }
+    }
+
+    /**
+     * Parses the value passed as an argument as an integer of the type passed as
+     * an argument.
+     *
+     * @param type  The wrapper type of the integer
+     * @param value The decimal string
+     * @return The integer
+     *
+     * @exception UnsupportedOperationException If the value is not a valid integer
+     *                                          of the type
+     */
+    private static long parse(@NonNull Class<?> type, @NonNull String value) {
+        try {
+            if (type == Integer.class) {
+                return Integer.parseInt(value);
+            } else if (type == Short.class) {
+                return Short.parseShort(value);
+            } else if (type == Byte.class) {
+                return Byte.parseByte(value);
+            }
+
+            return Long.parseLong(value);
+        } catch (NumberFormatException e) {
+            throw new UnsupportedOperationException(
+                    String.format("The value %s is not a valid %s.", value, type.getSimpleName()), e);
+        }
+    }
+
+    /**
+     * Returns the capacity of the hash table for the number of values passed as
+     * an argument, which is the smallest power of two that is at least twice the
+     * number of values.
+     *
+     * @param size The number of values
+     * @return The capacity of the hash table
+     */
+    private static int getCapacity(int size) {
+        return Math.max(2, Integer.highestOneBit(Math.max(1, size) * 2 - 1) << 1);
+    }
+
+    /**
+     * Returns the hash code of the character sequence passed as an argument, which
+     * is computed in the same way as {@link String#hashCode()} .
+     *
+     * @param value The character sequence
+     * @return The hash code of the character sequence
+     */
+    private static int hash(@NonNull CharSequence value) {
+
+        int hash = 0;
+
+        for (int i = 0, length = value.length(); i < length; i++) {
+            hash = 31 * hash + value.charAt(i);
+        }
+
+        return hash;
+    }
+
+    /**
+     * Spreads the higher bits of the hash code passed as an argument to the lower
+     * bits, which are used as the index of the hash table.
+     *
+     * @param hash The hash code
+     * @return The spread hash code
+     */
+    private static int spread(int hash) {
+        return hash ^ (hash >>> 16);
+    }
+}
@@ -15,9 +15,11 @@
 package org.thinkit.framework.envali.result;
 
 import java.io.Serializable;
+import java.util.List;
 
 import org.thinkit.framework.envali.catalog.InternalErrorType;
 
+import lombok.AccessLevel;
 import lombok.EqualsAndHashCode;
 import lombok.Getter;
 import lombok.NonNull;
@@ -77,6 +79,7 @@ public final class BusinessError implements Serializable {
     /**
      * The error type
      */
+    @Getter(AccessLevel.PACKAGE)
     private InternalErrorType errorType;
 
     /**
@@ -91,6 +94,15 @@ public final class BusinessError implements Serializable {
     @Getter
     private ValidationResult nestedError;
 
+    /**
+     * The indices of the elements that caused the error, or an empty list if the
+     * error is not caused by specific elements
+     *
+     * @since 1.0.5
+     */
+    @Getter
+    private List<Integer> indices = List.of();
+
     /**
      * Default constructor
      */
@@ -153,6 +165,26 @@ public final class BusinessError implements Serializable {
         return new BusinessError(InternalErrorType.RECOVERABLE, message);
     }
 
+    /**
+     * Returns the new instance of {@link BusinessError} with the error type
+     * {@link InternalErrorType#RECOVERABLE} and the indices of the elements that
+     * caused the error.
+     *
+     * @param message The error message
+     * @param indices The indices of the elements that caused the error
+     * @return The new instance of {@link BusinessError} with the error type
+     *         {@link InternalErrorType#RECOVERABLE}
+     *
+     * @exception NullPointerException If {@code null} is passed as an argument
+     *
+     * @since 1.0.5
+     */
+    public static BusinessError recoverable(@NonNull String message, @NonNull List<Integer> indices) {
+        final BusinessError businessError = new BusinessError(InternalErrorType.RECOVERABLE, message);
+        businessError.indices = List.copyOf(indices);
+        return businessError;
+    }
+
     /**
      * Returns the new instance of {@link BusinessError} with the error type
      * {@link InternalErrorType#UNRECOVERABLE} . The instance of
@@ -172,6 +204,26 @@ public final class BusinessError implements Serializable {
         return new BusinessError(InternalErrorType.UNRECOVERABLE, message);
     }
 
+    /**
+     * Returns the new instance of {@link BusinessError} with the error type
+     * {@link InternalErrorType#UNRECOVERABLE} and the indices of the elements that
+     * caused the error.
+     *
+     * @param message The error message
+     * @param indices The indices of the elements that caused the error
+     * @return The new instance of {@link BusinessError} with the error type
+     *         {@link InternalErrorType#UNRECOVERABLE}
+     *
+     * @exception NullPointerException If {@code null} is passed as an argument
+     *
+     * @since 1.0.5
+     */
+    public static BusinessError unrecoverable(@NonNull String message, @NonNull List<Integer> indices) {
+        final BusinessError businessError = new BusinessError(InternalErrorType.UNRECOVERABLE, message);
+        businessError.indices = List.copyOf(indices);
+        return businessError;
+    }
+
     /**
      * Returns the new instance of {@link BusinessError} with the nested error of
      * {@link ValidationResult} .
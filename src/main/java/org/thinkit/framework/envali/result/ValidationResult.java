@@ -15,6 +15,8 @@
 package org.thinkit.framework.envali.result;
 
 import java.io.Serializable;
+import java.util.ArrayList;
+import java.util.HashMap;
 import java.util.List;
 import java.util.Map;
 import java.util.Map.Entry;
@@ -23,7 +25,9 @@ import org.thinkit.framework.envali.Envali;
 import org.thinkit.framework.envali.catalog.ErrorType;
 import org.thinkit.framework.envali.entity.ValidatableEntity;
 
+import lombok.AccessLevel;
 import lombok.EqualsAndHashCode;
+import lombok.Getter;
 import lombok.NonNull;
 import lombok.ToString;
 
@@ -71,8 +75,16 @@ public final class ValidationResult implements Serializable {
     /**
      * The validation result that manages business errors per-entity
      */
+    @Getter(AccessLevel.PACKAGE)
     private Map<Class<? extends ValidatableEntity>, List<BusinessError>> validationResult;
 
+    /**
+     * The index of errors per entity class at every nesting level, built lazily
+     */
+    @ToString.Exclude
+    @EqualsAndHashCode.Exclude
+    private transient volatile Map<Class<? extends ValidatableEntity>, List<BusinessError>> errorIndex;
+
     /**
      * Default constructor
      */
@@ -116,8 +128,10 @@ public final class ValidationResult implements Serializable {
      * This method returns immutable empty List created by {@link List#of()} if
      * there is no error data associated with {@code validatableEntity} .
      * <p>
-     * This method recursively searches the error data associated with the
-     * {@code validatableEntity} object passed as argument.
+     * This method returns the error data associated with the
+     * {@code validatableEntity} object at every nesting level, in depth-first
+     * order. The errors are looked up from an index of all nested results that
+     * is built on the first call.
      *
      * @param validatableEntity The validatable entity
      * @return The error list associated with the {@code validatableEntity} passed
@@ -127,21 +141,7 @@ public final class ValidationResult implements Serializable {
      * @exception NullPointerException If {@code null} is passed as an argument
      */
     public List<BusinessError> getError(@NonNull Class<? extends ValidatableEntity> validatableEntity) {
-
-        if (this.validationResult.containsKey(validatableEntity)) {
-            return List.copyOf(this.validationResult.get(validatableEntity));
-        }
-
-        for (Entry<Class<? extends ValidatableEntity>, List<BusinessError>> businessErrors : this.validationResult
-                .entrySet()) {
-            for (BusinessError businessError : businessErrors.getValue()) {
-                if (businessError.hasNestedError()) {
-                    return businessError.getNestedError().getError(validatableEntity);
-                }
-            }
-        }
-
-        return List.of();
+        return this.getErrorIndex().getOrDefault(validatableEntity, List.of());
     }
 
     /**
@@ -152,4 +152,51 @@ public final class ValidationResult implements Serializable {
     public boolean hasError() {
         return !this.validationResult.isEmpty();
     }
+
+    /**
+     * Returns the index of errors per entity class at every nesting level. The
+     * index is built on the first call and reused afterwards.
+     *
+     * @return The index of errors per entity class
+     */
+    private Map<Class<? extends ValidatableEntity>, List<BusinessError>> getErrorIndex() {
+
+        Map<Class<? extends ValidatableEntity>, List<BusinessError>> errorIndex = this.errorIndex;
+
+        if (errorIndex == null) {
+            final Map<Class<? extends ValidatableEntity>, List<BusinessError>> mutableErrorIndex = new HashMap<>();
+
+            indexError(mutableErrorIndex, this);
+            mutableErrorIndex.replaceAll((entityClass, businessErrors) -> List.copyOf(businessErrors));
+
+            this.errorIndex = errorIndex = Map.copyOf(mutableErrorIndex);
+        }
+
+        return errorIndex;
+    }
+
+    /**
+     * Adds the errors of the validation result passed as an argument and of its
+     * nested results to the index.
+     *
+     * @param errorIndex       The index of errors per entity class
+     * @param validationResult The validation result to be indexed
+     *
+     * @exception NullPointerException If {@code null} is passed as an argument
+     */
+    private static void indexError(@NonNull Map<Class<? extends ValidatableEntity>, List<BusinessError>> errorIndex,
+            @NonNull ValidationResult validationResult) {
+
+        for (Entry<Class<? extends ValidatableEntity>, List<BusinessError>> businessErrors : validationResult
+                .getValidationResult().entrySet()) {
+            errorIndex.computeIfAbsent(businessErrors.getKey(), key -> new ArrayList<>())
+                    .addAll(businessErrors.getValue());
+
+            for (BusinessError businessError : businessErrors.getValue()) {
+                if (businessError.hasNestedError()) {
+                    indexError(errorIndex, businessError.getNestedError());
+                }
+            }
+        }
+    }
 }
@@ -0,0 +1,663 @@
+/*
+ * Copyright 2020 Kato Shinya.
+ *
+ * Licensed under the Apache License, Version 2.0 (the "License"); you may not use this file except
+ * in compliance with the License. You may obtain a copy of the License at
+ *
+ *     http://www.apache.org/licenses/LICENSE-2.0
+ *
+ * Unless required by applicable law or agreed to in writing, software distributed under the License
+ * is distributed on an "AS IS" BASIS, WITHOUT WARRANTIES OR CONDITIONS OF ANY KIND, either express
+ * or implied. See the License for the specific language governing permissions and limitations under
+ * the License.
+ */
+
+package org.thinkit.framework.envali.result;
+
+import java.io.ByteArrayInputStream;
+import java.io.ByteArrayOutputStream;
+import java.io.EOFException;
+import java.io.IOException;
+import java.io.InputStream;
+import java.io.OutputStream;
+import java.nio.charset.StandardCharsets;
+import java.util.ArrayList;
+import java.util.HashMap;
+import java.util.LinkedHashMap;
+import java.util.List;
+import java.util.Map;
+import java.util.Map.Entry;
+
+import org.thinkit.framework.envali.catalog.InternalErrorType;
+import org.thinkit.framework.envali.entity.ValidatableEntity;
+
+import lombok.NonNull;
+
+/**
+ * A codec that converts {@link ValidationResult} to a compact binary form and
+ * back, without relying on Java serialization.
+ * <p>
+ * Entity class names and error messages are interned per encoded result: the
+ * first occurrence is written in full and later occurrences are written as a
+ * varint reference. Error types are written as the code of
+ * {@link InternalErrorType} and nested results are written recursively. The
+ * indices of the elements that caused an error are written after its message.
+ * The results nested deeper than 256 levels are regarded as malformed when
+ * decoded. Both {@link #encode(ValidationResult, OutputStream)} and
+ * {@link #decode(InputStream)} work on streams, so results can be shipped
+ * without building an intermediate byte array.
+ *
+ * <pre>
+ * Encode and decode a result:
+ * <code>
+ * byte[] bytes = ValidationResultCodec.encode(validationResult);
+ * ValidationResult decoded = ValidationResultCodec.decode(bytes);
+ * </code>
+ * </pre>
+ *
+ * @author Kato Shinya
+ * @since 1.0.5
+ */
+public final class ValidationResultCodec {
+
+    /**
+     * The format version
+     */
+    private static final int FORMAT_VERSION = 1;
+
+    /**
+     * The reference that indicates a new value follows
+     */
+    private static final int NEW_REFERENCE = 0;
+
+    /**
+     * The maximum depth of nested results that can be decoded, which keeps a
+     * malformed input from exhausting the stack
+     */
+    private static final int MAX_NESTING_DEPTH = 256;
+
+    /**
+     * Default constructor
+     */
+    private ValidationResultCodec() {
+    }
+
+    /**
+     * Encodes the validation result passed as an argument to a byte array.
+     *
+     * @param validationResult The validation result
+     * @return The encoded validation result
+     *
+     * @exception NullPointerException If {@code null} is passed as an argument
+     */
+    public static byte[] encode(@NonNull ValidationResult validationResult) {
+
+        final ByteArrayOutputStream output = new ByteArrayOutputStream();
+
+        try {
+            encode(validationResult, output);
+        } catch (IOException e) {
+            throw new IllegalStateException(e);
+        }
+
+        return output.toByteArray();
+    }
+
+    /**
+     * Encodes the validation result passed as an argument to the output stream.
+     * The output stream is neither buffered nor closed by this method.
+     *
+     * @param validationResult The validation result
+     * @param output           The output stream
+     *
+     * @exception NullPointerException If {@code null} is passed as an argument
+     * @exception IOException          If an I/O error occurs
+     */
+    public static void encode(@NonNull ValidationResult validationResult, @NonNull OutputStream output)
+            throws IOException {
+        writeVarint(output, FORMAT_VERSION);
+        new Encoder(output).writeResult(validationResult);
+    }
+
+    /**
+     * Decodes the validation result from the byte array passed as an argument.
+     * Entity classes are resolved by the context class loader of the current
+     * thread.
+     *
+     * @param bytes The encoded validation result
+     * @return The decoded validation result
+     *
+     * @exception NullPointerException  If {@code null} is passed as an argument
+     * @exception IllegalStateException If the encoded validation result is
+     *                                  malformed
+     */
+    public static ValidationResult decode(@NonNull byte[] bytes) {
+        try {
+            return decode(new ByteArrayInputStream(bytes));
+        } catch (IOException e) {
+            throw new IllegalStateException(e);
+        }
+    }
+
+    /**
+     * Decodes the validation result from the input stream passed as an argument.
+     * Entity classes are resolved by the context class loader of the current
+     * thread.
+     *
+     * @param input The input stream
+     * @return The decoded validation result
+     *
+     * @exception NullPointerException  If {@code null} is passed as an argument
+     * @exception IOException           If an I/O error occurs, otherwise if the
+     *                                  input stream ends unexpectedly
+     * @exception IllegalStateException If the encoded validation result is
+     *                                  malformed
+     */
+    public static ValidationResult decode(@NonNull InputStream input) throws IOException {
+        return decode(input, getDefaultClassLoader());
+    }
+
+    /**
+     * Decodes the validation result from the input stream passed as an argument.
+     *
+     * @param input       The input stream
+     * @param classLoader The class loader to resolve entity classes
+     * @return The decoded validation result
+     *
+     * @exception NullPointerException  If {@code null} is passed as an argument
+     * @exception IOException           If an I/O error occurs, otherwise if the
+     *                                  input stream ends unexpectedly
+     * @exception IllegalStateException If the encoded validation result is
+     *                                  malformed
+     */
+    public static ValidationResult decode(@NonNull InputStream input, @NonNull ClassLoader classLoader)
+            throws IOException {
+
+        final int formatVersion = readVarint(input);
+
+        if (formatVersion != FORMAT_VERSION) {
+            throw new IllegalStateException(
+                    String.format("Unsupported format version %d of validation result was detected.", formatVersion));
+        }
+
+        return new Decoder(input, classLoader).readResult();
+    }
+
+    /**
+     * Returns the class loader used when no class loader is specified.
+     *
+     * @return The context class loader of the current thread if any, otherwise
+     *         the class loader of this class
+     */
+    private static ClassLoader getDefaultClassLoader() {
+        final ClassLoader classLoader = Thread.currentThread().getContextClassLoader();
+        return classLoader != null ? classLoader : ValidationResultCodec.class.getClassLoader();
+    }
+
+    /**
+     * Writes an unsigned LEB128 integer.
+     *
+     * @param output The output stream
+     * @param value  The value to be written
+     *
+     * @exception IOException If an I/O error occurs
+     */
+    private static void writeVarint(@NonNull OutputStream output, int value) throws IOException {
+
+        while ((value & ~0x7F) != 0) {
+            output.write((value & 0x7F) | 0x80);
+            value >>>= 7;
+        }
+
+        output.write(value);
+    }
+
+    /**
+     * Reads an unsigned LEB128 integer.
+     *
+     * @param input The input stream
+     * @return The value
+     *
+     * @exception IOException           If an I/O error occurs, otherwise if the
+     *                                  input stream ends unexpectedly
+     * @exception IllegalStateException If the integer is too long
+     */
+    private static int readVarint(@NonNull InputStream input) throws IOException {
+
+        int value = 0;
+
+        for (int shift = 0; shift < Integer.SIZE; shift += 7) {
+            final int b = input.read();
+
+            if (b < 0) {
+                throw new EOFException();
+            }
+
+            value |= (b & 0x7F) << shift;
+
+            if ((b & 0x80) == 0) {
+                return value;
+            }
+        }
+
+        throw new IllegalStateException("Malformed varint of validation result was detected.");
+    }
+
+    /**
+     * The encoder that keeps the interned values of a validation result.
+     */
+    private static final class Encoder {
+
+        /**
+         * The output stream
+         */
+        private final OutputStream output;
+
+        /**
+         * The references of interned entity classes
+         */
+        private final Map<Class<? extends ValidatableEntity>, Integer> entityReferences = new HashMap<>();
+
+        /**
+         * The references of interned messages
+         */
+        private final Map<String, Integer> messageReferences = new HashMap<>();
+
+        /**
+         * Constructor
+         *
+         * @param output The output stream
+         */
+        private Encoder(@NonNull OutputStream output) {
+            this.output = output;
+        }
+
+        /**
+         * Writes the validation result.
+         *
+         * @param validationResult The validation result
+         *
+         * @exception IOException If an I/O error occurs
+         */
+        private void writeResult(@NonNull ValidationResult validationResult) throws IOException {
+
+            final Map<Class<? extends ValidatableEntity>, List<BusinessError>> errors = validationResult
+                    .getValidationResult();
+            writeVarint(this.output, errors.size());
+
+            for (Entry<Class<? extends ValidatableEntity>, List<BusinessError>> entityErrors : errors.entrySet()) {
+                this.writeEntity(entityErrors.getKey());
+                writeVarint(this.output, entityErrors.getValue().size());
+
+                for (BusinessError businessError : entityErrors.getValue()) {
+                    this.writeError(businessError);
+                }
+            }
+        }
+
+        /**
+         * Writes the business error.
+         *
+         * @param businessError The business error
+         *
+         * @exception IOException If an I/O error occurs
+         */
+        private void writeError(@NonNull BusinessError businessError) throws IOException {
+
+            final InternalErrorType errorType = businessError.getErrorType();
+            this.output.write(errorType.getCode());
+
+            switch (errorType) {
+                case NESTED -> this.writeResult(businessError.getNestedError());
+                case NONE -> {
+                }
+                default -> {
+                    this.writeMessage(businessError.getMessage());
+                    this.writeIndices(businessError.getIndices());
+                }
+            }
+        }
+
+        /**
+         * Writes the indices of the elements that caused the business error.
+         *
+         * @param indices The indices
+         *
+         * @exception IOException If an I/O error occurs
+         */
+        private void writeIndices(@NonNull List<Integer> indices) throws IOException {
+
+            writeVarint(this.output, indices.size());
+
+            for (int index : indices) {
+                writeVarint(this.output, index);
+            }
+        }
+
+        /**
+         * Writes the entity class as an interned reference.
+         *
+         * @param entityClass The entity class
+         *
+         * @exception IOException If an I/O error occurs
+         */
+        private void writeEntity(@NonNull Class<? extends ValidatableEntity> entityClass) throws IOException {
+
+            final Integer reference = this.entityReferences.get(entityClass);
+
+            if (reference != null) {
+                writeVarint(this.output, reference);
+                return;
+            }
+
+            this.entityReferences.put(entityClass, this.entityReferences.size() + 1);
+            writeVarint(this.output, NEW_REFERENCE);
+            this.writeString(entityClass.getName());
+        }
+
+        /**
+         * Writes the message as an interned reference.
+         *
+         * @param message The message
+         *
+         * @exception IOException If an I/O error occurs
+         */
+        private void writeMessage(@NonNull String message) throws IOException {
+
+            final Integer reference = this.messageReferences.get(message);
+
+            if (reference != null) {
+                writeVarint(this.output, reference);
+                return;
+            }
+
+            this.messageReferences.put(message, this.messageReferences.size() + 1);
+            writeVarint(this.output, NEW_REFERENCE);
+            this.writeString(message);
+        }
+
+        /**
+         * Writes a length prefixed UTF-8 string.
+         *
+         * @param value The value to be written
+         *
+         * @exception IOException If an I/O error occurs
+         */
+        private void writeString(@NonNull String value) throws IOException {
+            final byte[] bytes = value.getBytes(StandardCharsets.UTF_8);
+            writeVarint(this.output, bytes.length);
+            this.output.write(bytes);
+        }
+    }
+
+    /**
+     * The decoder that keeps the interned values of a validation result.
+     */
+    private static final class Decoder {
+
+        /**
+         * The input stream
+         */
+        private final InputStream input;
+
+        /**
+         * The class loader to resolve entity classes
+         */
+        private final ClassLoader classLoader;
+
+        /**
+         * The interned entity classes in reference order
+         */
+        private final List<Class<? extends ValidatableEntity>> entityClasses = new ArrayList<>();
+
+        /**
+         * The interned messages in reference order
+         */
+        private final List<String> messages = new ArrayList<>();
+
+        /**
+         * The depth of the nested result being read
+         */
+        private int depth;
+
+        /**
+         * Constructor
+         *
+         * @param input       The input stream
+         * @param classLoader The class loader to resolve entity classes
+         */
+        private Decoder(@NonNull InputStream input, @NonNull ClassLoader classLoader) {
+            this.input = input;
+            this.classLoader = classLoader;
+        }
+
+        /**
+         * Reads the validation result.
+         *
+         * @return The validation result
+         *
+         * @exception IOException           If an I/O error occurs
+         * @exception IllegalStateException If the encoded validation result is
+         *                                  malformed
+         */
+        private ValidationResult readResult() throws IOException {
+
+            final int entityCount = this.readCount();
+
+            if (entityCount == 0) {
+                return ValidationResult.none();
+            }
+
+            final Map<Class<? extends ValidatableEntity>, List<BusinessError>> errors = new LinkedHashMap<>(
+                    this.getCapacity(entityCount));
+
+            for (int i = 0; i < entityCount; i++) {
+                final Class<? extends ValidatableEntity> entityClass = this.readEntity();
+                final int errorCount = this.readCount();
+                final List<BusinessError> businessErrors = new ArrayList<>(this.getCapacity(errorCount));
+
+                for (int j = 0; j < errorCount; j++) {
+                    businessErrors.add(this.readError());
+                }
+
+                errors.put(entityClass, businessErrors);
+            }
+
+            return ValidationResult.of(errors);
+        }
+
+        /**
+         * Reads the business error.
+         *
+         * @return The business error
+         *
+         * @exception IOException           If an I/O error occurs
+         * @exception IllegalStateException If the encoded validation result is
+         *                                  malformed, otherwise if the results
+         *                                  are nested deeper than
+         *                                  {@link #MAX_NESTING_DEPTH}
+         */
+        private BusinessError readError() throws IOException {
+
+            final int code = this.input.read();
+
+            if (code < 0) {
+                throw new EOFException();
+            }
+
+            if (code == InternalErrorType.RECOVERABLE.getCode()) {
+                return BusinessError.recoverable(this.readMessage(), this.readIndices());
+            } else if (code == InternalErrorType.UNRECOVERABLE.getCode()) {
+                return BusinessError.unrecoverable(this.readMessage(), this.readIndices());
+            } else if (code == InternalErrorType.NESTED.getCode()) {
+                if (this.depth == MAX_NESTING_DEPTH) {
+                    throw new IllegalStateException(String.format(
+                            "The validation results nested deeper than %d levels were detected.", MAX_NESTING_DEPTH));
+                }
+
+                this.depth++;
+
+                try {
+                    return BusinessError.nestedError(this.readResult());
+                } finally {
+                    this.depth--;
+                }
+            } else if (code == InternalErrorType.NONE.getCode()) {
+                return BusinessError.none();
+            }
+
+            throw new IllegalStateException(String.format("Unknown error type code %d was detected.", code));
+        }
+
+        /**
+         * Reads the indices of the elements that caused the business error.
+         *
+         * @return The indices
+         *
+         * @exception IOException           If an I/O error occurs
+         * @exception IllegalStateException If the count of indices is negative
+         */
+        private List<Integer> readIndices() throws IOException {
+
+            final int indexCount = this.readCount();
+            final List<Integer> indices = new ArrayList<>(this.getCapacity(indexCount));
+
+            for (int i = 0; i < indexCount; i++) {
+                indices.add(readVarint(this.input));
+            }
+
+            return indices;
+        }
+
+        /**
+         * Reads the entity class from an interned reference.
+         *
+         * @return The entity class
+         *
+         * @exception IOException           If an I/O error occurs
+         * @exception IllegalStateException If the entity class cannot be resolved
+         */
+        private Class<? extends ValidatableEntity> readEntity() throws IOException {
+
+            final int reference = readVarint(this.input);
+
+            if (reference != NEW_REFERENCE) {
+                return getReferenced(this.entityClasses, reference);
+            }
+
+            final String entityName = this.readString();
+
+            try {
+                final Class<?> entityClass = Class.forName(entityName, false, this.classLoader);
+
+                if (!ValidatableEntity.class.isAssignableFrom(entityClass)) {
+                    throw new IllegalStateException(
+                            String.format("The class %s is not a validatable entity.", entityName));
+                }
+
+                this.entityClasses.add(entityClass.asSubclass(ValidatableEntity.class));
+                return entityClass.asSubclass(ValidatableEntity.class);
+            } catch (ClassNotFoundException e) {
+                throw new IllegalStateException(e);
+            }
+        }
+
+        /**
+         * Reads the message from an interned reference.
+         *
+         * @return The message
+         *
+         * @exception IOException           If an I/O error occurs
+         * @exception IllegalStateException If the reference is unknown
+         */
+        private String readMessage() throws IOException {
+
+            final int reference = readVarint(this.input);
+
+            if (reference != NEW_REFERENCE) {
+                return getReferenced(this.messages, reference);
+            }
+
+            final String message = this.readString();
+            this.messages.add(message);
+
+            return message;
+        }
+
+        /**
+         * Reads a length prefixed UTF-8 string.
+         *
+         * @return The value
+         *
+         * @exception IOException           If an I/O error occurs, otherwise if the
+         *                                  input stream ends unexpectedly
+         * @exception IllegalStateException If the length is negative
+         */
+        private String readString() throws IOException {
+
+            final int length = this.readCount();
+            final byte[] bytes = this.input.readNBytes(length);
+
+            if (bytes.length != length) {
+                throw new EOFException();
+            }
+
+            return new String(bytes, StandardCharsets.UTF_8);
+        }
+
+        /**
+         * Reads a count or a length, which must not be negative.
+         *
+         * @return The count or the length
+         *
+         * @exception IOException           If an I/O error occurs, otherwise if the
+         *                                  input stream ends unexpectedly
+         * @exception IllegalStateException If the count is negative
+         */
+        private int readCount() throws IOException {
+
+            final int count = readVarint(this.input);
+
+            if (count < 0) {
+                throw new IllegalStateException(
+                        String.format("Negative count %d of validation result was detected.", count));
+            }
+
+            return count;
+        }
+
+        /**
+         * Returns the initial capacity for the count read from the input stream.
+         * Every entry occupies at least one byte, so the capacity is capped at the
+         * number of bytes available in the input stream and a malformed count
+         * cannot allocate more than the encoded result.
+         *
+         * @param count The count read from the input stream
+         * @return The initial capacity
+         *
+         * @exception IOException If an I/O error occurs
+         */
+        private int getCapacity(int count) throws IOException {
+            return Math.min(count, this.input.available());
+        }
+
+        /**
+         * Returns the interned value associated with the reference.
+         *
+         * @param <T>       The type of interned value
+         * @param values    The interned values
+         * @param reference The reference
+         * @return The interned value
+         *
+         * @exception IllegalStateException If the reference is unknown
+         */
+        private static <T> T getReferenced(@NonNull List<T> values, int reference) {
+
+            if (reference < 1 || reference > values.size()) {
+                throw new IllegalStateException(String.format("Unknown reference %d was detected.", reference));
+            }
+
+            return values.get(reference - 1);
+        }
+    }
+}
@@ -15,6 +15,7 @@
 package org.thinkit.framework.envali.rule;
 
 import org.thinkit.framework.envali.helper.EnvaliFieldHelper;
+import org.thinkit.framework.envali.helper.EnvaliValueSet;
 
 import lombok.NonNull;
 
@@ -85,9 +86,9 @@ public enum AnnotationRequirement {
         @Override
         public void requireSupportedDataType(@NonNull EnvaliFieldHelper field) {
             if (!(field.isInteger() || field.isLong() || field.isShort() || field.isByte() || field.isFloat()
-                    || field.isDouble())) {
+                    || field.isDouble() || field.isBigDecimal() || field.isBigInteger())) {
                 throw new UnsupportedOperationException(String.format(
-                        "The org.thinkit.framework.envali.annotation.RequireRangeFrom annotation supports Integer, Long, Short, Byte, Float, Double type, but was specified for the variable %s#%s of type %s.",
+                        "The org.thinkit.framework.envali.annotation.RequireRangeFrom annotation supports Integer, Long, Short, Byte, Float, Double, BigDecimal, BigInteger type, but was specified for the variable %s#%s of type %s.",
                         field.getEntityName(), field.getName(), field.getType().getName()));
             }
         }
@@ -100,9 +101,9 @@ public enum AnnotationRequirement {
         @Override
         public void requireSupportedDataType(@NonNull EnvaliFieldHelper field) {
             if (!(field.isInteger() || field.isLong() || field.isShort() || field.isByte() || field.isFloat()
-                    || field.isDouble())) {
+                    || field.isDouble() || field.isBigDecimal() || field.isBigInteger())) {
                 throw new UnsupportedOperationException(String.format(
-                        "The org.thinkit.framework.envali.annotation.RequireRangeTo annotation supports Integer, Long, Short, Byte, Float, Double type, but was specified for the variable %s#%s of type %s.",
+                        "The org.thinkit.framework.envali.annotation.RequireRangeTo annotation supports Integer, Long, Short, Byte, Float, Double, BigDecimal, BigInteger type, but was specified for the variable %s#%s of type %s.",
                         field.getEntityName(), field.getName(), field.getType().getName()));
             }
         }
@@ -115,9 +116,9 @@ public enum AnnotationRequirement {
         @Override
         public void requireSupportedDataType(@NonNull EnvaliFieldHelper field) {
             if (!(field.isInteger() || field.isLong() || field.isShort() || field.isByte() || field.isFloat()
-                    || field.isDouble())) {
+                    || field.isDouble() || field.isBigDecimal() || field.isBigInteger())) {
                 throw new UnsupportedOperationException(String.format(
-                        "The org.thinkit.framework.envali.annotation.RequireRangeFromTo annotation supports Integer, Long, Short, Byte, Float, Double type, but was specified for the variable %s#%s of type %s.",
+                        "The org.thinkit.framework.envali.annotation.RequireRangeFromTo annotation supports Integer, Long, Short, Byte, Float, Double, BigDecimal, BigInteger type, but was specified for the variable %s#%s of type %s.",
                         field.getEntityName(), field.getName(), field.getType().getName()));
             }
         }
@@ -199,6 +200,86 @@ public enum AnnotationRequirement {
                         field.getEntityName(), field.getName(), field.getType().getName()));
             }
         }
+    },
+
+    /**
+     * The requirement for RequireSize
+     *
+     * @since 1.0.5
+     */
+    REQUIRE_SIZE {
+        @Override
+        public void requireSupportedDataType(@NonNull EnvaliFieldHelper field) {
+            if (EnvaliFieldHelper.getSizeFunction(field.getType()) == null) {
+                throw new UnsupportedOperationException(String.format(
+                        "The org.thinkit.framework.envali.annotation.RequireSize annotation supports CharSequence, Array, Collection, Map type, but was specified for the variable %s#%s of type %s.",
+                        field.getEntityName(), field.getName(), field.getType().getName()));
+            }
+        }
+    },
+
+    /**
+     * The requirement for RequireChecksum
+     *
+     * @since 1.0.5
+     */
+    REQUIRE_CHECKSUM {
+        @Override
+        public void requireSupportedDataType(@NonNull EnvaliFieldHelper field) {
+            if (!CharSequence.class.isAssignableFrom(field.getType())) {
+                throw new UnsupportedOperationException(String.format(
+                        "The org.thinkit.framework.envali.annotation.RequireChecksum annotation supports CharSequence type, but was specified for the variable %s#%s of type %s.",
+                        field.getEntityName(), field.getName(), field.getType().getName()));
+            }
+        }
+    },
+
+    /**
+     * The requirement for RequireOneOf
+     *
+     * @since 1.0.5
+     */
+    REQUIRE_ONE_OF {
+        @Override
+        public void requireSupportedDataType(@NonNull EnvaliFieldHelper field) {
+            if (!EnvaliValueSet.isSupportedType(field.getType())) {
+                throw new UnsupportedOperationException(String.format(
+                        "The org.thinkit.framework.envali.annotation.RequireOneOf annotation supports CharSequence, Enum, Integer, Long, Short, Byte type, but was specified for the variable %s#%s of type %s.",
+                        field.getEntityName(), field.getName(), field.getType().getName()));
+            }
+        }
+    },
+
+    /**
+     * The requirement for RequireExistsIn
+     *
+     * @since 1.0.5
+     */
+    REQUIRE_EXISTS_IN {
+        @Override
+        public void requireSupportedDataType(@NonNull EnvaliFieldHelper field) {
+            if (!CharSequence.class.isAssignableFrom(field.getType())) {
+                throw new UnsupportedOperationException(String.format(
+                        "The org.thinkit.framework.envali.annotation.RequireExistsIn annotation supports CharSequence type, but was specified for the variable %s#%s of type %s.",
+                        field.getEntityName(), field.getName(), field.getType().getName()));
+            }
+        }
+    },
+
+    /**
+     * The requirement for RequireUnique
+     *
+     * @since 1.0.5
+     */
+    REQUIRE_UNIQUE {
+        @Override
+        public void requireSupportedDataType(@NonNull EnvaliFieldHelper field) {
+            if (!field.isArray() && !field.isList()) {
+                throw new UnsupportedOperationException(String.format(
+                        "The org.thinkit.framework.envali.annotation.RequireUnique annotation supports Array, List type, but was specified for the variable %s#%s of type %s.",
+                        field.getEntityName(), field.getName(), field.getType().getName()));
+            }
+        }
     };
 
     /**
@@ -0,0 +1,124 @@
+/*
+ * Copyright 2020 Kato Shinya.
+ *
+ * Licensed under the Apache License, Version 2.0 (the "License"); you may not use this file except
+ * in compliance with the License. You may obtain a copy of the License at
+ *
+ *     http://www.apache.org/licenses/LICENSE-2.0
+ *
+ * Unless required by applicable law or agreed to in writing, software distributed under the License
+ * is distributed on an "AS IS" BASIS, WITHOUT WARRANTIES OR CONDITIONS OF ANY KIND, either express
+ * or implied. See the License for the specific language governing permissions and limitations under
+ * the License.
+ */
+
+package org.thinkit.framework.envali.source;
+
+import java.io.IOException;
+import java.io.InputStream;
+import java.net.URISyntaxException;
+import java.net.URL;
+import java.nio.ByteBuffer;
+import java.nio.channels.FileChannel;
+import java.nio.file.Path;
+import java.nio.file.StandardOpenOption;
+import java.util.Map;
+
+import org.thinkit.common.catalog.Extension;
+import org.thinkit.framework.envali.annotation.ParameterMapping;
+import org.thinkit.framework.envali.catalog.EnvaliContentRoot;
+import org.thinkit.framework.envali.entity.ValidatableEntity;
+
+import lombok.EqualsAndHashCode;
+import lombok.NonNull;
+import lombok.ToString;
+
+/**
+ * A content source that loads the content files in JSON format from the
+ * classpath of the entity class, such as
+ * {@code content/envali/EnvaliContent.json} for the content name
+ * {@code EnvaliContent} . This is the content source used when no other source
+ * provides the content.
+ * <p>
+ * The content file is mapped into memory if it is a file on the filesystem,
+ * otherwise it is read into the heap, and it is parsed in one pass by
+ * {@link EnvaliContentReader} .
+ *
+ * @author Kato Shinya
+ * @since 1.0.5
+ */
+@ToString
+@EqualsAndHashCode
+public final class ClasspathContentSource implements ContentSource {
+
+    /**
+     * Default constructor
+     */
+    private ClasspathContentSource() {
+    }
+
+    /**
+     * Returns the new instance of {@link ClasspathContentSource} class.
+     *
+     * @return The new instance of {@link ClasspathContentSource} class
+     */
+    public static ContentSource of() {
+        return new ClasspathContentSource();
+    }
+
+    /**
+     * Returns the path to the resource of the content name passed as an argument.
+     *
+     * @param contentName The content name defined in {@link ParameterMapping}
+     *                    annotation
+     * @return The path to the resource of the content name
+     *
+     * @exception NullPointerException If {@code null} is passed as an argument
+     */
+    public static String getResourcePath(@NonNull String contentName) {
+        return new StringBuilder().append(EnvaliContentRoot.ROOT.getTag()).append(contentName)
+                .append(Extension.json()).toString();
+    }
+
+    @Override
+    public Map<String, Map<String, String>> load(@NonNull Class<? extends ValidatableEntity> entityClass,
+            @NonNull String contentName) {
+
+        final ClassLoader classLoader = entityClass.getClassLoader();
+        final URL contentResource = classLoader != null ? classLoader.getResource(getResourcePath(contentName))
+                : ClassLoader.getSystemResource(getResourcePath(contentName));
+
+        if (contentResource == null) {
+            return null;
+        }
+
+        return EnvaliContentReader.load(read(contentResource), entityClass);
+    }
+
+    /**
+     * Reads the resource passed as an argument.
+     *
+     * @param contentResource The resource of the content file
+     * @return The buffer of the content file
+     *
+     * @exception NullPointerException  If {@code null} is passed as an argument
+     * @exception IllegalStateException If an I/O error occurs while reading the
+     *                                  content file
+     */
+    private static ByteBuffer read(@NonNull URL contentResource) {
+        try {
+            if ("file".equals(contentResource.getProtocol())) {
+                try (FileChannel channel = FileChannel.open(Path.of(contentResource.toURI()),
+                        StandardOpenOption.READ)) {
+                    return channel.map(FileChannel.MapMode.READ_ONLY, 0, channel.size());
+                }
+            }
+
+            try (InputStream contentStream = contentResource.openStream()) {
+                return ByteBuffer.wrap(contentStream.readAllBytes());
+            }
+        } catch (IOException | URISyntaxException e) {
+            throw new IllegalStateException(e);
+        }
+    }
+}
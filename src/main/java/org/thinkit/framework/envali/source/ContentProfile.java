@@ -0,0 +1,143 @@
+/*
+ * Copyright 2020 Kato Shinya.
+ *
+ * Licensed under the Apache License, Version 2.0 (the "License"); you may not use this file except
+ * in compliance with the License. You may obtain a copy of the License at
+ *
+ *     http://www.apache.org/licenses/LICENSE-2.0
+ *
+ * Unless required by applicable law or agreed to in writing, software distributed under the License
+ * is distributed on an "AS IS" BASIS, WITHOUT WARRANTIES OR CONDITIONS OF ANY KIND, either express
+ * or implied. See the License for the specific language governing permissions and limitations under
+ * the License.
+ */
+
+package org.thinkit.framework.envali.source;
+
+import java.io.Serializable;
+import java.util.regex.Pattern;
+
+import org.thinkit.common.base.precondition.Preconditions;
+import org.thinkit.framework.envali.Envali;
+import org.thinkit.framework.envali.annotation.ParameterMapping;
+import org.thinkit.framework.envali.entity.ValidatableEntity;
+
+import lombok.EqualsAndHashCode;
+import lombok.Getter;
+import lombok.NonNull;
+import lombok.ToString;
+
+/**
+ * The profile that selects the content mapped by {@link ParameterMapping}
+ * annotation at runtime, such as a tenant.
+ * <p>
+ * The content of a profile is named by {@link ParameterMapping#profileContent()}
+ * from the content name and the profile name, and it is loaded from the content
+ * sources in the same way as the content mapped to the entity class. If no
+ * source provides the content of a profile, the content mapped to the entity
+ * class is used instead.
+ *
+ * <pre>
+ * <code>
+ * &#64;ParameterMapping(content = "EnvaliContent")
+ * public class ConcreteEntity implements ValidatableEntity, Serializable {
+ *      * // define something
+ * }
+ *
+ * // Validates with the content "EnvaliContent_tenant"
+ * Envali.validate(concreteEntity, ContentProfile.of("tenant"));
+ * </code>
+ * </pre>
+ *
+ * @author Kato Shinya
+ * @since 1.0.5
+ *
+ * @see Envali#validate(ValidatableEntity, ContentProfile)
+ */
+@ToString
+@EqualsAndHashCode
+public final class ContentProfile implements Serializable {
+
+    /**
+     * The serial version UID
+     */
+    private static final long serialVersionUID = -3402712468913565201L;
+
+    /**
+     * The pattern of valid profile names
+     */
+    private static final Pattern NAME_PATTERN = Pattern.compile("[A-Za-z0-9_-]+");
+
+    /**
+     * The profile name
+     */
+    @Getter
+    private String name;
+
+    /**
+     * Default constructor
+     */
+    private ContentProfile() {
+    }
+
+    /**
+     * Constructor
+     *
+     * @param name The profile name
+     *
+     * @exception NullPointerException If {@code null} is passed as an argument
+     */
+    private ContentProfile(@NonNull String name) {
+        this.name = name;
+    }
+
+    /**
+     * Returns the new instance of {@link ContentProfile} class. The profile name
+     * is part of the name of the content file or resource, so it may consist only
+     * of ASCII letters, digits, underscores and hyphens.
+     *
+     * @param name The profile name
+     * @return The new instance of {@link ContentProfile} class
+     *
+     * @exception NullPointerException     If {@code null} is passed as an argument
+     * @exception IllegalArgumentException If the profile name is blank, otherwise
+     *                                     if the profile name contains other
+     *                                     characters than ASCII letters, digits,
+     *                                     underscores and hyphens
+     */
+    public static ContentProfile of(@NonNull String name) {
+        Preconditions.requireNonBlank(name, new IllegalArgumentException("The profile name must not be blank."));
+
+        if (!NAME_PATTERN.matcher(name).matches()) {
+            throw new IllegalArgumentException(String.format(
+                    "The profile name %s must consist only of ASCII letters, digits, underscores and hyphens.", name));
+        }
+
+        return new ContentProfile(name);
+    }
+
+    /**
+     * Returns the instance validated in the same way as {@link #of(String)} when
+     * the profile is deserialized.
+     *
+     * @return The validated instance of {@link ContentProfile} class
+     *
+     * @exception IllegalArgumentException If the profile name is not valid
+     */
+    private Object readResolve() {
+        return of(this.name);
+    }
+
+    /**
+     * Returns the name of the content of this profile for the content mapping
+     * passed as an argument.
+     *
+     * @param contentMapping The {@link ParameterMapping} annotation
+     * @return The name of the content of this profile
+     *
+     * @exception NullPointerException If {@code null} is passed as an argument
+     */
+    public String getContentName(@NonNull ParameterMapping contentMapping) {
+        return String.format(contentMapping.profileContent(), contentMapping.content(), this.name);
+    }
+}
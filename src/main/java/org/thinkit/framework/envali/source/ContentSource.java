@@ -0,0 +1,56 @@
+/*
+ * Copyright 2020 Kato Shinya.
+ *
+ * Licensed under the Apache License, Version 2.0 (the "License"); you may not use this file except
+ * in compliance with the License. You may obtain a copy of the License at
+ *
+ *     http://www.apache.org/licenses/LICENSE-2.0
+ *
+ * Unless required by applicable law or agreed to in writing, software distributed under the License
+ * is distributed on an "AS IS" BASIS, WITHOUT WARRANTIES OR CONDITIONS OF ANY KIND, either express
+ * or implied. See the License for the specific language governing permissions and limitations under
+ * the License.
+ */
+
+package org.thinkit.framework.envali.source;
+
+import java.util.Map;
+
+import org.thinkit.framework.envali.annotation.ParameterMapping;
+import org.thinkit.framework.envali.catalog.EnvaliContentAttribute;
+import org.thinkit.framework.envali.entity.ValidatableEntity;
+
+/**
+ * The interface that provides the content mapped by {@link ParameterMapping}
+ * annotation.
+ * <p>
+ * Implementations can be added with
+ * {@link org.thinkit.framework.envali.Envali#addContentSource(ContentSource)} ,
+ * or discovered by {@link java.util.ServiceLoader} when they are listed in
+ * {@code META-INF/services/org.thinkit.framework.envali.source.ContentSource} .
+ * The content returned by a source is cached per entity class and content name,
+ * so a source is called only once until the cache is invalidated or the entry
+ * is evicted.
+ *
+ * @author Kato Shinya
+ * @since 1.0.5
+ */
+public interface ContentSource {
+
+    /**
+     * Returns the content of the content name passed as an argument. The content
+     * is a map from the name of validatable field to the map from the tag of
+     * {@link EnvaliContentAttribute} to its value.
+     *
+     * @param entityClass The validatable entity class
+     * @param contentName The content name defined in {@link ParameterMapping}
+     *                    annotation
+     * @return The content per field name, or {@code null} if the source does not
+     *         provide the content
+     *
+     * @exception NullPointerException  If {@code null} is passed as an argument
+     * @exception IllegalStateException If the content cannot be read, otherwise
+     *                                  if the content is malformed
+     */
+    public Map<String, Map<String, String>> load(Class<? extends ValidatableEntity> entityClass, String contentName);
+}
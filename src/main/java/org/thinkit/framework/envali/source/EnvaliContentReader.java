@@ -0,0 +1,886 @@
+/*
+ * Copyright 2020 Kato Shinya.
+ *
+ * Licensed under the Apache License, Version 2.0 (the "License"); you may not use this file except
+ * in compliance with the License. You may obtain a copy of the License at
+ *
+ *     http://www.apache.org/licenses/LICENSE-2.0
+ *
+ * Unless required by applicable law or agreed to in writing, software distributed under the License
+ * is distributed on an "AS IS" BASIS, WITHOUT WARRANTIES OR CONDITIONS OF ANY KIND, either express
+ * or implied. See the License for the specific language governing permissions and limitations under
+ * the License.
+ */
+
+package org.thinkit.framework.envali.source;
+
+import java.io.ByteArrayInputStream;
+import java.lang.reflect.Field;
+import java.nio.ByteBuffer;
+import java.nio.charset.StandardCharsets;
+import java.util.ArrayList;
+import java.util.HashMap;
+import java.util.HashSet;
+import java.util.List;
+import java.util.Map;
+import java.util.Set;
+import java.util.function.BooleanSupplier;
+
+import org.thinkit.framework.content.ContentLoader;
+import org.thinkit.framework.envali.catalog.EnvaliContentAttribute;
+import org.thinkit.framework.envali.catalog.EnvaliContentCondition;
+import org.thinkit.framework.envali.entity.ValidatableEntity;
+import org.thinkit.framework.envali.helper.EnvaliClassHelper;
+
+import lombok.NonNull;
+
+/**
+ * A reader that builds the index of Envali's content per variable name from the
+ * UTF-8 bytes of a content file in one pass.
+ * <p>
+ * Unlike loading the whole document into a tree and filtering it per variable
+ * name, the reader walks the bytes once and keeps only the
+ * {@link EnvaliContentAttribute} values of the selection nodes and the
+ * variable names of the condition nodes. The metadata and any other values are
+ * skipped without being decoded, and the known keys are matched against their
+ * bytes without creating strings, so the cost scales with the size of the file
+ * rather than the size of its tree.
+ * <p>
+ * The reader supports the condition nodes that select a variable name with the
+ * {@code =} operator. If a condition node is excluded, has no condition or uses
+ * another operator, {@link #read()} returns {@code null} , and
+ * {@link #load(ByteBuffer, Class)} falls back to the content framework.
+ *
+ * @author Kato Shinya
+ * @since 1.0.5
+ */
+final class EnvaliContentReader {
+
+    /**
+     * The key of selection nodes
+     */
+    private static final String SELECTION_NODES = "selectionNodes";
+
+    /**
+     * The key of condition nodes
+     */
+    private static final String CONDITION_NODES = "conditionNodes";
+
+    /**
+     * The key of node
+     */
+    private static final String NODE = "node";
+
+    /**
+     * The key of condition id
+     */
+    private static final String CONDITION_ID = "conditionId";
+
+    /**
+     * The key of exclude flag
+     */
+    private static final String EXCLUDE = "exclude";
+
+    /**
+     * The key of conditions
+     */
+    private static final String CONDITIONS = "conditions";
+
+    /**
+     * The key of the key name of condition
+     */
+    private static final String KEY_NAME = "keyName";
+
+    /**
+     * The key of the operator of condition
+     */
+    private static final String OPERATOR = "operator";
+
+    /**
+     * The key of the operand of condition
+     */
+    private static final String OPERAND = "operand";
+
+    /**
+     * The operator that selects a variable name
+     */
+    private static final String EQUAL = "=";
+
+    /**
+     * The keys recognized by the reader
+     */
+    private static final String[] KNOWN_KEYS = getKnownKeys();
+
+    /**
+     * The UTF-8 bytes of the keys recognized by the reader
+     */
+    private static final byte[][] KNOWN_KEY_BYTES = getKnownKeyBytes();
+
+    /**
+     * The buffer of the content file
+     */
+    private ByteBuffer buffer;
+
+    /**
+     * The scratch array used to decode strings
+     */
+    private byte[] scratch = new byte[64];
+
+    /**
+     * Default constructor
+     */
+    private EnvaliContentReader() {
+    }
+
+    /**
+     * Constructor
+     *
+     * @param buffer The buffer of the content file
+     *
+     * @exception NullPointerException If {@code null} is passed as an argument
+     */
+    private EnvaliContentReader(@NonNull ByteBuffer buffer) {
+        this.buffer = buffer.duplicate();
+    }
+
+    /**
+     * Returns the new instance of {@link EnvaliContentReader} class. The position
+     * of the buffer passed as an argument is not changed by the reader.
+     *
+     * @param buffer The buffer of the content file
+     * @return The new instance of {@link EnvaliContentReader} class
+     *
+     * @exception NullPointerException If {@code null} is passed as an argument
+     */
+    static EnvaliContentReader of(@NonNull ByteBuffer buffer) {
+        return new EnvaliContentReader(buffer);
+    }
+
+    /**
+     * Loads the content per field name of the entity class passed as an argument
+     * from the buffer of a content file in JSON format. If the content file has
+     * condition nodes that are not supported by the reader, the content of each
+     * field is loaded by the content framework instead.
+     *
+     * @param buffer      The buffer of the content file
+     * @param entityClass The validatable entity class
+     * @return The content per field name
+     *
+     * @exception NullPointerException  If {@code null} is passed as an argument
+     * @exception IllegalStateException If the content file is malformed
+     */
+    static Map<String, Map<String, String>> load(@NonNull ByteBuffer buffer,
+            @NonNull Class<? extends ValidatableEntity> entityClass) {
+
+        final Map<String, Map<String, String>> contents = of(buffer).read();
+
+        if (contents != null) {
+            return contents;
+        }
+
+        final byte[] content = new byte[buffer.remaining()];
+        buffer.duplicate().get(content);
+
+        final Set<String> attributes = new HashSet<>();
+
+        for (EnvaliContentAttribute attribute : EnvaliContentAttribute.values()) {
+            attributes.add(attribute.getTag());
+        }
+
+        final Map<String, Map<String, String>> fieldContents = new HashMap<>();
+
+        for (Field field : EnvaliClassHelper.getHierarchyFields(entityClass)) {
+            final List<Map<String, String>> fieldContent = ContentLoader.load(new ByteArrayInputStream(content),
+                    attributes, List.of(Map.of(EnvaliContentCondition.VARIABLE_NAME.getTag(), field.getName())));
+
+            if (!fieldContent.isEmpty()) {
+                fieldContents.putIfAbsent(field.getName(), fieldContent.get(0));
+            }
+        }
+
+        return fieldContents;
+    }
+
+    /**
+     * Reads the content file and returns the content per variable name. The
+     * content of a variable name is the first selection node in the file whose
+     * condition node selects the variable name.
+     *
+     * @return The content per variable name, or {@code null} if the content file
+     *         has condition nodes that are not supported by the reader
+     *
+     * @exception IllegalStateException If the content file is malformed
+     */
+    Map<String, Map<String, String>> read() {
+
+        final List<String> selectionConditionIds = new ArrayList<>();
+        final List<Map<String, String>> selectionContents = new ArrayList<>();
+        final Map<String, List<String>> variableNames = new HashMap<>();
+
+        this.expect('{');
+
+        if (!this.consume('}')) {
+            do {
+                final String key = this.readKey();
+                this.expect(':');
+
+                if (SELECTION_NODES.equals(key)) {
+                    this.readNodes(() -> this.readSelectionNode(selectionConditionIds, selectionContents));
+                } else if (CONDITION_NODES.equals(key)) {
+                    if (!this.readNodes(() -> this.readConditionNode(variableNames))) {
+                        return null;
+                    }
+                } else {
+                    this.skipValue();
+                }
+            } while (this.consume(','));
+
+            this.expect('}');
+        }
+
+        final Map<String, Map<String, String>> contents = new HashMap<>();
+
+        for (int i = 0, size = selectionConditionIds.size(); i < size; i++) {
+            final List<String> selectedVariableNames = variableNames.get(selectionConditionIds.get(i));
+
+            if (selectedVariableNames != null) {
+                for (String variableName : selectedVariableNames) {
+                    contents.putIfAbsent(variableName, selectionContents.get(i));
+                }
+            }
+        }
+
+        return contents;
+    }
+
+    /**
+     * Reads the array of nodes with the node reader passed as an argument. The
+     * node reader reads the object held by the {@code node} key of each element.
+     *
+     * @param nodeReader The reader of the object of each node that returns
+     *                   {@code true} if the node is supported
+     * @return {@code true} if all nodes are supported, otherwise {@code false}
+     */
+    private boolean readNodes(@NonNull BooleanSupplier nodeReader) {
+
+        this.expect('[');
+
+        if (this.consume(']')) {
+            return true;
+        }
+
+        do {
+            this.expect('{');
+
+            if (!this.consume('}')) {
+                do {
+                    final String key = this.readKey();
+                    this.expect(':');
+
+                    if (NODE.equals(key)) {
+                        if (!nodeReader.getAsBoolean()) {
+                            return false;
+                        }
+                    } else {
+                        this.skipValue();
+                    }
+                } while (this.consume(','));
+
+                this.expect('}');
+            }
+        } while (this.consume(','));
+
+        this.expect(']');
+        return true;
+    }
+
+    /**
+     * Reads the object of a selection node and adds its condition id and content
+     * to the lists.
+     *
+     * @param selectionConditionIds The condition ids of selection nodes
+     * @param selectionContents     The content of selection nodes
+     * @return Always {@code true}
+     */
+    private boolean readSelectionNode(@NonNull List<String> selectionConditionIds,
+            @NonNull List<Map<String, String>> selectionContents) {
+
+        final Map<String, String> content = new HashMap<>();
+        String conditionId = null;
+
+        this.expect('{');
+
+        if (!this.consume('}')) {
+            do {
+                final String key = this.readKey();
+                this.expect(':');
+
+                if (CONDITION_ID.equals(key)) {
+                    conditionId = this.readScalar();
+                } else if (key != null && isContentAttribute(key)) {
+                    final String value = this.readScalar();
+
+                    if (value != null) {
+                        content.put(key, value);
+                    }
+                } else {
+                    this.skipValue();
+                }
+            } while (this.consume(','));
+
+            this.expect('}');
+        }
+
+        if (conditionId != null) {
+            selectionConditionIds.add(conditionId);
+            selectionContents.add(Map.copyOf(content));
+        }
+
+        return true;
+    }
+
+    /**
+     * Reads the object of a condition node and adds the variable name selected by
+     * it to the map.
+     *
+     * @param variableNames The variable names selected per condition id
+     * @return {@code true} if the condition node is supported, otherwise
+     *         {@code false}
+     */
+    private boolean readConditionNode(@NonNull Map<String, List<String>> variableNames) {
+
+        String conditionId = null;
+        String variableName = null;
+        boolean selectable = true;
+        boolean supported = true;
+        int conditionCount = 0;
+
+        this.expect('{');
+
+        if (!this.consume('}')) {
+            do {
+                final String key = this.readKey();
+                this.expect(':');
+
+                if (CONDITION_ID.equals(key)) {
+                    conditionId = this.readScalar();
+                } else if (EXCLUDE.equals(key)) {
+                    supported &= !Boolean.parseBoolean(this.readScalar());
+                } else if (CONDITIONS.equals(key)) {
+                    this.expect('[');
+
+                    if (!this.consume(']')) {
+                        do {
+                            final String[] condition = this.readCondition();
+                            conditionCount++;
+
+                            if (!EQUAL.equals(condition[1])) {
+                                supported = false;
+                            } else if (!EnvaliContentCondition.VARIABLE_NAME.getTag().equals(condition[0])
+                                    || condition[2] == null
+                                    || (variableName != null && !variableName.equals(condition[2]))) {
+                                selectable = false;
+                            } else {
+                                variableName = condition[2];
+                            }
+                        } while (this.consume(','));
+
+                        this.expect(']');
+                    }
+                } else {
+                    this.skipValue();
+                }
+            } while (this.consume(','));
+
+            this.expect('}');
+        }
+
+        if (!supported || conditionCount == 0) {
+            return false;
+        }
+
+        if (selectable && conditionId != null) {
+            variableNames.computeIfAbsent(conditionId, id -> new ArrayList<>(1)).add(variableName);
+        }
+
+        return true;
+    }
+
+    /**
+     * Reads the object of a condition.
+     *
+     * @return The key name, operator and operand of the condition
+     */
+    private String[] readCondition() {
+
+        final String[] condition = new String[3];
+
+        this.expect('{');
+
+        if (!this.consume('}')) {
+            do {
+                final String key = this.readKey();
+                this.expect(':');
+
+                if (KEY_NAME.equals(key)) {
+                    condition[0] = this.readScalar();
+                } else if (OPERATOR.equals(key)) {
+                    condition[1] = this.readScalar();
+                } else if (OPERAND.equals(key)) {
+                    condition[2] = this.readScalar();
+                } else {
+                    this.skipValue();
+                }
+            } while (this.consume(','));
+
+            this.expect('}');
+        }
+
+        return condition;
+    }
+
+    /**
+     * Reads a key of an object and returns the matching known key. The bytes of
+     * the key are compared with the known keys without creating a string.
+     *
+     * @return The known key, or {@code null} if the key is not known
+     *
+     * @exception IllegalStateException If the content file is malformed
+     */
+    private String readKey() {
+
+        this.skipWhitespace();
+
+        if (this.next() != '"') {
+            throw this.malformed();
+        }
+
+        final int start = this.buffer.position();
+        int end = start;
+
+        while (true) {
+            final byte b = this.byteAt(end);
+
+            if (b == '"') {
+                break;
+            }
+
+            if (b == '\\') {
+                this.buffer.position(start);
+                return this.findKnownKey(this.readStringBody());
+            }
+
+            end++;
+        }
+
+        this.buffer.position(end + 1);
+
+        for (int i = 0; i < KNOWN_KEY_BYTES.length; i++) {
+            if (this.matches(start, end - start, KNOWN_KEY_BYTES[i])) {
+                return KNOWN_KEYS[i];
+            }
+        }
+
+        return null;
+    }
+
+    /**
+     * Reads a scalar value as a string.
+     *
+     * @return The string value, the literal of number or boolean value, or
+     *         {@code null} if the value is {@code null} , an object or an array
+     *
+     * @exception IllegalStateException If the content file is malformed
+     */
+    private String readScalar() {
+
+        this.skipWhitespace();
+        final byte b = this.peek();
+
+        if (b == '"') {
+            this.buffer.get();
+            return this.readStringBody();
+        }
+
+        if (b == '{' || b == '[') {
+            this.skipValue();
+            return null;
+        }
+
+        final int start = this.buffer.position();
+        this.skipLiteral();
+        final String literal = this.decode(start, this.buffer.position() - start);
+
+        return "null".equals(literal) ? null : literal;
+    }
+
+    /**
+     * Reads the body of a string after the opening quote, including the closing
+     * quote.
+     *
+     * @return The string
+     *
+     * @exception IllegalStateException If the content file is malformed
+     */
+    private String readStringBody() {
+
+        final int start = this.buffer.position();
+        int end = start;
+
+        while (true) {
+            final byte b = this.byteAt(end);
+
+            if (b == '"') {
+                this.buffer.position(end + 1);
+                return this.decode(start, end - start);
+            }
+
+            if (b == '\\') {
+                break;
+            }
+
+            end++;
+        }
+
+        final StringBuilder builder = new StringBuilder(this.decode(start, end - start));
+        this.buffer.position(end);
+
+        while (true) {
+            final byte b = this.next();
+
+            if (b == '"') {
+                return builder.toString();
+            }
+
+            if (b != '\\') {
+                final int chunkStart = this.buffer.position() - 1;
+                int chunkEnd = chunkStart + 1;
+
+                while (this.byteAt(chunkEnd) != '"' && this.byteAt(chunkEnd) != '\\') {
+                    chunkEnd++;
+                }
+
+                builder.append(this.decode(chunkStart, chunkEnd - chunkStart));
+                this.buffer.position(chunkEnd);
+                continue;
+            }
+
+            final byte escaped = this.next();
+
+            switch (escaped) {
+                case '"', '\\', '/' -> builder.append((char) escaped);
+                case 'b' -> builder.append('\b');
+                case 'f' -> builder.append('\f');
+                case 'n' -> builder.append('\n');
+                case 'r' -> builder.append('\r');
+                case 't' -> builder.append('\t');
+                case 'u' -> {
+                    int codeUnit = 0;
+
+                    for (int i = 0; i < 4; i++) {
+                        final int digit = Character.digit(this.next(), 16);
+
+                        if (digit < 0) {
+                            throw this.malformed();
+                        }
+
+                        codeUnit = codeUnit << 4 | digit;
+                    }
+
+                    builder.append((char) codeUnit);
+                }
+                default -> throw this.malformed();
+            }
+        }
+    }
+
+    /**
+     * Skips a value of any type without decoding it.
+     *
+     * @exception IllegalStateException If the content file is malformed
+     */
+    private void skipValue() {
+
+        this.skipWhitespace();
+        final byte b = this.next();
+
+        if (b == '"') {
+            while (true) {
+                final byte c = this.next();
+
+                if (c == '"') {
+                    return;
+                }
+
+                if (c == '\\') {
+                    this.next();
+                }
+            }
+        }
+
+        if (b == '{') {
+            if (!this.consume('}')) {
+                do {
+                    this.readKey();
+                    this.expect(':');
+                    this.skipValue();
+                } while (this.consume(','));
+
+                this.expect('}');
+            }
+
+            return;
+        }
+
+        if (b == '[') {
+            if (!this.consume(']')) {
+                do {
+                    this.skipValue();
+                } while (this.consume(','));
+
+                this.expect(']');
+            }
+
+            return;
+        }
+
+        this.buffer.position(this.buffer.position() - 1);
+        this.skipLiteral();
+    }
+
+    /**
+     * Skips a literal such as a number, {@code true} , {@code false} or
+     * {@code null} .
+     *
+     * @exception IllegalStateException If the literal is empty
+     */
+    private void skipLiteral() {
+
+        final int start = this.buffer.position();
+
+        while (this.buffer.hasRemaining()) {
+            final byte b = this.buffer.get(this.buffer.position());
+
+            if (b == ',' || b == '}' || b == ']' || b == ' ' || b == '\n' || b == '\r' || b == '\t') {
+                break;
+            }
+
+            this.buffer.get();
+        }
+
+        if (this.buffer.position() == start) {
+            throw this.malformed();
+        }
+    }
+
+    /**
+     * Consumes the structural character passed as an argument if it is the next
+     * character except whitespace.
+     *
+     * @param c The structural character
+     * @return {@code true} if the character was consumed, otherwise {@code false}
+     */
+    private boolean consume(char c) {
+
+        this.skipWhitespace();
+
+        if (this.peek() == c) {
+            this.buffer.get();
+            return true;
+        }
+
+        return false;
+    }
+
+    /**
+     * Consumes the structural character passed as an argument.
+     *
+     * @param c The structural character
+     *
+     * @exception IllegalStateException If the next character except whitespace
+     *                                  is not the structural character
+     */
+    private void expect(char c) {
+        if (!this.consume(c)) {
+            throw this.malformed();
+        }
+    }
+
+    /**
+     * Skips whitespace.
+     */
+    private void skipWhitespace() {
+        while (this.buffer.hasRemaining()) {
+            final byte b = this.buffer.get(this.buffer.position());
+
+            if (b != ' ' && b != '\n' && b != '\r' && b != '\t') {
+                return;
+            }
+
+            this.buffer.get();
+        }
+    }
+
+    /**
+     * Returns the next byte without consuming it.
+     *
+     * @return The next byte
+     *
+     * @exception IllegalStateException If the end of the content file is reached
+     */
+    private byte peek() {
+        return this.byteAt(this.buffer.position());
+    }
+
+    /**
+     * Consumes and returns the next byte.
+     *
+     * @return The next byte
+     *
+     * @exception IllegalStateException If the end of the content file is reached
+     */
+    private byte next() {
+
+        final byte b = this.peek();
+        this.buffer.get();
+
+        return b;
+    }
+
+    /**
+     * Returns the byte at the index passed as an argument.
+     *
+     * @param index The index
+     * @return The byte at the index
+     *
+     * @exception IllegalStateException If the index is out of the content file
+     */
+    private byte byteAt(int index) {
+
+        if (index >= this.buffer.limit()) {
+            throw this.malformed();
+        }
+
+        return this.buffer.get(index);
+    }
+
+    /**
+     * Tests if the bytes in the range passed as arguments are equal to the key
+     * bytes.
+     *
+     * @param start  The start index of the range
+     * @param length The length of the range
+     * @param key    The key bytes
+     * @return {@code true} if the bytes are equal, otherwise {@code false}
+     */
+    private boolean matches(int start, int length, byte[] key) {
+
+        if (length != key.length) {
+            return false;
+        }
+
+        for (int i = 0; i < length; i++) {
+            if (this.buffer.get(start + i) != key[i]) {
+                return false;
+            }
+        }
+
+        return true;
+    }
+
+    /**
+     * Decodes the UTF-8 bytes in the range passed as arguments.
+     *
+     * @param start  The start index of the range
+     * @param length The length of the range
+     * @return The decoded string
+     */
+    private String decode(int start, int length) {
+
+        if (this.scratch.length < length) {
+            this.scratch = new byte[Math.max(length, this.scratch.length * 2)];
+        }
+
+        this.buffer.get(start, this.scratch, 0, length);
+        return new String(this.scratch, 0, length, StandardCharsets.UTF_8);
+    }
+
+    /**
+     * Returns the exception that tells the content file is malformed.
+     *
+     * @return The exception that tells the content file is malformed
+     */
+    private IllegalStateException malformed() {
+        return new IllegalStateException(
+                String.format("The content is malformed at byte %d.", this.buffer.position()));
+    }
+
+    /**
+     * Returns the known key equal to the key passed as an argument.
+     *
+     * @param key The key
+     * @return The known key, or {@code null} if the key is not known
+     */
+    private String findKnownKey(@NonNull String key) {
+
+        for (String knownKey : KNOWN_KEYS) {
+            if (knownKey.equals(key)) {
+                return knownKey;
+            }
+        }
+
+        return null;
+    }
+
+    /**
+     * Tests if the known key passed as an argument is an
+     * {@link EnvaliContentAttribute} .
+     *
+     * @param key The known key
+     * @return {@code true} if the key is a content attribute, otherwise
+     *         {@code false}
+     */
+    private static boolean isContentAttribute(@NonNull String key) {
+
+        for (EnvaliContentAttribute attribute : EnvaliContentAttribute.values()) {
+            if (attribute.getTag().equals(key)) {
+                return true;
+            }
+        }
+
+        return false;
+    }
+
+    /**
+     * Returns the keys recognized by the reader.
+     *
+     * @return The keys recognized by the reader
+     */
+    private static String[] getKnownKeys() {
+
+        final List<String> knownKeys = new ArrayList<>(List.of(SELECTION_NODES, CONDITION_NODES, NODE, CONDITION_ID,
+                EXCLUDE, CONDITIONS, KEY_NAME, OPERATOR, OPERAND));
+
+        for (EnvaliContentAttribute attribute : EnvaliContentAttribute.values()) {
+            knownKeys.add(attribute.getTag());
+        }
+
+        return knownKeys.toArray(new String[0]);
+    }
+
+    /**
+     * Returns the UTF-8 bytes of the keys recognized by the reader.
+     *
+     * @return The UTF-8 bytes of the keys recognized by the reader
+     */
+    private static byte[][] getKnownKeyBytes() {
+
+        final byte[][] knownKeyBytes = new byte[KNOWN_KEYS.length][];
+
+        for (int i = 0; i < KNOWN_KEYS.length; i++) {
+            knownKeyBytes[i] = KNOWN_KEYS[i].getBytes(StandardCharsets.UTF_8);
+        }
+
+        return knownKeyBytes;
+    }
+}
@@ -0,0 +1,95 @@
+/*
+ * Copyright 2020 Kato Shinya.
+ *
+ * Licensed under the Apache License, Version 2.0 (the "License"); you may not use this file except
+ * in compliance with the License. You may obtain a copy of the License at
+ *
+ *     http://www.apache.org/licenses/LICENSE-2.0
+ *
+ * Unless required by applicable law or agreed to in writing, software distributed under the License
+ * is distributed on an "AS IS" BASIS, WITHOUT WARRANTIES OR CONDITIONS OF ANY KIND, either express
+ * or implied. See the License for the specific language governing permissions and limitations under
+ * the License.
+ */
+
+package org.thinkit.framework.envali.source;
+
+import java.io.IOException;
+import java.nio.ByteBuffer;
+import java.nio.file.Files;
+import java.nio.file.Path;
+import java.util.Map;
+
+import org.thinkit.common.catalog.Extension;
+import org.thinkit.framework.envali.entity.ValidatableEntity;
+
+import lombok.EqualsAndHashCode;
+import lombok.NonNull;
+import lombok.ToString;
+
+/**
+ * A content source that loads the content files in JSON format from a
+ * directory on the filesystem, such as {@code EnvaliContent.json} for the
+ * content name {@code EnvaliContent} .
+ * <p>
+ * The content file is read into the heap rather than mapped into memory, so
+ * that no mapping keeps the file open while it is replaced.
+ *
+ * @author Kato Shinya
+ * @since 1.0.5
+ */
+@ToString
+@EqualsAndHashCode
+public final class FileSystemContentSource implements ContentSource {
+
+    /**
+     * The directory containing the content files
+     */
+    private Path directory;
+
+    /**
+     * Default constructor
+     */
+    private FileSystemContentSource() {
+    }
+
+    /**
+     * Constructor
+     *
+     * @param directory The directory containing the content files
+     *
+     * @exception NullPointerException If {@code null} is passed as an argument
+     */
+    private FileSystemContentSource(@NonNull Path directory) {
+        this.directory = directory;
+    }
+
+    /**
+     * Returns the new instance of {@link FileSystemContentSource} class.
+     *
+     * @param directory The directory containing the content files
+     * @return The new instance of {@link FileSystemContentSource} class
+     *
+     * @exception NullPointerException If {@code null} is passed as an argument
+     */
+    public static ContentSource of(@NonNull Path directory) {
+        return new FileSystemContentSource(directory);
+    }
+
+    @Override
+    public Map<String, Map<String, String>> load(@NonNull Class<? extends ValidatableEntity> entityClass,
+            @NonNull String contentName) {
+
+        final Path contentFile = this.directory.resolve(contentName + Extension.json());
+
+        if (!Files.isRegularFile(contentFile)) {
+            return null;
+        }
+
+        try {
+            return EnvaliContentReader.load(ByteBuffer.wrap(Files.readAllBytes(contentFile)), entityClass);
+        } catch (IOException e) {
+            throw new IllegalStateException(e);
+        }
+    }
+}
@@ -0,0 +1,110 @@
+/*
+ * Copyright 2020 Kato Shinya.
+ *
+ * Licensed under the Apache License, Version 2.0 (the "License"); you may not use this file except
+ * in compliance with the License. You may obtain a copy of the License at
+ *
+ *     http://www.apache.org/licenses/LICENSE-2.0
+ *
+ * Unless required by applicable law or agreed to in writing, software distributed under the License
+ * is distributed on an "AS IS" BASIS, WITHOUT WARRANTIES OR CONDITIONS OF ANY KIND, either express
+ * or implied. See the License for the specific language governing permissions and limitations under
+ * the License.
+ */
+
+package org.thinkit.framework.envali.source;
+
+import java.util.HashMap;
+import java.util.Map;
+import java.util.Map.Entry;
+
+import org.thinkit.framework.envali.annotation.ParameterMapping;
+import org.thinkit.framework.envali.catalog.EnvaliContentAttribute;
+import org.thinkit.framework.envali.entity.ValidatableEntity;
+
+import lombok.EqualsAndHashCode;
+import lombok.NonNull;
+import lombok.ToString;
+
+/**
+ * A content source that provides the content held in memory, which allows the
+ * content to be defined programmatically instead of by content files.
+ * <p>
+ * The content is defined per content name and field name as follows, and it is
+ * copied when the source is created.
+ *
+ * <pre>
+ * <code>
+ * Envali.addContentSource(MapContentSource.of(Map.of("EnvaliContent",
+ *         Map.of("number", Map.of(EnvaliContentAttribute.RANGE_FROM, "0", EnvaliContentAttribute.RANGE_TO, "100")))));
+ * </code>
+ * </pre>
+ *
+ * @author Kato Shinya
+ * @since 1.0.5
+ */
+@ToString
+@EqualsAndHashCode
+public final class MapContentSource implements ContentSource {
+
+    /**
+     * The content per field name per content name
+     */
+    private Map<String, Map<String, Map<String, String>>> contents;
+
+    /**
+     * Default constructor
+     */
+    private MapContentSource() {
+    }
+
+    /**
+     * Constructor
+     *
+     * @param contents The content per field name per content name
+     *
+     * @exception NullPointerException If {@code null} is passed as an argument
+     */
+    private MapContentSource(@NonNull Map<String, Map<String, Map<EnvaliContentAttribute, String>>> contents) {
+
+        final Map<String, Map<String, Map<String, String>>> copiedContents = new HashMap<>(contents.size());
+
+        for (Entry<String, Map<String, Map<EnvaliContentAttribute, String>>> content : contents.entrySet()) {
+            final Map<String, Map<String, String>> fieldContents = new HashMap<>(content.getValue().size());
+
+            for (Entry<String, Map<EnvaliContentAttribute, String>> fieldContent : content.getValue().entrySet()) {
+                final Map<String, String> attributes = new HashMap<>(fieldContent.getValue().size());
+
+                for (Entry<EnvaliContentAttribute, String> attribute : fieldContent.getValue().entrySet()) {
+                    attributes.put(attribute.getKey().getTag(), attribute.getValue());
+                }
+
+                fieldContents.put(fieldContent.getKey(), Map.copyOf(attributes));
+            }
+
+            copiedContents.put(content.getKey(), Map.copyOf(fieldContents));
+        }
+
+        this.contents = Map.copyOf(copiedContents);
+    }
+
+    /**
+     * Returns the new instance of {@link MapContentSource} class.
+     *
+     * @param contents The content per field name per content name defined in
+     *                 {@link ParameterMapping} annotation
+     * @return The new instance of {@link MapContentSource} class
+     *
+     * @exception NullPointerException If {@code null} is passed as an argument,
+     *                                  otherwise if the map contains {@code null}
+     */
+    public static ContentSource of(@NonNull Map<String, Map<String, Map<EnvaliContentAttribute, String>>> contents) {
+        return new MapContentSource(contents);
+    }
+
+    @Override
+    public Map<String, Map<String, String>> load(@NonNull Class<? extends ValidatableEntity> entityClass,
+            @NonNull String contentName) {
+        return this.contents.get(contentName);
+    }
+}
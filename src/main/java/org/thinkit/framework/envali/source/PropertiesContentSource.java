@@ -0,0 +1,158 @@
+/*
+ * Copyright 2020 Kato Shinya.
+ *
+ * Licensed under the Apache License, Version 2.0 (the "License"); you may not use this file except
+ * in compliance with the License. You may obtain a copy of the License at
+ *
+ *     http://www.apache.org/licenses/LICENSE-2.0
+ *
+ * Unless required by applicable law or agreed to in writing, software distributed under the License
+ * is distributed on an "AS IS" BASIS, WITHOUT WARRANTIES OR CONDITIONS OF ANY KIND, either express
+ * or implied. See the License for the specific language governing permissions and limitations under
+ * the License.
+ */
+
+package org.thinkit.framework.envali.source;
+
+import java.io.IOException;
+import java.io.InputStream;
+import java.io.InputStreamReader;
+import java.io.Reader;
+import java.nio.charset.StandardCharsets;
+import java.util.HashMap;
+import java.util.Map;
+import java.util.Map.Entry;
+import java.util.Properties;
+
+import org.thinkit.framework.envali.annotation.ParameterMapping;
+import org.thinkit.framework.envali.catalog.EnvaliContentAttribute;
+import org.thinkit.framework.envali.catalog.EnvaliContentRoot;
+import org.thinkit.framework.envali.entity.ValidatableEntity;
+
+import lombok.EqualsAndHashCode;
+import lombok.NonNull;
+import lombok.ToString;
+
+/**
+ * A content source that loads the content files in properties format from the
+ * classpath of the entity class, such as
+ * {@code content/envali/EnvaliContent.properties} for the content name
+ * {@code EnvaliContent} . The files are read in UTF-8.
+ * <p>
+ * Each key consists of the name of validatable field and the tag of
+ * {@link EnvaliContentAttribute} separated by a period as follows. The keys
+ * whose attribute is not an {@link EnvaliContentAttribute} are ignored.
+ *
+ * <pre>
+ * <code>
+ * number.rangeFrom = 0
+ * number.rangeTo = 100
+ * literal.regexExpression = ^[a-z]+$
+ * </code>
+ * </pre>
+ *
+ * @author Kato Shinya
+ * @since 1.0.5
+ */
+@ToString
+@EqualsAndHashCode
+public final class PropertiesContentSource implements ContentSource {
+
+    /**
+     * The extension of content files
+     */
+    private static final String EXTENSION = ".properties";
+
+    /**
+     * Default constructor
+     */
+    private PropertiesContentSource() {
+    }
+
+    /**
+     * Returns the new instance of {@link PropertiesContentSource} class.
+     *
+     * @return The new instance of {@link PropertiesContentSource} class
+     */
+    public static ContentSource of() {
+        return new PropertiesContentSource();
+    }
+
+    @Override
+    public Map<String, Map<String, String>> load(@NonNull Class<? extends ValidatableEntity> entityClass,
+            @NonNull String contentName) {
+
+        final String contentResourcePath = EnvaliContentRoot.ROOT.getTag() + contentName + EXTENSION;
+        final ClassLoader classLoader = entityClass.getClassLoader();
+
+        try (InputStream contentStream = classLoader != null ? classLoader.getResourceAsStream(contentResourcePath)
+                : ClassLoader.getSystemResourceAsStream(contentResourcePath)) {
+            if (contentStream == null) {
+                return null;
+            }
+
+            final Properties properties = new Properties();
+
+            try (Reader reader = new InputStreamReader(contentStream, StandardCharsets.UTF_8)) {
+                properties.load(reader);
+            }
+
+            return toContents(properties);
+        } catch (IOException | IllegalArgumentException e) {
+            throw new IllegalStateException(e);
+        }
+    }
+
+    /**
+     * Converts the properties passed as an argument to the content per field
+     * name.
+     *
+     * @param properties The properties of the content file
+     * @return The content per field name
+     *
+     * @exception NullPointerException If {@code null} is passed as an argument
+     */
+    private static Map<String, Map<String, String>> toContents(@NonNull Properties properties) {
+
+        final Map<String, Map<String, String>> contents = new HashMap<>();
+
+        for (Entry<Object, Object> property : properties.entrySet()) {
+            final String key = (String) property.getKey();
+            final int separator = key.lastIndexOf('.');
+
+            if (separator <= 0 || !isContentAttribute(key.substring(separator + 1))) {
+                continue;
+            }
+
+            contents.computeIfAbsent(key.substring(0, separator), fieldName -> new HashMap<>())
+                    .put(key.substring(separator + 1), ((String) property.getValue()).strip());
+        }
+
+        final Map<String, Map<String, String>> immutableContents = new HashMap<>(contents.size());
+
+        for (Entry<String, Map<String, String>> content : contents.entrySet()) {
+            immutableContents.put(content.getKey(), Map.copyOf(content.getValue()));
+        }
+
+        return Map.copyOf(immutableContents);
+    }
+
+    /**
+     * Tests if the tag passed as an argument is the tag of an
+     * {@link EnvaliContentAttribute} .
+     *
+     * @param tag The tag
+     * @return {@code true} if the tag is the tag of an
+     *         {@link EnvaliContentAttribute} , otherwise {@code false}
+     */
+    private static boolean isContentAttribute(@NonNull String tag) {
+
+        for (EnvaliContentAttribute attribute : EnvaliContentAttribute.values()) {
+            if (attribute.getTag().equals(tag)) {
+                return true;
+            }
+        }
+
+        return false;
+    }
+}
@@ -0,0 +1,14 @@
+/**
+ * The package that manages the sources of the content that defines the
+ * expectations for entity validation.
+ * <p>
+ * The content mapped by {@link org.thinkit.framework.envali.annotation.ParameterMapping}
+ * annotation is loaded from the {@link ContentSource} objects in order. The
+ * sources added by {@link org.thinkit.framework.envali.Envali#addContentSource(ContentSource)}
+ * are consulted first, then the directory watched by
+ * {@link org.thinkit.framework.envali.Envali#watchContent(java.nio.file.Path)} ,
+ * the sources discovered by {@link java.util.ServiceLoader} , the content
+ * archive, the JSON files on the classpath and finally the properties files on
+ * the classpath. The parsed content is cached and shared by all sources.
+ */
+package org.thinkit.framework.envali.source;
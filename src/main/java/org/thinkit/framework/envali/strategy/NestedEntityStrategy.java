@@ -16,14 +16,17 @@ package org.thinkit.framework.envali.strategy;
 
 import java.lang.reflect.Field;
 import java.util.Collection;
+import java.util.List;
 
 import org.thinkit.framework.envali.Envali;
 import org.thinkit.framework.envali.annotation.NestedEntity;
 import org.thinkit.framework.envali.context.ErrorContext;
 import org.thinkit.framework.envali.entity.ValidatableEntity;
+import org.thinkit.framework.envali.entity.ValidationGroup;
 import org.thinkit.framework.envali.helper.EnvaliFieldHelper;
 import org.thinkit.framework.envali.result.BusinessError;
 import org.thinkit.framework.envali.result.ValidationResult;
+import org.thinkit.framework.envali.source.ContentProfile;
 
 import lombok.EqualsAndHashCode;
 import lombok.NonNull;
@@ -43,39 +46,45 @@ final class NestedEntityStrategy extends ValidationStrategy<NestedEntity> {
      * Constructor
      *
      * @param errorContext The error context
-     * @param entity       The entity for validation
+     * @param entityClass  The entity class for validation
      * @param field        The field for validation
      *
      * @exception NullPointerException If {@code null} is passed as an argument
      */
-    private NestedEntityStrategy(@NonNull ErrorContext<NestedEntity> errorContext, @NonNull ValidatableEntity entity,
-            @NonNull Field field) {
-        super(errorContext, entity, field);
+    private NestedEntityStrategy(@NonNull ErrorContext<NestedEntity> errorContext,
+            @NonNull Class<? extends ValidatableEntity> entityClass, @NonNull Field field) {
+        super(errorContext, entityClass, field);
     }
 
     /**
      * Returns the new instance of {@link NestedEntityStrategy} class.
      *
      * @param errorContext The error context
-     * @param entity       The entity for validation
+     * @param entityClass  The entity class for validation
      * @param field        The field for validation
      * @return The new instance of {@link NestedEntityStrategy} class
      *
      * @exception NullPointerException If {@code null} is passed as an argument
      */
     protected static ValidationStrategy<NestedEntity> of(@NonNull ErrorContext<NestedEntity> errorContext,
-            @NonNull ValidatableEntity entity, @NonNull Field field) {
-        return new NestedEntityStrategy(errorContext, entity, field);
+            @NonNull Class<? extends ValidatableEntity> entityClass, @NonNull Field field) {
+        return new NestedEntityStrategy(errorContext, entityClass, field);
     }
 
     @Override
-    public BusinessError validate() {
+    public BusinessError validate(@NonNull ValidatableEntity entity) {
+        return this.validate(entity, List.of());
+    }
+
+    @Override
+    public BusinessError validate(@NonNull ValidatableEntity entity,
+            @NonNull Collection<Class<? extends ValidationGroup>> groups) {
 
         final EnvaliFieldHelper field = super.getFieldHelper();
 
         if (field.isCollection()) {
-            for (ValidatableEntity validatableEntity : this.getValidatableEntityCollection(field)) {
-                final ValidationResult validationResult = Envali.validate(validatableEntity);
+            for (ValidatableEntity validatableEntity : this.getValidatableEntityCollection(entity, field)) {
+                final ValidationResult validationResult = this.validateNestedEntity(validatableEntity, groups);
 
                 if (validationResult.hasError()) {
                     return BusinessError.nestedError(validationResult);
@@ -85,20 +94,43 @@ final class NestedEntityStrategy extends ValidationStrategy<NestedEntity> {
             return BusinessError.none();
         }
 
-        final ValidationResult validationResult = Envali.validate(field.getValidatableEntity());
+        final ValidationResult validationResult = this.validateNestedEntity(field.getValidatableEntity(entity), groups);
         return validationResult.hasError() ? BusinessError.nestedError(validationResult) : BusinessError.none();
     }
 
+    /**
+     * Validates the nested entity passed as an argument for the validation groups
+     * passed as an argument. The nested entity is validated with the same content
+     * profile as the entity that nests it.
+     *
+     * @param nestedEntity The nested entity to be validated
+     * @param groups       The validation groups requested
+     * @return The validation result of the nested entity
+     *
+     * @exception NullPointerException If {@code null} is passed as an argument
+     */
+    private ValidationResult validateNestedEntity(@NonNull ValidatableEntity nestedEntity,
+            @NonNull Collection<Class<? extends ValidationGroup>> groups) {
+
+        final ContentProfile contentProfile = super.getErrorContext().getContentProfile();
+
+        return contentProfile == null ? Envali.validate(nestedEntity, groups)
+                : Envali.validate(nestedEntity, contentProfile, groups);
+    }
+
     /**
      * Returns the collection of validatable entity from the field.
      *
-     * @param field The field to be validated
+     * @param entity The entity to be validated
+     * @param field  The field to be validated
      * @return The collection of validatable entity from the field
      *
      * @exception NullPointerException If {@code null} is passed as an argument
      */
-    private Collection<ValidatableEntity> getValidatableEntityCollection(@NonNull EnvaliFieldHelper field) {
-        return field.isList() ? field.getValidatableEntityList()
-                : field.isSet() ? field.getValidatableEntitySet() : field.getValidatableEntityMap().values();
+    private Collection<ValidatableEntity> getValidatableEntityCollection(@NonNull ValidatableEntity entity,
+            @NonNull EnvaliFieldHelper field) {
+        return field.isList() ? field.getValidatableEntityList(entity)
+                : field.isSet() ? field.getValidatableEntitySet(entity)
+                        : field.getValidatableEntityMap(entity).values();
     }
 }
@@ -0,0 +1,90 @@
+/*
+ * Copyright 2020 Kato Shinya.
+ *
+ * Licensed under the Apache License, Version 2.0 (the "License"); you may not use this file except
+ * in compliance with the License. You may obtain a copy of the License at
+ *
+ *     http://www.apache.org/licenses/LICENSE-2.0
+ *
+ * Unless required by applicable law or agreed to in writing, software distributed under the License
+ * is distributed on an "AS IS" BASIS, WITHOUT WARRANTIES OR CONDITIONS OF ANY KIND, either express
+ * or implied. See the License for the specific language governing permissions and limitations under
+ * the License.
+ */
+
+package org.thinkit.framework.envali.strategy;
+
+import java.lang.reflect.Field;
+
+import org.thinkit.common.base.precondition.exception.PreconditionFailedException;
+import org.thinkit.framework.envali.annotation.RequireChecksum;
+import org.thinkit.framework.envali.context.ErrorContext;
+import org.thinkit.framework.envali.entity.ValidatableEntity;
+import org.thinkit.framework.envali.helper.EnvaliChecksumHelper;
+import org.thinkit.framework.envali.result.BusinessError;
+
+import lombok.EqualsAndHashCode;
+import lombok.NonNull;
+import lombok.ToString;
+
+/**
+ * A strategy to perform validation process for {@link RequireChecksum}
+ * annotation.
+ * <p>
+ * The check digit is computed by {@link EnvaliChecksumHelper} directly from the
+ * characters of the field value, so the field value is neither copied nor
+ * converted to a string at validation time.
+ *
+ * @author Kato Shinya
+ * @since 1.0.5
+ */
+@ToString
+@EqualsAndHashCode(callSuper = false)
+final class RequireChecksumStrategy extends ValidationStrategy<RequireChecksum> {
+
+    /**
+     * Constructor
+     *
+     * @param errorContext The error context
+     * @param entityClass  The entity class for validation
+     * @param field        The field for validation
+     *
+     * @exception NullPointerException If {@code null} is passed as an argument
+     */
+    private RequireChecksumStrategy(@NonNull ErrorContext<RequireChecksum> errorContext,
+            @NonNull Class<? extends ValidatableEntity> entityClass, @NonNull Field field) {
+        super(errorContext, entityClass, field);
+    }
+
+    /**
+     * Returns the new instance of {@link RequireChecksumStrategy} class.
+     *
+     * @param errorContext The error context
+     * @param entityClass  The entity class for validation
+     * @param field        The field for validation
+     * @return The new instance of {@link RequireChecksumStrategy} class
+     *
+     * @exception NullPointerException If {@code null} is passed as an argument
+     */
+    protected static ValidationStrategy<RequireChecksum> of(@NonNull ErrorContext<RequireChecksum> errorContext,
+            @NonNull Class<? extends ValidatableEntity> entityClass, @NonNull Field field) {
+        return new RequireChecksumStrategy(errorContext, entityClass, field);
+    }
+
+    @Override
+    public BusinessError validate(@NonNull ValidatableEntity entity) {
+
+        final RequireChecksum annotation = super.getErrorContext().getAnnotation();
+        final CharSequence value = (CharSequence) super.getFieldHelper().get(entity);
+
+        if (value == null || EnvaliChecksumHelper.isValid(annotation.algorithm(), value)) {
+            return BusinessError.none();
+        }
+
+        return switch (annotation.errorType()) {
+            case RECOVERABLE -> BusinessError.recoverable(annotation.message());
+            case UNRECOVERABLE -> BusinessError.unrecoverable(annotation.message());
+            case RUNTIME -> throw new PreconditionFailedException();
+        };
+    }
+}
@@ -39,37 +39,44 @@ import lombok.ToString;
 @EqualsAndHashCode(callSuper = false)
 final class RequireEndWithStrategy extends ValidationStrategy<RequireEndWith> {
 
+    /**
+     * The suffix, which is resolved only once when the strategy is created
+     */
+    private String suffix;
+
     /**
      * Constructor
      *
      * @param errorContext The error context
-     * @param entity       The entity for validation
+     * @param entityClass  The entity class for validation
      * @param field        The field for validation
      *
      * @exception NullPointerException If {@code null} is passed as an argument
      */
     private RequireEndWithStrategy(@NonNull ErrorContext<RequireEndWith> errorContext,
-            @NonNull ValidatableEntity entity, @NonNull Field field) {
-        super(errorContext, entity, field);
+            @NonNull Class<? extends ValidatableEntity> entityClass, @NonNull Field field) {
+        super(errorContext, entityClass, field);
+        this.suffix = super.isContentConfig() ? super.getContentHelper().getString(EnvaliContentAttribute.END_WITH)
+                : errorContext.getAnnotation().suffix();
     }
 
     /**
      * Returns the new instance of {@link RequireEndWithStrategy} class.
      *
      * @param errorContext The error context
-     * @param entity       The entity for validation
+     * @param entityClass  The entity class for validation
      * @param field        The field for validation
      * @return The new instance of {@link RequireEndWithStrategy} class
      *
      * @exception NullPointerException If {@code null} is passed as an argument
      */
     protected static ValidationStrategy<RequireEndWith> of(@NonNull ErrorContext<RequireEndWith> errorContext,
-            @NonNull ValidatableEntity entity, @NonNull Field field) {
-        return new RequireEndWithStrategy(errorContext, entity, field);
+            @NonNull Class<? extends ValidatableEntity> entityClass, @NonNull Field field) {
+        return new RequireEndWithStrategy(errorContext, entityClass, field);
     }
 
     @Override
-    public BusinessError validate() {
+    public BusinessError validate(@NonNull ValidatableEntity entity) {
 
         final ErrorContext<RequireEndWith> errorContext = super.getErrorContext();
         final RequireEndWith annotation = errorContext.getAnnotation();
@@ -77,9 +84,7 @@ final class RequireEndWithStrategy extends ValidationStrategy<RequireEndWith> {
         return switch (annotation.errorType()) {
             case RECOVERABLE -> {
                 try {
-                    Preconditions.requireEndWith(super.getFieldHelper().getString(),
-                            super.isContentConfig() ? super.getContentHelper().get(EnvaliContentAttribute.END_WITH)
-                                    : annotation.suffix(),
+                    Preconditions.requireEndWith(super.getFieldHelper().getString(entity), this.suffix,
                             new InvalidValueDetectedException());
                     yield BusinessError.none();
                 } catch (InvalidValueDetectedException e) {
@@ -89,9 +94,7 @@ final class RequireEndWithStrategy extends ValidationStrategy<RequireEndWith> {
 
             case UNRECOVERABLE -> {
                 try {
-                    Preconditions.requireEndWith(super.getFieldHelper().getString(),
-                            super.isContentConfig() ? super.getContentHelper().get(EnvaliContentAttribute.END_WITH)
-                                    : annotation.suffix(),
+                    Preconditions.requireEndWith(super.getFieldHelper().getString(entity), this.suffix,
                             new InvalidValueDetectedException());
                     yield BusinessError.none();
                 } catch (InvalidValueDetectedException e) {
@@ -100,9 +103,7 @@ final class RequireEndWithStrategy extends ValidationStrategy<RequireEndWith> {
             }
 
             case RUNTIME -> {
-                Preconditions.requireEndWith(super.getFieldHelper().getString(),
-                        super.isContentConfig() ? super.getContentHelper().get(EnvaliContentAttribute.END_WITH)
-                                : annotation.suffix());
+                Preconditions.requireEndWith(super.getFieldHelper().getString(entity), this.suffix);
                 yield BusinessError.none();
             }
         };
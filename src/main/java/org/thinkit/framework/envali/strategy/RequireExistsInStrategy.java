@@ -0,0 +1,89 @@
+/*
+ * Copyright 2020 Kato Shinya.
+ *
+ * Licensed under the Apache License, Version 2.0 (the "License"); you may not use this file except
+ * in compliance with the License. You may obtain a copy of the License at
+ *
+ *     http://www.apache.org/licenses/LICENSE-2.0
+ *
+ * Unless required by applicable law or agreed to in writing, software distributed under the License
+ * is distributed on an "AS IS" BASIS, WITHOUT WARRANTIES OR CONDITIONS OF ANY KIND, either express
+ * or implied. See the License for the specific language governing permissions and limitations under
+ * the License.
+ */
+
+package org.thinkit.framework.envali.strategy;
+
+import java.lang.reflect.Field;
+
+import org.thinkit.common.base.precondition.exception.PreconditionFailedException;
+import org.thinkit.framework.envali.annotation.RequireExistsIn;
+import org.thinkit.framework.envali.context.ErrorContext;
+import org.thinkit.framework.envali.entity.ValidatableEntity;
+import org.thinkit.framework.envali.helper.EnvaliDataset;
+import org.thinkit.framework.envali.result.BusinessError;
+
+import lombok.EqualsAndHashCode;
+import lombok.NonNull;
+import lombok.ToString;
+
+/**
+ * A strategy to perform validation process for {@link RequireExistsIn}
+ * annotation.
+ * <p>
+ * The dataset is resolved by name on every validation, so a dataset registered
+ * again with a new file takes effect without creating the strategy again.
+ *
+ * @author Kato Shinya
+ * @since 1.0.5
+ */
+@ToString
+@EqualsAndHashCode(callSuper = false)
+final class RequireExistsInStrategy extends ValidationStrategy<RequireExistsIn> {
+
+    /**
+     * Constructor
+     *
+     * @param errorContext The error context
+     * @param entityClass  The entity class for validation
+     * @param field        The field for validation
+     *
+     * @exception NullPointerException If {@code null} is passed as an argument
+     */
+    private RequireExistsInStrategy(@NonNull ErrorContext<RequireExistsIn> errorContext,
+            @NonNull Class<? extends ValidatableEntity> entityClass, @NonNull Field field) {
+        super(errorContext, entityClass, field);
+    }
+
+    /**
+     * Returns the new instance of {@link RequireExistsInStrategy} class.
+     *
+     * @param errorContext The error context
+     * @param entityClass  The entity class for validation
+     * @param field        The field for validation
+     * @return The new instance of {@link RequireExistsInStrategy} class
+     *
+     * @exception NullPointerException If {@code null} is passed as an argument
+     */
+    protected static ValidationStrategy<RequireExistsIn> of(@NonNull ErrorContext<RequireExistsIn> errorContext,
+            @NonNull Class<? extends ValidatableEntity> entityClass, @NonNull Field field) {
+        return new RequireExistsInStrategy(errorContext, entityClass, field);
+    }
+
+    @Override
+    public BusinessError validate(@NonNull ValidatableEntity entity) {
+
+        final RequireExistsIn annotation = super.getErrorContext().getAnnotation();
+        final CharSequence value = (CharSequence) super.getFieldHelper().get(entity);
+
+        if (value == null || EnvaliDataset.get(annotation.dataset()).contains(value)) {
+            return BusinessError.none();
+        }
+
+        return switch (annotation.errorType()) {
+            case RECOVERABLE -> BusinessError.recoverable(annotation.message());
+            case UNRECOVERABLE -> BusinessError.unrecoverable(annotation.message());
+            case RUNTIME -> throw new PreconditionFailedException();
+        };
+    }
+}
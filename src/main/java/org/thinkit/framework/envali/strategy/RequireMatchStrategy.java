@@ -15,22 +15,13 @@
 package org.thinkit.framework.envali.strategy;
 
 import java.lang.reflect.Field;
-import java.util.Arrays;
-import java.util.EnumSet;
-import java.util.List;
-import java.util.stream.Collectors;
+import java.util.function.Predicate;
 
-import org.thinkit.common.base.precondition.Preconditions;
 import org.thinkit.common.base.precondition.exception.PreconditionFailedException;
-import org.thinkit.common.regex.Epitaph;
-import org.thinkit.common.regex.catalog.RegexOption;
 import org.thinkit.framework.envali.annotation.RequireMatch;
-import org.thinkit.framework.envali.catalog.EnvaliContentAttribute;
-import org.thinkit.framework.envali.catalog.RegexMethod;
-import org.thinkit.framework.envali.catalog.RegexModifier;
-import org.thinkit.framework.envali.catalog.RegexPreset;
 import org.thinkit.framework.envali.context.ErrorContext;
 import org.thinkit.framework.envali.entity.ValidatableEntity;
+import org.thinkit.framework.envali.helper.EnvaliRegexHelper;
 import org.thinkit.framework.envali.result.BusinessError;
 
 import lombok.EqualsAndHashCode;
@@ -47,50 +38,61 @@ import lombok.ToString;
 @EqualsAndHashCode(callSuper = false)
 final class RequireMatchStrategy extends ValidationStrategy<RequireMatch> {
 
+    /**
+     * The requirement that the value matches the regular expression, whose
+     * regular expression is compiled or parser is selected only once when the
+     * strategy is created
+     */
+    @ToString.Exclude
+    @EqualsAndHashCode.Exclude
+    private Predicate<CharSequence> matcher;
+
     /**
      * Constructor
      *
      * @param errorContext The error context
-     * @param entity       The entity for validation
+     * @param entityClass  The entity class for validation
      * @param field        The field for validation
      *
      * @exception NullPointerException If {@code null} is passed as an argument
      */
-    private RequireMatchStrategy(@NonNull ErrorContext<RequireMatch> errorContext, @NonNull ValidatableEntity entity,
-            @NonNull Field field) {
-        super(errorContext, entity, field);
+    private RequireMatchStrategy(@NonNull ErrorContext<RequireMatch> errorContext,
+            @NonNull Class<? extends ValidatableEntity> entityClass, @NonNull Field field) {
+        super(errorContext, entityClass, field);
+        this.matcher = EnvaliRegexHelper.compileMatcher(errorContext.getAnnotation(),
+                super.isContentConfig() ? super.getContentHelper() : null);
     }
 
     /**
      * Returns the new instance of {@link RequireMatchStrategy} class.
      *
      * @param errorContext The error context
-     * @param entity       The entity for validation
+     * @param entityClass  The entity class for validation
      * @param field        The field for validation
      * @return The new instance of {@link RequireMatchStrategy} class
      *
      * @exception NullPointerException If {@code null} is passed as an argument
      */
     protected static ValidationStrategy<RequireMatch> of(@NonNull ErrorContext<RequireMatch> errorContext,
-            @NonNull ValidatableEntity entity, @NonNull Field field) {
-        return new RequireMatchStrategy(errorContext, entity, field);
+            @NonNull Class<? extends ValidatableEntity> entityClass, @NonNull Field field) {
+        return new RequireMatchStrategy(errorContext, entityClass, field);
     }
 
     @Override
-    public BusinessError validate() {
+    public BusinessError validate(@NonNull ValidatableEntity entity) {
 
         final ErrorContext<RequireMatch> errorContext = super.getErrorContext();
         final RequireMatch annotation = errorContext.getAnnotation();
 
         return switch (annotation.errorType()) {
-            case RECOVERABLE -> this.validate(annotation) ? BusinessError.none()
+            case RECOVERABLE -> this.validate(entity, annotation) ? BusinessError.none()
                     : BusinessError.recoverable(annotation.message());
 
-            case UNRECOVERABLE -> this.validate(annotation) ? BusinessError.none()
+            case UNRECOVERABLE -> this.validate(entity, annotation) ? BusinessError.none()
                     : BusinessError.unrecoverable(annotation.message());
 
             case RUNTIME -> {
-                if (this.validate(annotation)) {
+                if (this.validate(entity, annotation)) {
                     yield BusinessError.none();
                 }
 
@@ -103,65 +105,14 @@ final class RequireMatchStrategy extends ValidationStrategy<RequireMatch> {
      * Performs regular expression validation based on the value set in the
      * {@link RequireMatch} annotation.
      *
+     * @param entity     The entity to be validated
      * @param annotation The {@link RequireMatch} annotation
      * @return {@code true} if the value of the field matches the regular
      *         expression, otherwise {@code false}
      *
      * @exception NullPointerException If {@code null} is passed as an argument
      */
-    private boolean validate(@NonNull RequireMatch annotation) {
-
-        final Epitaph.Builder builder = Epitaph.builder().input(super.getFieldHelper().getString());
-        final RegexPreset presetExpression = annotation.presetExpression();
-        Preconditions.requireNonNull(presetExpression);
-
-        if (presetExpression == RegexPreset.NONE) {
-            builder.pattern(
-                    super.isContentConfig() ? super.getContentHelper().get(EnvaliContentAttribute.REGEX_EXPRESSION)
-                            : annotation.expression());
-        } else {
-            builder.pattern(presetExpression.getTag());
-        }
-
-        final List<RegexModifier> regexModifiers = Arrays.asList(annotation.modifiers());
-
-        if (regexModifiers.isEmpty()) {
-            return this.validate(builder.build(), annotation.method());
-        }
-
-        return this.validate(builder.option(EnumSet.copyOf(this.toRegexOption(regexModifiers))).build(),
-                annotation.method());
-    }
-
-    /**
-     * Performs regular expression validation by {@link Epitaph} based on the enum
-     * element of the {@link RegexMethod} .
-     *
-     * @param epitaph     The regex engine
-     * @param regexMethod The regex method based on {@link RegexMethod}
-     * @return {@code true} if the value of the field matches the regular
-     *         expression, otherwise {@code false}
-     *
-     * @exception NullPointerException If {@code null} is passed as an argument
-     */
-    private boolean validate(@NonNull Epitaph epitaph, @NonNull RegexMethod regexMethod) {
-        return switch (regexMethod) {
-            case FIND -> epitaph.find();
-            case LOOKING_AT -> epitaph.lookingAt();
-            case MATCHES -> epitaph.matches();
-        };
-    }
-
-    /**
-     * Converts to the {@link List} of {@link RegexOption} from the {@link List} of
-     * {@link RegexModifier} .
-     *
-     * @param regexModifiers The {@link List} of {@link RegexModifier}
-     * @return The {@link List} of {@link RegexOption}
-     *
-     * @exception NullPointerException If {@code null} is passed as an argument
-     */
-    private List<RegexOption> toRegexOption(@NonNull List<RegexModifier> regexModifiers) {
-        return regexModifiers.stream().map(RegexModifier::getTag).collect(Collectors.toList());
+    private boolean validate(@NonNull ValidatableEntity entity, @NonNull RequireMatch annotation) {
+        return this.matcher.test(super.getFieldHelper().getString(entity));
     }
 }
@@ -42,33 +42,33 @@ final class RequireNegativeStrategy extends ValidationStrategy<RequireNegative>
      * Constructor
      *
      * @param errorContext The error context
-     * @param entity       The entity for validation
+     * @param entityClass  The entity class for validation
      * @param field        The field for validation
      *
      * @exception NullPointerException If {@code null} is passed as an argument
      */
     private RequireNegativeStrategy(@NonNull ErrorContext<RequireNegative> errorContext,
-            @NonNull ValidatableEntity entity, @NonNull Field field) {
-        super(errorContext, entity, field);
+            @NonNull Class<? extends ValidatableEntity> entityClass, @NonNull Field field) {
+        super(errorContext, entityClass, field);
     }
 
     /**
      * Returns the new instance of {@link RequireNegativeStrategy} class.
      *
      * @param errorContext The error context
-     * @param entity       The entity for validation
+     * @param entityClass  The entity class for validation
      * @param field        The field for validation
      * @return The new instance of {@link RequireNegativeStrategy} class
      *
      * @exception NullPointerException If {@code null} is passed as an argument
      */
     protected static ValidationStrategy<RequireNegative> of(@NonNull ErrorContext<RequireNegative> errorContext,
-            @NonNull ValidatableEntity entity, @NonNull Field field) {
-        return new RequireNegativeStrategy(errorContext, entity, field);
+            @NonNull Class<? extends ValidatableEntity> entityClass, @NonNull Field field) {
+        return new RequireNegativeStrategy(errorContext, entityClass, field);
     }
 
     @Override
-    public BusinessError validate() {
+    public BusinessError validate(@NonNull ValidatableEntity entity) {
 
         final ErrorContext<RequireNegative> errorContext = super.getErrorContext();
         final RequireNegative annotation = errorContext.getAnnotation();
@@ -76,7 +76,8 @@ final class RequireNegativeStrategy extends ValidationStrategy<RequireNegative>
         return switch (annotation.errorType()) {
             case RECOVERABLE -> {
                 try {
-                    Preconditions.requireNegative(super.getFieldHelper().getInt(), new InvalidValueDetectedException());
+                    Preconditions.requireNegative(super.getFieldHelper().getInt(entity),
+                            new InvalidValueDetectedException());
                     yield BusinessError.none();
                 } catch (InvalidValueDetectedException e) {
                     yield BusinessError.recoverable(annotation.message());
@@ -85,7 +86,8 @@ final class RequireNegativeStrategy extends ValidationStrategy<RequireNegative>
 
             case UNRECOVERABLE -> {
                 try {
-                    Preconditions.requireNegative(super.getFieldHelper().getInt(), new InvalidValueDetectedException());
+                    Preconditions.requireNegative(super.getFieldHelper().getInt(entity),
+                            new InvalidValueDetectedException());
                     yield BusinessError.none();
                 } catch (InvalidValueDetectedException e) {
                     yield BusinessError.unrecoverable(annotation.message());
@@ -93,7 +95,7 @@ final class RequireNegativeStrategy extends ValidationStrategy<RequireNegative>
             }
 
             case RUNTIME -> {
-                Preconditions.requireNegative(super.getFieldHelper().getInt());
+                Preconditions.requireNegative(super.getFieldHelper().getInt(entity));
                 yield BusinessError.none();
             }
         };
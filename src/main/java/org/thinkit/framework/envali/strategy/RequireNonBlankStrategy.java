@@ -42,33 +42,33 @@ final class RequireNonBlankStrategy extends ValidationStrategy<RequireNonBlank>
      * Constructor
      *
      * @param errorContext The error context
-     * @param entity       The entity for validation
+     * @param entityClass  The entity class for validation
      * @param field        The field for validation
      *
      * @exception NullPointerException If {@code null} is passed as an argument
      */
     private RequireNonBlankStrategy(@NonNull ErrorContext<RequireNonBlank> errorContext,
-            @NonNull ValidatableEntity entity, @NonNull Field field) {
-        super(errorContext, entity, field);
+            @NonNull Class<? extends ValidatableEntity> entityClass, @NonNull Field field) {
+        super(errorContext, entityClass, field);
     }
 
     /**
      * Returns the new instance of {@link RequireNonBlankStrategy} class.
      *
      * @param errorContext The error context
-     * @param entity       The entity for validation
+     * @param entityClass  The entity class for validation
      * @param field        The field for validation
      * @return The new instance of {@link RequireNonBlankStrategy} class
      *
      * @exception NullPointerException If {@code null} is passed as an argument
      */
     protected static ValidationStrategy<RequireNonBlank> of(@NonNull ErrorContext<RequireNonBlank> errorContext,
-            @NonNull ValidatableEntity entity, @NonNull Field field) {
-        return new RequireNonBlankStrategy(errorContext, entity, field);
+            @NonNull Class<? extends ValidatableEntity> entityClass, @NonNull Field field) {
+        return new RequireNonBlankStrategy(errorContext, entityClass, field);
     }
 
     @Override
-    public BusinessError validate() {
+    public BusinessError validate(@NonNull ValidatableEntity entity) {
 
         final ErrorContext<RequireNonBlank> errorContext = super.getErrorContext();
         final RequireNonBlank annotation = errorContext.getAnnotation();
@@ -76,7 +76,8 @@ final class RequireNonBlankStrategy extends ValidationStrategy<RequireNonBlank>
         return switch (annotation.errorType()) {
             case RECOVERABLE -> {
                 try {
-                    Preconditions.requireNonBlank(super.getFieldHelper().getString(), new InvalidValueDetectedException());
+                    Preconditions.requireNonBlank(super.getFieldHelper().getString(entity),
+                            new InvalidValueDetectedException());
                     yield BusinessError.none();
                 } catch (InvalidValueDetectedException e) {
                     yield BusinessError.recoverable(annotation.message());
@@ -85,7 +86,8 @@ final class RequireNonBlankStrategy extends ValidationStrategy<RequireNonBlank>
 
             case UNRECOVERABLE -> {
                 try {
-                    Preconditions.requireNonBlank(super.getFieldHelper().getString(), new InvalidValueDetectedException());
+                    Preconditions.requireNonBlank(super.getFieldHelper().getString(entity),
+                            new InvalidValueDetectedException());
                     yield BusinessError.none();
                 } catch (InvalidValueDetectedException e) {
                     yield BusinessError.unrecoverable(annotation.message());
@@ -93,7 +95,7 @@ final class RequireNonBlankStrategy extends ValidationStrategy<RequireNonBlank>
             }
 
             case RUNTIME -> {
-                Preconditions.requireNonBlank(super.getFieldHelper().getString());
+                Preconditions.requireNonBlank(super.getFieldHelper().getString(entity));
                 yield BusinessError.none();
             }
         };
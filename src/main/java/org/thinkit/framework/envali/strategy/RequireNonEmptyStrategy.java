@@ -44,33 +44,33 @@ final class RequireNonEmptyStrategy extends ValidationStrategy<RequireNonEmpty>
      * Constructor
      *
      * @param errorContext The error context
-     * @param entity       The entity for validation
+     * @param entityClass  The entity class for validation
      * @param field        The field for validation
      *
      * @exception NullPointerException If {@code null} is passed as an argument
      */
     private RequireNonEmptyStrategy(@NonNull ErrorContext<RequireNonEmpty> errorContext,
-            @NonNull ValidatableEntity entity, @NonNull Field field) {
-        super(errorContext, entity, field);
+            @NonNull Class<? extends ValidatableEntity> entityClass, @NonNull Field field) {
+        super(errorContext, entityClass, field);
     }
 
     /**
      * Returns the new instance of {@link RequireNonEmptyStrategy} class.
      *
      * @param errorContext The error context
-     * @param entity       The entity for validation
+     * @param entityClass  The entity class for validation
      * @param field        The field for validation
      * @return The new instance of {@link RequireNonEmptyStrategy} class
      *
      * @exception NullPointerException If {@code null} is passed as an argument
      */
     protected static ValidationStrategy<RequireNonEmpty> of(@NonNull ErrorContext<RequireNonEmpty> errorContext,
-            @NonNull ValidatableEntity entity, @NonNull Field field) {
-        return new RequireNonEmptyStrategy(errorContext, entity, field);
+            @NonNull Class<? extends ValidatableEntity> entityClass, @NonNull Field field) {
+        return new RequireNonEmptyStrategy(errorContext, entityClass, field);
     }
 
     @Override
-    public BusinessError validate() {
+    public BusinessError validate(@NonNull ValidatableEntity entity) {
 
         final ErrorContext<RequireNonEmpty> errorContext = super.getErrorContext();
         final RequireNonEmpty annotation = errorContext.getAnnotation();
@@ -78,7 +78,7 @@ final class RequireNonEmptyStrategy extends ValidationStrategy<RequireNonEmpty>
         return switch (annotation.errorType()) {
             case RECOVERABLE -> {
                 try {
-                    this.validate(super.getFieldHelper(), new InvalidValueDetectedException());
+                    this.validate(entity, super.getFieldHelper(), new InvalidValueDetectedException());
                     yield BusinessError.none();
                 } catch (InvalidValueDetectedException e) {
                     yield BusinessError.recoverable(annotation.message());
@@ -87,7 +87,7 @@ final class RequireNonEmptyStrategy extends ValidationStrategy<RequireNonEmpty>
 
             case UNRECOVERABLE -> {
                 try {
-                    this.validate(super.getFieldHelper(), new InvalidValueDetectedException());
+                    this.validate(entity, super.getFieldHelper(), new InvalidValueDetectedException());
                     yield BusinessError.none();
                 } catch (InvalidValueDetectedException e) {
                     yield BusinessError.unrecoverable(annotation.message());
@@ -95,7 +95,7 @@ final class RequireNonEmptyStrategy extends ValidationStrategy<RequireNonEmpty>
             }
 
             case RUNTIME -> {
-                this.validate(super.getFieldHelper());
+                this.validate(entity, super.getFieldHelper());
                 yield BusinessError.none();
             }
         };
@@ -105,34 +105,37 @@ final class RequireNonEmptyStrategy extends ValidationStrategy<RequireNonEmpty>
      * Validates the field value and object based on the {@code field} passed as
      * arguments.
      *
-     * @param field The field to be validated
+     * @param entity The entity to be validated
+     * @param field  The field to be validated
      *
      * @exception NullPointerException If {@code null} is passed as an argument
      */
-    private void validate(@NonNull EnvaliFieldHelper field) {
-        this.validate(field, new PreconditionFailedException());
+    private void validate(@NonNull ValidatableEntity entity, @NonNull EnvaliFieldHelper field) {
+        this.validate(entity, field, new PreconditionFailedException());
     }
 
     /**
      * Validates the field value and object based on the {@code field} passed as
      * arguments.
      *
+     * @param entity    The entity to be validated
      * @param field     The field to be validated
      * @param exception The exception to be thrown when there is a error
      *
      * @exception NullPointerException If {@code null} is passed as an argument
      */
-    private void validate(@NonNull EnvaliFieldHelper field, @NonNull RuntimeException exception) {
+    private void validate(@NonNull ValidatableEntity entity, @NonNull EnvaliFieldHelper field,
+            @NonNull RuntimeException exception) {
         if (field.isArray()) {
-            Preconditions.requireNonEmpty(field.getArray(), exception);
+            Preconditions.requireNonEmpty(field.getArray(entity), exception);
         } else if (field.isList()) {
-            Preconditions.requireNonEmpty(field.getList(), exception);
+            Preconditions.requireNonEmpty(field.getList(entity), exception);
         } else if (field.isMap()) {
-            Preconditions.requireNonEmpty(field.getMap(), exception);
+            Preconditions.requireNonEmpty(field.getMap(entity), exception);
         } else if (field.isSet()) {
-            Preconditions.requireNonEmpty(field.getSet(), exception);
+            Preconditions.requireNonEmpty(field.getSet(entity), exception);
         } else if (field.isString()) {
-            Preconditions.requireNonEmpty(field.getString(), exception);
+            Preconditions.requireNonEmpty(field.getString(entity), exception);
         }
     }
 }
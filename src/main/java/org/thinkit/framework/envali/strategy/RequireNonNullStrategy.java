@@ -42,33 +42,33 @@ final class RequireNonNullStrategy extends ValidationStrategy<RequireNonNull> {
      * Constructor
      *
      * @param errorContext The error context
-     * @param entity       The entity for validation
+     * @param entityClass  The entity class for validation
      * @param field        The field for validation
      *
      * @exception NullPointerException If {@code null} is passed as an argument
      */
     private RequireNonNullStrategy(@NonNull ErrorContext<RequireNonNull> errorContext,
-            @NonNull ValidatableEntity entity, @NonNull Field field) {
-        super(errorContext, entity, field);
+            @NonNull Class<? extends ValidatableEntity> entityClass, @NonNull Field field) {
+        super(errorContext, entityClass, field);
     }
 
     /**
      * Returns the new instance of {@link RequireNonNullStrategy} class.
      *
      * @param errorContext The error context
-     * @param entity       The entity for validation
+     * @param entityClass  The entity class for validation
      * @param field        The field for validation
      * @return The new instance of {@link RequireNonNullStrategy} class
      *
      * @exception NullPointerException If {@code null} is passed as an argument
      */
     protected static ValidationStrategy<RequireNonNull> of(@NonNull ErrorContext<RequireNonNull> errorContext,
-            @NonNull ValidatableEntity entity, @NonNull Field field) {
-        return new RequireNonNullStrategy(errorContext, entity, field);
+            @NonNull Class<? extends ValidatableEntity> entityClass, @NonNull Field field) {
+        return new RequireNonNullStrategy(errorContext, entityClass, field);
     }
 
     @Override
-    public BusinessError validate() {
+    public BusinessError validate(@NonNull ValidatableEntity entity) {
 
         final ErrorContext<RequireNonNull> errorContext = super.getErrorContext();
         final RequireNonNull annotation = errorContext.getAnnotation();
@@ -76,7 +76,8 @@ final class RequireNonNullStrategy extends ValidationStrategy<RequireNonNull> {
         return switch (annotation.errorType()) {
             case RECOVERABLE -> {
                 try {
-                    Preconditions.requireNonNull(super.getFieldHelper().get(), new InvalidValueDetectedException());
+                    Preconditions.requireNonNull(super.getFieldHelper().get(entity),
+                            new InvalidValueDetectedException());
                     yield BusinessError.none();
                 } catch (InvalidValueDetectedException e) {
                     yield BusinessError.recoverable(annotation.message());
@@ -85,7 +86,8 @@ final class RequireNonNullStrategy extends ValidationStrategy<RequireNonNull> {
 
             case UNRECOVERABLE -> {
                 try {
-                    Preconditions.requireNonNull(super.getFieldHelper().get(), new InvalidValueDetectedException());
+                    Preconditions.requireNonNull(super.getFieldHelper().get(entity),
+                            new InvalidValueDetectedException());
                     yield BusinessError.none();
                 } catch (InvalidValueDetectedException e) {
                     yield BusinessError.unrecoverable(annotation.message());
@@ -93,7 +95,7 @@ final class RequireNonNullStrategy extends ValidationStrategy<RequireNonNull> {
             }
 
             case RUNTIME -> {
-                Preconditions.requireNonNull(super.getFieldHelper().get());
+                Preconditions.requireNonNull(super.getFieldHelper().get(entity));
                 yield BusinessError.none();
             }
         };
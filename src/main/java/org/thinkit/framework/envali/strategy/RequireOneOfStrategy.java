@@ -0,0 +1,99 @@
+/*
+ * Copyright 2020 Kato Shinya.
+ *
+ * Licensed under the Apache License, Version 2.0 (the "License"); you may not use this file except
+ * in compliance with the License. You may obtain a copy of the License at
+ *
+ *     http://www.apache.org/licenses/LICENSE-2.0
+ *
+ * Unless required by applicable law or agreed to in writing, software distributed under the License
+ * is distributed on an "AS IS" BASIS, WITHOUT WARRANTIES OR CONDITIONS OF ANY KIND, either express
+ * or implied. See the License for the specific language governing permissions and limitations under
+ * the License.
+ */
+
+package org.thinkit.framework.envali.strategy;
+
+import java.lang.reflect.Field;
+
+import org.thinkit.common.base.precondition.exception.PreconditionFailedException;
+import org.thinkit.framework.envali.annotation.RequireOneOf;
+import org.thinkit.framework.envali.context.ErrorContext;
+import org.thinkit.framework.envali.entity.ValidatableEntity;
+import org.thinkit.framework.envali.helper.EnvaliValueSet;
+import org.thinkit.framework.envali.result.BusinessError;
+
+import lombok.EqualsAndHashCode;
+import lombok.NonNull;
+import lombok.ToString;
+
+/**
+ * A strategy to perform validation process for {@link RequireOneOf}
+ * annotation.
+ * <p>
+ * The allowed values are compiled into {@link EnvaliValueSet} only once when
+ * the strategy is created, so the value of the field is tested in constant time
+ * regardless of the number of allowed values.
+ *
+ * @author Kato Shinya
+ * @since 1.0.5
+ */
+@ToString
+@EqualsAndHashCode(callSuper = false)
+final class RequireOneOfStrategy extends ValidationStrategy<RequireOneOf> {
+
+    /**
+     * The set of the allowed values compiled for the type of the field
+     */
+    @ToString.Exclude
+    @EqualsAndHashCode.Exclude
+    private EnvaliValueSet valueSet;
+
+    /**
+     * Constructor
+     *
+     * @param errorContext The error context
+     * @param entityClass  The entity class for validation
+     * @param field        The field for validation
+     *
+     * @exception NullPointerException If {@code null} is passed as an argument
+     */
+    private RequireOneOfStrategy(@NonNull ErrorContext<RequireOneOf> errorContext,
+            @NonNull Class<? extends ValidatableEntity> entityClass, @NonNull Field field) {
+        super(errorContext, entityClass, field);
+        this.valueSet = EnvaliValueSet.of(errorContext.getAnnotation(),
+                super.isContentConfig() ? super.getContentHelper() : null, field.getType());
+    }
+
+    /**
+     * Returns the new instance of {@link RequireOneOfStrategy} class.
+     *
+     * @param errorContext The error context
+     * @param entityClass  The entity class for validation
+     * @param field        The field for validation
+     * @return The new instance of {@link RequireOneOfStrategy} class
+     *
+     * @exception NullPointerException If {@code null} is passed as an argument
+     */
+    protected static ValidationStrategy<RequireOneOf> of(@NonNull ErrorContext<RequireOneOf> errorContext,
+            @NonNull Class<? extends ValidatableEntity> entityClass, @NonNull Field field) {
+        return new RequireOneOfStrategy(errorContext, entityClass, field);
+    }
+
+    @Override
+    public BusinessError validate(@NonNull ValidatableEntity entity) {
+
+        final RequireOneOf annotation = super.getErrorContext().getAnnotation();
+        final Object value = super.getFieldHelper().get(entity);
+
+        if (value == null || this.valueSet.contains(value)) {
+            return BusinessError.none();
+        }
+
+        return switch (annotation.errorType()) {
+            case RECOVERABLE -> BusinessError.recoverable(annotation.message());
+            case UNRECOVERABLE -> BusinessError.unrecoverable(annotation.message());
+            case RUNTIME -> throw new PreconditionFailedException();
+        };
+    }
+}
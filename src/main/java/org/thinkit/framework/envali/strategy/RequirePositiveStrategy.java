@@ -42,33 +42,33 @@ final class RequirePositiveStrategy extends ValidationStrategy<RequirePositive>
      * Constructor
      *
      * @param errorContext The error context
-     * @param entity       The entity for validation
+     * @param entityClass  The entity class for validation
      * @param field        The field for validation
      *
      * @exception NullPointerException If {@code null} is passed as an argument
      */
     private RequirePositiveStrategy(@NonNull ErrorContext<RequirePositive> errorContext,
-            @NonNull ValidatableEntity entity, @NonNull Field field) {
-        super(errorContext, entity, field);
+            @NonNull Class<? extends ValidatableEntity> entityClass, @NonNull Field field) {
+        super(errorContext, entityClass, field);
     }
 
     /**
      * Returns the new instance of {@link RequirePositiveStrategy} class.
      *
      * @param errorContext The error context
-     * @param entity       The entity for validation
+     * @param entityClass  The entity class for validation
      * @param field        The field for validation
      * @return The new instance of {@link RequirePositiveStrategy} class
      *
      * @exception NullPointerException If {@code null} is passed as an argument
      */
     protected static ValidationStrategy<RequirePositive> of(@NonNull ErrorContext<RequirePositive> errorContext,
-            @NonNull ValidatableEntity entity, @NonNull Field field) {
-        return new RequirePositiveStrategy(errorContext, entity, field);
+            @NonNull Class<? extends ValidatableEntity> entityClass, @NonNull Field field) {
+        return new RequirePositiveStrategy(errorContext, entityClass, field);
     }
 
     @Override
-    public BusinessError validate() {
+    public BusinessError validate(@NonNull ValidatableEntity entity) {
 
         final ErrorContext<RequirePositive> errorContext = super.getErrorContext();
         final RequirePositive annotation = errorContext.getAnnotation();
@@ -76,7 +76,8 @@ final class RequirePositiveStrategy extends ValidationStrategy<RequirePositive>
         return switch (annotation.errorType()) {
             case RECOVERABLE -> {
                 try {
-                    Preconditions.requirePositive(super.getFieldHelper().getInt(), new InvalidValueDetectedException());
+                    Preconditions.requirePositive(super.getFieldHelper().getInt(entity),
+                            new InvalidValueDetectedException());
                     yield BusinessError.none();
                 } catch (InvalidValueDetectedException e) {
                     yield BusinessError.recoverable(annotation.message());
@@ -85,7 +86,8 @@ final class RequirePositiveStrategy extends ValidationStrategy<RequirePositive>
 
             case UNRECOVERABLE -> {
                 try {
-                    Preconditions.requirePositive(super.getFieldHelper().getInt(), new InvalidValueDetectedException());
+                    Preconditions.requirePositive(super.getFieldHelper().getInt(entity),
+                            new InvalidValueDetectedException());
                     yield BusinessError.none();
                 } catch (InvalidValueDetectedException e) {
                     yield BusinessError.unrecoverable(annotation.message());
@@ -93,7 +95,7 @@ final class RequirePositiveStrategy extends ValidationStrategy<RequirePositive>
             }
 
             case RUNTIME -> {
-                Preconditions.requirePositive(super.getFieldHelper().getInt());
+                Preconditions.requirePositive(super.getFieldHelper().getInt(entity));
                 yield BusinessError.none();
             }
         };
@@ -15,6 +15,8 @@
 package org.thinkit.framework.envali.strategy;
 
 import java.lang.reflect.Field;
+import java.math.BigDecimal;
+import java.math.BigInteger;
 
 import org.thinkit.common.base.precondition.Preconditions;
 import org.thinkit.common.base.precondition.exception.PreconditionFailedException;
@@ -23,6 +25,7 @@ import org.thinkit.framework.envali.catalog.EnvaliContentAttribute;
 import org.thinkit.framework.envali.context.ErrorContext;
 import org.thinkit.framework.envali.entity.ValidatableEntity;
 import org.thinkit.framework.envali.exception.InvalidValueDetectedException;
+import org.thinkit.framework.envali.helper.EnvaliDecimalRange;
 import org.thinkit.framework.envali.helper.EnvaliFieldHelper;
 import org.thinkit.framework.envali.result.BusinessError;
 
@@ -41,37 +44,65 @@ import lombok.ToString;
 @EqualsAndHashCode(callSuper = false)
 final class RequireRangeFromStrategy extends ValidationStrategy<RequireRangeFrom> {
 
+    /**
+     * The range of {@link BigDecimal} or {@link BigInteger} values, which is
+     * parsed only once when the strategy is created, or {@code null} if the field
+     * is of another type
+     */
+    private EnvaliDecimalRange decimalRange;
+
+    /**
+     * The lower bound converted to the type of the field, which is parsed only once
+     * when the strategy is created, or {@code null} if the field is of
+     * {@link BigDecimal} or {@link BigInteger}
+     */
+    private Number from;
+
     /**
      * Constructor
      *
      * @param errorContext The error context
-     * @param entity       The entity for validation
+     * @param entityClass  The entity class for validation
      * @param field        The field for validation
      *
      * @exception NullPointerException If {@code null} is passed as an argument
      */
     private RequireRangeFromStrategy(@NonNull ErrorContext<RequireRangeFrom> errorContext,
-            @NonNull ValidatableEntity entity, @NonNull Field field) {
-        super(errorContext, entity, field);
+            @NonNull Class<? extends ValidatableEntity> entityClass, @NonNull Field field) {
+        super(errorContext, entityClass, field);
+
+        final EnvaliFieldHelper fieldHelper = super.getFieldHelper();
+        final RequireRangeFrom annotation = errorContext.getAnnotation();
+
+        if (fieldHelper.isBigDecimal() || fieldHelper.isBigInteger()) {
+            this.decimalRange = EnvaliDecimalRange.of(
+                    super.isContentConfig() ? super.getContentHelper().getString(EnvaliContentAttribute.RANGE_FROM)
+                            : fieldHelper.isBigDecimal() ? annotation.bigDecimalFrom() : annotation.bigIntegerFrom(),
+                    "");
+        } else if (super.isContentConfig()) {
+            this.from = super.getContentHelper().getNumber(EnvaliContentAttribute.RANGE_FROM, fieldHelper.getType());
+        } else {
+            this.from = getFrom(annotation, fieldHelper);
+        }
     }
 
     /**
      * Returns the new instance of {@link RequireRangeFromStrategy} class.
      *
      * @param errorContext The error context
-     * @param entity       The entity for validation
+     * @param entityClass  The entity class for validation
      * @param field        The field for validation
      * @return The new instance of {@link RequireRangeFromStrategy} class
      *
      * @exception NullPointerException If {@code null} is passed as an argument
      */
     protected static ValidationStrategy<RequireRangeFrom> of(@NonNull ErrorContext<RequireRangeFrom> errorContext,
-            @NonNull ValidatableEntity entity, @NonNull Field field) {
-        return new RequireRangeFromStrategy(errorContext, entity, field);
+            @NonNull Class<? extends ValidatableEntity> entityClass, @NonNull Field field) {
+        return new RequireRangeFromStrategy(errorContext, entityClass, field);
     }
 
     @Override
-    public BusinessError validate() {
+    public BusinessError validate(@NonNull ValidatableEntity entity) {
 
         final ErrorContext<RequireRangeFrom> errorContext = super.getErrorContext();
         final RequireRangeFrom annotation = errorContext.getAnnotation();
@@ -79,7 +110,7 @@ final class RequireRangeFromStrategy extends ValidationStrategy<RequireRangeFrom
         return switch (annotation.errorType()) {
             case RECOVERABLE -> {
                 try {
-                    this.validate(annotation, super.getFieldHelper(), new InvalidValueDetectedException());
+                    this.validate(annotation, entity, super.getFieldHelper(), new InvalidValueDetectedException());
                     yield BusinessError.none();
                 } catch (InvalidValueDetectedException e) {
                     yield BusinessError.recoverable(annotation.message());
@@ -88,7 +119,7 @@ final class RequireRangeFromStrategy extends ValidationStrategy<RequireRangeFrom
 
             case UNRECOVERABLE -> {
                 try {
-                    this.validate(annotation, super.getFieldHelper(), new InvalidValueDetectedException());
+                    this.validate(annotation, entity, super.getFieldHelper(), new InvalidValueDetectedException());
                     yield BusinessError.none();
                 } catch (InvalidValueDetectedException e) {
                     yield BusinessError.unrecoverable(annotation.message());
@@ -96,7 +127,7 @@ final class RequireRangeFromStrategy extends ValidationStrategy<RequireRangeFrom
             }
 
             case RUNTIME -> {
-                this.validate(annotation, super.getFieldHelper());
+                this.validate(annotation, entity, super.getFieldHelper());
                 yield BusinessError.none();
             }
         };
@@ -107,12 +138,14 @@ final class RequireRangeFromStrategy extends ValidationStrategy<RequireRangeFrom
      * arguments.
      *
      * @param annotation The annotation of {@link RequireRangeFrom}
+     * @param entity     The entity to be validated
      * @param field      The field to be validated
      *
      * @exception NullPointerException If {@code null} is passed as an argument
      */
-    private void validate(@NonNull RequireRangeFrom annotation, @NonNull EnvaliFieldHelper field) {
-        this.validate(annotation, field, new PreconditionFailedException());
+    private void validate(@NonNull RequireRangeFrom annotation, @NonNull ValidatableEntity entity,
+            @NonNull EnvaliFieldHelper field) {
+        this.validate(annotation, entity, field, new PreconditionFailedException());
     }
 
     /**
@@ -120,49 +153,58 @@ final class RequireRangeFromStrategy extends ValidationStrategy<RequireRangeFrom
      * arguments.
      *
      * @param annotation The annotation of {@link RequireRangeFrom}
+     * @param entity     The entity to be validated
      * @param field      The field to be validated
      * @param exception  The exception to be thrown when there is a error
      *
      * @exception NullPointerException If {@code null} is passed as an argument
      */
-    private void validate(@NonNull RequireRangeFrom annotation, @NonNull EnvaliFieldHelper field,
-            @NonNull RuntimeException exception) {
+    private void validate(@NonNull RequireRangeFrom annotation, @NonNull ValidatableEntity entity,
+            @NonNull EnvaliFieldHelper field, @NonNull RuntimeException exception) {
         if (field.isInteger()) {
-            Preconditions.requireRangeFrom(field.getInt(),
-                    super.isContentConfig()
-                            ? Integer.parseInt(super.getContentHelper().get(EnvaliContentAttribute.RANGE_FROM))
-                            : annotation.intFrom(),
-                    exception);
+            Preconditions.requireRangeFrom(field.getInt(entity), this.from.intValue(), exception);
         } else if (field.isLong()) {
-            Preconditions.requireRangeFrom(field.getLong(),
-                    super.isContentConfig()
-                            ? Long.parseLong(super.getContentHelper().get(EnvaliContentAttribute.RANGE_FROM))
-                            : annotation.longFrom(),
-                    exception);
+            Preconditions.requireRangeFrom(field.getLong(entity), this.from.longValue(), exception);
         } else if (field.isShort()) {
-            Preconditions.requireRangeFrom(field.getShort(),
-                    super.isContentConfig()
-                            ? Short.parseShort(super.getContentHelper().get(EnvaliContentAttribute.RANGE_FROM))
-                            : annotation.shortFrom(),
-                    exception);
+            Preconditions.requireRangeFrom(field.getShort(entity), this.from.shortValue(), exception);
         } else if (field.isByte()) {
-            Preconditions.requireRangeFrom(field.getByte(),
-                    super.isContentConfig()
-                            ? Byte.parseByte(super.getContentHelper().get(EnvaliContentAttribute.RANGE_FROM))
-                            : annotation.byteFrom(),
-                    exception);
+            Preconditions.requireRangeFrom(field.getByte(entity), this.from.byteValue(), exception);
         } else if (field.isFloat()) {
-            Preconditions.requireRangeFrom(field.getFloat(),
-                    super.isContentConfig()
-                            ? Float.parseFloat(super.getContentHelper().get(EnvaliContentAttribute.RANGE_FROM))
-                            : annotation.floatFrom(),
-                    exception);
+            Preconditions.requireRangeFrom(field.getFloat(entity), this.from.floatValue(), exception);
         } else if (field.isDouble()) {
-            Preconditions.requireRangeFrom(field.getDouble(),
-                    super.isContentConfig()
-                            ? Double.parseDouble(super.getContentHelper().get(EnvaliContentAttribute.RANGE_FROM))
-                            : annotation.doubleFrom(),
-                    exception);
+            Preconditions.requireRangeFrom(field.getDouble(entity), this.from.doubleValue(), exception);
+        } else if (this.decimalRange != null) {
+            final Number value = (Number) field.get(entity);
+
+            if (value != null && !this.decimalRange.contains(value)) {
+                throw exception;
+            }
+        }
+    }
+
+    /**
+     * Returns the lower bound specified in the annotation for the type of the
+     * field.
+     *
+     * @param annotation The annotation of {@link RequireRangeFrom}
+     * @param field      The field to be validated
+     * @return The lower bound for the type of the field
+     *
+     * @exception NullPointerException If {@code null} is passed as an argument
+     */
+    private static Number getFrom(@NonNull RequireRangeFrom annotation, @NonNull EnvaliFieldHelper field) {
+        if (field.isInteger()) {
+            return annotation.intFrom();
+        } else if (field.isLong()) {
+            return annotation.longFrom();
+        } else if (field.isShort()) {
+            return annotation.shortFrom();
+        } else if (field.isByte()) {
+            return annotation.byteFrom();
+        } else if (field.isFloat()) {
+            return annotation.floatFrom();
         }
+
+        return annotation.doubleFrom();
     }
 }
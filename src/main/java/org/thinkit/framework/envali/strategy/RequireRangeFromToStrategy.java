@@ -15,6 +15,8 @@
 package org.thinkit.framework.envali.strategy;
 
 import java.lang.reflect.Field;
+import java.math.BigDecimal;
+import java.math.BigInteger;
 
 import org.thinkit.common.base.precondition.Preconditions;
 import org.thinkit.common.base.precondition.exception.PreconditionFailedException;
@@ -23,6 +25,7 @@ import org.thinkit.framework.envali.catalog.EnvaliContentAttribute;
 import org.thinkit.framework.envali.context.ErrorContext;
 import org.thinkit.framework.envali.entity.ValidatableEntity;
 import org.thinkit.framework.envali.exception.InvalidValueDetectedException;
+import org.thinkit.framework.envali.helper.EnvaliDecimalRange;
 import org.thinkit.framework.envali.helper.EnvaliFieldHelper;
 import org.thinkit.framework.envali.result.BusinessError;
 
@@ -41,37 +44,75 @@ import lombok.ToString;
 @EqualsAndHashCode(callSuper = false)
 final class RequireRangeFromToStrategy extends ValidationStrategy<RequireRangeFromTo> {
 
+    /**
+     * The range of {@link BigDecimal} or {@link BigInteger} values, which is
+     * parsed only once when the strategy is created, or {@code null} if the field
+     * is of another type
+     */
+    private EnvaliDecimalRange decimalRange;
+
+    /**
+     * The lower bound converted to the type of the field, which is parsed only once
+     * when the strategy is created, or {@code null} if the field is of
+     * {@link BigDecimal} or {@link BigInteger}
+     */
+    private Number from;
+
+    /**
+     * The upper bound converted to the type of the field, which is parsed only once
+     * when the strategy is created, or {@code null} if the field is of
+     * {@link BigDecimal} or {@link BigInteger}
+     */
+    private Number to;
+
     /**
      * Constructor
      *
      * @param errorContext The error context
-     * @param entity       The entity for validation
+     * @param entityClass  The entity class for validation
      * @param field        The field for validation
      *
      * @exception NullPointerException If {@code null} is passed as an argument
      */
     private RequireRangeFromToStrategy(@NonNull ErrorContext<RequireRangeFromTo> errorContext,
-            @NonNull ValidatableEntity entity, @NonNull Field field) {
-        super(errorContext, entity, field);
+            @NonNull Class<? extends ValidatableEntity> entityClass, @NonNull Field field) {
+        super(errorContext, entityClass, field);
+
+        final EnvaliFieldHelper fieldHelper = super.getFieldHelper();
+        final RequireRangeFromTo annotation = errorContext.getAnnotation();
+
+        if (fieldHelper.isBigDecimal() || fieldHelper.isBigInteger()) {
+            this.decimalRange = EnvaliDecimalRange.of(
+                    super.isContentConfig() ? super.getContentHelper().getString(EnvaliContentAttribute.RANGE_FROM)
+                            : fieldHelper.isBigDecimal() ? annotation.bigDecimalFrom() : annotation.bigIntegerFrom(),
+                    super.isContentConfig() ? super.getContentHelper().getString(EnvaliContentAttribute.RANGE_TO)
+                            : fieldHelper.isBigDecimal() ? annotation.bigDecimalTo() : annotation.bigIntegerTo());
+        } else if (super.isContentConfig()) {
+            this.from = super.getContentHelper().getNumber(EnvaliContentAttribute.RANGE_FROM, fieldHelper.getType());
+            this.to = super.getContentHelper().getNumber(EnvaliContentAttribute.RANGE_TO, fieldHelper.getType());
+        } else {
+            this.from = getFrom(annotation, fieldHelper);
+            this.to = getTo(annotation, fieldHelper);
+        }
     }
 
     /**
      * Returns the new instance of {@link RequireRangeFromToStrategy} class.
      *
      * @param errorContext The error context
-     * @param entity       The entity for validation
+     * @param entityClass  The entity class for validation
      * @param field        The field for validation
      * @return The new instance of {@link RequireRangeFromToStrategy} class
      *
      * @exception NullPointerException If {@code null} is passed as an argument
      */
     protected static ValidationStrategy<RequireRangeFromTo> of(@NonNull ErrorContext<RequireRangeFromTo> errorContext,
-            @NonNull ValidatableEntity entity, @NonNull Field field) {
-        return new RequireRangeFromToStrategy(errorContext, entity, field);
+            @NonNull Class<? extends ValidatableEntity> entityClass, @NonNull Field field) {
+        return new RequireRangeFromToStrategy(errorContext, entityClass, field);
     }
 
     @Override
-    public BusinessError validate() {
+    public BusinessError validate(@NonNull ValidatableEntity entity) {
 
         final ErrorContext<RequireRangeFromTo> errorContext = super.getErrorContext();
         final RequireRangeFromTo annotation = errorContext.getAnnotation();
@@ -79,7 +120,7 @@ final class RequireRangeFromToStrategy extends ValidationStrategy<RequireRangeFr
         return switch (annotation.errorType()) {
             case RECOVERABLE -> {
                 try {
-                    this.validate(annotation, super.getFieldHelper(), new InvalidValueDetectedException());
+                    this.validate(annotation, entity, super.getFieldHelper(), new InvalidValueDetectedException());
                     yield BusinessError.none();
                 } catch (InvalidValueDetectedException e) {
                     yield BusinessError.recoverable(annotation.message());
@@ -88,7 +129,7 @@ final class RequireRangeFromToStrategy extends ValidationStrategy<RequireRangeFr
 
             case UNRECOVERABLE -> {
                 try {
-                    this.validate(annotation, super.getFieldHelper(), new InvalidValueDetectedException());
+                    this.validate(annotation, entity, super.getFieldHelper(), new InvalidValueDetectedException());
                     yield BusinessError.none();
                 } catch (InvalidValueDetectedException e) {
                     yield BusinessError.unrecoverable(annotation.message());
@@ -96,7 +137,7 @@ final class RequireRangeFromToStrategy extends ValidationStrategy<RequireRangeFr
             }
 
             case RUNTIME -> {
-                this.validate(annotation, super.getFieldHelper());
+                this.validate(annotation, entity, super.getFieldHelper());
                 yield BusinessError.none();
             }
         };
@@ -107,12 +148,14 @@ final class RequireRangeFromToStrategy extends ValidationStrategy<RequireRangeFr
      * arguments.
      *
      * @param annotation The annotation of {@link RequireRangeFromTo}
+     * @param entity     The entity to be validated
      * @param field      The field to be validated
      *
      * @exception NullPointerException If {@code null} is passed as an argument
      */
-    private void validate(@NonNull RequireRangeFromTo annotation, @NonNull EnvaliFieldHelper field) {
-        this.validate(annotation, field, new PreconditionFailedException());
+    private void validate(@NonNull RequireRangeFromTo annotation, @NonNull ValidatableEntity entity,
+            @NonNull EnvaliFieldHelper field) {
+        this.validate(annotation, entity, field, new PreconditionFailedException());
     }
 
     /**
@@ -120,62 +163,85 @@ final class RequireRangeFromToStrategy extends ValidationStrategy<RequireRangeFr
      * arguments.
      *
      * @param annotation The annotation of {@link RequireRangeFromTo}
+     * @param entity     The entity to be validated
      * @param field      The field to be validated
      * @param exception  The exception to be thrown when there is a error
      *
      * @exception NullPointerException If {@code null} is passed as an argument
      */
-    private void validate(@NonNull RequireRangeFromTo annotation, @NonNull EnvaliFieldHelper field,
-            @NonNull RuntimeException exception) {
+    private void validate(@NonNull RequireRangeFromTo annotation, @NonNull ValidatableEntity entity,
+            @NonNull EnvaliFieldHelper field, @NonNull RuntimeException exception) {
         if (field.isInteger()) {
-            if (super.isContentConfig()) {
-                Preconditions.requireRange(field.getInt(),
-                        Integer.parseInt(super.getContentHelper().get(EnvaliContentAttribute.RANGE_FROM)),
-                        Integer.parseInt(super.getContentHelper().get(EnvaliContentAttribute.RANGE_TO)), exception);
-            } else {
-                Preconditions.requireRange(field.getInt(), annotation.intFrom(), annotation.intTo(), exception);
-            }
+            Preconditions.requireRange(field.getInt(entity), this.from.intValue(), this.to.intValue(), exception);
         } else if (field.isLong()) {
-            if (super.isContentConfig()) {
-                Preconditions.requireRange(field.getLong(),
-                        Long.parseLong(super.getContentHelper().get(EnvaliContentAttribute.RANGE_FROM)),
-                        Long.parseLong(super.getContentHelper().get(EnvaliContentAttribute.RANGE_TO)), exception);
-            } else {
-                Preconditions.requireRange(field.getLong(), annotation.longFrom(), annotation.longTo(), exception);
-            }
+            Preconditions.requireRange(field.getLong(entity), this.from.longValue(), this.to.longValue(), exception);
         } else if (field.isShort()) {
-            if (super.isContentConfig()) {
-                Preconditions.requireRange(field.getShort(),
-                        Short.parseShort(super.getContentHelper().get(EnvaliContentAttribute.RANGE_FROM)),
-                        Short.parseShort(super.getContentHelper().get(EnvaliContentAttribute.RANGE_TO)), exception);
-            } else {
-                Preconditions.requireRange(field.getShort(), annotation.shortFrom(), annotation.shortTo(), exception);
-            }
+            Preconditions.requireRange(field.getShort(entity), this.from.shortValue(), this.to.shortValue(), exception);
         } else if (field.isByte()) {
-            if (super.isContentConfig()) {
-                Preconditions.requireRange(field.getByte(),
-                        Byte.parseByte(super.getContentHelper().get(EnvaliContentAttribute.RANGE_FROM)),
-                        Byte.parseByte(super.getContentHelper().get(EnvaliContentAttribute.RANGE_TO)), exception);
-            } else {
-                Preconditions.requireRange(field.getByte(), annotation.byteFrom(), annotation.byteTo(), exception);
-            }
+            Preconditions.requireRange(field.getByte(entity), this.from.byteValue(), this.to.byteValue(), exception);
         } else if (field.isFloat()) {
-            if (super.isContentConfig()) {
-                Preconditions.requireRange(field.getFloat(),
-                        Float.parseFloat(super.getContentHelper().get(EnvaliContentAttribute.RANGE_FROM)),
-                        Float.parseFloat(super.getContentHelper().get(EnvaliContentAttribute.RANGE_TO)), exception);
-            } else {
-                Preconditions.requireRange(field.getFloat(), annotation.floatFrom(), annotation.floatTo(), exception);
-            }
+            Preconditions.requireRange(field.getFloat(entity), this.from.floatValue(), this.to.floatValue(), exception);
         } else if (field.isDouble()) {
-            if (super.isContentConfig()) {
-                Preconditions.requireRange(field.getDouble(),
-                        Double.parseDouble(super.getContentHelper().get(EnvaliContentAttribute.RANGE_FROM)),
-                        Double.parseDouble(super.getContentHelper().get(EnvaliContentAttribute.RANGE_TO)), exception);
-            } else {
-                Preconditions.requireRange(field.getDouble(), annotation.doubleFrom(), annotation.doubleTo(),
-                        exception);
+            Preconditions.requireRange(field.getDouble(entity),
+                    this.from.doubleValue(), this.to.doubleValue(), exception);
+        } else if (this.decimalRange != null) {
+            final Number value = (Number) field.get(entity);
+
+            if (value != null && !this.decimalRange.contains(value)) {
+                throw exception;
             }
         }
     }
+
+    /**
+     * Returns the lower bound specified in the annotation for the type of the
+     * field.
+     *
+     * @param annotation The annotation of {@link RequireRangeFromTo}
+     * @param field      The field to be validated
+     * @return The lower bound for the type of the field
+     *
+     * @exception NullPointerException If {@code null} is passed as an argument
+     */
+    private static Number getFrom(@NonNull RequireRangeFromTo annotation, @NonNull EnvaliFieldHelper field) {
+        if (field.isInteger()) {
+            return annotation.intFrom();
+        } else if (field.isLong()) {
+            return annotation.longFrom();
+        } else if (field.isShort()) {
+            return annotation.shortFrom();
+        } else if (field.isByte()) {
+            return annotation.byteFrom();
+        } else if (field.isFloat()) {
+            return annotation.floatFrom();
+        }
+
+        return annotation.doubleFrom();
+    }
+
+    /**
+     * Returns the upper bound specified in the annotation for the type of the
+     * field.
+     *
+     * @param annotation The annotation of {@link RequireRangeFromTo}
+     * @param field      The field to be validated
+     * @return The upper bound for the type of the field
+     *
+     * @exception NullPointerException If {@code null} is passed as an argument
+     */
+    private static Number getTo(@NonNull RequireRangeFromTo annotation, @NonNull EnvaliFieldHelper field) {
+        if (field.isInteger()) {
+            return annotation.intTo();
+        } else if (field.isLong()) {
+            return annotation.longTo();
+        } else if (field.isShort()) {
+            return annotation.shortTo();
+        } else if (field.isByte()) {
+            return annotation.byteTo();
+        } else if (field.isFloat()) {
+            return annotation.floatTo();
+        }
+
+        return annotation.doubleTo();
+    }
 }
@@ -15,6 +15,8 @@
 package org.thinkit.framework.envali.strategy;
 
 import java.lang.reflect.Field;
+import java.math.BigDecimal;
+import java.math.BigInteger;
 
 import org.thinkit.common.base.precondition.Preconditions;
 import org.thinkit.common.base.precondition.exception.PreconditionFailedException;
@@ -23,6 +25,7 @@ import org.thinkit.framework.envali.catalog.EnvaliContentAttribute;
 import org.thinkit.framework.envali.context.ErrorContext;
 import org.thinkit.framework.envali.entity.ValidatableEntity;
 import org.thinkit.framework.envali.exception.InvalidValueDetectedException;
+import org.thinkit.framework.envali.helper.EnvaliDecimalRange;
 import org.thinkit.framework.envali.helper.EnvaliFieldHelper;
 import org.thinkit.framework.envali.result.BusinessError;
 
@@ -41,37 +44,65 @@ import lombok.ToString;
 @EqualsAndHashCode(callSuper = false)
 final class RequireRangeToStrategy extends ValidationStrategy<RequireRangeTo> {
 
+    /**
+     * The range of {@link BigDecimal} or {@link BigInteger} values, which is
+     * parsed only once when the strategy is created, or {@code null} if the field
+     * is of another type
+     */
+    private EnvaliDecimalRange decimalRange;
+
+    /**
+     * The upper bound converted to the type of the field, which is parsed only once
+     * when the strategy is created, or {@code null} if the field is of
+     * {@link BigDecimal} or {@link BigInteger}
+     */
+    private Number to;
+
     /**
      * Constructor
      *
      * @param errorContext The error context
-     * @param entity       The entity for validation
+     * @param entityClass  The entity class for validation
      * @param field        The field for validation
      *
      * @exception NullPointerException If {@code null} is passed as an argument
      */
     private RequireRangeToStrategy(@NonNull ErrorContext<RequireRangeTo> errorContext,
-            @NonNull ValidatableEntity entity, @NonNull Field field) {
-        super(errorContext, entity, field);
+            @NonNull Class<? extends ValidatableEntity> entityClass, @NonNull Field field) {
+        super(errorContext, entityClass, field);
+
+        final EnvaliFieldHelper fieldHelper = super.getFieldHelper();
+        final RequireRangeTo annotation = errorContext.getAnnotation();
+
+        if (fieldHelper.isBigDecimal() || fieldHelper.isBigInteger()) {
+            this.decimalRange = EnvaliDecimalRange.of(
+                    "",
+                    super.isContentConfig() ? super.getContentHelper().getString(EnvaliContentAttribute.RANGE_TO)
+                            : fieldHelper.isBigDecimal() ? annotation.bigDecimalTo() : annotation.bigIntegerTo());
+        } else if (super.isContentConfig()) {
+            this.to = super.getContentHelper().getNumber(EnvaliContentAttribute.RANGE_TO, fieldHelper.getType());
+        } else {
+            this.to = getTo(annotation, fieldHelper);
+        }
     }
 
     /**
      * Returns the new instance of {@link RequireRangeToStrategy} class.
      *
      * @param errorContext The error context
-     * @param entity       The entity for validation
+     * @param entityClass  The entity class for validation
      * @param field        The field for validation
      * @return The new instance of {@link RequireRangeToStrategy} class
      *
      * @exception NullPointerException If {@code null} is passed as an argument
      */
     protected static ValidationStrategy<RequireRangeTo> of(@NonNull ErrorContext<RequireRangeTo> errorContext,
-            @NonNull ValidatableEntity entity, @NonNull Field field) {
-        return new RequireRangeToStrategy(errorContext, entity, field);
+            @NonNull Class<? extends ValidatableEntity> entityClass, @NonNull Field field) {
+        return new RequireRangeToStrategy(errorContext, entityClass, field);
     }
 
     @Override
-    public BusinessError validate() {
+    public BusinessError validate(@NonNull ValidatableEntity entity) {
 
         final ErrorContext<RequireRangeTo> errorContext = super.getErrorContext();
         final RequireRangeTo annotation = errorContext.getAnnotation();
@@ -79,7 +110,7 @@ final class RequireRangeToStrategy extends ValidationStrategy<RequireRangeTo> {
         return switch (annotation.errorType()) {
             case RECOVERABLE -> {
                 try {
-                    this.validate(annotation, super.getFieldHelper(), new InvalidValueDetectedException());
+                    this.validate(annotation, entity, super.getFieldHelper(), new InvalidValueDetectedException());
                     yield BusinessError.none();
                 } catch (InvalidValueDetectedException e) {
                     yield BusinessError.recoverable(annotation.message());
@@ -88,7 +119,7 @@ final class RequireRangeToStrategy extends ValidationStrategy<RequireRangeTo> {
 
             case UNRECOVERABLE -> {
                 try {
-                    this.validate(annotation, super.getFieldHelper(), new InvalidValueDetectedException());
+                    this.validate(annotation, entity, super.getFieldHelper(), new InvalidValueDetectedException());
                     yield BusinessError.none();
                 } catch (InvalidValueDetectedException e) {
                     yield BusinessError.unrecoverable(annotation.message());
@@ -96,7 +127,7 @@ final class RequireRangeToStrategy extends ValidationStrategy<RequireRangeTo> {
             }
 
             case RUNTIME -> {
-                this.validate(annotation, super.getFieldHelper());
+                this.validate(annotation, entity, super.getFieldHelper());
                 yield BusinessError.none();
             }
         };
@@ -107,12 +138,14 @@ final class RequireRangeToStrategy extends ValidationStrategy<RequireRangeTo> {
      * arguments.
      *
      * @param annotation The annotation of {@link RequireRangeTo}
+     * @param entity     The entity to be validated
      * @param field      The field to be validated
      *
      * @exception NullPointerException If {@code null} is passed as an argument
      */
-    private void validate(@NonNull RequireRangeTo annotation, @NonNull EnvaliFieldHelper field) {
-        this.validate(annotation, field, new PreconditionFailedException());
+    private void validate(@NonNull RequireRangeTo annotation, @NonNull ValidatableEntity entity,
+            @NonNull EnvaliFieldHelper field) {
+        this.validate(annotation, entity, field, new PreconditionFailedException());
     }
 
     /**
@@ -120,49 +153,58 @@ final class RequireRangeToStrategy extends ValidationStrategy<RequireRangeTo> {
      * arguments.
      *
      * @param annotation The annotation of {@link RequireRangeTo}
+     * @param entity     The entity to be validated
      * @param field      The field to be validated
      * @param exception  The exception to be thrown when there is a error
      *
      * @exception NullPointerException If {@code null} is passed as an argument
      */
-    private void validate(@NonNull RequireRangeTo annotation, @NonNull EnvaliFieldHelper field,
-            @NonNull RuntimeException exception) {
+    private void validate(@NonNull RequireRangeTo annotation, @NonNull ValidatableEntity entity,
+            @NonNull EnvaliFieldHelper field, @NonNull RuntimeException exception) {
         if (field.isInteger()) {
-            Preconditions.requireRangeTo(field.getInt(),
-                    super.isContentConfig()
-                            ? Integer.parseInt(super.getContentHelper().get(EnvaliContentAttribute.RANGE_TO))
-                            : annotation.intTo(),
-                    exception);
+            Preconditions.requireRangeTo(field.getInt(entity), this.to.intValue(), exception);
         } else if (field.isLong()) {
-            Preconditions.requireRangeTo(field.getLong(),
-                    super.isContentConfig()
-                            ? Long.parseLong(super.getContentHelper().get(EnvaliContentAttribute.RANGE_TO))
-                            : annotation.longTo(),
-                    exception);
+            Preconditions.requireRangeTo(field.getLong(entity), this.to.longValue(), exception);
         } else if (field.isShort()) {
-            Preconditions.requireRangeTo(field.getShort(),
-                    super.isContentConfig()
-                            ? Short.parseShort(super.getContentHelper().get(EnvaliContentAttribute.RANGE_TO))
-                            : annotation.shortTo(),
-                    exception);
+            Preconditions.requireRangeTo(field.getShort(entity), this.to.shortValue(), exception);
         } else if (field.isByte()) {
-            Preconditions.requireRangeTo(field.getByte(),
-                    super.isContentConfig()
-                            ? Byte.parseByte(super.getContentHelper().get(EnvaliContentAttribute.RANGE_TO))
-                            : annotation.byteTo(),
-                    exception);
+            Preconditions.requireRangeTo(field.getByte(entity), this.to.byteValue(), exception);
         } else if (field.isFloat()) {
-            Preconditions.requireRangeTo(field.getFloat(),
-                    super.isContentConfig()
-                            ? Float.parseFloat(super.getContentHelper().get(EnvaliContentAttribute.RANGE_TO))
-                            : annotation.floatTo(),
-                    exception);
+            Preconditions.requireRangeTo(field.getFloat(entity), this.to.floatValue(), exception);
         } else if (field.isDouble()) {
-            Preconditions.requireRangeTo(field.getDouble(),
-                    super.isContentConfig()
-                            ? Double.parseDouble(super.getContentHelper().get(EnvaliContentAttribute.RANGE_TO))
-                            : annotation.doubleTo(),
-                    exception);
+            Preconditions.requireRangeTo(field.getDouble(entity), this.to.doubleValue(), exception);
+        } else if (this.decimalRange != null) {
+            final Number value = (Number) field.get(entity);
+
+            if (value != null && !this.decimalRange.contains(value)) {
+                throw exception;
+            }
+        }
+    }
+
+    /**
+     * Returns the upper bound specified in the annotation for the type of the
+     * field.
+     *
+     * @param annotation The annotation of {@link RequireRangeTo}
+     * @param field      The field to be validated
+     * @return The upper bound for the type of the field
+     *
+     * @exception NullPointerException If {@code null} is passed as an argument
+     */
+    private static Number getTo(@NonNull RequireRangeTo annotation, @NonNull EnvaliFieldHelper field) {
+        if (field.isInteger()) {
+            return annotation.intTo();
+        } else if (field.isLong()) {
+            return annotation.longTo();
+        } else if (field.isShort()) {
+            return annotation.shortTo();
+        } else if (field.isByte()) {
+            return annotation.byteTo();
+        } else if (field.isFloat()) {
+            return annotation.floatTo();
         }
+
+        return annotation.doubleTo();
     }
 }
@@ -0,0 +1,131 @@
+/*
+ * Copyright 2020 Kato Shinya.
+ *
+ * Licensed under the Apache License, Version 2.0 (the "License"); you may not use this file except
+ * in compliance with the License. You may obtain a copy of the License at
+ *
+ *     http://www.apache.org/licenses/LICENSE-2.0
+ *
+ * Unless required by applicable law or agreed to in writing, software distributed under the License
+ * is distributed on an "AS IS" BASIS, WITHOUT WARRANTIES OR CONDITIONS OF ANY KIND, either express
+ * or implied. See the License for the specific language governing permissions and limitations under
+ * the License.
+ */
+
+package org.thinkit.framework.envali.strategy;
+
+import java.lang.reflect.Field;
+import java.util.function.ToIntFunction;
+
+import org.thinkit.common.base.precondition.exception.PreconditionFailedException;
+import org.thinkit.framework.envali.annotation.RequireSize;
+import org.thinkit.framework.envali.context.ErrorContext;
+import org.thinkit.framework.envali.entity.ValidatableEntity;
+import org.thinkit.framework.envali.helper.EnvaliFieldHelper;
+import org.thinkit.framework.envali.result.BusinessError;
+
+import lombok.EqualsAndHashCode;
+import lombok.NonNull;
+import lombok.ToString;
+
+/**
+ * A strategy to perform validation process for {@link RequireSize} annotation.
+ * <p>
+ * The function that returns the length or size of the field value is resolved
+ * once when the strategy is created, so the field value is neither copied nor
+ * converted to a string at validation time.
+ *
+ * @author Kato Shinya
+ * @since 1.0.5
+ */
+@ToString
+@EqualsAndHashCode(callSuper = false)
+final class RequireSizeStrategy extends ValidationStrategy<RequireSize> {
+
+    /**
+     * The function that returns the length or size of the field value
+     */
+    @ToString.Exclude
+    @EqualsAndHashCode.Exclude
+    private ToIntFunction<Object> sizeFunction;
+
+    /**
+     * Constructor
+     *
+     * @param errorContext The error context
+     * @param entityClass  The entity class for validation
+     * @param field        The field for validation
+     *
+     * @exception NullPointerException          If {@code null} is passed as an
+     *                                          argument
+     * @exception UnsupportedOperationException If the minimum is negative or
+     *                                          greater than the maximum
+     */
+    private RequireSizeStrategy(@NonNull ErrorContext<RequireSize> errorContext,
+            @NonNull Class<? extends ValidatableEntity> entityClass, @NonNull Field field) {
+        super(errorContext, entityClass, field);
+
+        final EnvaliFieldHelper fieldHelper = super.getFieldHelper();
+        final RequireSize annotation = errorContext.getAnnotation();
+
+        if (annotation.min() < 0 || annotation.max() < annotation.min()) {
+            throw new UnsupportedOperationException(String.format(
+                    "The org.thinkit.framework.envali.annotation.RequireSize annotation requires 0 <= min <= max, but was min = %d and max = %d for the variable %s#%s.",
+                    annotation.min(), annotation.max(), fieldHelper.getEntityName(), fieldHelper.getName()));
+        }
+
+        this.sizeFunction = EnvaliFieldHelper.getSizeFunction(fieldHelper.getType());
+    }
+
+    /**
+     * Returns the new instance of {@link RequireSizeStrategy} class.
+     *
+     * @param errorContext The error context
+     * @param entityClass  The entity class for validation
+     * @param field        The field for validation
+     * @return The new instance of {@link RequireSizeStrategy} class
+     *
+     * @exception NullPointerException If {@code null} is passed as an argument
+     */
+    protected static ValidationStrategy<RequireSize> of(@NonNull ErrorContext<RequireSize> errorContext,
+            @NonNull Class<? extends ValidatableEntity> entityClass, @NonNull Field field) {
+        return new RequireSizeStrategy(errorContext, entityClass, field);
+    }
+
+    @Override
+    public BusinessError validate(@NonNull ValidatableEntity entity) {
+
+        final RequireSize annotation = super.getErrorContext().getAnnotation();
+
+        if (this.isValidSize(annotation, super.getFieldHelper().get(entity))) {
+            return BusinessError.none();
+        }
+
+        return switch (annotation.errorType()) {
+            case RECOVERABLE -> BusinessError.recoverable(annotation.message());
+            case UNRECOVERABLE -> BusinessError.unrecoverable(annotation.message());
+            case RUNTIME -> throw new PreconditionFailedException();
+        };
+    }
+
+    /**
+     * Tests if the length or size of the value passed as an argument is within the
+     * range specified in the annotation.
+     *
+     * @param annotation The annotation of {@link RequireSize}
+     * @param value      The field value
+     * @return {@code true} if the value is {@code null} or its length or size is
+     *         within the range, otherwise {@code false}
+     *
+     * @exception NullPointerException If {@code null} is passed as an annotation
+     */
+    private boolean isValidSize(@NonNull RequireSize annotation, Object value) {
+
+        if (value == null) {
+            return true;
+        }
+
+        final int size = this.sizeFunction.applyAsInt(value);
+        return annotation.min() <= size && size <= annotation.max();
+    }
+}
@@ -39,37 +39,44 @@ import lombok.ToString;
 @EqualsAndHashCode(callSuper = false)
 final class RequireStartWithStrategy extends ValidationStrategy<RequireStartWith> {
 
+    /**
+     * The prefix, which is resolved only once when the strategy is created
+     */
+    private String prefix;
+
     /**
      * Constructor
      *
      * @param errorContext The error context
-     * @param entity       The entity for validation
+     * @param entityClass  The entity class for validation
      * @param field        The field for validation
      *
      * @exception NullPointerException If {@code null} is passed as an argument
      */
     private RequireStartWithStrategy(@NonNull ErrorContext<RequireStartWith> errorContext,
-            @NonNull ValidatableEntity entity, @NonNull Field field) {
-        super(errorContext, entity, field);
+            @NonNull Class<? extends ValidatableEntity> entityClass, @NonNull Field field) {
+        super(errorContext, entityClass, field);
+        this.prefix = super.isContentConfig() ? super.getContentHelper().getString(EnvaliContentAttribute.START_WITH)
+                : errorContext.getAnnotation().prefix();
     }
 
     /**
      * Returns the new instance of {@link RequireStartWithStrategy} class.
      *
      * @param errorContext The error context
-     * @param entity       The entity for validation
+     * @param entityClass  The entity class for validation
      * @param field        The field for validation
      * @return The new instance of {@link RequireStartWithStrategy} class
      *
      * @exception NullPointerException If {@code null} is passed as an argument
      */
     protected static ValidationStrategy<RequireStartWith> of(@NonNull ErrorContext<RequireStartWith> errorContext,
-            @NonNull ValidatableEntity entity, @NonNull Field field) {
-        return new RequireStartWithStrategy(errorContext, entity, field);
+            @NonNull Class<? extends ValidatableEntity> entityClass, @NonNull Field field) {
+        return new RequireStartWithStrategy(errorContext, entityClass, field);
     }
 
     @Override
-    public BusinessError validate() {
+    public BusinessError validate(@NonNull ValidatableEntity entity) {
 
         final ErrorContext<RequireStartWith> errorContext = super.getErrorContext();
         final RequireStartWith annotation = errorContext.getAnnotation();
@@ -77,9 +84,7 @@ final class RequireStartWithStrategy extends ValidationStrategy<RequireStartWith
         return switch (annotation.errorType()) {
             case RECOVERABLE -> {
                 try {
-                    Preconditions.requireStartWith(super.getFieldHelper().getString(),
-                            super.isContentConfig() ? super.getContentHelper().get(EnvaliContentAttribute.START_WITH)
-                                    : annotation.prefix(),
+                    Preconditions.requireStartWith(super.getFieldHelper().getString(entity), this.prefix,
                             new InvalidValueDetectedException());
                     yield BusinessError.none();
                 } catch (InvalidValueDetectedException e) {
@@ -89,9 +94,7 @@ final class RequireStartWithStrategy extends ValidationStrategy<RequireStartWith
 
             case UNRECOVERABLE -> {
                 try {
-                    Preconditions.requireStartWith(super.getFieldHelper().getString(),
-                            super.isContentConfig() ? super.getContentHelper().get(EnvaliContentAttribute.START_WITH)
-                                    : annotation.prefix(),
+                    Preconditions.requireStartWith(super.getFieldHelper().getString(entity), this.prefix,
                             new InvalidValueDetectedException());
                     yield BusinessError.none();
                 } catch (InvalidValueDetectedException e) {
@@ -100,9 +103,7 @@ final class RequireStartWithStrategy extends ValidationStrategy<RequireStartWith
             }
 
             case RUNTIME -> {
-                Preconditions.requireStartWith(super.getFieldHelper().getString(),
-                        super.isContentConfig() ? super.getContentHelper().get(EnvaliContentAttribute.START_WITH)
-                                : annotation.prefix());
+                Preconditions.requireStartWith(super.getFieldHelper().getString(entity), this.prefix);
                 yield BusinessError.none();
             }
         };
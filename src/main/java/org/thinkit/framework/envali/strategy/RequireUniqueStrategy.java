@@ -0,0 +1,182 @@
+/*
+ * Copyright 2020 Kato Shinya.
+ *
+ * Licensed under the Apache License, Version 2.0 (the "License"); you may not use this file except
+ * in compliance with the License. You may obtain a copy of the License at
+ *
+ *     http://www.apache.org/licenses/LICENSE-2.0
+ *
+ * Unless required by applicable law or agreed to in writing, software distributed under the License
+ * is distributed on an "AS IS" BASIS, WITHOUT WARRANTIES OR CONDITIONS OF ANY KIND, either express
+ * or implied. See the License for the specific language governing permissions and limitations under
+ * the License.
+ */
+
+package org.thinkit.framework.envali.strategy;
+
+import java.lang.reflect.Field;
+import java.lang.reflect.ParameterizedType;
+import java.lang.reflect.Type;
+import java.util.List;
+
+import org.thinkit.common.base.precondition.exception.PreconditionFailedException;
+import org.thinkit.framework.envali.annotation.RequireUnique;
+import org.thinkit.framework.envali.context.ErrorContext;
+import org.thinkit.framework.envali.entity.ValidatableEntity;
+import org.thinkit.framework.envali.helper.EnvaliClassHelper;
+import org.thinkit.framework.envali.helper.EnvaliDuplicateFinder;
+import org.thinkit.framework.envali.helper.EnvaliFieldHelper;
+import org.thinkit.framework.envali.result.BusinessError;
+
+import lombok.EqualsAndHashCode;
+import lombok.NonNull;
+import lombok.ToString;
+
+/**
+ * A strategy to perform validation process for {@link RequireUnique}
+ * annotation.
+ * <p>
+ * The type of elements and the field of the key are resolved only once when
+ * the strategy is created, and the duplicate elements are found by
+ * {@link EnvaliDuplicateFinder} in a single pass over the elements.
+ *
+ * @author Kato Shinya
+ * @since 1.0.5
+ */
+@ToString
+@EqualsAndHashCode(callSuper = false)
+final class RequireUniqueStrategy extends ValidationStrategy<RequireUnique> {
+
+    /**
+     * The finder of the duplicate elements
+     */
+    @ToString.Exclude
+    @EqualsAndHashCode.Exclude
+    private EnvaliDuplicateFinder duplicateFinder;
+
+    /**
+     * Constructor
+     *
+     * @param errorContext The error context
+     * @param entityClass  The entity class for validation
+     * @param field        The field for validation
+     *
+     * @exception NullPointerException          If {@code null} is passed as an
+     *                                          argument
+     * @exception UnsupportedOperationException If the key is specified for the
+     *                                          elements that are not validatable
+     *                                          entities, otherwise if the key is
+     *                                          not a field of the elements
+     */
+    private RequireUniqueStrategy(@NonNull ErrorContext<RequireUnique> errorContext,
+            @NonNull Class<? extends ValidatableEntity> entityClass, @NonNull Field field) {
+        super(errorContext, entityClass, field);
+        this.duplicateFinder = this.createDuplicateFinder(errorContext.getAnnotation().key(), field);
+    }
+
+    /**
+     * Returns the new instance of {@link RequireUniqueStrategy} class.
+     *
+     * @param errorContext The error context
+     * @param entityClass  The entity class for validation
+     * @param field        The field for validation
+     * @return The new instance of {@link RequireUniqueStrategy} class
+     *
+     * @exception NullPointerException If {@code null} is passed as an argument
+     */
+    protected static ValidationStrategy<RequireUnique> of(@NonNull ErrorContext<RequireUnique> errorContext,
+            @NonNull Class<? extends ValidatableEntity> entityClass, @NonNull Field field) {
+        return new RequireUniqueStrategy(errorContext, entityClass, field);
+    }
+
+    @Override
+    public BusinessError validate(@NonNull ValidatableEntity entity) {
+
+        final RequireUnique annotation = super.getErrorContext().getAnnotation();
+        final Object value = super.getFieldHelper().get(entity);
+
+        if (value == null) {
+            return BusinessError.none();
+        }
+
+        final List<Integer> duplicates = this.duplicateFinder.findDuplicates(value);
+
+        if (duplicates.isEmpty()) {
+            return BusinessError.none();
+        }
+
+        return switch (annotation.errorType()) {
+            case RECOVERABLE -> BusinessError.recoverable(annotation.message(), duplicates);
+            case UNRECOVERABLE -> BusinessError.unrecoverable(annotation.message(), duplicates);
+            case RUNTIME -> throw new PreconditionFailedException();
+        };
+    }
+
+    /**
+     * Returns the finder of the duplicate elements of the field passed as an
+     * argument.
+     *
+     * @param key   The name of the field of the elements that is used as the key,
+     *              or empty if the element itself is used as the key
+     * @param field The List or array field
+     * @return The finder of the duplicate elements
+     *
+     * @exception UnsupportedOperationException If the key is specified for the
+     *                                          elements that are not validatable
+     *                                          entities, otherwise if the key is
+     *                                          not a field of the elements
+     */
+    private EnvaliDuplicateFinder createDuplicateFinder(@NonNull String key, @NonNull Field field) {
+
+        final Class<?> elementType = field.getType().isArray() ? field.getType().getComponentType()
+                : field.getGenericType() instanceof ParameterizedType parameterizedType
+                        ? getRawType(parameterizedType.getActualTypeArguments()[0])
+                        : Object.class;
+
+        if (key.isEmpty()) {
+            return EnvaliDuplicateFinder.of(elementType);
+        }
+
+        final EnvaliFieldHelper fieldHelper = super.getFieldHelper();
+
+        if (!ValidatableEntity.class.isAssignableFrom(elementType)) {
+            throw new UnsupportedOperationException(String.format(
+                    "The key %s of the org.thinkit.framework.envali.annotation.RequireUnique annotation requires the elements of the variable %s#%s to implement the org.thinkit.framework.envali.entity.ValidatableEntity interface.",
+                    key, fieldHelper.getEntityName(), fieldHelper.getName()));
+        }
+
+        final Class<? extends ValidatableEntity> elementClass = elementType.asSubclass(ValidatableEntity.class);
+
+        for (Field elementField : EnvaliClassHelper.getHierarchyFields(elementClass)) {
+            if (elementField.getName().equals(key)) {
+                if (EnvaliFieldHelper.requiresFieldAccess(elementClass, elementField)) {
+                    elementField.setAccessible(true);
+                }
+
+                return EnvaliDuplicateFinder.of(EnvaliFieldHelper.of(elementClass, elementField));
+            }
+        }
+
+        throw new UnsupportedOperationException(String.format(
+                "The key %s of the org.thinkit.framework.envali.annotation.RequireUnique annotation is not a field of %s for the variable %s#%s.",
+                key, elementClass.getName(), fieldHelper.getEntityName(), fieldHelper.getName()));
+    }
+
+    /**
+     * Returns the raw class of the type passed as an argument.
+     *
+     * @param type The type
+     * @return The raw class of the type, or {@link Object} if the type is neither
+     *         a class nor a parameterized type
+     */
+    private static Class<?> getRawType(@NonNull Type type) {
+
+        if (type instanceof Class<?>) {
+            return (Class<?>) type;
+        } else if (type instanceof ParameterizedType) {
+            return (Class<?>) ((ParameterizedType) type).getRawType();
+        }
+
+        return Object.class;
+    }
+}
@@ -32,11 +32,11 @@ import lombok.NonNull;
 public interface StrategyFactory {
 
     /**
-     * Returns the validatable entity.
+     * Returns the validatable entity class.
      *
-     * @return The validatable entity to be validated
+     * @return The validatable entity class to be validated
      */
-    public ValidatableEntity getValidatableEntity();
+    public Class<? extends ValidatableEntity> getEntityClass();
 
     /**
      * Returns the field.
@@ -16,11 +16,13 @@ package org.thinkit.framework.envali.strategy;
 
 import java.lang.annotation.Annotation;
 import java.lang.reflect.Field;
+import java.util.Collection;
 
 import org.thinkit.framework.envali.catalog.ParameterConfig;
 import org.thinkit.framework.envali.catalog.ValidationPattern;
 import org.thinkit.framework.envali.context.ErrorContext;
 import org.thinkit.framework.envali.entity.ValidatableEntity;
+import org.thinkit.framework.envali.entity.ValidationGroup;
 import org.thinkit.framework.envali.helper.EnvaliContentHelper;
 import org.thinkit.framework.envali.helper.EnvaliFieldHelper;
 import org.thinkit.framework.envali.result.BusinessError;
@@ -71,7 +73,7 @@ abstract class ValidationStrategy<T extends Annotation> {
      * Constructor
      *
      * @param errorContext The error context
-     * @param entity       The entity for validation
+     * @param entityClass  The entity class for validation
      * @param field        The field for validation
      *
      * @exception NullPointerException          If {@code null} is passed as an
@@ -80,25 +82,52 @@ abstract class ValidationStrategy<T extends Annotation> {
      *                                          specified for the field of
      *                                          unsupported data type
      */
-    protected ValidationStrategy(@NonNull ErrorContext<T> errorContext, @NonNull ValidatableEntity entity,
-            @NonNull Field field) {
+    protected ValidationStrategy(@NonNull ErrorContext<T> errorContext,
+            @NonNull Class<? extends ValidatableEntity> entityClass, @NonNull Field field) {
         this.errorContext = errorContext;
-        this.fieldHelper = EnvaliFieldHelper.of(entity, field);
+        this.fieldHelper = EnvaliFieldHelper.of(entityClass, field);
 
         getAnnotationRequirement(errorContext.getValidationPattern()).requireSupportedDataType(this.fieldHelper);
 
         if (errorContext.getParameterConfig() == ParameterConfig.CONTENT) {
-            this.contentHelper = EnvaliContentHelper.of(entity, field);
+            this.contentHelper = EnvaliContentHelper.of(entityClass, field, errorContext.getContentProfile());
         }
     }
 
     /**
      * Execute the validation process according to the strategy and return the
      * business error as {@link BusinessError} if any error exists.
+     * <p>
+     * The strategy does not hold any entity object, so the same strategy instance
+     * can be used to validate any number of entities of the same class.
      *
+     * @param entity The entity to be validated
      * @return The business error detected in the validate process
+     *
+     * @exception NullPointerException If {@code null} is passed as an argument
      */
-    public abstract BusinessError validate();
+    public abstract BusinessError validate(@NonNull ValidatableEntity entity);
+
+    /**
+     * Execute the validation process according to the strategy for the validation
+     * groups passed as an argument, and return the business error as
+     * {@link BusinessError} if any error exists.
+     * <p>
+     * The groups matter only to the strategies that validate nested entities, so
+     * this method delegates to {@link #validate(ValidatableEntity)} by default.
+     *
+     * @param entity The entity to be validated
+     * @param groups The validation groups requested
+     * @return The business error detected in the validate process
+     *
+     * @exception NullPointerException If {@code null} is passed as an argument
+     *
+     * @since 1.0.5
+     */
+    public BusinessError validate(@NonNull ValidatableEntity entity,
+            @NonNull Collection<Class<? extends ValidationGroup>> groups) {
+        return this.validate(entity);
+    }
 
     /**
      * Tests if the error context has {@link ParameterConfig#CONTENT} .
@@ -139,6 +168,11 @@ abstract class ValidationStrategy<T extends Annotation> {
             case REQUIRE_NON_EMPTY -> AnnotationRequirement.REQUIRE_NON_EMPTY;
             case NESTED_ENTITY -> AnnotationRequirement.NESTED_ENTITY;
             case REQUIRE_MATCH -> AnnotationRequirement.REQUIRE_MATCH;
+            case REQUIRE_SIZE -> AnnotationRequirement.REQUIRE_SIZE;
+            case REQUIRE_CHECKSUM -> AnnotationRequirement.REQUIRE_CHECKSUM;
+            case REQUIRE_ONE_OF -> AnnotationRequirement.REQUIRE_ONE_OF;
+            case REQUIRE_EXISTS_IN -> AnnotationRequirement.REQUIRE_EXISTS_IN;
+            case REQUIRE_UNIQUE -> AnnotationRequirement.REQUIRE_UNIQUE;
         };
     }
 }
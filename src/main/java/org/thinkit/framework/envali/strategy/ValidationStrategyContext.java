@@ -15,8 +15,11 @@
 package org.thinkit.framework.envali.strategy;
 
 import java.lang.annotation.Annotation;
+import java.util.Collection;
 
 import org.thinkit.common.base.precondition.exception.PreconditionFailedException;
+import org.thinkit.framework.envali.entity.ValidatableEntity;
+import org.thinkit.framework.envali.entity.ValidationGroup;
 import org.thinkit.framework.envali.result.BusinessError;
 
 import lombok.EqualsAndHashCode;
@@ -27,8 +30,8 @@ import lombok.ToString;
  * Context class to execute the validation strategy.
  * <p>
  * create an instance of the class using the {@link #of(ValidationStrategy)} and
- * validate it according to the annotations using the {@link #validate()}
- * method.
+ * validate it according to the annotations using the
+ * {@link #validate(ValidatableEntity)} method.
  *
  * @author Kato Shinya
  * @since 1.0.0
@@ -74,12 +77,35 @@ public final class ValidationStrategyContext {
     /**
      * Execute a validation strategy.
      *
+     * @param entity The entity to be validated
      * @return The business error detected in the validate process
      *
+     * @exception NullPointerException        If {@code null} is passed as an
+     *                                        argument
      * @exception PreconditionFailedException If the validation process detects an
      *                                        invalid value
      */
-    public BusinessError validate() {
-        return this.validationStrategy.validate();
+    public BusinessError validate(@NonNull ValidatableEntity entity) {
+        return this.validationStrategy.validate(entity);
+    }
+
+    /**
+     * Execute a validation strategy for the validation groups passed as an
+     * argument.
+     *
+     * @param entity The entity to be validated
+     * @param groups The validation groups requested
+     * @return The business error detected in the validate process
+     *
+     * @exception NullPointerException        If {@code null} is passed as an
+     *                                        argument
+     * @exception PreconditionFailedException If the validation process detects an
+     *                                        invalid value
+     *
+     * @since 1.0.5
+     */
+    public BusinessError validate(@NonNull ValidatableEntity entity,
+            @NonNull Collection<Class<? extends ValidationGroup>> groups) {
+        return this.validationStrategy.validate(entity, groups);
     }
 }
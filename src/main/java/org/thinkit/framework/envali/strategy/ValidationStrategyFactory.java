@@ -17,20 +17,28 @@ package org.thinkit.framework.envali.strategy;
 import java.lang.annotation.Annotation;
 import java.lang.reflect.Field;
 
+import org.thinkit.framework.envali.annotation.ParameterMapping;
+import org.thinkit.framework.envali.annotation.RequireChecksum;
 import org.thinkit.framework.envali.annotation.RequireEndWith;
+import org.thinkit.framework.envali.annotation.RequireExistsIn;
 import org.thinkit.framework.envali.annotation.RequireMatch;
 import org.thinkit.framework.envali.annotation.RequireNegative;
 import org.thinkit.framework.envali.annotation.RequireNonBlank;
 import org.thinkit.framework.envali.annotation.RequireNonEmpty;
 import org.thinkit.framework.envali.annotation.RequireNonNull;
+import org.thinkit.framework.envali.annotation.RequireOneOf;
 import org.thinkit.framework.envali.annotation.RequirePositive;
 import org.thinkit.framework.envali.annotation.RequireRangeFrom;
 import org.thinkit.framework.envali.annotation.RequireRangeFromTo;
 import org.thinkit.framework.envali.annotation.RequireRangeTo;
+import org.thinkit.framework.envali.annotation.RequireSize;
 import org.thinkit.framework.envali.annotation.RequireStartWith;
+import org.thinkit.framework.envali.annotation.RequireUnique;
+import org.thinkit.framework.envali.catalog.ParameterConfig;
 import org.thinkit.framework.envali.catalog.ValidationPattern;
 import org.thinkit.framework.envali.context.ErrorContext;
 import org.thinkit.framework.envali.entity.ValidatableEntity;
+import org.thinkit.framework.envali.source.ContentProfile;
 
 import lombok.EqualsAndHashCode;
 import lombok.Getter;
@@ -49,10 +57,10 @@ import lombok.ToString;
 public final class ValidationStrategyFactory implements StrategyFactory {
 
     /**
-     * The validatable entity to be validated
+     * The validatable entity class to be validated
      */
     @Getter
-    private ValidatableEntity validatableEntity;
+    private Class<? extends ValidatableEntity> entityClass;
 
     /**
      * The field to be validated
@@ -60,6 +68,13 @@ public final class ValidationStrategyFactory implements StrategyFactory {
     @Getter
     private Field field;
 
+    /**
+     * The content profile, or {@code null} if the content mapped to the entity
+     * class is used
+     */
+    @Getter
+    private ContentProfile contentProfile;
+
     /**
      * Default constructor
      */
@@ -69,28 +84,66 @@ public final class ValidationStrategyFactory implements StrategyFactory {
     /**
      * Constructor
      *
-     * @param validatableEntity The validatable entity to be validated
-     * @param field             The field to be validated
+     * @param entityClass The validatable entity class to be validated
+     * @param field       The field to be validated
      *
      * @exception NullPointerException If {@code null} is passed as an argument
      */
-    private ValidationStrategyFactory(@NonNull ValidatableEntity validatableEntity, @NonNull Field field) {
-        this.validatableEntity = validatableEntity;
+    private ValidationStrategyFactory(@NonNull Class<? extends ValidatableEntity> entityClass, @NonNull Field field) {
+        this.entityClass = entityClass;
         this.field = field;
     }
 
+    /**
+     * Constructor
+     *
+     * @param entityClass    The validatable entity class to be validated
+     * @param field          The field to be validated
+     * @param contentProfile The content profile, or {@code null} if the content
+     *                       mapped to the entity class is used
+     *
+     * @exception NullPointerException If {@code null} is passed as the entity
+     *                                 class or the field
+     */
+    private ValidationStrategyFactory(@NonNull Class<? extends ValidatableEntity> entityClass, @NonNull Field field,
+            ContentProfile contentProfile) {
+        this(entityClass, field);
+        this.contentProfile = contentProfile;
+    }
+
     /**
      * Returns the new instance of {@link ValidationStrategyFactory} based on the
      * data passed as an argument.
      *
-     * @param validatableEntity The validatable entity to be validated
-     * @param field             The field to be validated
+     * @param entityClass The validatable entity class to be validated
+     * @param field       The field to be validated
      * @return The new instance of {@link ValidationStrategyFactory}
      *
      * @exception NullPointerException If {@code null} is passed as an argument
      */
-    public static StrategyFactory of(@NonNull ValidatableEntity validatableEntity, @NonNull Field field) {
-        return new ValidationStrategyFactory(validatableEntity, field);
+    public static StrategyFactory of(@NonNull Class<? extends ValidatableEntity> entityClass, @NonNull Field field) {
+        return new ValidationStrategyFactory(entityClass, field);
+    }
+
+    /**
+     * Returns the new instance of {@link ValidationStrategyFactory} based on the
+     * data passed as an argument. The strategies created by the factory refer to
+     * the content of the profile passed as an argument.
+     *
+     * @param entityClass    The validatable entity class to be validated
+     * @param field          The field to be validated
+     * @param contentProfile The content profile, or {@code null} if the content
+     *                       mapped to the entity class is used
+     * @return The new instance of {@link ValidationStrategyFactory}
+     *
+     * @exception NullPointerException If {@code null} is passed as the entity
+     *                                 class or the field
+     *
+     * @since 1.0.5
+     */
+    public static StrategyFactory of(@NonNull Class<? extends ValidatableEntity> entityClass, @NonNull Field field,
+            ContentProfile contentProfile) {
+        return new ValidationStrategyFactory(entityClass, field, contentProfile);
     }
 
     @Override
@@ -100,77 +153,122 @@ public final class ValidationStrategyFactory implements StrategyFactory {
             case REQUIRE_NON_NULL -> {
                 yield RequireNonNullStrategy.of(
                         ErrorContext.of(field.getAnnotation(RequireNonNull.class), validationPattern),
-                        this.validatableEntity, this.field);
+                        this.entityClass, this.field);
             }
 
             case REQUIRE_NON_BLANK -> {
                 yield RequireNonBlankStrategy.of(
                         ErrorContext.of(field.getAnnotation(RequireNonBlank.class), validationPattern),
-                        this.validatableEntity, this.field);
+                        this.entityClass, this.field);
             }
 
             case REQUIRE_POSITIVE -> {
                 yield RequirePositiveStrategy.of(
                         ErrorContext.of(field.getAnnotation(RequirePositive.class), validationPattern),
-                        this.validatableEntity, this.field);
+                        this.entityClass, this.field);
             }
 
             case REQUIRE_NEGATIVE -> {
                 yield RequireNegativeStrategy.of(
                         ErrorContext.of(field.getAnnotation(RequireNegative.class), validationPattern),
-                        this.validatableEntity, this.field);
+                        this.entityClass, this.field);
             }
 
             case REQUIRE_RANGE_FROM -> {
                 yield RequireRangeFromStrategy.of(
-                        ErrorContext.of(this.validatableEntity.getParameterConfig(),
+                        ErrorContext.of(this.getParameterConfig(), this.contentProfile,
                                 field.getAnnotation(RequireRangeFrom.class), validationPattern),
-                        this.validatableEntity, this.field);
+                        this.entityClass, this.field);
             }
 
             case REQUIRE_RANGE_TO -> {
                 yield RequireRangeToStrategy.of(
-                        ErrorContext.of(this.validatableEntity.getParameterConfig(),
+                        ErrorContext.of(this.getParameterConfig(), this.contentProfile,
                                 field.getAnnotation(RequireRangeTo.class), validationPattern),
-                        this.validatableEntity, this.field);
+                        this.entityClass, this.field);
             }
 
             case REQUIRE_RANGE_FROM_TO -> {
                 yield RequireRangeFromToStrategy.of(
-                        ErrorContext.of(this.validatableEntity.getParameterConfig(),
+                        ErrorContext.of(this.getParameterConfig(), this.contentProfile,
                                 field.getAnnotation(RequireRangeFromTo.class), validationPattern),
-                        this.validatableEntity, this.field);
+                        this.entityClass, this.field);
             }
 
             case REQUIRE_START_WITH -> {
                 yield RequireStartWithStrategy.of(
-                        ErrorContext.of(this.validatableEntity.getParameterConfig(),
+                        ErrorContext.of(this.getParameterConfig(), this.contentProfile,
                                 field.getAnnotation(RequireStartWith.class), validationPattern),
-                        this.validatableEntity, this.field);
+                        this.entityClass, this.field);
             }
 
             case REQUIRE_END_WITH -> {
                 yield RequireEndWithStrategy.of(
-                        ErrorContext.of(this.validatableEntity.getParameterConfig(),
+                        ErrorContext.of(this.getParameterConfig(), this.contentProfile,
                                 field.getAnnotation(RequireEndWith.class), validationPattern),
-                        this.validatableEntity, this.field);
+                        this.entityClass, this.field);
             }
 
             case REQUIRE_NON_EMPTY -> {
                 yield RequireNonEmptyStrategy.of(
                         ErrorContext.of(field.getAnnotation(RequireNonEmpty.class), validationPattern),
-                        this.validatableEntity, this.field);
+                        this.entityClass, this.field);
             }
 
             case NESTED_ENTITY -> {
-                yield NestedEntityStrategy.of(ErrorContext.of(validationPattern), this.validatableEntity, this.field);
+                yield NestedEntityStrategy.of(ErrorContext.of(this.contentProfile, validationPattern), this.entityClass,
+                        this.field);
             }
 
             case REQUIRE_MATCH -> {
                 yield RequireMatchStrategy.of(
-                        ErrorContext.of(field.getAnnotation(RequireMatch.class), validationPattern),
-                        this.validatableEntity, this.field);
+                        ErrorContext.of(this.getParameterConfig(), this.contentProfile,
+                                field.getAnnotation(RequireMatch.class), validationPattern),
+                        this.entityClass, this.field);
+            }
+
+            case REQUIRE_SIZE -> {
+                yield RequireSizeStrategy.of(
+                        ErrorContext.of(field.getAnnotation(RequireSize.class), validationPattern),
+                        this.entityClass, this.field);
+            }
+
+            case REQUIRE_CHECKSUM -> {
+                yield RequireChecksumStrategy.of(
+                        ErrorContext.of(field.getAnnotation(RequireChecksum.class), validationPattern),
+                        this.entityClass, this.field);
+            }
+
+            case REQUIRE_ONE_OF -> {
+                yield RequireOneOfStrategy.of(
+                        ErrorContext.of(this.getParameterConfig(), this.contentProfile,
+                                field.getAnnotation(RequireOneOf.class), validationPattern),
+                        this.entityClass, this.field);
+            }
+
+            case REQUIRE_EXISTS_IN -> {
+                yield RequireExistsInStrategy.of(
+                        ErrorContext.of(field.getAnnotation(RequireExistsIn.class), validationPattern),
+                        this.entityClass, this.field);
+            }
+
+            case REQUIRE_UNIQUE -> {
+                yield RequireUniqueStrategy.of(
+                        ErrorContext.of(field.getAnnotation(RequireUnique.class), validationPattern),
+                        this.entityClass, this.field);
             }
         };
     }
+
+    /**
+     * Returns the element of {@link ParameterConfig} based on the entity class.
+     *
+     * @return {@link ParameterConfig#CONTENT} if {@link ParameterMapping} is
+     *         annotated to the entity class, otherwise
+     *         {@link ParameterConfig#ANNOTATION}
+     */
+    private ParameterConfig getParameterConfig() {
+        return this.entityClass.isAnnotationPresent(ParameterMapping.class) ? ParameterConfig.CONTENT
+                : ParameterConfig.ANNOTATION;
+    }
 }
@@ -0,0 +1,52 @@
+/*
+ * Copyright 2020 Kato Shinya.
+ *
+ * Licensed under the Apache License, Version 2.0 (the "License"); you may not use this file except
+ * in compliance with the License. You may obtain a copy of the License at
+ *
+ *     http://www.apache.org/licenses/LICENSE-2.0
+ *
+ * Unless required by applicable law or agreed to in writing, software distributed under the License
+ * is distributed on an "AS IS" BASIS, WITHOUT WARRANTIES OR CONDITIONS OF ANY KIND, either express
+ * or implied. See the License for the specific language governing permissions and limitations under
+ * the License.
+ */
+
+package org.thinkit.framework.envali;
+
+import org.thinkit.framework.envali.annotation.RequireNonNull;
+import org.thinkit.framework.envali.annotation.RequirePositive;
+import org.thinkit.framework.envali.entity.ValidatableEntity;
+
+/**
+ * The base entity class that defines fields to be used when testing the
+ * validation of inherited fields.
+ *
+ * @author Kato Shinya
+ * @since 1.0.5
+ */
+abstract class AbstractInheritedEntityForTest implements ValidatableEntity {
+
+    /**
+     * The non null id
+     */
+    @RequireNonNull
+    private String id;
+
+    /**
+     * The positive version
+     */
+    @RequirePositive
+    private int version;
+
+    /**
+     * Constructor
+     *
+     * @param id      The non null id (expected)
+     * @param version The positive version (expected)
+     */
+    protected AbstractInheritedEntityForTest(String id, int version) {
+        this.id = id;
+        this.version = version;
+    }
+}
@@ -0,0 +1,75 @@
+/*
+ * Copyright 2020 Kato Shinya.
+ *
+ * Licensed under the Apache License, Version 2.0 (the "License"); you may not use this file except
+ * in compliance with the License. You may obtain a copy of the License at
+ *
+ *     http://www.apache.org/licenses/LICENSE-2.0
+ *
+ * Unless required by applicable law or agreed to in writing, software distributed under the License
+ * is distributed on an "AS IS" BASIS, WITHOUT WARRANTIES OR CONDITIONS OF ANY KIND, either express
+ * or implied. See the License for the specific language governing permissions and limitations under
+ * the License.
+ */
+
+package org.thinkit.framework.envali;
+
+import java.util.List;
+
+import org.thinkit.framework.envali.annotation.RequireUnique;
+import org.thinkit.framework.envali.catalog.ErrorType;
+import org.thinkit.framework.envali.entity.ValidatableEntity;
+
+/**
+ * The entity class that defines fields to be used when testing the
+ * {@link RequireUnique} annotation with boolean keys.
+ *
+ * @author Kato Shinya
+ * @since 1.0.5
+ */
+final class BooleanKeyRequireUniqueForTest implements ValidatableEntity {
+
+    /**
+     * The answers
+     */
+    @RequireUnique(errorType = ErrorType.RECOVERABLE, message = "answers")
+    private List<Boolean> answers;
+
+    /**
+     * The options
+     */
+    @RequireUnique(key = "selected", errorType = ErrorType.RECOVERABLE, message = "options")
+    private List<OptionForTest> options;
+
+    /**
+     * Constructor
+     *
+     * @param answers The answers
+     * @param options The options
+     */
+    public BooleanKeyRequireUniqueForTest(List<Boolean> answers, List<OptionForTest> options) {
+        this.answers = answers;
+        this.options = options;
+    }
+
+    /**
+     * The entity class that represents the option whose selected flag is used as
+     * the key.
+     */
+    static final class OptionForTest implements ValidatableEntity {
+
+        /**
+         * The selected flag
+         */
+        private boolean selected;
+
+        /**
+         * Constructor
+         *
+         * @param selected The selected flag
+         */
+        public OptionForTest(boolean selected) {
+            this.selected = selected;
+        }
+    }
+}
@@ -0,0 +1,87 @@
+/*
+ * Copyright 2020 Kato Shinya.
+ *
+ * Licensed under the Apache License, Version 2.0 (the "License"); you may not use this file except
+ * in compliance with the License. You may obtain a copy of the License at
+ *
+ *     http://www.apache.org/licenses/LICENSE-2.0
+ *
+ * Unless required by applicable law or agreed to in writing, software distributed under the License
+ * is distributed on an "AS IS" BASIS, WITHOUT WARRANTIES OR CONDITIONS OF ANY KIND, either express
+ * or implied. See the License for the specific language governing permissions and limitations under
+ * the License.
+ */
+
+package org.thinkit.framework.envali;
+
+import java.util.List;
+import java.util.Map;
+
+import org.thinkit.framework.envali.annotation.RequireMatch;
+import org.thinkit.framework.envali.annotation.RequireNonBlank;
+import org.thinkit.framework.envali.annotation.RequireNonEmpty;
+import org.thinkit.framework.envali.annotation.RequireNonNull;
+import org.thinkit.framework.envali.annotation.RequireRangeFrom;
+import org.thinkit.framework.envali.annotation.RequireRangeTo;
+import org.thinkit.framework.envali.annotation.RequireStartWith;
+import org.thinkit.framework.envali.catalog.ErrorType;
+import org.thinkit.framework.envali.entity.ValidatableEntity;
+
+/**
+ * The entity class that defines container fields to be used when testing the
+ * constraints specified for the elements.
+ *
+ * @author Kato Shinya
+ * @since 1.0.5
+ */
+final class ContainerElementEntityForTest implements ValidatableEntity {
+
+    /**
+     * The names
+     */
+    @RequireNonEmpty
+    private List<@RequireNonBlank(errorType = ErrorType.RECOVERABLE, message = "name") String> names;
+
+    /**
+     * The scores per user
+     */
+    private Map<@RequireMatch(expression = "[a-z]+", errorType = ErrorType.RECOVERABLE,
+            message = "user") String, @RequireRangeFrom(intFrom = 1, errorType = ErrorType.UNRECOVERABLE,
+                    message = "score") Integer> scores;
+
+    /**
+     * The codes
+     */
+    @RequireStartWith(prefix = "x")
+    private String[] codes;
+
+    /**
+     * The numbers
+     */
+    @RequireRangeTo(intTo = 10, errorType = ErrorType.RECOVERABLE, message = "number")
+    private int[] numbers;
+
+    /**
+     * The tags
+     */
+    @RequireNonNull
+    private List<@RequireNonNull(errorType = ErrorType.RECOVERABLE, message = "tag") String> tags;
+
+    /**
+     * Constructor
+     *
+     * @param names   The names
+     * @param scores  The scores per user
+     * @param codes   The codes
+     * @param numbers The numbers
+     * @param tags    The tags
+     */
+    public ContainerElementEntityForTest(List<String> names, Map<String, Integer> scores, String[] codes,
+            int[] numbers, List<String> tags) {
+        this.names = names;
+        this.scores = scores;
+        this.codes = codes;
+        this.numbers = numbers;
+        this.tags = tags;
+    }
+}
@@ -0,0 +1,49 @@
+/*
+ * Copyright 2020 Kato Shinya.
+ *
+ * Licensed under the Apache License, Version 2.0 (the "License"); you may not use this file except
+ * in compliance with the License. You may obtain a copy of the License at
+ *
+ *     http://www.apache.org/licenses/LICENSE-2.0
+ *
+ * Unless required by applicable law or agreed to in writing, software distributed under the License
+ * is distributed on an "AS IS" BASIS, WITHOUT WARRANTIES OR CONDITIONS OF ANY KIND, either express
+ * or implied. See the License for the specific language governing permissions and limitations under
+ * the License.
+ */
+
+package org.thinkit.framework.envali;
+
+import org.thinkit.framework.envali.annotation.ParameterMapping;
+import org.thinkit.framework.envali.annotation.RequireNonBlank;
+import org.thinkit.framework.envali.annotation.RequireNonEmpty;
+import org.thinkit.framework.envali.catalog.ErrorType;
+import org.thinkit.framework.envali.entity.ValidatableEntity;
+
+/**
+ * The entity class that defines a field to be used when testing the fused
+ * constraints on a string that do not read the content, specified for an entity
+ * whose content has no row for the field.
+ *
+ * @author Kato Shinya
+ * @since 1.0.5
+ */
+@ParameterMapping(content = "ContentContainerElementForTest")
+final class ContentFreeStringConstraintsForTest implements ValidatableEntity {
+
+    /**
+     * The literal
+     */
+    @RequireNonBlank(errorType = ErrorType.RECOVERABLE, message = "blank")
+    @RequireNonEmpty(errorType = ErrorType.RECOVERABLE, message = "empty")
+    private String literal;
+
+    /**
+     * Constructor
+     *
+     * @param literal The literal
+     */
+    public ContentFreeStringConstraintsForTest(String literal) {
+        this.literal = literal;
+    }
+}
@@ -0,0 +1,56 @@
+/*
+ * Copyright 2020 Kato Shinya.
+ *
+ * Licensed under the Apache License, Version 2.0 (the "License"); you may not use this file except
+ * in compliance with the License. You may obtain a copy of the License at
+ *
+ *     http://www.apache.org/licenses/LICENSE-2.0
+ *
+ * Unless required by applicable law or agreed to in writing, software distributed under the License
+ * is distributed on an "AS IS" BASIS, WITHOUT WARRANTIES OR CONDITIONS OF ANY KIND, either express
+ * or implied. See the License for the specific language governing permissions and limitations under
+ * the License.
+ */
+
+package org.thinkit.framework.envali;
+
+import org.thinkit.framework.envali.annotation.ParameterMapping;
+import org.thinkit.framework.envali.annotation.RequireOneOf;
+import org.thinkit.framework.envali.annotation.RequireSize;
+import org.thinkit.framework.envali.catalog.ErrorType;
+import org.thinkit.framework.envali.entity.ValidatableEntity;
+
+/**
+ * The entity class that defines fields to be used when testing the
+ * {@link RequireOneOf} annotation with the values defined in the content.
+ *
+ * @author Kato Shinya
+ * @since 1.0.5
+ */
+@ParameterMapping(content = "ContentRequireOneOfForTest")
+final class ContentRequireOneOfForTest implements ValidatableEntity {
+
+    /**
+     * The currency code
+     */
+    @RequireOneOf(values = "GBP", errorType = ErrorType.RECOVERABLE, message = "currency")
+    private String currencyCode;
+
+    /**
+     * The status code
+     */
+    @RequireSize(errorType = ErrorType.RECOVERABLE, message = "size", max = 1)
+    @RequireOneOf(errorType = ErrorType.RECOVERABLE, message = "status")
+    private String statusCode;
+
+    /**
+     * Constructor
+     *
+     * @param currencyCode The currency code
+     * @param statusCode   The status code
+     */
+    public ContentRequireOneOfForTest(String currencyCode, String statusCode) {
+        this.currencyCode = currencyCode;
+        this.statusCode = statusCode;
+    }
+}
@@ -0,0 +1,37 @@
+/*
+ * Copyright 2020 Kato Shinya.
+ *
+ * Licensed under the Apache License, Version 2.0 (the "License"); you may not use this file except
+ * in compliance with the License. You may obtain a copy of the License at
+ *
+ *     http://www.apache.org/licenses/LICENSE-2.0
+ *
+ * Unless required by applicable law or agreed to in writing, software distributed under the License
+ * is distributed on an "AS IS" BASIS, WITHOUT WARRANTIES OR CONDITIONS OF ANY KIND, either express
+ * or implied. See the License for the specific language governing permissions and limitations under
+ * the License.
+ */
+
+package org.thinkit.framework.envali;
+
+import java.util.Map;
+
+import org.thinkit.framework.envali.entity.ValidatableEntity;
+import org.thinkit.framework.envali.source.ContentSource;
+
+/**
+ * The content source discovered by {@link java.util.ServiceLoader} to be used
+ * when testing the content sources.
+ *
+ * @author Kato Shinya
+ * @since 1.0.5
+ */
+public final class ContentSourceForTest implements ContentSource {
+
+    @Override
+    public Map<String, Map<String, String>> load(Class<? extends ValidatableEntity> entityClass, String contentName) {
+        return "DiscoveredContentForTest".equals(contentName)
+                ? Map.of("number", Map.of("rangeFrom", "100", "rangeTo", "200"))
+                : null;
+    }
+}
@@ -0,0 +1,88 @@
+/*
+ * Copyright 2020 Kato Shinya.
+ *
+ * Licensed under the Apache License, Version 2.0 (the "License"); you may not use this file except
+ * in compliance with the License. You may obtain a copy of the License at
+ *
+ *     http://www.apache.org/licenses/LICENSE-2.0
+ *
+ * Unless required by applicable law or agreed to in writing, software distributed under the License
+ * is distributed on an "AS IS" BASIS, WITHOUT WARRANTIES OR CONDITIONS OF ANY KIND, either express
+ * or implied. See the License for the specific language governing permissions and limitations under
+ * the License.
+ */
+
+package org.thinkit.framework.envali;
+
+import java.time.LocalDate;
+
+import org.thinkit.framework.envali.annotation.RequireBeforeField;
+import org.thinkit.framework.envali.annotation.RequireFieldsEqual;
+import org.thinkit.framework.envali.annotation.RequireLessThanField;
+import org.thinkit.framework.envali.catalog.ErrorType;
+import org.thinkit.framework.envali.entity.ValidatableEntity;
+
+/**
+ * The entity class that defines fields to be used when testing the class-level
+ * constraints that compare fields.
+ *
+ * @author Kato Shinya
+ * @since 1.0.5
+ */
+@RequireLessThanField(field = "minimum", otherField = "maximum")
+@RequireFieldsEqual(field = "password", otherField = "confirmation", errorType = ErrorType.RECOVERABLE,
+        message = "success")
+@RequireBeforeField(field = "startDate", otherField = "endDate", allowEqual = true,
+        errorType = ErrorType.UNRECOVERABLE, message = "success")
+final class CrossFieldEntityForTest implements ValidatableEntity {
+
+    /**
+     * The minimum number
+     */
+    private int minimum;
+
+    /**
+     * The maximum number
+     */
+    private int maximum;
+
+    /**
+     * The password
+     */
+    private String password;
+
+    /**
+     * The confirmation of password
+     */
+    private String confirmation;
+
+    /**
+     * The start date
+     */
+    private LocalDate startDate;
+
+    /**
+     * The end date
+     */
+    private LocalDate endDate;
+
+    /**
+     * Constructor
+     *
+     * @param minimum      The minimum number
+     * @param maximum      The maximum number
+     * @param password     The password
+     * @param confirmation The confirmation of password
+     * @param startDate    The start date
+     * @param endDate      The end date
+     */
+    public CrossFieldEntityForTest(int minimum, int maximum, String password, String confirmation,
+            LocalDate startDate, LocalDate endDate) {
+        this.minimum = minimum;
+        this.maximum = maximum;
+        this.password = password;
+        this.confirmation = confirmation;
+        this.startDate = startDate;
+        this.endDate = endDate;
+    }
+}
@@ -0,0 +1,75 @@
+/*
+ * Copyright 2020 Kato Shinya.
+ *
+ * Licensed under the Apache License, Version 2.0 (the "License"); you may not use this file except
+ * in compliance with the License. You may obtain a copy of the License at
+ *
+ *     http://www.apache.org/licenses/LICENSE-2.0
+ *
+ * Unless required by applicable law or agreed to in writing, software distributed under the License
+ * is distributed on an "AS IS" BASIS, WITHOUT WARRANTIES OR CONDITIONS OF ANY KIND, either express
+ * or implied. See the License for the specific language governing permissions and limitations under
+ * the License.
+ */
+
+package org.thinkit.framework.envali;
+
+import java.math.BigDecimal;
+import java.math.BigInteger;
+import java.util.List;
+
+import org.thinkit.framework.envali.annotation.RequireRangeFrom;
+import org.thinkit.framework.envali.annotation.RequireRangeFromTo;
+import org.thinkit.framework.envali.annotation.RequireRangeTo;
+import org.thinkit.framework.envali.catalog.ErrorType;
+import org.thinkit.framework.envali.entity.ValidatableEntity;
+
+/**
+ * The entity class that defines {@link BigDecimal} and {@link BigInteger}
+ * fields to be used when testing the range constraints.
+ *
+ * @author Kato Shinya
+ * @since 1.0.5
+ */
+final class DecimalRangeEntityForTest implements ValidatableEntity {
+
+    /**
+     * The amount
+     */
+    @RequireRangeFromTo(bigDecimalFrom = "0.00", bigDecimalTo = "1000000.00", errorType = ErrorType.RECOVERABLE,
+            message = "amount")
+    private BigDecimal amount;
+
+    /**
+     * The count
+     */
+    @RequireRangeFrom(bigIntegerFrom = "1")
+    private BigInteger count;
+
+    /**
+     * The total
+     */
+    @RequireRangeTo(bigDecimalTo = "1E+30", errorType = ErrorType.UNRECOVERABLE, message = "total")
+    private BigDecimal total;
+
+    /**
+     * The rates
+     */
+    private List<@RequireRangeFrom(bigDecimalFrom = "0.5", errorType = ErrorType.RECOVERABLE,
+            message = "rate") BigDecimal> rates;
+
+    /**
+     * Constructor
+     *
+     * @param amount The amount
+     * @param count  The count
+     * @param total  The total
+     * @param rates  The rates
+     */
+    public DecimalRangeEntityForTest(BigDecimal amount, BigInteger count, BigDecimal total, List<BigDecimal> rates) {
+        this.amount = amount;
+        this.count = count;
+        this.total = total;
+        this.rates = rates;
+    }
+}
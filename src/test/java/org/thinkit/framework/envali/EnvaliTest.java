@@ -17,25 +17,63 @@ package org.thinkit.framework.envali;
 import static org.junit.jupiter.api.Assertions.assertDoesNotThrow;
 import static org.junit.jupiter.api.Assertions.assertEquals;
 import static org.junit.jupiter.api.Assertions.assertNotNull;
+import static org.junit.jupiter.api.Assertions.assertNull;
 import static org.junit.jupiter.api.Assertions.assertThrows;
 import static org.junit.jupiter.api.Assertions.assertTrue;
 
+import java.io.ByteArrayOutputStream;
+import java.io.IOException;
+import java.io.InputStream;
+import java.lang.ref.WeakReference;
+import java.lang.reflect.Constructor;
+import java.math.BigDecimal;
+import java.math.BigInteger;
+import java.nio.charset.StandardCharsets;
+import java.nio.file.Files;
+import java.nio.file.Path;
+import java.nio.file.StandardCopyOption;
+import java.time.LocalDate;
+import java.util.ArrayList;
+import java.util.Arrays;
 import java.util.List;
 import java.util.Map;
 import java.util.Set;
+import java.util.logging.Handler;
+import java.util.logging.Level;
+import java.util.logging.LogRecord;
+import java.util.logging.Logger;
+import java.util.stream.DoubleStream;
+import java.util.stream.IntStream;
+import java.util.stream.LongStream;
 import java.util.stream.Stream;
 
 import org.junit.jupiter.api.Nested;
 import org.junit.jupiter.api.Test;
 import org.junit.jupiter.api.TestInstance;
 import org.junit.jupiter.api.TestInstance.Lifecycle;
+import org.junit.jupiter.api.io.TempDir;
 import org.junit.jupiter.params.ParameterizedTest;
 import org.junit.jupiter.params.provider.Arguments;
 import org.junit.jupiter.params.provider.MethodSource;
 import org.junit.jupiter.params.provider.ValueSource;
 import org.thinkit.common.base.precondition.exception.PreconditionFailedException;
+import org.thinkit.framework.envali.catalog.ChecksumAlgorithm;
+import org.thinkit.framework.envali.catalog.EnvaliContentAttribute;
+import org.thinkit.framework.envali.catalog.ErrorType;
+import org.thinkit.framework.envali.entity.ValidatableEntity;
+import org.thinkit.framework.envali.exception.ContentNotFoundException;
+import org.thinkit.framework.envali.helper.EnvaliChecksumHelper;
+import org.thinkit.framework.envali.helper.EnvaliContentRegistry;
+import org.thinkit.framework.envali.helper.EnvaliDataset;
+import org.thinkit.framework.envali.helper.EnvaliFieldHelper;
+import org.thinkit.framework.envali.helper.EnvaliValueSet;
 import org.thinkit.framework.envali.result.BusinessError;
 import org.thinkit.framework.envali.result.ValidationResult;
+import org.thinkit.framework.envali.result.ValidationResultCodec;
+import org.thinkit.framework.envali.source.ContentProfile;
+import org.thinkit.framework.envali.source.ContentSource;
+import org.thinkit.framework.envali.source.FileSystemContentSource;
+import org.thinkit.framework.envali.source.MapContentSource;
 
 /**
  * The test class that manages test cases for {@link Envali} interface.
@@ -230,7 +268,7 @@ public final class EnvaliTest {
 
             assertNotNull(exception);
             assertEquals(
-                    "The org.thinkit.framework.envali.annotation.RequireRangeFrom annotation supports Integer, Long, Short, Byte, Float, Double type, but was specified for the variable org.thinkit.framework.envali.UnsupportedRequireRangeFromForTest#literal of type java.lang.String.",
+                    "The org.thinkit.framework.envali.annotation.RequireRangeFrom annotation supports Integer, Long, Short, Byte, Float, Double, BigDecimal, BigInteger type, but was specified for the variable org.thinkit.framework.envali.UnsupportedRequireRangeFromForTest#literal of type java.lang.String.",
                     exception.getMessage());
         }
     }
@@ -323,7 +361,7 @@ public final class EnvaliTest {
 
             assertNotNull(exception);
             assertEquals(
-                    "The org.thinkit.framework.envali.annotation.RequireRangeTo annotation supports Integer, Long, Short, Byte, Float, Double type, but was specified for the variable org.thinkit.framework.envali.UnsupportedRequireRangeToForTest#sb of type java.lang.StringBuilder.",
+                    "The org.thinkit.framework.envali.annotation.RequireRangeTo annotation supports Integer, Long, Short, Byte, Float, Double, BigDecimal, BigInteger type, but was specified for the variable org.thinkit.framework.envali.UnsupportedRequireRangeToForTest#sb of type java.lang.StringBuilder.",
                     exception.getMessage());
         }
     }
@@ -418,7 +456,7 @@ public final class EnvaliTest {
 
             assertNotNull(exception);
             assertEquals(
-                    "The org.thinkit.framework.envali.annotation.RequireRangeFromTo annotation supports Integer, Long, Short, Byte, Float, Double type, but was specified for the variable org.thinkit.framework.envali.UnsupportedRequireRangeFromToForTest#object of type java.lang.Object.",
+                    "The org.thinkit.framework.envali.annotation.RequireRangeFromTo annotation supports Integer, Long, Short, Byte, Float, Double, BigDecimal, BigInteger type, but was specified for the variable org.thinkit.framework.envali.UnsupportedRequireRangeFromToForTest#object of type java.lang.Object.",
                     exception.getMessage());
         }
     }
@@ -2837,4 +2875,1744 @@ public final class EnvaliTest {
                     () -> Envali.validate(AnnotationParamRequireRangeFromToForTest.ofDouble(parameter)));
         }
     }
+
+    @Nested
+    class TestPreload {
+
+        @Test
+        void testWhenEntitiesAreSupported() {
+            assertDoesNotThrow(() -> Envali.preload(RequireRangeFromToForTest.class, NestedEntityForTest.class,
+                    NestedParameterizedValidatableEntityForTest.class));
+        }
+
+        @Test
+        void testWhenDataTypeIsNotSupported() {
+            final UnsupportedOperationException exception = assertThrows(UnsupportedOperationException.class,
+                    () -> Envali.preload(RequireNonNullForTest.class, UnsupportedRequireNonBlankForTest.class));
+
+            assertNotNull(exception);
+            assertEquals(
+                    "The org.thinkit.framework.envali.annotation.RequireNonBlank annotation supports String type, but was specified for the variable org.thinkit.framework.envali.UnsupportedRequireNonBlankForTest#number of type int.",
+                    exception.getMessage());
+        }
+
+        @Test
+        void testWhenNestedEntityIsNotSupported() {
+            assertThrows(UnsupportedOperationException.class,
+                    () -> Envali.preload(NestedEntityWithNotValidatableEntityForTest.class));
+        }
+
+        @Test
+        void testPreloadPackage() {
+            assertDoesNotThrow(() -> Envali.preloadPackage("org.thinkit.framework.envali.regex"));
+        }
+
+        @Test
+        void testPreloadPackageWhenDataTypeIsNotSupported() {
+            assertThrows(UnsupportedOperationException.class,
+                    () -> Envali.preloadPackage("org.thinkit.framework.envali.unsupported"));
+        }
+    }
+
+    @Nested
+    class TestArchive {
+
+        @Test
+        void testWriteAndLoadArchive(@TempDir final Path tempDir) {
+            final Path archivePath = tempDir.resolve("envali.archive");
+
+            Envali.writeArchive(archivePath, RequireRangeFromToForTest.class, RequireEndWithForTest.class,
+                    RequireNonNullForTest.class);
+            Envali.loadArchive(archivePath);
+
+            assertTrue(archivePath.toFile().length() > 0);
+            assertDoesNotThrow(() -> Envali.validate(RequireRangeFromToForTest.ofInt(10)));
+            assertThrows(PreconditionFailedException.class,
+                    () -> Envali.validate(RequireRangeFromToForTest.ofInt(11)));
+        }
+
+        @Test
+        void testWriteAndLoadArchiveOfElementConstraints(@TempDir final Path tempDir) {
+            final Path archivePath = tempDir.resolve("envali.archive");
+
+            Envali.writeArchive(archivePath, ContentContainerElementForTest.class);
+            Envali.loadArchive(archivePath);
+
+            assertTrue(!Envali.validate(new ContentContainerElementForTest(List.of(1, 2))).hasError());
+            assertEquals("score", Envali.validate(new ContentContainerElementForTest(List.of(1, 0)))
+                    .getError(ContentContainerElementForTest.class).get(0).getMessage());
+        }
+
+        @Test
+        void testWhenArchiveIsMalformed(@TempDir final Path tempDir) throws IOException {
+            final Path archivePath = Files.write(tempDir.resolve("envali.archive"), new byte[] { 1, 2, 3, 4, 5 });
+            assertThrows(IllegalStateException.class, () -> Envali.loadArchive(archivePath));
+        }
+
+        @ParameterizedTest
+        @ValueSource(strings = { "01ffffff0f", "01ffffff07", "01ffffffff0f", "ffffffff0f", "0105414243" })
+        void testWhenArchiveLengthIsMalformed(final String body, @TempDir final Path tempDir) throws IOException {
+            final byte[] header = new byte[] { 0x45, 0x4E, 0x56, 0x41, 1 };
+            final byte[] bytes = Arrays.copyOf(header, header.length + body.length() / 2);
+
+            for (int i = 0; i < body.length() / 2; i++) {
+                bytes[header.length + i] = (byte) Integer.parseInt(body.substring(i * 2, i * 2 + 2), 16);
+            }
+
+            final Path archivePath = Files.write(tempDir.resolve("envali.archive"), bytes);
+            assertThrows(IllegalStateException.class, () -> Envali.loadArchive(archivePath));
+        }
+    }
+
+    @Nested
+    class TestValidationResultCodec {
+
+        @Test
+        void testEncodeAndDecodeNestedResult() {
+            final ValidationResult validationResult = Envali
+                    .validate(new NestedParameterizedValidatableEntityForTest(List.of(new RequireNegativeForTest(-1)),
+                            Map.of("test", new RecoverableRequireNegativeForTest(0)),
+                            Set.of(new UnrecoverableRequireNegativeForTest(0))));
+
+            final ValidationResult decodedValidationResult = ValidationResultCodec
+                    .decode(ValidationResultCodec.encode(validationResult));
+
+            assertEquals(validationResult, decodedValidationResult);
+            assertTrue(decodedValidationResult.hasError());
+        }
+
+        @Test
+        void testEncodeAndDecodeInternedValues() {
+            final ValidationResult validationResult = ValidationResult
+                    .of(Map.of(RecoverableRequireNegativeForTest.class,
+                            List.of(BusinessError.recoverable("success"), BusinessError.unrecoverable("success"),
+                                    BusinessError.nestedError(ValidationResult.of(Map.of(
+                                            RecoverableRequireNegativeForTest.class,
+                                            List.of(BusinessError.recoverable("success"))))))));
+
+            assertEquals(validationResult,
+                    ValidationResultCodec.decode(ValidationResultCodec.encode(validationResult)));
+        }
+
+        @Test
+        void testEncodeAndDecodeEmptyResult() {
+            assertEquals(ValidationResult.none(),
+                    ValidationResultCodec.decode(ValidationResultCodec.encode(ValidationResult.none())));
+        }
+
+        @Test
+        void testWhenEncodedResultIsMalformed() {
+            assertThrows(IllegalStateException.class, () -> ValidationResultCodec.decode(new byte[] { 1, 1, 0 }));
+            assertThrows(IllegalStateException.class, () -> ValidationResultCodec.decode(new byte[] { 9 }));
+        }
+
+        @Test
+        void testWhenEncodedResultIsNestedTooDeeply() {
+            final byte[] entityName = RecoverableRequireNegativeForTest.class.getName()
+                    .getBytes(StandardCharsets.UTF_8);
+            final ByteArrayOutputStream output = new ByteArrayOutputStream();
+            output.writeBytes(new byte[] { 1, 1, 0, (byte) entityName.length });
+            output.writeBytes(entityName);
+            output.writeBytes(new byte[] { 1, 3 });
+
+            for (int i = 0; i < 100_000; i++) {
+                // An entity interned as the first reference with a nested error
+                output.writeBytes(new byte[] { 1, 1, 1, 3 });
+            }
+
+            assertThrows(IllegalStateException.class, () -> ValidationResultCodec.decode(output.toByteArray()));
+        }
+
+        @Test
+        void testWhenEncodedResultIsNestedDeeply() {
+            ValidationResult validationResult = ValidationResult.of(
+                    Map.of(RecoverableRequireNegativeForTest.class, List.of(BusinessError.recoverable("success"))));
+
+            for (int i = 0; i < 256; i++) {
+                validationResult = ValidationResult.of(Map.of(RecoverableRequireNegativeForTest.class,
+                        List.of(BusinessError.nestedError(validationResult))));
+            }
+
+            final byte[] bytes = ValidationResultCodec.encode(validationResult);
+
+            assertEquals(validationResult, ValidationResultCodec.decode(bytes));
+
+            final ValidationResult deeperValidationResult = ValidationResult.of(Map
+                    .of(RecoverableRequireNegativeForTest.class, List.of(BusinessError.nestedError(validationResult))));
+
+            assertThrows(IllegalStateException.class,
+                    () -> ValidationResultCodec.decode(ValidationResultCodec.encode(deeperValidationResult)));
+        }
+
+        @Test
+        void testWhenEncodedCountIsMalformed() {
+            assertThrows(IllegalStateException.class, () -> ValidationResultCodec
+                    .decode(new byte[] { 1, (byte) 0xFF, (byte) 0xFF, (byte) 0xFF, (byte) 0xFF, 0x0F }));
+            assertThrows(IllegalStateException.class, () -> ValidationResultCodec
+                    .decode(new byte[] { 1, (byte) 0xFF, (byte) 0xFF, (byte) 0xFF, (byte) 0xFF, 0x07 }));
+            assertThrows(IllegalStateException.class, () -> ValidationResultCodec.decode(
+                    new byte[] { 1, (byte) 0x80, (byte) 0x80, (byte) 0x80, (byte) 0x80, (byte) 0x80, 0x01 }));
+            assertThrows(IllegalStateException.class,
+                    () -> ValidationResultCodec.decode(new byte[] { 1, 1, 0, (byte) 0xFF, (byte) 0xFF, (byte) 0xFF,
+                            (byte) 0xFF, 0x0F }));
+        }
+    }
+
+    @Nested
+    class TestValidationResultIndex {
+
+        @Test
+        void testGetErrorReturnsAllNestedOccurrences() {
+            final ValidationResult firstNestedResult = ValidationResult.of(
+                    Map.of(RecoverableRequireNegativeForTest.class, List.of(BusinessError.recoverable("first"))));
+            final ValidationResult secondNestedResult = ValidationResult.of(
+                    Map.of(RecoverableRequireNegativeForTest.class, List.of(BusinessError.recoverable("second"))));
+            final ValidationResult validationResult = ValidationResult.of(Map.of(NestedEntityForTest.class,
+                    List.of(BusinessError.nestedError(firstNestedResult),
+                            BusinessError.nestedError(ValidationResult.of(Map.of(
+                                    UnrecoverableRequireNegativeForTest.class,
+                                    List.of(BusinessError.nestedError(secondNestedResult))))))));
+
+            final List<BusinessError> businessErrors = validationResult
+                    .getError(RecoverableRequireNegativeForTest.class);
+
+            assertEquals(2, businessErrors.size());
+            assertEquals("first", businessErrors.get(0).getMessage());
+            assertEquals("second", businessErrors.get(1).getMessage());
+            assertEquals(1, validationResult.getError(UnrecoverableRequireNegativeForTest.class).size());
+            assertEquals(2, validationResult.getError(NestedEntityForTest.class).size());
+            assertTrue(validationResult.getError(RequireNegativeForTest.class).isEmpty());
+        }
+    }
+
+    @Nested
+    class TestInheritedField {
+
+        @Test
+        void testWhenInheritedFieldsAreValid() {
+            assertDoesNotThrow(() -> Envali.validate(new InheritedEntityForTest("id", 1, "name")));
+        }
+
+        @Test
+        void testWhenInheritedFieldIsNull() {
+            assertThrows(NullPointerException.class,
+                    () -> Envali.validate(new InheritedEntityForTest(null, 1, "name")));
+        }
+
+        @Test
+        void testWhenInheritedFieldIsNegative() {
+            assertThrows(PreconditionFailedException.class,
+                    () -> Envali.validate(new InheritedEntityForTest("id", -1, "name")));
+        }
+
+        @Test
+        void testWhenDeclaredFieldIsEmpty() {
+            assertThrows(PreconditionFailedException.class,
+                    () -> Envali.validate(new InheritedEntityForTest("id", 1, "")));
+        }
+    }
+
+    @Nested
+    class TestRecord {
+
+        @Test
+        void testWhenComponentsAreValid() {
+            assertDoesNotThrow(
+                    () -> Envali.validate(new RecordEntityForTest("test", 1, List.of(new RequireNegativeForTest(-1)))));
+        }
+
+        @Test
+        void testWhenComponentIsNull() {
+            assertThrows(NullPointerException.class,
+                    () -> Envali.validate(new RecordEntityForTest(null, 1, List.of(new RequireNegativeForTest(-1)))));
+        }
+
+        @Test
+        void testWhenComponentIsNegative() {
+            assertThrows(PreconditionFailedException.class, () -> Envali
+                    .validate(new RecordEntityForTest("test", -1, List.of(new RequireNegativeForTest(-1)))));
+        }
+
+        @Test
+        void testWhenNestedComponentIsNotValidatable() {
+            assertThrows(PreconditionFailedException.class,
+                    () -> Envali.validate(new RecordEntityForTest("test", 1, List.of(new RequireNegativeForTest(0)))));
+        }
+
+        @Test
+        void testWhenPrimitiveComponentsAreValid() {
+            assertDoesNotThrow(
+                    () -> Envali.validate(new PrimitiveRecordEntityForTest(Long.MAX_VALUE, Integer.MIN_VALUE, 0.5)));
+        }
+
+        @Test
+        void testWhenLongComponentIsOutOfRange() {
+            assertThrows(PreconditionFailedException.class, () -> Envali
+                    .validate(new PrimitiveRecordEntityForTest(Long.MAX_VALUE - 2, Integer.MIN_VALUE, 0.5)));
+        }
+
+        @Test
+        void testWhenIntComponentIsOutOfRange() {
+            assertThrows(PreconditionFailedException.class, () -> Envali
+                    .validate(new PrimitiveRecordEntityForTest(Long.MAX_VALUE, Integer.MIN_VALUE + 2, 0.5)));
+        }
+
+        @Test
+        void testWhenPrimitiveComponentsAreRead() throws NoSuchFieldException {
+
+            final PrimitiveRecordEntityForTest entity = new PrimitiveRecordEntityForTest(Long.MAX_VALUE,
+                    Integer.MIN_VALUE, 0.5);
+
+            final Class<PrimitiveRecordEntityForTest> entityClass = PrimitiveRecordEntityForTest.class;
+
+            assertEquals(Long.MAX_VALUE,
+                    EnvaliFieldHelper.of(entityClass, entityClass.getDeclaredField("count")).getLong(entity));
+            assertEquals(Integer.MIN_VALUE,
+                    EnvaliFieldHelper.of(entityClass, entityClass.getDeclaredField("offset")).getInt(entity));
+            assertEquals(0.5,
+                    EnvaliFieldHelper.of(entityClass, entityClass.getDeclaredField("ratio")).getDouble(entity));
+        }
+    }
+
+    @Nested
+    class TestGetterAccess {
+
+        @Test
+        void testWhenLazyPropertiesAreValid() {
+            assertDoesNotThrow(() -> Envali.validate(new GetterAccessEntityForTest(-1)));
+        }
+
+        @Test
+        void testWhenLazyPropertyIsNotValid() {
+            assertThrows(PreconditionFailedException.class, () -> Envali.validate(new GetterAccessEntityForTest(0)));
+        }
+
+        @Test
+        void testWhenGetterIsNotFound() {
+            final UnsupportedOperationException exception = assertThrows(UnsupportedOperationException.class,
+                    () -> Envali.validate(new GetterNotFoundEntityForTest()));
+
+            assertNotNull(exception);
+            assertEquals(
+                    "The getter getLiteral() for the variable org.thinkit.framework.envali.GetterNotFoundEntityForTest#literal was not found.",
+                    exception.getMessage());
+        }
+
+        @Test
+        void testWhenEntityIsLoadedBySeparateClassLoader() throws Exception {
+
+            final Constructor<?> constructor = this.loadInSeparateClassLoader(GetterAccessEntityForTest.class)
+                    .getDeclaredConstructor(int.class);
+            constructor.setAccessible(true);
+
+            assertDoesNotThrow(() -> Envali.validate((ValidatableEntity) constructor.newInstance(-1)));
+            assertThrows(PreconditionFailedException.class,
+                    () -> Envali.validate((ValidatableEntity) constructor.newInstance(0)));
+        }
+
+        private Class<?> loadInSeparateClassLoader(Class<?> entityClass) throws Exception {
+
+            final String className = entityClass.getName();
+            final byte[] classBytes;
+
+            try (InputStream inputStream = EnvaliTest.class.getClassLoader()
+                    .getResourceAsStream(className.replace('.', '/') + ".class")) {
+                classBytes = inputStream.readAllBytes();
+            }
+
+            final ClassLoader classLoader = new ClassLoader(EnvaliTest.class.getClassLoader()) {
+
+                @Override
+                protected Class<?> loadClass(String name, boolean resolve) throws ClassNotFoundException {
+
+                    if (!name.equals(className)) {
+                        return super.loadClass(name, resolve);
+                    }
+
+                    synchronized (this.getClassLoadingLock(name)) {
+                        final Class<?> loadedClass = this.findLoadedClass(name);
+                        return loadedClass != null ? loadedClass
+                                : this.defineClass(name, classBytes, 0, classBytes.length);
+                    }
+                }
+            };
+
+            return classLoader.loadClass(className);
+        }
+    }
+
+    @Nested
+    class TestValidationGroup {
+
+        @Test
+        void testWhenNoGroupIsRequested() {
+            assertDoesNotThrow(() -> Envali.validate(new GroupedEntityForTest(null, "", 1)));
+            assertThrows(PreconditionFailedException.class,
+                    () -> Envali.validate(new GroupedEntityForTest(null, "", -1)));
+        }
+
+        @Test
+        void testWhenCreateGroupIsRequested() {
+            assertDoesNotThrow(() -> Envali.validate(new GroupedEntityForTest(null, "name", 1),
+                    GroupedEntityForTest.Create.class));
+            assertThrows(PreconditionFailedException.class,
+                    () -> Envali.validate(new GroupedEntityForTest("id", "", 1), GroupedEntityForTest.Create.class));
+        }
+
+        @Test
+        void testWhenUpdateGroupIsRequested() {
+            assertDoesNotThrow(
+                    () -> Envali.validate(new GroupedEntityForTest("id", "", 1), GroupedEntityForTest.Update.class));
+            assertThrows(NullPointerException.class, () -> Envali.validate(new GroupedEntityForTest(null, "name", 1),
+                    GroupedEntityForTest.Update.class));
+        }
+
+        @Test
+        void testWhenExtendingGroupIsRequested() {
+            assertThrows(NullPointerException.class, () -> Envali.validate(new GroupedEntityForTest(null, "name", 1),
+                    GroupedEntityForTest.PartialUpdate.class));
+        }
+
+        @Test
+        void testWhenMultipleGroupsAreRequested() {
+            assertThrows(PreconditionFailedException.class, () -> Envali.validate(
+                    new GroupedEntityForTest("id", "", 1), GroupedEntityForTest.Create.class,
+                    GroupedEntityForTest.Update.class));
+        }
+    }
+
+    @Nested
+    class TestCrossFieldConstraint {
+
+        private final LocalDate today = LocalDate.of(2020, 1, 1);
+
+        @Test
+        void testWhenFieldsAreValid() {
+            final ValidationResult validationResult = Envali
+                    .validate(new CrossFieldEntityForTest(1, 2, "secret", "secret", this.today, this.today));
+
+            assertNotNull(validationResult);
+            assertTrue(!validationResult.hasError());
+        }
+
+        @Test
+        void testWhenFieldIsNotLessThanOtherField() {
+            assertThrows(PreconditionFailedException.class, () -> Envali
+                    .validate(new CrossFieldEntityForTest(2, 2, "secret", "secret", this.today, this.today)));
+        }
+
+        @Test
+        void testWhenFieldsAreNotEqualOrNotInOrder() {
+            final ValidationResult validationResult = Envali.validate(new CrossFieldEntityForTest(1, 2, "secret",
+                    "other", this.today.plusDays(1), this.today));
+
+            assertNotNull(validationResult);
+            assertTrue(validationResult.hasError());
+
+            final List<BusinessError> businessErrors = validationResult.getError(CrossFieldEntityForTest.class);
+
+            assertEquals(2, businessErrors.size());
+            assertTrue(businessErrors.get(0).isRecoverable());
+            assertTrue(businessErrors.get(1).isUnrecoverable());
+        }
+
+        @Test
+        void testWhenDatesAreNull() {
+            assertDoesNotThrow(() -> Envali.validate(new CrossFieldEntityForTest(1, 2, null, null, null, null)));
+        }
+
+        @Test
+        void testWhenFieldsAreOfDifferentTypes() {
+            final UnsupportedOperationException exception = assertThrows(UnsupportedOperationException.class,
+                    () -> Envali.validate(new UnsupportedCrossFieldEntityForTest()));
+
+            assertNotNull(exception);
+            assertEquals(
+                    "The org.thinkit.framework.envali.annotation.RequireLessThanField annotation requires the fields of the same supported type, but was specified for the variables org.thinkit.framework.envali.UnsupportedCrossFieldEntityForTest#number of type int and org.thinkit.framework.envali.UnsupportedCrossFieldEntityForTest#literal of type java.lang.String.",
+                    exception.getMessage());
+        }
+    }
+
+    @Nested
+    class TestContainerElement {
+
+        @Test
+        void testWhenElementsAreValid() {
+            final ValidationResult validationResult = Envali.validate(new ContainerElementEntityForTest(
+                    List.of("name"), Map.of("user", 1), new String[] { "x1" }, new int[] { 10 }, List.of("tag")));
+
+            assertNotNull(validationResult);
+            assertTrue(!validationResult.hasError());
+        }
+
+        @Test
+        void testWhenContainersAreEmptyOrNull() {
+            final ValidationResult validationResult = Envali.validate(new ContainerElementEntityForTest(
+                    List.of("name"), null, null, new int[0], List.of("tag")));
+
+            assertNotNull(validationResult);
+            assertTrue(!validationResult.hasError());
+        }
+
+        @Test
+        void testWhenListElementIsBlank() {
+            final ValidationResult validationResult = Envali.validate(new ContainerElementEntityForTest(
+                    List.of("name", ""), Map.of(), new String[0], new int[0], List.of()));
+
+            assertNotNull(validationResult);
+            assertTrue(validationResult.hasError());
+
+            final List<BusinessError> businessErrors = validationResult
+                    .getError(ContainerElementEntityForTest.class);
+
+            assertEquals(1, businessErrors.size());
+            assertTrue(businessErrors.get(0).isRecoverable());
+            assertEquals("name", businessErrors.get(0).getMessage());
+        }
+
+        @Test
+        void testWhenMapKeyAndValueAreInvalid() {
+            final ValidationResult validationResult = Envali.validate(new ContainerElementEntityForTest(
+                    List.of("name"), Map.of("USER", 0), new String[0], new int[0], List.of()));
+
+            assertNotNull(validationResult);
+            assertTrue(validationResult.hasError());
+
+            final List<BusinessError> businessErrors = validationResult
+                    .getError(ContainerElementEntityForTest.class);
+
+            assertEquals(2, businessErrors.size());
+            assertTrue(businessErrors.get(0).isRecoverable());
+            assertEquals("user", businessErrors.get(0).getMessage());
+            assertTrue(businessErrors.get(1).isUnrecoverable());
+            assertEquals("score", businessErrors.get(1).getMessage());
+        }
+
+        @Test
+        void testWhenArrayComponentIsInvalid() {
+            assertThrows(PreconditionFailedException.class, () -> Envali.validate(new ContainerElementEntityForTest(
+                    List.of("name"), Map.of(), new String[] { "x1", "y2" }, new int[0], List.of())));
+        }
+
+        @Test
+        void testWhenPrimitiveArrayComponentIsInvalid() {
+            final ValidationResult validationResult = Envali.validate(new ContainerElementEntityForTest(
+                    List.of("name"), Map.of(), new String[0], new int[] { 1, 11 }, List.of()));
+
+            assertNotNull(validationResult);
+            assertTrue(validationResult.hasError());
+            assertEquals("number", validationResult.getError(ContainerElementEntityForTest.class).get(0).getMessage());
+        }
+
+        @Test
+        void testWhenElementIsNull() {
+            final ValidationResult validationResult = Envali
+                    .validate(new ContainerElementEntityForTest(new ArrayList<>(Arrays.asList("name", null)),
+                            Map.of(), new String[] { null }, new int[0], new ArrayList<>(Arrays.asList("tag", null))));
+
+            assertNotNull(validationResult);
+            assertTrue(validationResult.hasError());
+
+            final List<BusinessError> businessErrors = validationResult
+                    .getError(ContainerElementEntityForTest.class);
+
+            assertEquals(1, businessErrors.size());
+            assertEquals("tag", businessErrors.get(0).getMessage());
+        }
+
+        @Test
+        void testWhenElementTypeIsUnsupported() {
+            final UnsupportedOperationException exception = assertThrows(UnsupportedOperationException.class,
+                    () -> Envali.validate(new UnsupportedContainerElementEntityForTest()));
+
+            assertNotNull(exception);
+            assertEquals(
+                    "The org.thinkit.framework.envali.annotation.RequireNonBlank annotation supports String type, but was specified for the elements of the variable org.thinkit.framework.envali.UnsupportedContainerElementEntityForTest#numbers of type java.lang.Integer.",
+                    exception.getMessage());
+        }
+
+        @Test
+        void testWhenContentHasNoRowForElementsWithoutContent() {
+            assertTrue(!Envali.validate(new ContentFreeContainerElementForTest(List.of("name"))).hasError());
+            assertEquals("name", Envali.validate(new ContentFreeContainerElementForTest(List.of("name", "")))
+                    .getError(ContentFreeContainerElementForTest.class).get(0).getMessage());
+        }
+    }
+
+    @Nested
+    class TestPrimitiveArray {
+
+        private final int[] intSamples = IntStream.rangeClosed(-100, 100).toArray();
+
+        private final long[] longSamples = LongStream.range(0, 10_000).toArray();
+
+        private final float[] floatSamples = { -1.0f, -Float.MIN_VALUE, Float.NaN };
+
+        private final double[] doubleSamples = DoubleStream.iterate(0.5, value -> value + 0.0001).limit(10_001)
+                .toArray();
+
+        @Test
+        void testWhenSamplesAreInRange() {
+            final ValidationResult validationResult = Envali.validate(new PrimitiveArrayEntityForTest(
+                    this.intSamples, this.longSamples, this.floatSamples, this.doubleSamples));
+
+            assertNotNull(validationResult);
+            assertTrue(!validationResult.hasError());
+        }
+
+        @Test
+        void testWhenSamplesAreEmptyOrNull() {
+            final ValidationResult validationResult = Envali
+                    .validate(new PrimitiveArrayEntityForTest(new int[0], null, new float[0], null));
+
+            assertNotNull(validationResult);
+            assertTrue(!validationResult.hasError());
+        }
+
+        @ParameterizedTest
+        @ValueSource(ints = { 0, 7, 8, 200 })
+        void testWhenIntSampleIsOutOfRange(int index) {
+
+            final int[] intSamples = this.intSamples.clone();
+            intSamples[index] = 101;
+
+            final ValidationResult validationResult = Envali.validate(new PrimitiveArrayEntityForTest(intSamples,
+                    this.longSamples, this.floatSamples, this.doubleSamples));
+
+            assertNotNull(validationResult);
+            assertTrue(validationResult.hasError());
+            assertEquals("int", validationResult.getError(PrimitiveArrayEntityForTest.class).get(0).getMessage());
+        }
+
+        @Test
+        void testWhenLongSampleIsNegative() {
+
+            final long[] longSamples = this.longSamples.clone();
+            longSamples[longSamples.length - 1] = -1L;
+
+            final ValidationResult validationResult = Envali.validate(new PrimitiveArrayEntityForTest(
+                    this.intSamples, longSamples, this.floatSamples, this.doubleSamples));
+
+            assertNotNull(validationResult);
+            assertTrue(validationResult.hasError());
+            assertEquals("long", validationResult.getError(PrimitiveArrayEntityForTest.class).get(0).getMessage());
+        }
+
+        @ParameterizedTest
+        @ValueSource(ints = { 0, 1023, 1024, 9216 })
+        void testWhenLongSampleAtBlockBoundaryIsNegative(int index) {
+
+            final long[] longSamples = this.longSamples.clone();
+            longSamples[index] = Long.MIN_VALUE;
+
+            final ValidationResult validationResult = Envali.validate(new PrimitiveArrayEntityForTest(
+                    this.intSamples, longSamples, this.floatSamples, this.doubleSamples));
+
+            assertNotNull(validationResult);
+            assertTrue(validationResult.hasError());
+            assertEquals("long", validationResult.getError(PrimitiveArrayEntityForTest.class).get(0).getMessage());
+        }
+
+        @Test
+        void testWhenDoubleSampleIsNaN() {
+
+            final double[] doubleSamples = this.doubleSamples.clone();
+            doubleSamples[1024] = Double.NaN;
+
+            final ValidationResult validationResult = Envali.validate(new PrimitiveArrayEntityForTest(
+                    this.intSamples, this.longSamples, this.floatSamples, doubleSamples));
+
+            assertNotNull(validationResult);
+            assertTrue(!validationResult.hasError());
+        }
+
+        @ParameterizedTest
+        @ValueSource(floats = { 0.0f, -0.0f, Float.MIN_VALUE })
+        void testWhenFloatSampleIsNotNegative(float sample) {
+
+            final ValidationResult validationResult = Envali.validate(new PrimitiveArrayEntityForTest(
+                    this.intSamples, this.longSamples, new float[] { -1.0f, sample }, this.doubleSamples));
+
+            assertNotNull(validationResult);
+            assertTrue(validationResult.hasError());
+            assertEquals("float", validationResult.getError(PrimitiveArrayEntityForTest.class).get(0).getMessage());
+        }
+
+        @Test
+        void testWhenDoubleSamplesAreOutOfBothBounds() {
+
+            final double[] doubleSamples = this.doubleSamples.clone();
+            doubleSamples[0] = 0.4;
+            doubleSamples[doubleSamples.length - 1] = 1.6;
+
+            final ValidationResult validationResult = Envali.validate(new PrimitiveArrayEntityForTest(
+                    this.intSamples, this.longSamples, this.floatSamples, doubleSamples));
+
+            assertNotNull(validationResult);
+            assertTrue(validationResult.hasError());
+
+            final List<BusinessError> businessErrors = validationResult.getError(PrimitiveArrayEntityForTest.class);
+
+            assertEquals(2, businessErrors.size());
+            assertTrue(businessErrors.get(0).isRecoverable());
+            assertTrue(businessErrors.get(1).isUnrecoverable());
+        }
+    }
+
+    @Nested
+    class TestDecimalRange {
+
+        @ParameterizedTest
+        @ValueSource(strings = { "0", "0.00", "123.45", "1000000", "1000000.00", "999999.999999" })
+        void testWhenAmountIsInRange(String amount) {
+            final ValidationResult validationResult = Envali.validate(new DecimalRangeEntityForTest(
+                    new BigDecimal(amount), BigInteger.ONE, BigDecimal.ONE, List.of(BigDecimal.ONE)));
+
+            assertNotNull(validationResult);
+            assertTrue(!validationResult.hasError());
+        }
+
+        @ParameterizedTest
+        @ValueSource(strings = { "-1", "-0.01", "1000000.01", "1000001", "1E+7" })
+        void testWhenAmountIsOutOfRange(String amount) {
+            final ValidationResult validationResult = Envali.validate(new DecimalRangeEntityForTest(
+                    new BigDecimal(amount), BigInteger.ONE, BigDecimal.ONE, List.of(BigDecimal.ONE)));
+
+            assertNotNull(validationResult);
+            assertTrue(validationResult.hasError());
+            assertEquals("amount", validationResult.getError(DecimalRangeEntityForTest.class).get(0).getMessage());
+        }
+
+        @Test
+        void testWhenCountIsUnderLowerLimit() {
+            assertThrows(PreconditionFailedException.class, () -> Envali.validate(new DecimalRangeEntityForTest(
+                    BigDecimal.ONE, BigInteger.ZERO, BigDecimal.ONE, List.of(BigDecimal.ONE))));
+        }
+
+        @Test
+        void testWhenValuesAreNotRepresentableAsLong() {
+            final ValidationResult validationResult = Envali.validate(new DecimalRangeEntityForTest(BigDecimal.ONE,
+                    BigInteger.TWO.pow(100), new BigDecimal("2E+30"), List.of(BigDecimal.ONE)));
+
+            assertNotNull(validationResult);
+            assertTrue(validationResult.hasError());
+
+            final List<BusinessError> businessErrors = validationResult.getError(DecimalRangeEntityForTest.class);
+
+            assertEquals(1, businessErrors.size());
+            assertTrue(businessErrors.get(0).isUnrecoverable());
+            assertEquals("total", businessErrors.get(0).getMessage());
+        }
+
+        @Test
+        void testWhenValuesAreNull() {
+            final ValidationResult validationResult = Envali
+                    .validate(new DecimalRangeEntityForTest(null, null, null, null));
+
+            assertNotNull(validationResult);
+            assertTrue(!validationResult.hasError());
+        }
+
+        @Test
+        void testWhenElementIsUnderLowerLimit() {
+            final ValidationResult validationResult = Envali.validate(new DecimalRangeEntityForTest(BigDecimal.ONE,
+                    BigInteger.ONE, BigDecimal.ONE, List.of(new BigDecimal("0.5"), new BigDecimal("0.49"))));
+
+            assertNotNull(validationResult);
+            assertTrue(validationResult.hasError());
+            assertEquals("rate", validationResult.getError(DecimalRangeEntityForTest.class).get(0).getMessage());
+        }
+
+        @Test
+        void testWhenIntegerElementIsUnderFractionalLowerLimit() {
+            final ValidationResult validationResult = Envali.validate(new DecimalRangeEntityForTest(BigDecimal.ONE,
+                    BigInteger.ONE, BigDecimal.ONE, List.of(BigDecimal.ZERO)));
+
+            assertNotNull(validationResult);
+            assertTrue(validationResult.hasError());
+        }
+    }
+
+    @Nested
+    class TestRequireSize {
+
+        @Test
+        void testWhenSizesAreWithinRange() {
+            final ValidationResult validationResult = Envali.validate(new RequireSizeForTest("abcde",
+                    new StringBuilder("abc"), List.of("abc", ""), Map.of("key", "value"), new byte[4]));
+
+            assertNotNull(validationResult);
+            assertTrue(!validationResult.hasError());
+        }
+
+        @Test
+        void testWhenValuesAreNull() {
+            final ValidationResult validationResult = Envali
+                    .validate(new RequireSizeForTest(null, null, null, null, null));
+
+            assertNotNull(validationResult);
+            assertTrue(!validationResult.hasError());
+        }
+
+        @Test
+        void testWhenSizesAreOutOfRange() {
+            final ValidationResult validationResult = Envali.validate(new RequireSizeForTest("",
+                    new StringBuilder("abcd"), List.of("abcd"), Map.of("key1", "value", "key2", "value"),
+                    new byte[5]));
+
+            assertNotNull(validationResult);
+            assertTrue(validationResult.hasError());
+
+            final List<BusinessError> businessErrors = validationResult.getError(RequireSizeForTest.class);
+
+            assertEquals(5, businessErrors.size());
+            assertEquals("literal", businessErrors.get(0).getMessage());
+            assertEquals("builder", businessErrors.get(1).getMessage());
+            assertTrue(businessErrors.get(1).isUnrecoverable());
+            assertEquals("map", businessErrors.get(2).getMessage());
+            assertEquals("bytes", businessErrors.get(3).getMessage());
+            assertEquals("element", businessErrors.get(4).getMessage());
+        }
+
+        @Test
+        void testWhenListIsTooLarge() {
+            assertThrows(PreconditionFailedException.class, () -> Envali
+                    .validate(new RequireSizeForTest("a", null, List.of("a", "b", "c"), null, null)));
+        }
+
+        @Test
+        void testWhenTypeIsUnsupported() {
+            final UnsupportedOperationException exception = assertThrows(UnsupportedOperationException.class,
+                    () -> Envali.validate(new UnsupportedRequireSizeForTest()));
+
+            assertNotNull(exception);
+            assertEquals(
+                    "The org.thinkit.framework.envali.annotation.RequireSize annotation supports CharSequence, Array, Collection, Map type, but was specified for the variable org.thinkit.framework.envali.UnsupportedRequireSizeForTest#number of type int.",
+                    exception.getMessage());
+        }
+
+        @Test
+        void testWhenMinimumIsGreaterThanMaximum() {
+            final UnsupportedOperationException exception = assertThrows(UnsupportedOperationException.class,
+                    () -> Envali.validate(new InvalidRequireSizeForTest()));
+
+            assertNotNull(exception);
+            assertEquals(
+                    "The org.thinkit.framework.envali.annotation.RequireSize annotation requires 0 <= min <= max, but was min = 2 and max = 1 for the variable org.thinkit.framework.envali.InvalidRequireSizeForTest#literal.",
+                    exception.getMessage());
+        }
+    }
+
+    @Nested
+    class TestWatchContent {
+
+        @Test
+        void testWhenReloadedContentIsMalformed() {
+            final Logger logger = Logger.getLogger(ValidationPlan.class.getName());
+            final List<LogRecord> logRecords = new ArrayList<>();
+            final Handler handler = new Handler() {
+
+                @Override
+                public void publish(LogRecord logRecord) {
+                    logRecords.add(logRecord);
+                }
+
+                @Override
+                public void flush() {
+                }
+
+                @Override
+                public void close() {
+                }
+            };
+
+            assertTrue(!Envali.validate(new WatchedContentForTest(0)).hasError());
+
+            final ContentSource contentSource = MapContentSource.of(Map.of("WatchedContentForTest",
+                    Map.of("number", Map.of(EnvaliContentAttribute.RANGE_FROM, "abc"))));
+            logger.addHandler(handler);
+
+            try {
+                Envali.addContentSource(contentSource);
+
+                assertTrue(!Envali.validate(new WatchedContentForTest(0)).hasError());
+                assertEquals(1, logRecords.size());
+                assertEquals(Level.WARNING, logRecords.get(0).getLevel());
+                assertTrue(logRecords.get(0).getThrown() instanceof UnsupportedOperationException);
+            } finally {
+                logger.removeHandler(handler);
+                Envali.removeContentSource(contentSource);
+            }
+        }
+
+        @Test
+        void testInvalidateAllReportsCachedContent() {
+            EnvaliContentRegistry.load(WatchedContentForTest.class, "WatchedContentForTest");
+
+            assertTrue(EnvaliContentRegistry.invalidateAll().contains("WatchedContentForTest"));
+            assertTrue(EnvaliContentRegistry.invalidateAll().isEmpty());
+        }
+
+        @Test
+        void testWhenContentFileIsChanged(@TempDir final Path tempDir) throws IOException, InterruptedException {
+            assertTrue(!Envali.validate(new WatchedContentForTest(7)).hasError());
+
+            try {
+                Envali.watchContent(tempDir);
+                writeContent(tempDir, "0", "5");
+
+                assertTrue(awaitError(new WatchedContentForTest(7), true));
+                assertTrue(!Envali.validate(new WatchedContentForTest(3)).hasError());
+
+                Files.writeString(tempDir.resolve("WatchedContentForTest.json"), "{ \"selectionNodes\": [");
+                Thread.sleep(500L);
+
+                assertTrue(Envali.validate(new WatchedContentForTest(7)).hasError());
+
+                writeContent(tempDir, "0", "10");
+
+                assertTrue(awaitError(new WatchedContentForTest(7), false));
+            } finally {
+                Envali.unwatchContent();
+            }
+        }
+
+        @Test
+        void testWhenContentFileHasUnknownValuesAndEscapes(@TempDir final Path tempDir)
+                throws IOException, InterruptedException {
+            try {
+                Envali.watchContent(tempDir);
+
+                final Path temporaryFile = tempDir.resolve("WatchedContentForTest.tmp");
+                Files.writeString(temporaryFile,
+                        "{ \"metadata\": { \"tags\": [ \"a\", { \"b\": [ 1, 2.5e3, true, null ] } ], "
+                        + "\"note\": \"quote \\\" and \\\\ backslash \\u3042\" }, "
+                        + "\"selectionNodes\": [ "
+                        + "{ \"node\": { \"conditionId\": \"9\", \"rangeFrom\": 100, \"rangeTo\": 200 } }, "
+                        + "{ \"node\": { \"conditionId\": \"0\", \"range\\u0046rom\": -3, \"rangeTo\": \"3\", "
+                        + "\"note\": {} } }, "
+                        + "{ \"node\": { \"conditionId\": \"0\", \"rangeFrom\": \"50\", \"rangeTo\": \"60\" } } ], "
+                        + "\"conditionNodes\": [ "
+                        + "{ \"node\": { \"conditionId\": \"0\", \"exclude\": false, \"conditions\": [ "
+                        + "{ \"keyName\": \"variableName\", \"operator\": \"=\", \"operand\": \"number\" } ] } }, "
+                        + "{ \"node\": { \"conditionId\": \"9\", \"exclude\": false, \"conditions\": [ "
+                        + "{ \"keyName\": \"variableName\", \"operator\": \"=\", \"operand\": \"other\" } ] } } ] }");
+                Files.move(temporaryFile, tempDir.resolve("WatchedContentForTest.json"),
+                        StandardCopyOption.REPLACE_EXISTING, StandardCopyOption.ATOMIC_MOVE);
+
+                assertTrue(awaitError(new WatchedContentForTest(4), true));
+                assertTrue(!Envali.validate(new WatchedContentForTest(-3)).hasError());
+                assertTrue(!Envali.validate(new WatchedContentForTest(3)).hasError());
+                assertTrue(Envali.validate(new WatchedContentForTest(-4)).hasError());
+            } finally {
+                Envali.unwatchContent();
+            }
+        }
+
+        @Test
+        void testWhenPathIsNotDirectory(@TempDir final Path tempDir) {
+            assertThrows(IllegalStateException.class, () -> Envali.watchContent(tempDir.resolve("missing")));
+        }
+
+        private void writeContent(final Path directory, final String rangeFrom, final String rangeTo)
+                throws IOException {
+            final Path temporaryFile = directory.resolve("WatchedContentForTest.tmp");
+            final String content = new String(
+                    getClass().getClassLoader().getResourceAsStream("content/envali/WatchedContentForTest.json")
+                            .readAllBytes(),
+                    StandardCharsets.UTF_8);
+
+            Files.writeString(temporaryFile,
+                    content.replace("\"rangeFrom\": \"-10\"", "\"rangeFrom\": \"" + rangeFrom + "\"")
+                            .replace("\"rangeTo\": \"10\"", "\"rangeTo\": \"" + rangeTo + "\""));
+            Files.move(temporaryFile, directory.resolve("WatchedContentForTest.json"),
+                    StandardCopyOption.REPLACE_EXISTING, StandardCopyOption.ATOMIC_MOVE);
+        }
+
+        private boolean awaitError(final ValidatableEntity entity, final boolean expected)
+                throws InterruptedException {
+            for (int i = 0; i < 100; i++) {
+                if (Envali.validate(entity).hasError() == expected) {
+                    return true;
+                }
+
+                Thread.sleep(100L);
+            }
+
+            return false;
+        }
+    }
+
+    @Nested
+    class TestContentSource {
+
+        @Test
+        void testWhenContentIsInPropertiesFile() {
+            assertTrue(!Envali.validate(new SourcedContentForTest(10)).hasError());
+            assertTrue(Envali.validate(new SourcedContentForTest(11)).hasError());
+        }
+
+        @Test
+        void testWhenContentSourceIsAdded() {
+            final ContentSource contentSource = MapContentSource.of(Map.of("SourcedContentForTest",
+                    Map.of("number", Map.of(EnvaliContentAttribute.RANGE_FROM, "0", EnvaliContentAttribute.RANGE_TO,
+                            "20"))));
+
+            try {
+                Envali.addContentSource(contentSource);
+
+                assertTrue(!Envali.validate(new SourcedContentForTest(11)).hasError());
+                assertTrue(Envali.validate(new SourcedContentForTest(21)).hasError());
+            } finally {
+                assertTrue(Envali.removeContentSource(contentSource));
+            }
+
+            assertTrue(Envali.validate(new SourcedContentForTest(11)).hasError());
+            assertTrue(!Envali.removeContentSource(contentSource));
+        }
+
+        @Test
+        void testWhenFileSystemContentSourceIsAdded(@TempDir final Path tempDir) throws IOException {
+            Files.copy(getClass().getClassLoader().getResourceAsStream("content/envali/WatchedContentForTest.json"),
+                    tempDir.resolve("SourcedContentForTest.json"));
+
+            final ContentSource contentSource = FileSystemContentSource.of(tempDir);
+
+            try {
+                Envali.addContentSource(contentSource);
+
+                assertTrue(!Envali.validate(new SourcedContentForTest(-10)).hasError());
+                assertTrue(Envali.validate(new SourcedContentForTest(-11)).hasError());
+            } finally {
+                Envali.removeContentSource(contentSource);
+            }
+        }
+
+        @Test
+        void testWhenContentSourceIsDiscovered() {
+            assertTrue(!Envali.validate(new DiscoveredContentForTest(100)).hasError());
+            assertTrue(Envali.validate(new DiscoveredContentForTest(99)).hasError());
+        }
+
+        @Test
+        void testWhenNoContentSourceProvidesContent() {
+            final ContentNotFoundException exception = assertThrows(ContentNotFoundException.class,
+                    () -> Envali.validate(new MissingContentForTest(0)));
+
+            assertEquals(
+                    "The content file defined in ParameterMapping annotation was not found. Please check the path to the resource. Resource path to the defined content: content/envali/MissingContentForTest.json",
+                    exception.getMessage());
+        }
+    }
+
+    @Nested
+    class TestTypedContentParameters {
+
+        @Test
+        void testWhenRangeIsNotNumber() {
+            final UnsupportedOperationException exception = this.validate("abc", "A", "[a-z]+");
+
+            assertEquals(
+                    "The value abc of the content attribute rangeFrom is not a valid long for the variable org.thinkit.framework.envali.TypedContentForTest#number.",
+                    exception.getMessage());
+        }
+
+        @Test
+        void testWhenPrefixIsNotDefined() {
+            final UnsupportedOperationException exception = this.validate("0", null, "[a-z]+");
+
+            assertEquals(
+                    "The content attribute startWith is not defined for the variable org.thinkit.framework.envali.TypedContentForTest#code.",
+                    exception.getMessage());
+        }
+
+        @Test
+        void testWhenExpressionIsNotRegex() {
+            final UnsupportedOperationException exception = this.validate("0", "A", "[a-z");
+
+            assertEquals(
+                    "The value [a-z of the content attribute regexExpression is not a valid regular expression for the variable org.thinkit.framework.envali.TypedContentForTest#name.",
+                    exception.getMessage());
+        }
+
+        private UnsupportedOperationException validate(String rangeFrom, String startWith, String regexExpression) {
+            final ContentSource contentSource = MapContentSource.of(Map.of("TypedContentForTest",
+                    Map.of("number", Map.of(EnvaliContentAttribute.RANGE_FROM, rangeFrom), "code",
+                            startWith == null ? Map.of() : Map.of(EnvaliContentAttribute.START_WITH, startWith), "name",
+                            Map.of(EnvaliContentAttribute.REGEX_EXPRESSION, regexExpression))));
+
+            try {
+                Envali.addContentSource(contentSource);
+                return assertThrows(UnsupportedOperationException.class,
+                        () -> Envali.validate(new TypedContentForTest(0, "A", "a")));
+            } finally {
+                Envali.removeContentSource(contentSource);
+            }
+        }
+
+        @Test
+        void testWhenElementRangeIsNotNumber() {
+            final UnsupportedOperationException exception = this.validateElements(
+                    Map.of(EnvaliContentAttribute.RANGE_FROM, "abc"), Map.of(EnvaliContentAttribute.RANGE_TO, "10"));
+
+            assertEquals(
+                    "The value abc of the content attribute rangeFrom is not a valid Integer for the variable org.thinkit.framework.envali.TypedContainerElementForTest#scores.",
+                    exception.getMessage());
+        }
+
+        @Test
+        void testWhenArrayRangeIsNotDefined() {
+            final UnsupportedOperationException exception = this
+                    .validateElements(Map.of(EnvaliContentAttribute.RANGE_FROM, "0"), Map.of());
+
+            assertEquals(
+                    "The content attribute rangeTo is not defined for the variable org.thinkit.framework.envali.TypedContainerElementForTest#numbers.",
+                    exception.getMessage());
+        }
+
+        private UnsupportedOperationException validateElements(Map<EnvaliContentAttribute, String> scoresContent,
+                Map<EnvaliContentAttribute, String> numbersContent) {
+            final ContentSource contentSource = MapContentSource.of(Map.of("TypedContainerElementForTest",
+                    Map.of("scores", scoresContent, "numbers", numbersContent)));
+
+            try {
+                Envali.addContentSource(contentSource);
+                return assertThrows(UnsupportedOperationException.class,
+                        () -> Envali.validate(new TypedContainerElementForTest(List.of(1), new long[] { 1 })));
+            } finally {
+                Envali.removeContentSource(contentSource);
+            }
+        }
+    }
+
+    @Nested
+    class TestContentProfile {
+
+        @Test
+        void testWhenProfileHasContent() {
+            final ContentProfile contentProfile = ContentProfile.of("tenant");
+
+            assertTrue(!Envali.validate(new ProfiledContentForTest(100), contentProfile).hasError());
+            assertTrue(Envali.validate(new ProfiledContentForTest(101), contentProfile).hasError());
+            assertTrue(Envali.validate(new ProfiledContentForTest(-1), contentProfile).hasError());
+            assertTrue(Envali.validate(new ProfiledContentForTest(11)).hasError());
+        }
+
+        @Test
+        void testWhenProfileHasNoContent() {
+            final ContentProfile contentProfile = ContentProfile.of("other");
+
+            assertTrue(!Envali.validate(new ProfiledContentForTest(-10), contentProfile).hasError());
+            assertTrue(Envali.validate(new ProfiledContentForTest(11), contentProfile).hasError());
+        }
+
+        @Test
+        void testWhenProfileIsAppliedToNestedEntity() {
+            final ContentProfile contentProfile = ContentProfile.of("tenant");
+
+            assertTrue(!Envali.validate(new NestedProfiledContentForTest(100), contentProfile).hasError());
+            assertTrue(Envali.validate(new NestedProfiledContentForTest(100)).hasError());
+        }
+
+        @Test
+        void testWhenProfileIsAddedAsContentSource() {
+            final ContentProfile contentProfile = ContentProfile.of("added");
+            final ContentSource contentSource = MapContentSource.of(Map.of("ProfiledContentForTest_added",
+                    Map.of("number", Map.of(EnvaliContentAttribute.RANGE_FROM, "20", EnvaliContentAttribute.RANGE_TO,
+                            "30"))));
+
+            assertTrue(Envali.validate(new ProfiledContentForTest(20), contentProfile).hasError());
+
+            try {
+                Envali.addContentSource(contentSource);
+
+                assertTrue(!Envali.validate(new ProfiledContentForTest(20), contentProfile).hasError());
+                assertTrue(Envali.validate(new ProfiledContentForTest(0), contentProfile).hasError());
+            } finally {
+                Envali.removeContentSource(contentSource);
+            }
+
+            assertTrue(Envali.validate(new ProfiledContentForTest(20), contentProfile).hasError());
+        }
+
+        @Test
+        void testWhenProfileNameIsBlank() {
+            assertThrows(IllegalArgumentException.class, () -> ContentProfile.of(""));
+        }
+
+        @ParameterizedTest
+        @ValueSource(strings = { "..", "../../etc/x", "tenant/other", "tenant\\other", "tenant.json", " tenant" })
+        void testWhenProfileNameIsNotSafe(final String name) {
+            final IllegalArgumentException exception = assertThrows(IllegalArgumentException.class,
+                    () -> ContentProfile.of(name));
+
+            assertEquals(String.format(
+                    "The profile name %s must consist only of ASCII letters, digits, underscores and hyphens.", name),
+                    exception.getMessage());
+        }
+
+        @Test
+        void testWhenProfileNameIsSafe() {
+            assertEquals("Tenant_01-a", ContentProfile.of("Tenant_01-a").getName());
+        }
+    }
+
+    @Nested
+    class TestClassLoaderUnloading {
+
+        @Test
+        void testWhenClassLoaderIsDropped() throws Exception {
+
+            final WeakReference<ClassLoader> classLoaderReference = this.validateInThrowawayClassLoader();
+
+            for (int i = 0; i < 100 && classLoaderReference.get() != null; i++) {
+                System.gc();
+                Thread.sleep(50L);
+            }
+
+            assertNull(classLoaderReference.get());
+        }
+
+        private WeakReference<ClassLoader> validateInThrowawayClassLoader() throws Exception {
+
+            final String className = UnloadableEntityForTest.class.getName();
+            final byte[] classBytes;
+
+            try (InputStream inputStream = EnvaliTest.class.getClassLoader()
+                    .getResourceAsStream(className.replace('.', '/') + ".class")) {
+                classBytes = inputStream.readAllBytes();
+            }
+
+            final ClassLoader classLoader = new ClassLoader(EnvaliTest.class.getClassLoader()) {
+
+                @Override
+                protected Class<?> loadClass(String name, boolean resolve) throws ClassNotFoundException {
+
+                    if (!name.equals(className)) {
+                        return super.loadClass(name, resolve);
+                    }
+
+                    synchronized (this.getClassLoadingLock(name)) {
+                        final Class<?> loadedClass = this.findLoadedClass(name);
+                        return loadedClass != null ? loadedClass
+                                : this.defineClass(name, classBytes, 0, classBytes.length);
+                    }
+                }
+            };
+
+            final Constructor<?> constructor = classLoader.loadClass(className).getDeclaredConstructor();
+            constructor.setAccessible(true);
+
+            final ValidatableEntity entity = (ValidatableEntity) constructor.newInstance();
+
+            assertTrue(Envali.validate(entity).hasError());
+            assertTrue(!Envali.validate(entity, ContentProfile.of("tenant")).hasError());
+
+            final ContentSource contentSource = MapContentSource.of(Map.of());
+            Envali.addContentSource(contentSource);
+            Envali.removeContentSource(contentSource);
+
+            return new WeakReference<>(classLoader);
+        }
+    }
+
+    @Nested
+    class TestStringConstraintFusion {
+
+        @Test
+        void testWhenContentHasNoRowForConstraintsWithoutContent() {
+
+            assertTrue(!Envali.validate(new ContentFreeStringConstraintsForTest("abc")).hasError());
+
+            final List<BusinessError> businessErrors = Envali.validate(new ContentFreeStringConstraintsForTest(""))
+                    .getError(ContentFreeStringConstraintsForTest.class);
+
+            assertEquals(List.of("blank", "empty"), businessErrors.stream().map(BusinessError::getMessage).toList());
+        }
+
+        @Test
+        void testWhenAllConstraintsAreSatisfied() {
+            assertTrue(!Envali.validate(new StringConstraintsForTest("abcxyz", "abc")).hasError());
+        }
+
+        @Test
+        void testWhenValueIsEmpty() {
+
+            final List<BusinessError> businessErrors = Envali.validate(new StringConstraintsForTest("", "abc"))
+                    .getError(StringConstraintsForTest.class);
+
+            assertEquals(List.of("blank", "prefix", "suffix", "size", "match"),
+                    businessErrors.stream().map(BusinessError::getMessage).toList());
+            assertTrue(businessErrors.get(0).isRecoverable());
+            assertTrue(businessErrors.get(2).isUnrecoverable());
+        }
+
+        @Test
+        void testWhenOnlyRegularExpressionIsNotSatisfied() {
+
+            final List<BusinessError> businessErrors = Envali.validate(new StringConstraintsForTest("ab12yz", "abc"))
+                    .getError(StringConstraintsForTest.class);
+
+            assertEquals(List.of("match"), businessErrors.stream().map(BusinessError::getMessage).toList());
+        }
+
+        @Test
+        void testWhenValueIsNull() {
+
+            final List<BusinessError> businessErrors = Envali.validate(new StringConstraintsForTest(null, "abc"))
+                    .getError(StringConstraintsForTest.class);
+
+            assertEquals(List.of("prefix", "suffix", "null"),
+                    businessErrors.stream().map(BusinessError::getMessage).toList());
+        }
+
+        @Test
+        void testWhenRuntimeConstraintIsNotSatisfied() {
+            assertThrows(PreconditionFailedException.class,
+                    () -> Envali.validate(new StringConstraintsForTest("abcxyz", "xyz")));
+        }
+
+        @Test
+        void testWhenRecoverableConstraintIsNotSatisfiedAfterRuntimeConstraint() {
+
+            final List<BusinessError> businessErrors = Envali.validate(new StringConstraintsForTest("abcxyz", "ab1"))
+                    .getError(StringConstraintsForTest.class);
+
+            assertEquals(List.of("name"), businessErrors.stream().map(BusinessError::getMessage).toList());
+        }
+    }
+
+    @Nested
+    class TestRequireChecksum {
+
+        @Test
+        void testWhenCheckDigitsAreValid() {
+            final ValidationResult validationResult = Envali.validate(new RequireChecksumForTest("4111111111111111",
+                    "123456789018", new StringBuilder("7000012050002"), "4901234567894",
+                    List.of("96385074", "4901234567894")));
+
+            assertNotNull(validationResult);
+            assertTrue(!validationResult.hasError());
+        }
+
+        @Test
+        void testWhenValuesAreNull() {
+            final ValidationResult validationResult = Envali
+                    .validate(new RequireChecksumForTest(null, null, null, null, null));
+
+            assertNotNull(validationResult);
+            assertTrue(!validationResult.hasError());
+        }
+
+        @Test
+        void testWhenCheckDigitsAreInvalid() {
+            final ValidationResult validationResult = Envali.validate(new RequireChecksumForTest("4111111111111112",
+                    "123456789012", new StringBuilder("5000012050002"), "4901234567890", List.of("96385075")));
+
+            assertNotNull(validationResult);
+            assertTrue(validationResult.hasError());
+
+            final List<BusinessError> businessErrors = validationResult.getError(RequireChecksumForTest.class);
+
+            assertEquals(List.of("card", "individual", "corporate", "barcode", "barcodes"),
+                    businessErrors.stream().map(BusinessError::getMessage).toList());
+            assertTrue(businessErrors.get(2).isUnrecoverable());
+        }
+
+        @ParameterizedTest
+        @ValueSource(strings = { "", "4", "4111-1111-1111-1111", "\uff14111111111111111" })
+        void testWhenCardNumberIsMalformed(String cardNumber) {
+            assertTrue(!EnvaliChecksumHelper.isValidLuhn(cardNumber));
+        }
+
+        @ParameterizedTest
+        @ValueSource(strings = { "12345678901", "1234567890180", "12345678901a" })
+        void testWhenIndividualNumberIsMalformed(String individualNumber) {
+            assertTrue(!EnvaliChecksumHelper.isValidMyNumber(individualNumber));
+        }
+
+        @ParameterizedTest
+        @ValueSource(strings = { "700001205000", "70000120500020", "7000012O50002" })
+        void testWhenCorporateNumberIsMalformed(String corporateNumber) {
+            assertTrue(!EnvaliChecksumHelper.isValidCorporateNumber(corporateNumber));
+        }
+
+        @ParameterizedTest
+        @ValueSource(strings = { "490123456789", "9638507", "4901234567894 " })
+        void testWhenBarcodeIsMalformed(String barcode) {
+            assertTrue(!EnvaliChecksumHelper.isValidEan(barcode));
+        }
+
+        @Test
+        void testWhenCheckDigitIsValidForAlgorithm() {
+            assertTrue(EnvaliChecksumHelper.isValid(ChecksumAlgorithm.LUHN, "79927398713"));
+            assertTrue(EnvaliChecksumHelper.isValid(ChecksumAlgorithm.MY_NUMBER, new StringBuilder("123456789018")));
+            assertTrue(EnvaliChecksumHelper.isValid(ChecksumAlgorithm.CORPORATE_NUMBER, "7000012050002"));
+            assertTrue(EnvaliChecksumHelper.isValid(ChecksumAlgorithm.EAN, "96385074"));
+        }
+
+        @Test
+        void testWhenChecksumIsEvaluatedWithSize() {
+            final ValidationResult validationResult = Envali
+                    .validate(new RequireChecksumForTest(null, null, null, "12345678901234", null));
+
+            assertEquals(List.of("size", "barcode"), validationResult.getError(RequireChecksumForTest.class).stream()
+                    .map(BusinessError::getMessage).toList());
+        }
+
+        @Test
+        void testWhenTypeIsUnsupported() {
+            final UnsupportedOperationException exception = assertThrows(UnsupportedOperationException.class,
+                    () -> Envali.validate(new UnsupportedRequireChecksumForTest()));
+
+            assertNotNull(exception);
+            assertEquals(
+                    "The org.thinkit.framework.envali.annotation.RequireChecksum annotation supports CharSequence type, but was specified for the variable org.thinkit.framework.envali.UnsupportedRequireChecksumForTest#number of type long.",
+                    exception.getMessage());
+        }
+    }
+
+    @Nested
+    class TestRequireOneOf {
+
+        @Test
+        void testWhenValuesAreAllowed() {
+            final ValidationResult validationResult = Envali.validate(new RequireOneOfForTest("USD",
+                    new StringBuilder("JP"), -1, ErrorType.UNRECOVERABLE, List.of(10L, 30L)));
+
+            assertNotNull(validationResult);
+            assertTrue(!validationResult.hasError());
+        }
+
+        @Test
+        void testWhenValuesAreNull() {
+            final ValidationResult validationResult = Envali
+                    .validate(new RequireOneOfForTest(null, null, 0, null, null));
+
+            assertNotNull(validationResult);
+            assertTrue(!validationResult.hasError());
+        }
+
+        @Test
+        void testWhenValuesAreNotAllowed() {
+            final ValidationResult validationResult = Envali.validate(new RequireOneOfForTest("usd",
+                    new StringBuilder("JPN"), 3, ErrorType.RUNTIME, Arrays.asList(10L, null, 40L)));
+
+            assertNotNull(validationResult);
+            assertTrue(validationResult.hasError());
+
+            final List<BusinessError> businessErrors = validationResult.getError(RequireOneOfForTest.class);
+
+            assertEquals(List.of("currency", "size", "country", "grade", "errorType", "lineNumbers"),
+                    businessErrors.stream().map(BusinessError::getMessage).toList());
+            assertTrue(businessErrors.get(3).isUnrecoverable());
+        }
+
+        @Test
+        void testWhenValuesAreDefinedInContent() {
+            assertTrue(!Envali.validate(new ContentRequireOneOfForTest("EUR", "B")).hasError());
+            assertEquals(List.of("currency", "status"),
+                    Envali.validate(new ContentRequireOneOfForTest("GBP", "D"))
+                            .getError(ContentRequireOneOfForTest.class).stream().map(BusinessError::getMessage)
+                            .toList());
+            assertEquals(List.of("size", "status"),
+                    Envali.validate(new ContentRequireOneOfForTest(null, "AB"))
+                            .getError(ContentRequireOneOfForTest.class).stream().map(BusinessError::getMessage)
+                            .toList());
+        }
+
+        @Test
+        void testWhenManyStringsAreAllowed() {
+            final String[] values = IntStream.range(0, 5000).mapToObj(i -> String.format("C%05d", i * 3))
+                    .toArray(String[]::new);
+            final EnvaliValueSet valueSet = EnvaliValueSet.of(String.class, values);
+
+            for (int i = 0; i < 15000; i++) {
+                final String value = String.format("C%05d", i);
+                assertEquals(i % 3 == 0, valueSet.contains(value), value);
+                assertEquals(i % 3 == 0, valueSet.contains(new StringBuilder(value)), value);
+            }
+        }
+
+        @Test
+        void testWhenManyIntegersAreAllowed() {
+            final String[] values = LongStream.range(-2500, 2500).map(i -> i * 1_000_000_007L)
+                    .mapToObj(String::valueOf).toArray(String[]::new);
+            final EnvaliValueSet valueSet = EnvaliValueSet.of(long.class, values);
+
+            for (long i = -2500; i < 2500; i++) {
+                assertTrue(valueSet.contains(i * 1_000_000_007L));
+                assertTrue(!valueSet.contains(i * 1_000_000_007L + 1));
+            }
+
+            assertTrue(!valueSet.contains(Long.MIN_VALUE));
+            assertTrue(!EnvaliValueSet.of(Integer.class, "1").contains(0L));
+        }
+
+        @Test
+        void testWhenValueIsInvalidForType() {
+            assertEquals("The value x is not a valid Integer.",
+                    assertThrows(UnsupportedOperationException.class, () -> EnvaliValueSet.of(int.class, "1", "x"))
+                            .getMessage());
+            assertEquals("The value 128 is not a valid Byte.",
+                    assertThrows(UnsupportedOperationException.class, () -> EnvaliValueSet.of(Byte.class, "128"))
+                            .getMessage());
+            assertEquals("The value FATAL is not a constant of the enum org.thinkit.framework.envali.catalog.ErrorType.",
+                    assertThrows(UnsupportedOperationException.class,
+                            () -> EnvaliValueSet.of(ErrorType.class, "RUNTIME", "FATAL")).getMessage());
+        }
+
+        @Test
+        void testWhenTypeIsUnsupported() {
+            final UnsupportedOperationException exception = assertThrows(UnsupportedOperationException.class,
+                    () -> Envali.validate(new UnsupportedRequireOneOfForTest()));
+
+            assertNotNull(exception);
+            assertEquals(
+                    "The org.thinkit.framework.envali.annotation.RequireOneOf annotation supports CharSequence, Enum, Integer, Long, Short, Byte type, but was specified for the variable org.thinkit.framework.envali.UnsupportedRequireOneOfForTest#rate of type double.",
+                    exception.getMessage());
+        }
+    }
+
+    @Nested
+    class TestRequireExistsIn {
+
+        private final List<String> keys = Stream
+                .concat(IntStream.range(0, 100_000).mapToObj(i -> String.format("SKU%07d", i * 2)),
+                        Stream.of("\u5546\u54c1A", "\u5546\u54c1\ud83d\ude00", "\u00e9clair", "SKU0000000"))
+                .toList();
+
+        @Test
+        void testWhenKeysExist(@TempDir final Path tempDir) {
+            this.register(tempDir);
+
+            try {
+                final ValidationResult validationResult = Envali.validate(new RequireExistsInForTest("SKU0000000",
+                        "SKU0199998", new StringBuilder("\u5546\u54c1\ud83d\ude00"),
+                        List.of("SKU0100000", "\u00e9clair")));
+
+                assertNotNull(validationResult);
+                assertTrue(!validationResult.hasError());
+                assertTrue(!Envali.validate(new RequireExistsInForTest(null, null, null, null)).hasError());
+            } finally {
+                Envali.unregisterDataset("skuForTest");
+            }
+        }
+
+        @Test
+        void testWhenKeysDoNotExist(@TempDir final Path tempDir) {
+            this.register(tempDir);
+
+            try {
+                final ValidationResult validationResult = Envali.validate(new RequireExistsInForTest("SKU0000001",
+                        "SKU01999980", new StringBuilder("\u5546\u54c1"), List.of("SKU0100000", "SKU")));
+
+                assertNotNull(validationResult);
+                assertTrue(validationResult.hasError());
+
+                final List<BusinessError> businessErrors = validationResult.getError(RequireExistsInForTest.class);
+
+                assertEquals(List.of("product", "size", "replacement", "name", "bundled"),
+                        businessErrors.stream().map(BusinessError::getMessage).toList());
+                assertTrue(businessErrors.get(2).isUnrecoverable());
+            } finally {
+                Envali.unregisterDataset("skuForTest");
+            }
+        }
+
+        @Test
+        void testWhenManyKeysAreLookedUp(@TempDir final Path tempDir) {
+            final Path datasetPath = tempDir.resolve("sku.envd");
+            Envali.writeDataset(datasetPath, this.keys);
+
+            final EnvaliDataset dataset = EnvaliDataset.of(datasetPath);
+
+            assertEquals(this.keys.size() - 1, dataset.getSize());
+
+            for (int i = 0; i < 200_000; i++) {
+                final String key = String.format("SKU%07d", i);
+                assertEquals(i % 2 == 0, dataset.contains(key), key);
+            }
+
+            for (String key : this.keys) {
+                assertTrue(dataset.contains(new StringBuilder(key)), key);
+            }
+
+            assertTrue(!dataset.contains(""));
+            assertTrue(!dataset.contains("\u5546"));
+            assertTrue(!dataset.contains("\u5546\u54c1B"));
+            assertTrue(!dataset.contains("\u5546\u54c1\ud83d\ude01"));
+        }
+
+        @Test
+        void testWhenDatasetIsEmpty(@TempDir final Path tempDir) {
+            final Path datasetPath = tempDir.resolve("empty.envd");
+            Envali.writeDataset(datasetPath, List.of());
+
+            final EnvaliDataset dataset = EnvaliDataset.of(datasetPath);
+
+            assertEquals(0, dataset.getSize());
+            assertTrue(!dataset.contains(""));
+        }
+
+        @Test
+        void testWhenDatasetIsRegisteredAgain(@TempDir final Path tempDir) {
+            final Path datasetPath = tempDir.resolve("replaced.envd");
+            Envali.writeDataset(datasetPath, List.of("SKU0000001"));
+            Envali.registerDataset("skuForTest", datasetPath);
+
+            try {
+                assertTrue(!Envali.validate(new RequireExistsInForTest("SKU0000001", null, null, null)).hasError());
+
+                this.register(tempDir);
+
+                assertTrue(Envali.validate(new RequireExistsInForTest("SKU0000001", null, null, null)).hasError());
+            } finally {
+                assertTrue(Envali.unregisterDataset("skuForTest"));
+                assertTrue(!Envali.unregisterDataset("skuForTest"));
+            }
+        }
+
+        @Test
+        void testWhenDatasetIsNotRegistered() {
+            final UnsupportedOperationException exception = assertThrows(UnsupportedOperationException.class,
+                    () -> Envali.validate(new RequireExistsInForTest("SKU0000000", null, null, null)));
+
+            assertEquals("The dataset skuForTest is not registered.", exception.getMessage());
+        }
+
+        @Test
+        void testWhenDatasetIsMalformed(@TempDir final Path tempDir) throws IOException {
+            final Path datasetPath = Files.write(tempDir.resolve("malformed.envd"),
+                    new byte[] { 0x45, 0x4E, 0x56, 0x44, 1, 0, 0, 0, 2, 0, 0, 0, 0 });
+            assertThrows(IllegalStateException.class, () -> Envali.registerDataset("skuForTest", datasetPath));
+            assertThrows(IllegalStateException.class,
+                    () -> Envali.registerDataset("skuForTest", tempDir.resolve("missing.envd")));
+        }
+
+        @Test
+        void testWhenTypeIsUnsupported() {
+            final UnsupportedOperationException exception = assertThrows(UnsupportedOperationException.class,
+                    () -> Envali.validate(new UnsupportedRequireExistsInForTest()));
+
+            assertNotNull(exception);
+            assertEquals(
+                    "The org.thinkit.framework.envali.annotation.RequireExistsIn annotation supports CharSequence type, but was specified for the variable org.thinkit.framework.envali.UnsupportedRequireExistsInForTest#productNumber of type long.",
+                    exception.getMessage());
+        }
+
+        private void register(final Path tempDir) {
+            final Path datasetPath = tempDir.resolve("sku.envd");
+            Envali.writeDataset(datasetPath, this.keys);
+            Envali.registerDataset("skuForTest", datasetPath);
+        }
+    }
+
+    @Nested
+    class TestRequireUnique {
+
+        @Test
+        void testWhenElementsAreUnique() {
+            final ValidationResult validationResult = Envali.validate(new RequireUniqueForTest(new int[] { 1, 2, 3, 0 },
+                    List.of(1L, 2L, -1L, Long.MIN_VALUE), new String[] { "A", "B", null, null },
+                    Arrays.asList(new RequireUniqueForTest.OrderLineForTest(1), null,
+                            new RequireUniqueForTest.OrderLineForTest(2))));
+
+            assertNotNull(validationResult);
+            assertTrue(!validationResult.hasError());
+            assertTrue(!Envali.validate(new RequireUniqueForTest(null, null, null, null)).hasError());
+            assertTrue(!Envali.validate(new RequireUniqueForTest(new int[0], List.of(), new String[0], List.of()))
+                    .hasError());
+        }
+
+        @Test
+        void testWhenElementsAreDuplicated() {
+            final ValidationResult validationResult = Envali.validate(new RequireUniqueForTest(
+                    new int[] { 0, 1, 0, 2, 1, 0 }, List.of(7L, 8L, 7L), new String[] { "A", "B", "A", null },
+                    List.of(new RequireUniqueForTest.OrderLineForTest(1), new RequireUniqueForTest.OrderLineForTest(2),
+                            new RequireUniqueForTest.OrderLineForTest(1))));
+
+            assertNotNull(validationResult);
+            assertTrue(validationResult.hasError());
+
+            final List<BusinessError> businessErrors = validationResult.getError(RequireUniqueForTest.class);
+
+            assertEquals(List.of("lineNumbers", "productIds", "productCodes", "orderLines"),
+                    businessErrors.stream().map(BusinessError::getMessage).toList());
+            assertEquals(List.of(List.of(2, 4, 5), List.of(2), List.of(2), List.of(2)),
+                    businessErrors.stream().map(BusinessError::getIndices).toList());
+            assertTrue(businessErrors.get(1).isUnrecoverable());
+        }
+
+        @Test
+        void testWhenManyElementsAreDuplicated() {
+            final int[] lineNumbers = IntStream.range(0, 100_000).map(i -> i % 50_000).toArray();
+            final BusinessError businessError = Envali
+                    .validate(new RequireUniqueForTest(lineNumbers, null, null, null))
+                    .getError(RequireUniqueForTest.class).get(0);
+
+            assertEquals(IntStream.range(50_000, 100_000).boxed().toList(), businessError.getIndices());
+        }
+
+        @Test
+        void testEncodeAndDecodeIndices() {
+            final ValidationResult validationResult = Envali.validate(new RequireUniqueForTest(
+                    new int[] { 3, 3, 3 }, null, new String[] { "A", "A" }, null));
+
+            final ValidationResult decodedValidationResult = ValidationResultCodec
+                    .decode(ValidationResultCodec.encode(validationResult));
+
+            assertEquals(validationResult, decodedValidationResult);
+            assertEquals(List.of(1, 2),
+                    decodedValidationResult.getError(RequireUniqueForTest.class).get(0).getIndices());
+        }
+
+        @Test
+        void testWhenListIsRaw() {
+            final List<BusinessError> businessErrors = Envali
+                    .validate(new RawListRequireUniqueForTest(List.of("A", 1, "A", 1L, 1)))
+                    .getError(RawListRequireUniqueForTest.class);
+
+            assertEquals(List.of(2, 4), businessErrors.get(0).getIndices());
+            assertTrue(!Envali.validate(new RawListRequireUniqueForTest(List.of("A", 1, 1L))).hasError());
+        }
+
+        @Test
+        void testWhenKeyIsBoolean() {
+            final List<BusinessError> businessErrors = Envali.validate(new BooleanKeyRequireUniqueForTest(
+                    List.of(true, false, true, false),
+                    List.of(new BooleanKeyRequireUniqueForTest.OptionForTest(false),
+                            new BooleanKeyRequireUniqueForTest.OptionForTest(true),
+                            new BooleanKeyRequireUniqueForTest.OptionForTest(false))))
+                    .getError(BooleanKeyRequireUniqueForTest.class);
+
+            assertEquals(List.of("answers", "options"),
+                    businessErrors.stream().map(BusinessError::getMessage).toList());
+            assertEquals(List.of(List.of(2, 3), List.of(2)),
+                    businessErrors.stream().map(BusinessError::getIndices).toList());
+            assertTrue(!Envali.validate(new BooleanKeyRequireUniqueForTest(List.of(true, false),
+                    List.of(new BooleanKeyRequireUniqueForTest.OptionForTest(true)))).hasError());
+        }
+
+        @Test
+        void testWhenKeyIsUnknown() {
+            final UnsupportedOperationException exception = assertThrows(UnsupportedOperationException.class,
+                    () -> Envali.validate(new UnknownKeyRequireUniqueForTest()));
+
+            assertEquals(
+                    "The key lineNo of the org.thinkit.framework.envali.annotation.RequireUnique annotation is not a field of org.thinkit.framework.envali.RequireUniqueForTest$OrderLineForTest for the variable org.thinkit.framework.envali.UnknownKeyRequireUniqueForTest#orderLines.",
+                    exception.getMessage());
+        }
+
+        @Test
+        void testWhenTypeIsUnsupported() {
+            final UnsupportedOperationException exception = assertThrows(UnsupportedOperationException.class,
+                    () -> Envali.validate(new UnsupportedRequireUniqueForTest()));
+
+            assertNotNull(exception);
+            assertEquals(
+                    "The org.thinkit.framework.envali.annotation.RequireUnique annotation supports Array, List type, but was specified for the variable org.thinkit.framework.envali.UnsupportedRequireUniqueForTest#productCode of type java.lang.String.",
+                    exception.getMessage());
+        }
+    }
 }
@@ -0,0 +1,82 @@
+/*
+ * Copyright 2020 Kato Shinya.
+ *
+ * Licensed under the Apache License, Version 2.0 (the "License"); you may not use this file except
+ * in compliance with the License. You may obtain a copy of the License at
+ *
+ *     http://www.apache.org/licenses/LICENSE-2.0
+ *
+ * Unless required by applicable law or agreed to in writing, software distributed under the License
+ * is distributed on an "AS IS" BASIS, WITHOUT WARRANTIES OR CONDITIONS OF ANY KIND, either express
+ * or implied. See the License for the specific language governing permissions and limitations under
+ * the License.
+ */
+
+package org.thinkit.framework.envali;
+
+import org.thinkit.framework.envali.annotation.EntityAccess;
+import org.thinkit.framework.envali.annotation.RequireNegative;
+import org.thinkit.framework.envali.annotation.RequireNonNull;
+import org.thinkit.framework.envali.catalog.AccessMode;
+import org.thinkit.framework.envali.entity.ValidatableEntity;
+
+/**
+ * The entity class that defines lazily computed properties to be used when
+ * testing the validation through getters.
+ *
+ * @author Kato Shinya
+ * @since 1.0.5
+ */
+@EntityAccess(mode = AccessMode.GETTER)
+final class GetterAccessEntityForTest implements ValidatableEntity {
+
+    /**
+     * The lazily computed literal, which is not initialized until the getter is
+     * called
+     */
+    @RequireNonNull
+    private String literal;
+
+    /**
+     * The lazily computed negative number, which is not initialized until the
+     * getter is called
+     */
+    @RequireNegative
+    private int number;
+
+    /**
+     * The source of properties
+     */
+    private final int source;
+
+    /**
+     * Constructor
+     *
+     * @param source The source of properties
+     */
+    public GetterAccessEntityForTest(int source) {
+        this.source = source;
+    }
+
+    /**
+     * Returns the lazily computed literal.
+     *
+     * @return The lazily computed literal
+     */
+    public String getLiteral() {
+        if (this.literal == null) {
+            this.literal = String.valueOf(this.source);
+        }
+
+        return this.literal;
+    }
+
+    /**
+     * Returns the lazily computed negative number.
+     *
+     * @return The lazily computed negative number
+     */
+    public int getNumber() {
+        return this.source;
+    }
+}
@@ -0,0 +1,80 @@
+/*
+ * Copyright 2020 Kato Shinya.
+ *
+ * Licensed under the Apache License, Version 2.0 (the "License"); you may not use this file except
+ * in compliance with the License. You may obtain a copy of the License at
+ *
+ *     http://www.apache.org/licenses/LICENSE-2.0
+ *
+ * Unless required by applicable law or agreed to in writing, software distributed under the License
+ * is distributed on an "AS IS" BASIS, WITHOUT WARRANTIES OR CONDITIONS OF ANY KIND, either express
+ * or implied. See the License for the specific language governing permissions and limitations under
+ * the License.
+ */
+
+package org.thinkit.framework.envali;
+
+import org.thinkit.framework.envali.annotation.RequireNonEmpty;
+import org.thinkit.framework.envali.annotation.RequireNonNull;
+import org.thinkit.framework.envali.annotation.RequirePositive;
+import org.thinkit.framework.envali.entity.ValidatableEntity;
+import org.thinkit.framework.envali.entity.ValidationGroup;
+
+/**
+ * The entity class that defines fields to be used when testing the validation
+ * groups.
+ *
+ * @author Kato Shinya
+ * @since 1.0.5
+ */
+final class GroupedEntityForTest implements ValidatableEntity {
+
+    /**
+     * The validation group for creation
+     */
+    interface Create extends ValidationGroup {
+    }
+
+    /**
+     * The validation group for update
+     */
+    interface Update extends ValidationGroup {
+    }
+
+    /**
+     * The validation group for partial update, which extends {@link Update}
+     */
+    interface PartialUpdate extends Update {
+    }
+
+    /**
+     * The id required on update
+     */
+    @RequireNonNull(groups = Update.class)
+    private String id;
+
+    /**
+     * The name required on creation
+     */
+    @RequireNonEmpty(groups = Create.class)
+    private String name;
+
+    /**
+     * The version always required
+     */
+    @RequirePositive
+    private int version;
+
+    /**
+     * Constructor
+     *
+     * @param id      The id
+     * @param name    The name
+     * @param version The version
+     */
+    public GroupedEntityForTest(String id, String name, int version) {
+        this.id = id;
+        this.name = name;
+        this.version = version;
+    }
+}
@@ -0,0 +1,46 @@
+/*
+ * Copyright 2020 Kato Shinya.
+ *
+ * Licensed under the Apache License, Version 2.0 (the "License"); you may not use this file except
+ * in compliance with the License. You may obtain a copy of the License at
+ *
+ *     http://www.apache.org/licenses/LICENSE-2.0
+ *
+ * Unless required by applicable law or agreed to in writing, software distributed under the License
+ * is distributed on an "AS IS" BASIS, WITHOUT WARRANTIES OR CONDITIONS OF ANY KIND, either express
+ * or implied. See the License for the specific language governing permissions and limitations under
+ * the License.
+ */
+
+package org.thinkit.framework.envali;
+
+import org.thinkit.framework.envali.annotation.RequireNonBlank;
+
+/**
+ * The entity class that inherits the fields of
+ * {@link AbstractInheritedEntityForTest} to be used when testing the validation
+ * of inherited fields.
+ *
+ * @author Kato Shinya
+ * @since 1.0.5
+ */
+final class InheritedEntityForTest extends AbstractInheritedEntityForTest {
+
+    /**
+     * The non blank name
+     */
+    @RequireNonBlank
+    private String name;
+
+    /**
+     * Constructor
+     *
+     * @param id      The non null id (expected)
+     * @param version The positive version (expected)
+     * @param name    The non blank name (expected)
+     */
+    public InheritedEntityForTest(String id, int version, String name) {
+        super(id, version);
+        this.name = name;
+    }
+}
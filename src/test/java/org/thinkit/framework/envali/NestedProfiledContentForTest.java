@@ -0,0 +1,43 @@
+/*
+ * Copyright 2020 Kato Shinya.
+ *
+ * Licensed under the Apache License, Version 2.0 (the "License"); you may not use this file except
+ * in compliance with the License. You may obtain a copy of the License at
+ *
+ *     http://www.apache.org/licenses/LICENSE-2.0
+ *
+ * Unless required by applicable law or agreed to in writing, software distributed under the License
+ * is distributed on an "AS IS" BASIS, WITHOUT WARRANTIES OR CONDITIONS OF ANY KIND, either express
+ * or implied. See the License for the specific language governing permissions and limitations under
+ * the License.
+ */
+
+package org.thinkit.framework.envali;
+
+import org.thinkit.framework.envali.annotation.NestedEntity;
+import org.thinkit.framework.envali.entity.ValidatableEntity;
+
+/**
+ * The entity class that nests the entity mapped to content to be used when
+ * testing the content profiles.
+ *
+ * @author Kato Shinya
+ * @since 1.0.5
+ */
+final class NestedProfiledContentForTest implements ValidatableEntity {
+
+    /**
+     * The entity mapped to content
+     */
+    @NestedEntity
+    private ProfiledContentForTest profiledContentForTest;
+
+    /**
+     * Constructor
+     *
+     * @param number The number
+     */
+    public NestedProfiledContentForTest(int number) {
+        this.profiledContentForTest = new ProfiledContentForTest(number);
+    }
+}
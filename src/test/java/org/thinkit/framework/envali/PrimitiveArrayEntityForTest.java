@@ -0,0 +1,74 @@
+/*
+ * Copyright 2020 Kato Shinya.
+ *
+ * Licensed under the Apache License, Version 2.0 (the "License"); you may not use this file except
+ * in compliance with the License. You may obtain a copy of the License at
+ *
+ *     http://www.apache.org/licenses/LICENSE-2.0
+ *
+ * Unless required by applicable law or agreed to in writing, software distributed under the License
+ * is distributed on an "AS IS" BASIS, WITHOUT WARRANTIES OR CONDITIONS OF ANY KIND, either express
+ * or implied. See the License for the specific language governing permissions and limitations under
+ * the License.
+ */
+
+package org.thinkit.framework.envali;
+
+import org.thinkit.framework.envali.annotation.RequireNegative;
+import org.thinkit.framework.envali.annotation.RequirePositive;
+import org.thinkit.framework.envali.annotation.RequireRangeFrom;
+import org.thinkit.framework.envali.annotation.RequireRangeFromTo;
+import org.thinkit.framework.envali.annotation.RequireRangeTo;
+import org.thinkit.framework.envali.catalog.ErrorType;
+import org.thinkit.framework.envali.entity.ValidatableEntity;
+
+/**
+ * The entity class that defines primitive array fields to be used when testing
+ * the range constraints specified for the components.
+ *
+ * @author Kato Shinya
+ * @since 1.0.5
+ */
+final class PrimitiveArrayEntityForTest implements ValidatableEntity {
+
+    /**
+     * The int samples
+     */
+    @RequireRangeFromTo(intFrom = -100, intTo = 100, errorType = ErrorType.RECOVERABLE, message = "int")
+    private int[] intSamples;
+
+    /**
+     * The long samples
+     */
+    @RequirePositive(errorType = ErrorType.RECOVERABLE, message = "long")
+    private long[] longSamples;
+
+    /**
+     * The float samples
+     */
+    @RequireNegative(errorType = ErrorType.RECOVERABLE, message = "float")
+    private float[] floatSamples;
+
+    /**
+     * The double samples
+     */
+    @RequireRangeFrom(doubleFrom = 0.5, errorType = ErrorType.RECOVERABLE, message = "double")
+    @RequireRangeTo(doubleTo = 1.5, errorType = ErrorType.UNRECOVERABLE, message = "double")
+    private double[] doubleSamples;
+
+    /**
+     * Constructor
+     *
+     * @param intSamples    The int samples
+     * @param longSamples   The long samples
+     * @param floatSamples  The float samples
+     * @param doubleSamples The double samples
+     */
+    public PrimitiveArrayEntityForTest(int[] intSamples, long[] longSamples, float[] floatSamples,
+            double[] doubleSamples) {
+        this.intSamples = intSamples;
+        this.longSamples = longSamples;
+        this.floatSamples = floatSamples;
+        this.doubleSamples = doubleSamples;
+    }
+}
@@ -0,0 +1,36 @@
+/*
+ * Copyright 2020 Kato Shinya.
+ *
+ * Licensed under the Apache License, Version 2.0 (the "License"); you may not use this file except
+ * in compliance with the License. You may obtain a copy of the License at
+ *
+ *     http://www.apache.org/licenses/LICENSE-2.0
+ *
+ * Unless required by applicable law or agreed to in writing, software distributed under the License
+ * is distributed on an "AS IS" BASIS, WITHOUT WARRANTIES OR CONDITIONS OF ANY KIND, either express
+ * or implied. See the License for the specific language governing permissions and limitations under
+ * the License.
+ */
+
+package org.thinkit.framework.envali;
+
+import org.thinkit.framework.envali.annotation.RequireRangeFrom;
+import org.thinkit.framework.envali.annotation.RequireRangeTo;
+import org.thinkit.framework.envali.entity.ValidatableEntity;
+
+/**
+ * The record that defines primitive components to be used when testing the
+ * validation of records.
+ *
+ * @author Kato Shinya
+ * @since 1.0.5
+ *
+ * @param count  The count not less than {@code Long.MAX_VALUE - 1} (expected)
+ * @param offset The offset not greater than {@code Integer.MIN_VALUE + 1}
+ *               (expected)
+ * @param ratio  The ratio not less than {@code 0.5} (expected)
+ */
+record PrimitiveRecordEntityForTest(@RequireRangeFrom(longFrom = Long.MAX_VALUE - 1) long count,
+        @RequireRangeTo(intTo = Integer.MIN_VALUE + 1) int offset, @RequireRangeFrom(doubleFrom = 0.5) double ratio)
+        implements ValidatableEntity {
+}
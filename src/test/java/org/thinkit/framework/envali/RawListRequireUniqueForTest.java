@@ -0,0 +1,47 @@
+/*
+ * Copyright 2020 Kato Shinya.
+ *
+ * Licensed under the Apache License, Version 2.0 (the "License"); you may not use this file except
+ * in compliance with the License. You may obtain a copy of the License at
+ *
+ *     http://www.apache.org/licenses/LICENSE-2.0
+ *
+ * Unless required by applicable law or agreed to in writing, software distributed under the License
+ * is distributed on an "AS IS" BASIS, WITHOUT WARRANTIES OR CONDITIONS OF ANY KIND, either express
+ * or implied. See the License for the specific language governing permissions and limitations under
+ * the License.
+ */
+
+package org.thinkit.framework.envali;
+
+import java.util.List;
+
+import org.thinkit.framework.envali.annotation.RequireUnique;
+import org.thinkit.framework.envali.catalog.ErrorType;
+import org.thinkit.framework.envali.entity.ValidatableEntity;
+
+/**
+ * The entity class that defines a raw List field to be used when testing the
+ * {@link RequireUnique} annotation.
+ *
+ * @author Kato Shinya
+ * @since 1.0.5
+ */
+@SuppressWarnings("rawtypes")
+final class RawListRequireUniqueForTest implements ValidatableEntity {
+
+    /**
+     * The codes
+     */
+    @RequireUnique(errorType = ErrorType.RECOVERABLE, message = "codes")
+    private List codes;
+
+    /**
+     * Constructor
+     *
+     * @param codes The codes
+     */
+    public RawListRequireUniqueForTest(List codes) {
+        this.codes = codes;
+    }
+}
@@ -0,0 +1,37 @@
+/*
+ * Copyright 2020 Kato Shinya.
+ *
+ * Licensed under the Apache License, Version 2.0 (the "License"); you may not use this file except
+ * in compliance with the License. You may obtain a copy of the License at
+ *
+ *     http://www.apache.org/licenses/LICENSE-2.0
+ *
+ * Unless required by applicable law or agreed to in writing, software distributed under the License
+ * is distributed on an "AS IS" BASIS, WITHOUT WARRANTIES OR CONDITIONS OF ANY KIND, either express
+ * or implied. See the License for the specific language governing permissions and limitations under
+ * the License.
+ */
+
+package org.thinkit.framework.envali;
+
+import java.util.List;
+
+import org.thinkit.framework.envali.annotation.NestedEntity;
+import org.thinkit.framework.envali.annotation.RequireNonNull;
+import org.thinkit.framework.envali.annotation.RequirePositive;
+import org.thinkit.framework.envali.entity.ValidatableEntity;
+
+/**
+ * The record that defines components to be used when testing the validation of
+ * records.
+ *
+ * @author Kato Shinya
+ * @since 1.0.5
+ *
+ * @param literal  The non null literal (expected)
+ * @param number   The positive number (expected)
+ * @param entities The nested entities (expected)
+ */
+record RecordEntityForTest(@RequireNonNull String literal, @RequirePositive int number,
+        @NestedEntity List<RequireNegativeForTest> entities) implements ValidatableEntity {
+}
@@ -0,0 +1,84 @@
+/*
+ * Copyright 2020 Kato Shinya.
+ *
+ * Licensed under the Apache License, Version 2.0 (the "License"); you may not use this file except
+ * in compliance with the License. You may obtain a copy of the License at
+ *
+ *     http://www.apache.org/licenses/LICENSE-2.0
+ *
+ * Unless required by applicable law or agreed to in writing, software distributed under the License
+ * is distributed on an "AS IS" BASIS, WITHOUT WARRANTIES OR CONDITIONS OF ANY KIND, either express
+ * or implied. See the License for the specific language governing permissions and limitations under
+ * the License.
+ */
+
+package org.thinkit.framework.envali;
+
+import java.util.List;
+
+import org.thinkit.framework.envali.annotation.RequireChecksum;
+import org.thinkit.framework.envali.annotation.RequireSize;
+import org.thinkit.framework.envali.catalog.ChecksumAlgorithm;
+import org.thinkit.framework.envali.catalog.ErrorType;
+import org.thinkit.framework.envali.entity.ValidatableEntity;
+
+/**
+ * The entity class that defines fields to be used when testing the
+ * {@link RequireChecksum} annotation.
+ *
+ * @author Kato Shinya
+ * @since 1.0.5
+ */
+final class RequireChecksumForTest implements ValidatableEntity {
+
+    /**
+     * The card number
+     */
+    @RequireChecksum(algorithm = ChecksumAlgorithm.LUHN, errorType = ErrorType.RECOVERABLE, message = "card")
+    private String cardNumber;
+
+    /**
+     * The individual number
+     */
+    @RequireChecksum(algorithm = ChecksumAlgorithm.MY_NUMBER, errorType = ErrorType.RECOVERABLE,
+            message = "individual")
+    private String individualNumber;
+
+    /**
+     * The corporate number
+     */
+    @RequireChecksum(algorithm = ChecksumAlgorithm.CORPORATE_NUMBER, errorType = ErrorType.UNRECOVERABLE,
+            message = "corporate")
+    private StringBuilder corporateNumber;
+
+    /**
+     * The barcode
+     */
+    @RequireSize(errorType = ErrorType.RECOVERABLE, message = "size", max = 13)
+    @RequireChecksum(algorithm = ChecksumAlgorithm.EAN, errorType = ErrorType.RECOVERABLE, message = "barcode")
+    private String barcode;
+
+    /**
+     * The barcodes
+     */
+    private List<@RequireChecksum(algorithm = ChecksumAlgorithm.EAN, errorType = ErrorType.RECOVERABLE,
+            message = "barcodes") String> barcodes;
+
+    /**
+     * Constructor
+     *
+     * @param cardNumber       The card number
+     * @param individualNumber The individual number
+     * @param corporateNumber  The corporate number
+     * @param barcode          The barcode
+     * @param barcodes         The barcodes
+     */
+    public RequireChecksumForTest(String cardNumber, String individualNumber, StringBuilder corporateNumber,
+            String barcode, List<String> barcodes) {
+        this.cardNumber = cardNumber;
+        this.individualNumber = individualNumber;
+        this.corporateNumber = corporateNumber;
+        this.barcode = barcode;
+        this.barcodes = barcodes;
+    }
+}
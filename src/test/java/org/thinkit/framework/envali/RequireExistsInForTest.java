@@ -0,0 +1,73 @@
+/*
+ * Copyright 2020 Kato Shinya.
+ *
+ * Licensed under the Apache License, Version 2.0 (the "License"); you may not use this file except
+ * in compliance with the License. You may obtain a copy of the License at
+ *
+ *     http://www.apache.org/licenses/LICENSE-2.0
+ *
+ * Unless required by applicable law or agreed to in writing, software distributed under the License
+ * is distributed on an "AS IS" BASIS, WITHOUT WARRANTIES OR CONDITIONS OF ANY KIND, either express
+ * or implied. See the License for the specific language governing permissions and limitations under
+ * the License.
+ */
+
+package org.thinkit.framework.envali;
+
+import java.util.List;
+
+import org.thinkit.framework.envali.annotation.RequireExistsIn;
+import org.thinkit.framework.envali.annotation.RequireSize;
+import org.thinkit.framework.envali.catalog.ErrorType;
+import org.thinkit.framework.envali.entity.ValidatableEntity;
+
+/**
+ * The entity class that defines fields to be used when testing the
+ * {@link RequireExistsIn} annotation.
+ *
+ * @author Kato Shinya
+ * @since 1.0.5
+ */
+final class RequireExistsInForTest implements ValidatableEntity {
+
+    /**
+     * The product code
+     */
+    @RequireExistsIn(dataset = "skuForTest", errorType = ErrorType.RECOVERABLE, message = "product")
+    private String productCode;
+
+    /**
+     * The replacement product code
+     */
+    @RequireSize(errorType = ErrorType.RECOVERABLE, message = "size", max = 10)
+    @RequireExistsIn(dataset = "skuForTest", errorType = ErrorType.UNRECOVERABLE, message = "replacement")
+    private String replacementProductCode;
+
+    /**
+     * The product name
+     */
+    @RequireExistsIn(dataset = "skuForTest", errorType = ErrorType.RECOVERABLE, message = "name")
+    private StringBuilder productName;
+
+    /**
+     * The bundled product codes
+     */
+    private List<@RequireExistsIn(dataset = "skuForTest", errorType = ErrorType.RECOVERABLE,
+            message = "bundled") String> bundledProductCodes;
+
+    /**
+     * Constructor
+     *
+     * @param productCode            The product code
+     * @param replacementProductCode The replacement product code
+     * @param productName            The product name
+     * @param bundledProductCodes    The bundled product codes
+     */
+    public RequireExistsInForTest(String productCode, String replacementProductCode, StringBuilder productName,
+            List<String> bundledProductCodes) {
+        this.productCode = productCode;
+        this.replacementProductCode = replacementProductCode;
+        this.productName = productName;
+        this.bundledProductCodes = bundledProductCodes;
+    }
+}
@@ -0,0 +1,37 @@
+/*
+ * Copyright 2020 Kato Shinya.
+ *
+ * Licensed under the Apache License, Version 2.0 (the "License"); you may not use this file except
+ * in compliance with the License. You may obtain a copy of the License at
+ *
+ *     http://www.apache.org/licenses/LICENSE-2.0
+ *
+ * Unless required by applicable law or agreed to in writing, software distributed under the License
+ * is distributed on an "AS IS" BASIS, WITHOUT WARRANTIES OR CONDITIONS OF ANY KIND, either express
+ * or implied. See the License for the specific language governing permissions and limitations under
+ * the License.
+ */
+
+package org.thinkit.framework.envali;
+
+import org.thinkit.framework.envali.annotation.RequireMatch;
+import org.thinkit.framework.envali.catalog.RegexMethod;
+import org.thinkit.framework.envali.catalog.RegexPreset;
+import org.thinkit.framework.envali.entity.ValidatableEntity;
+
+/**
+ * The entity class that defines fields to be used when testing the
+ * {@link RequireMatch} annotation with the IPv6 address preset and find
+ * method.
+ *
+ * @author Kato Shinya
+ * @since 1.0.5
+ */
+final class RequireMatchOfIpv6AddressWithFindMethodForTest implements ValidatableEntity {
+
+    /**
+     * The IPv6 address
+     */
+    @RequireMatch(presetExpression = RegexPreset.IPV6_ADDRESS, method = RegexMethod.FIND)
+    private String ipv6Address = "::1";
+}
@@ -0,0 +1,82 @@
+/*
+ * Copyright 2020 Kato Shinya.
+ *
+ * Licensed under the Apache License, Version 2.0 (the "License"); you may not use this file except
+ * in compliance with the License. You may obtain a copy of the License at
+ *
+ *     http://www.apache.org/licenses/LICENSE-2.0
+ *
+ * Unless required by applicable law or agreed to in writing, software distributed under the License
+ * is distributed on an "AS IS" BASIS, WITHOUT WARRANTIES OR CONDITIONS OF ANY KIND, either express
+ * or implied. See the License for the specific language governing permissions and limitations under
+ * the License.
+ */
+
+package org.thinkit.framework.envali;
+
+import java.util.List;
+
+import org.thinkit.framework.envali.annotation.RequireOneOf;
+import org.thinkit.framework.envali.annotation.RequireSize;
+import org.thinkit.framework.envali.catalog.ErrorType;
+import org.thinkit.framework.envali.entity.ValidatableEntity;
+
+/**
+ * The entity class that defines fields to be used when testing the
+ * {@link RequireOneOf} annotation.
+ *
+ * @author Kato Shinya
+ * @since 1.0.5
+ */
+final class RequireOneOfForTest implements ValidatableEntity {
+
+    /**
+     * The currency code
+     */
+    @RequireOneOf(values = { "JPY", "USD", "EUR" }, errorType = ErrorType.RECOVERABLE, message = "currency")
+    private String currencyCode;
+
+    /**
+     * The country code
+     */
+    @RequireSize(errorType = ErrorType.RECOVERABLE, message = "size", min = 2, max = 2)
+    @RequireOneOf(values = { "JP", "US" }, errorType = ErrorType.RECOVERABLE, message = "country")
+    private StringBuilder countryCode;
+
+    /**
+     * The grade
+     */
+    @RequireOneOf(values = { "0", "1", "2", "-1" }, errorType = ErrorType.UNRECOVERABLE, message = "grade")
+    private int grade;
+
+    /**
+     * The error type
+     */
+    @RequireOneOf(values = { "RECOVERABLE", "UNRECOVERABLE" }, errorType = ErrorType.RECOVERABLE,
+            message = "errorType")
+    private ErrorType errorType;
+
+    /**
+     * The line numbers
+     */
+    private List<@RequireOneOf(values = { "10", "20", "30" }, errorType = ErrorType.RECOVERABLE,
+            message = "lineNumbers") Long> lineNumbers;
+
+    /**
+     * Constructor
+     *
+     * @param currencyCode The currency code
+     * @param countryCode  The country code
+     * @param grade        The grade
+     * @param errorType    The error type
+     * @param lineNumbers  The line numbers
+     */
+    public RequireOneOfForTest(String currencyCode, StringBuilder countryCode, int grade, ErrorType errorType,
+            List<Long> lineNumbers) {
+        this.currencyCode = currencyCode;
+        this.countryCode = countryCode;
+        this.grade = grade;
+        this.errorType = errorType;
+        this.lineNumbers = lineNumbers;
+    }
+}
@@ -0,0 +1,80 @@
+/*
+ * Copyright 2020 Kato Shinya.
+ *
+ * Licensed under the Apache License, Version 2.0 (the "License"); you may not use this file except
+ * in compliance with the License. You may obtain a copy of the License at
+ *
+ *     http://www.apache.org/licenses/LICENSE-2.0
+ *
+ * Unless required by applicable law or agreed to in writing, software distributed under the License
+ * is distributed on an "AS IS" BASIS, WITHOUT WARRANTIES OR CONDITIONS OF ANY KIND, either express
+ * or implied. See the License for the specific language governing permissions and limitations under
+ * the License.
+ */
+
+package org.thinkit.framework.envali;
+
+import java.util.List;
+import java.util.Map;
+
+import org.thinkit.framework.envali.annotation.RequireSize;
+import org.thinkit.framework.envali.catalog.ErrorType;
+import org.thinkit.framework.envali.entity.ValidatableEntity;
+
+/**
+ * The entity class that defines fields to be used when testing the
+ * {@link RequireSize} annotation.
+ *
+ * @author Kato Shinya
+ * @since 1.0.5
+ */
+final class RequireSizeForTest implements ValidatableEntity {
+
+    /**
+     * The literal
+     */
+    @RequireSize(min = 1, max = 5, errorType = ErrorType.RECOVERABLE, message = "literal")
+    private String literal;
+
+    /**
+     * The builder
+     */
+    @RequireSize(max = 3, errorType = ErrorType.UNRECOVERABLE, message = "builder")
+    private StringBuilder builder;
+
+    /**
+     * The list
+     */
+    @RequireSize(min = 1, max = 2)
+    private List<@RequireSize(max = 3, errorType = ErrorType.RECOVERABLE, message = "element") String> list;
+
+    /**
+     * The map
+     */
+    @RequireSize(max = 1, errorType = ErrorType.RECOVERABLE, message = "map")
+    private Map<String, String> map;
+
+    /**
+     * The bytes
+     */
+    @RequireSize(max = 4, errorType = ErrorType.RECOVERABLE, message = "bytes")
+    private byte[] bytes;
+
+    /**
+     * Constructor
+     *
+     * @param literal The literal
+     * @param builder The builder
+     * @param list    The list
+     * @param map     The map
+     * @param bytes   The bytes
+     */
+    public RequireSizeForTest(String literal, StringBuilder builder, List<String> list, Map<String, String> map,
+            byte[] bytes) {
+        this.literal = literal;
+        this.builder = builder;
+        this.list = list;
+        this.map = map;
+        this.bytes = bytes;
+    }
+}
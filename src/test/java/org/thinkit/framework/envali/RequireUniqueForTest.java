@@ -0,0 +1,92 @@
+/*
+ * Copyright 2020 Kato Shinya.
+ *
+ * Licensed under the Apache License, Version 2.0 (the "License"); you may not use this file except
+ * in compliance with the License. You may obtain a copy of the License at
+ *
+ *     http://www.apache.org/licenses/LICENSE-2.0
+ *
+ * Unless required by applicable law or agreed to in writing, software distributed under the License
+ * is distributed on an "AS IS" BASIS, WITHOUT WARRANTIES OR CONDITIONS OF ANY KIND, either express
+ * or implied. See the License for the specific language governing permissions and limitations under
+ * the License.
+ */
+
+package org.thinkit.framework.envali;
+
+import java.util.List;
+
+import org.thinkit.framework.envali.annotation.RequireUnique;
+import org.thinkit.framework.envali.catalog.ErrorType;
+import org.thinkit.framework.envali.entity.ValidatableEntity;
+
+/**
+ * The entity class that defines fields to be used when testing the
+ * {@link RequireUnique} annotation.
+ *
+ * @author Kato Shinya
+ * @since 1.0.5
+ */
+final class RequireUniqueForTest implements ValidatableEntity {
+
+    /**
+     * The line numbers
+     */
+    @RequireUnique(errorType = ErrorType.RECOVERABLE, message = "lineNumbers")
+    private int[] lineNumbers;
+
+    /**
+     * The product ids
+     */
+    @RequireUnique(errorType = ErrorType.UNRECOVERABLE, message = "productIds")
+    private List<Long> productIds;
+
+    /**
+     * The product codes
+     */
+    @RequireUnique(errorType = ErrorType.RECOVERABLE, message = "productCodes")
+    private String[] productCodes;
+
+    /**
+     * The order lines
+     */
+    @RequireUnique(key = "lineNumber", errorType = ErrorType.RECOVERABLE, message = "orderLines")
+    private List<OrderLineForTest> orderLines;
+
+    /**
+     * Constructor
+     *
+     * @param lineNumbers  The line numbers
+     * @param productIds   The product ids
+     * @param productCodes The product codes
+     * @param orderLines   The order lines
+     */
+    public RequireUniqueForTest(int[] lineNumbers, List<Long> productIds, String[] productCodes,
+            List<OrderLineForTest> orderLines) {
+        this.lineNumbers = lineNumbers;
+        this.productIds = productIds;
+        this.productCodes = productCodes;
+        this.orderLines = orderLines;
+    }
+
+    /**
+     * The entity class that represents the order line whose line number is used
+     * as the key.
+     */
+    static final class OrderLineForTest implements ValidatableEntity {
+
+        /**
+         * The line number
+         */
+        private int lineNumber;
+
+        /**
+         * Constructor
+         *
+         * @param lineNumber The line number
+         */
+        public OrderLineForTest(int lineNumber) {
+            this.lineNumber = lineNumber;
+        }
+    }
+}
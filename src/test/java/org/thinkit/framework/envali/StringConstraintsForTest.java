@@ -0,0 +1,63 @@
+/*
+ * Copyright 2020 Kato Shinya.
+ *
+ * Licensed under the Apache License, Version 2.0 (the "License"); you may not use this file except
+ * in compliance with the License. You may obtain a copy of the License at
+ *
+ *     http://www.apache.org/licenses/LICENSE-2.0
+ *
+ * Unless required by applicable law or agreed to in writing, software distributed under the License
+ * is distributed on an "AS IS" BASIS, WITHOUT WARRANTIES OR CONDITIONS OF ANY KIND, either express
+ * or implied. See the License for the specific language governing permissions and limitations under
+ * the License.
+ */
+
+package org.thinkit.framework.envali;
+
+import org.thinkit.framework.envali.annotation.RequireEndWith;
+import org.thinkit.framework.envali.annotation.RequireMatch;
+import org.thinkit.framework.envali.annotation.RequireNonBlank;
+import org.thinkit.framework.envali.annotation.RequireNonNull;
+import org.thinkit.framework.envali.annotation.RequireSize;
+import org.thinkit.framework.envali.annotation.RequireStartWith;
+import org.thinkit.framework.envali.catalog.ErrorType;
+import org.thinkit.framework.envali.entity.ValidatableEntity;
+
+/**
+ * The entity class that defines fields to be used when testing the constraints
+ * on a string value that are evaluated together.
+ *
+ * @author Kato Shinya
+ * @since 1.0.5
+ */
+final class StringConstraintsForTest implements ValidatableEntity {
+
+    /**
+     * The code
+     */
+    @RequireNonBlank(errorType = ErrorType.RECOVERABLE, message = "blank")
+    @RequireStartWith(errorType = ErrorType.RECOVERABLE, message = "prefix", prefix = "ab")
+    @RequireNonNull(errorType = ErrorType.RECOVERABLE, message = "null")
+    @RequireEndWith(errorType = ErrorType.UNRECOVERABLE, message = "suffix", suffix = "yz")
+    @RequireSize(errorType = ErrorType.RECOVERABLE, message = "size", min = 4, max = 8)
+    @RequireMatch(errorType = ErrorType.RECOVERABLE, message = "match", expression = "[a-z]+")
+    private String code;
+
+    /**
+     * The name
+     */
+    @RequireStartWith(prefix = "ab")
+    @RequireMatch(errorType = ErrorType.RECOVERABLE, message = "name", expression = "[a-z]+")
+    private String name;
+
+    /**
+     * Constructor
+     *
+     * @param code The code
+     * @param name The name
+     */
+    public StringConstraintsForTest(String code, String name) {
+        this.code = code;
+        this.name = name;
+    }
+}
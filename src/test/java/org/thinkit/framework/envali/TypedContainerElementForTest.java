@@ -0,0 +1,57 @@
+/*
+ * Copyright 2020 Kato Shinya.
+ *
+ * Licensed under the Apache License, Version 2.0 (the "License"); you may not use this file except
+ * in compliance with the License. You may obtain a copy of the License at
+ *
+ *     http://www.apache.org/licenses/LICENSE-2.0
+ *
+ * Unless required by applicable law or agreed to in writing, software distributed under the License
+ * is distributed on an "AS IS" BASIS, WITHOUT WARRANTIES OR CONDITIONS OF ANY KIND, either express
+ * or implied. See the License for the specific language governing permissions and limitations under
+ * the License.
+ */
+
+package org.thinkit.framework.envali;
+
+import java.util.List;
+
+import org.thinkit.framework.envali.annotation.ParameterMapping;
+import org.thinkit.framework.envali.annotation.RequireRangeFrom;
+import org.thinkit.framework.envali.annotation.RequireRangeTo;
+import org.thinkit.framework.envali.catalog.ErrorType;
+import org.thinkit.framework.envali.entity.ValidatableEntity;
+
+/**
+ * The entity class that defines container fields to be used when testing the
+ * conversion of content parameters of the constraints specified for the
+ * elements.
+ *
+ * @author Kato Shinya
+ * @since 1.0.5
+ */
+@ParameterMapping(content = "TypedContainerElementForTest")
+final class TypedContainerElementForTest implements ValidatableEntity {
+
+    /**
+     * The scores
+     */
+    private List<@RequireRangeFrom(errorType = ErrorType.RECOVERABLE, message = "score") Integer> scores;
+
+    /**
+     * The numbers
+     */
+    @RequireRangeTo(errorType = ErrorType.RECOVERABLE, message = "number")
+    private long[] numbers;
+
+    /**
+     * Constructor
+     *
+     * @param scores  The scores
+     * @param numbers The numbers
+     */
+    public TypedContainerElementForTest(List<Integer> scores, long[] numbers) {
+        this.scores = scores;
+        this.numbers = numbers;
+    }
+}
@@ -0,0 +1,64 @@
+/*
+ * Copyright 2020 Kato Shinya.
+ *
+ * Licensed under the Apache License, Version 2.0 (the "License"); you may not use this file except
+ * in compliance with the License. You may obtain a copy of the License at
+ *
+ *     http://www.apache.org/licenses/LICENSE-2.0
+ *
+ * Unless required by applicable law or agreed to in writing, software distributed under the License
+ * is distributed on an "AS IS" BASIS, WITHOUT WARRANTIES OR CONDITIONS OF ANY KIND, either express
+ * or implied. See the License for the specific language governing permissions and limitations under
+ * the License.
+ */
+
+package org.thinkit.framework.envali;
+
+import org.thinkit.framework.envali.annotation.ParameterMapping;
+import org.thinkit.framework.envali.annotation.RequireMatch;
+import org.thinkit.framework.envali.annotation.RequireRangeFrom;
+import org.thinkit.framework.envali.annotation.RequireStartWith;
+import org.thinkit.framework.envali.catalog.ErrorType;
+import org.thinkit.framework.envali.entity.ValidatableEntity;
+
+/**
+ * The entity class that defines fields to be used when testing the conversion
+ * of content parameters.
+ *
+ * @author Kato Shinya
+ * @since 1.0.5
+ */
+@ParameterMapping(content = "TypedContentForTest")
+final class TypedContentForTest implements ValidatableEntity {
+
+    /**
+     * The number
+     */
+    @RequireRangeFrom(errorType = ErrorType.RECOVERABLE, message = "number")
+    private long number;
+
+    /**
+     * The code
+     */
+    @RequireStartWith(errorType = ErrorType.RECOVERABLE, message = "code")
+    private String code;
+
+    /**
+     * The name
+     */
+    @RequireMatch(errorType = ErrorType.RECOVERABLE, message = "name")
+    private String name;
+
+    /**
+     * Constructor
+     *
+     * @param number The number
+     * @param code   The code
+     * @param name   The name
+     */
+    public TypedContentForTest(long number, String code, String name) {
+        this.number = number;
+        this.code = code;
+        this.name = name;
+    }
+}
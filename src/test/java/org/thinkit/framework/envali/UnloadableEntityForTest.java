@@ -0,0 +1,45 @@
+/*
+ * Copyright 2020 Kato Shinya.
+ *
+ * Licensed under the Apache License, Version 2.0 (the "License"); you may not use this file except
+ * in compliance with the License. You may obtain a copy of the License at
+ *
+ *     http://www.apache.org/licenses/LICENSE-2.0
+ *
+ * Unless required by applicable law or agreed to in writing, software distributed under the License
+ * is distributed on an "AS IS" BASIS, WITHOUT WARRANTIES OR CONDITIONS OF ANY KIND, either express
+ * or implied. See the License for the specific language governing permissions and limitations under
+ * the License.
+ */
+
+package org.thinkit.framework.envali;
+
+import org.thinkit.framework.envali.annotation.ParameterMapping;
+import org.thinkit.framework.envali.annotation.RequireNonNull;
+import org.thinkit.framework.envali.annotation.RequireRangeFromTo;
+import org.thinkit.framework.envali.catalog.ErrorType;
+import org.thinkit.framework.envali.entity.ValidatableEntity;
+
+/**
+ * The entity class that is loaded by a throwaway class loader to be used when
+ * testing that the cached metadata does not prevent the class loader from
+ * being unloaded.
+ *
+ * @author Kato Shinya
+ * @since 1.0.5
+ */
+@ParameterMapping(content = "ProfiledContentForTest")
+final class UnloadableEntityForTest implements ValidatableEntity {
+
+    /**
+     * The number
+     */
+    @RequireRangeFromTo(errorType = ErrorType.RECOVERABLE, message = "number")
+    private int number = 100;
+
+    /**
+     * The literal
+     */
+    @RequireNonNull
+    private String literal = "literal";
+}
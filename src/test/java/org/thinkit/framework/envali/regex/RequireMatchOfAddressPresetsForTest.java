@@ -0,0 +1,99 @@
+/*
+ * Copyright 2020 Kato Shinya.
+ *
+ * Licensed under the Apache License, Version 2.0 (the "License"); you may not use this file except
+ * in compliance with the License. You may obtain a copy of the License at
+ *
+ *     http://www.apache.org/licenses/LICENSE-2.0
+ *
+ * Unless required by applicable law or agreed to in writing, software distributed under the License
+ * is distributed on an "AS IS" BASIS, WITHOUT WARRANTIES OR CONDITIONS OF ANY KIND, either express
+ * or implied. See the License for the specific language governing permissions and limitations under
+ * the License.
+ */
+
+package org.thinkit.framework.envali.regex;
+
+import org.thinkit.framework.envali.annotation.RequireMatch;
+import org.thinkit.framework.envali.catalog.ErrorType;
+import org.thinkit.framework.envali.catalog.RegexEngine;
+import org.thinkit.framework.envali.catalog.RegexPreset;
+import org.thinkit.framework.envali.entity.ValidatableEntity;
+
+/**
+ * The entity class that defines fields to be used when testing the
+ * {@link RequireMatch} annotation with the presets of addresses that are
+ * validated by the dedicated parsers.
+ *
+ * @author Kato Shinya
+ * @since 1.0.5
+ */
+public class RequireMatchOfAddressPresetsForTest implements ValidatableEntity {
+
+    /**
+     * The email address
+     */
+    @RequireMatch(presetExpression = RegexPreset.EMAIL_ADDRESS, errorType = ErrorType.RECOVERABLE, message = "email")
+    private String emailAddress;
+
+    /**
+     * The web URL
+     */
+    @RequireMatch(presetExpression = RegexPreset.WEB_URL, errorType = ErrorType.RECOVERABLE, message = "web")
+    private String webUrl;
+
+    /**
+     * The FTP URL
+     */
+    @RequireMatch(presetExpression = RegexPreset.FTP_URL, errorType = ErrorType.RECOVERABLE, message = "ftp")
+    private String ftpUrl;
+
+    /**
+     * The IPv4 address
+     */
+    @RequireMatch(presetExpression = RegexPreset.IP_ADDRESS, errorType = ErrorType.RECOVERABLE, message = "ipv4")
+    private String ipAddress;
+
+    /**
+     * The IPv4 address with port
+     */
+    @RequireMatch(presetExpression = RegexPreset.IP_ADDRESS_WITH_PORT, errorType = ErrorType.RECOVERABLE,
+            message = "port")
+    private String ipAddressWithPort;
+
+    /**
+     * The IPv6 address
+     */
+    @RequireMatch(presetExpression = RegexPreset.IPV6_ADDRESS, errorType = ErrorType.RECOVERABLE, message = "ipv6")
+    private String ipv6Address;
+
+    /**
+     * The email address validated by the regular expression
+     */
+    @RequireMatch(presetExpression = RegexPreset.EMAIL_ADDRESS, engine = RegexEngine.REGEX,
+            errorType = ErrorType.RECOVERABLE, message = "regex")
+    private String regexEmailAddress;
+
+    /**
+     * Constructor
+     *
+     * @param emailAddress      The email address
+     * @param webUrl            The web URL
+     * @param ftpUrl            The FTP URL
+     * @param ipAddress         The IPv4 address
+     * @param ipAddressWithPort The IPv4 address with port
+     * @param ipv6Address       The IPv6 address
+     * @param regexEmailAddress The email address validated by the regular
+     *                          expression
+     */
+    public RequireMatchOfAddressPresetsForTest(String emailAddress, String webUrl, String ftpUrl, String ipAddress,
+            String ipAddressWithPort, String ipv6Address, String regexEmailAddress) {
+        this.emailAddress = emailAddress;
+        this.webUrl = webUrl;
+        this.ftpUrl = ftpUrl;
+        this.ipAddress = ipAddress;
+        this.ipAddressWithPort = ipAddressWithPort;
+        this.ipv6Address = ipv6Address;
+        this.regexEmailAddress = regexEmailAddress;
+    }
+}
@@ -0,0 +1,38 @@
+/*
+ * Copyright 2020 Kato Shinya.
+ *
+ * Licensed under the Apache License, Version 2.0 (the "License"); you may not use this file except
+ * in compliance with the License. You may obtain a copy of the License at
+ *
+ *     http://www.apache.org/licenses/LICENSE-2.0
+ *
+ * Unless required by applicable law or agreed to in writing, software distributed under the License
+ * is distributed on an "AS IS" BASIS, WITHOUT WARRANTIES OR CONDITIONS OF ANY KIND, either express
+ * or implied. See the License for the specific language governing permissions and limitations under
+ * the License.
+ */
+
+package org.thinkit.framework.envali.unsupported;
+
+import org.thinkit.framework.envali.annotation.RequireNonBlank;
+import org.thinkit.framework.envali.entity.ValidatableEntity;
+
+/**
+ * The entity class that defines fields to be used when testing the preloading
+ * of the package that contains the entity whose {@link RequireNonBlank}
+ * annotation is specified for the field of unsupported type.
+ * <p>
+ * This package contains no other entity, so that preloading it fails only
+ * because of the unsupported type.
+ *
+ * @author Kato Shinya
+ * @since 1.0.5
+ */
+final class UnsupportedPreloadEntityForTest implements ValidatableEntity {
+
+    /**
+     * The non blank field
+     */
+    @RequireNonBlank
+    private int number;
+}